@@ -0,0 +1,39 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.api.kafka.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Locale;
+
+public enum JmxTransMetricsSource {
+    JMX,
+    PROMETHEUS;
+
+    @JsonCreator
+    public static JmxTransMetricsSource forValue(String value) {
+        switch (value.toLowerCase(Locale.ENGLISH)) {
+            case "jmx":
+                return JMX;
+            case "prometheus":
+                return PROMETHEUS;
+            default:
+                return null;
+        }
+    }
+
+    @JsonValue
+    public String toValue() {
+        switch (this) {
+            case JMX:
+                return "jmx";
+            case PROMETHEUS:
+                return "prometheus";
+            default:
+                return null;
+        }
+    }
+}
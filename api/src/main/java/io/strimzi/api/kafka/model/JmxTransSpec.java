@@ -30,7 +30,7 @@ import java.util.Map;
         builderPackage = Constants.FABRIC8_KUBERNETES_API
 )
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
-@JsonPropertyOrder({ "image", "outputDefinitions", "logLevel", "kafkaQueries", "resources", "template" })
+@JsonPropertyOrder({ "image", "metricsSource", "outputDefinitions", "logLevel", "kafkaQueries", "resources", "template" })
 @EqualsAndHashCode
 public class JmxTransSpec implements UnknownPropertyPreserving, Serializable {
     public static final int DEFAULT_HEALTHCHECK_DELAY = 15;
@@ -38,6 +38,7 @@ public class JmxTransSpec implements UnknownPropertyPreserving, Serializable {
 
     private static final long serialVersionUID = 1L;
     protected String image;
+    private JmxTransMetricsSource metricsSource;
     private String logLevel;
     private List<JmxTransOutputDefinitionTemplate> outputDefinitions = null;
     private List<JmxTransQueryTemplate> kafkaQueries = null;
@@ -55,6 +56,20 @@ public class JmxTransSpec implements UnknownPropertyPreserving, Serializable {
         this.image = image;
     }
 
+    @Description("Source of the metrics pushed to the outputs. " +
+            "With `jmx`, JmxTrans queries the MBeans of the Kafka brokers over remote JMX and requires `spec.kafka.jmxOptions`. " +
+            "With `prometheus`, the metrics are scraped from the Prometheus JMX Exporter endpoint of the Kafka brokers instead and `spec.kafka.metricsConfig` is required. " +
+            "Valid values are `jmx` and `prometheus`. " +
+            "Defaults to `jmx`.")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public JmxTransMetricsSource getMetricsSource() {
+        return metricsSource;
+    }
+
+    public void setMetricsSource(JmxTransMetricsSource metricsSource) {
+        this.metricsSource = metricsSource;
+    }
+
     @Description("Sets the logging level of the JmxTrans deployment." +
             "For more information see, https://github.com/jmxtrans/jmxtrans-agent/wiki/Troubleshooting[JmxTrans Logging Level]")
     public String getLogLevel() {
@@ -6,6 +6,7 @@ package io.strimzi.api.kafka.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.strimzi.api.kafka.model.balancing.KafkaRebalanceMode;
 import io.strimzi.crdgenerator.annotations.Description;
 import io.strimzi.crdgenerator.annotations.Minimum;
 import io.sundr.builder.annotations.Buildable;
@@ -19,12 +20,16 @@ import java.util.List;
         builderPackage = Constants.FABRIC8_KUBERNETES_API
 )
 @JsonInclude(JsonInclude.Include.NON_NULL)
-@JsonPropertyOrder({ "goals", "skipHardGoalCheck", "excludedTopics", "concurrentPartitionMovementsPerBroker",
+@JsonPropertyOrder({ "mode", "brokers", "goals", "skipHardGoalCheck", "excludedTopics", "concurrentPartitionMovementsPerBroker",
                      "concurrentIntraBrokerPartitionMovements", "concurrentLeaderMovements", "replicationThrottle", "replicaMovementStrategies" })
 @EqualsAndHashCode
 public class KafkaRebalanceSpec extends Spec {
     private static final long serialVersionUID = 1L;
 
+    // Rebalance mode configurations
+    private KafkaRebalanceMode mode = KafkaRebalanceMode.FULL;
+    private List<Integer> brokers;
+
     // Optimization goal configurations
     private List<String> goals;
     private boolean skipHardGoalCheck;
@@ -39,6 +44,31 @@ public class KafkaRebalanceSpec extends Spec {
     private long replicationThrottle;
     private List<String> replicaMovementStrategies;
 
+    @Description("Mode to run the rebalancing. " +
+            "The supported modes are `full`, `add-brokers` and `remove-brokers`. " +
+            "`full` mode runs the rebalancing across all the brokers in the cluster. " +
+            "`add-brokers` mode moves replicas to the brokers listed in the `brokers` property, for example after scaling the cluster up. " +
+            "`remove-brokers` mode moves all replicas off the brokers listed in the `brokers` property, for example before scaling the cluster down. " +
+            "Default is `full`.")
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    public KafkaRebalanceMode getMode() {
+        return mode;
+    }
+
+    public void setMode(KafkaRebalanceMode mode) {
+        this.mode = mode;
+    }
+
+    @Description("The list of newly added brokers in case of scaling up or the ones to be removed in case of scaling down to use for rebalancing. " +
+            "This list can be used only with rebalancing mode `add-brokers` and `remove-brokers`. It is ignored with `full` mode.")
+    public List<Integer> getBrokers() {
+        return brokers;
+    }
+
+    public void setBrokers(List<Integer> brokers) {
+        this.brokers = brokers;
+    }
+
     @Description("A list of goals, ordered by decreasing priority, to use for generating and executing the rebalance proposal. " +
             "The supported goals are available at https://github.com/linkedin/cruise-control#goals. " +
             "If an empty goals list is provided, the goals declared in the default.goals Cruise Control configuration parameter are used.")
@@ -0,0 +1,99 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.api.kafka.model.balancing;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.strimzi.api.kafka.model.Constants;
+import io.strimzi.api.kafka.model.UnknownPropertyPreserving;
+import io.strimzi.crdgenerator.annotations.Description;
+import io.strimzi.crdgenerator.annotations.Maximum;
+import io.strimzi.crdgenerator.annotations.Minimum;
+import io.strimzi.crdgenerator.annotations.Pattern;
+import io.sundr.builder.annotations.Buildable;
+import lombok.EqualsAndHashCode;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Representation of the Cruise Control capacity settings of selected brokers which overrides the default
+ * broker capacity. It allows the brokers running on different hardware to have different capacities.
+ */
+@Buildable(
+        editableEnabled = false,
+        generateBuilderPackage = false,
+        builderPackage = Constants.FABRIC8_KUBERNETES_API
+)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"brokers", "cpuUtilization", "inboundNetwork", "outboundNetwork"})
+@EqualsAndHashCode
+public class BrokerCapacityOverride implements UnknownPropertyPreserving, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private List<Integer> brokers;
+    private Integer cpuUtilization;
+    private String inboundNetwork;
+    private String outboundNetwork;
+    private Map<String, Object> additionalProperties = new HashMap<>(0);
+
+    @JsonProperty(required = true)
+    @Description("List of Kafka brokers (broker identifiers).")
+    public List<Integer> getBrokers() {
+        return brokers;
+    }
+
+    public void setBrokers(List<Integer> brokers) {
+        this.brokers = brokers;
+    }
+
+    @Minimum(0)
+    @Maximum(100)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Description("Broker capacity for CPU resource utilization as a percentage (0 - 100).")
+    public Integer getCpuUtilization() {
+        return cpuUtilization;
+    }
+
+    public void setCpuUtilization(Integer cpuUtilization) {
+        this.cpuUtilization = cpuUtilization;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Pattern("[0-9]+([KMG]i?)?B/s")
+    @Description("Broker capacity for inbound network throughput in bytes per second, for example, 10000KB/s.")
+    public String getInboundNetwork() {
+        return inboundNetwork;
+    }
+
+    public void setInboundNetwork(String inboundNetwork) {
+        this.inboundNetwork = inboundNetwork;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Pattern("[0-9]+([KMG]i?)?B/s")
+    @Description("Broker capacity for outbound network throughput in bytes per second, for example, 10000KB/s.")
+    public String getOutboundNetwork() {
+        return outboundNetwork;
+    }
+
+    public void setOutboundNetwork(String outboundNetwork) {
+        this.outboundNetwork = outboundNetwork;
+    }
+
+    @Override
+    public Map<String, Object> getAdditionalProperties() {
+        return this.additionalProperties;
+    }
+
+    @Override
+    public void setAdditionalProperty(String name, Object value) {
+        this.additionalProperties.put(name, value);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.api.kafka.model.balancing;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Locale;
+
+public enum KafkaRebalanceMode {
+    FULL,
+    ADD_BROKERS,
+    REMOVE_BROKERS;
+
+    @JsonCreator
+    public static KafkaRebalanceMode forValue(String value) {
+        switch (value.toLowerCase(Locale.ENGLISH)) {
+            case "full":
+                return FULL;
+            case "add-brokers":
+                return ADD_BROKERS;
+            case "remove-brokers":
+                return REMOVE_BROKERS;
+            default:
+                return null;
+        }
+    }
+
+    @JsonValue
+    public String toValue() {
+        switch (this) {
+            case FULL:
+                return "full";
+            case ADD_BROKERS:
+                return "add-brokers";
+            case REMOVE_BROKERS:
+                return "remove-brokers";
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.api.kafka.model.status;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.strimzi.api.kafka.model.Constants;
+import io.strimzi.api.kafka.model.UnknownPropertyPreserving;
+import io.strimzi.crdgenerator.annotations.Description;
+import io.sundr.builder.annotations.Buildable;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * Represents the status of the last Kafka Connect Build
+ */
+@Buildable(
+        editableEnabled = false,
+        builderPackage = Constants.FABRIC8_KUBERNETES_API
+)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({ "durationSeconds", "pluginLayers", "cachedPluginLayers" })
+@EqualsAndHashCode
+@ToString
+public class KafkaConnectBuildStatus implements UnknownPropertyPreserving, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Long durationSeconds;
+    private Integer pluginLayers;
+    private Integer cachedPluginLayers;
+    private Map<String, Object> additionalProperties;
+
+    @Description("The duration of the last build of the container image in seconds.")
+    public Long getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public void setDurationSeconds(Long durationSeconds) {
+        this.durationSeconds = durationSeconds;
+    }
+
+    @Description("The number of connector plugin layers in the last built container image. " +
+            "Each connector plugin is downloaded in its own layer.")
+    public Integer getPluginLayers() {
+        return pluginLayers;
+    }
+
+    public void setPluginLayers(Integer pluginLayers) {
+        this.pluginLayers = pluginLayers;
+    }
+
+    @Description("The number of connector plugin layers which did not change since the previous build and could be reused from the layer cache.")
+    public Integer getCachedPluginLayers() {
+        return cachedPluginLayers;
+    }
+
+    public void setCachedPluginLayers(Integer cachedPluginLayers) {
+        this.cachedPluginLayers = cachedPluginLayers;
+    }
+
+    @Override
+    public Map<String, Object> getAdditionalProperties() {
+        return this.additionalProperties != null ? this.additionalProperties : emptyMap();
+    }
+
+    @Override
+    public void setAdditionalProperty(String name, Object value) {
+        if (this.additionalProperties == null) {
+            this.additionalProperties = new HashMap<>(1);
+        }
+        this.additionalProperties.put(name, value);
+    }
+}
@@ -33,6 +33,7 @@ public class KafkaConnectStatus extends Status {
     private List<ConnectorPlugin> connectorPlugins;
     private int replicas;
     private String labelSelector;
+    private KafkaConnectBuildStatus build;
 
     @Description("The URL of the REST API endpoint for managing and monitoring Kafka Connect connectors.")
     public String getUrl() {
@@ -72,4 +73,14 @@ public class KafkaConnectStatus extends Status {
     public void setLabelSelector(String labelSelector) {
         this.labelSelector = labelSelector;
     }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Description("The status of the last build of the container image with the additional connector plugins.")
+    public KafkaConnectBuildStatus getBuild() {
+        return build;
+    }
+
+    public void setBuild(KafkaConnectBuildStatus build) {
+        this.build = build;
+    }
 }
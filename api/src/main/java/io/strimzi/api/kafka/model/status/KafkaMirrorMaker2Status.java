@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 
@@ -41,5 +42,14 @@ public class KafkaMirrorMaker2Status extends KafkaConnectStatus {
 
     public void setConnectors(List<Map<String, Object>> connectors) {
         this.connectors = connectors;
-    } 
+    }
+
+    /**
+     * MirrorMaker 2.0 does not support the Kafka Connect Build, so the build status is not part of its API
+     */
+    @JsonIgnore
+    @Override
+    public KafkaConnectBuildStatus getBuild() {
+        return super.getBuild();
+    }
 }
\ No newline at end of file
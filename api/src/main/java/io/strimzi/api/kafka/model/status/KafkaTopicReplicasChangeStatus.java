@@ -0,0 +1,97 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.api.kafka.model.status;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.strimzi.api.kafka.model.Constants;
+import io.strimzi.api.kafka.model.UnknownPropertyPreserving;
+import io.strimzi.crdgenerator.annotations.Description;
+import io.sundr.builder.annotations.Buildable;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * Represents the status of an ongoing change of the replication factor of a topic
+ */
+@Buildable(
+        editableEnabled = false,
+        builderPackage = Constants.FABRIC8_KUBERNETES_API
+)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({ "targetReplicas", "state", "reassigningPartitions", "throttledBrokers" })
+@EqualsAndHashCode
+@ToString
+public class KafkaTopicReplicasChangeStatus implements UnknownPropertyPreserving, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final String STATE_PENDING = "pending";
+    public static final String STATE_ONGOING = "ongoing";
+
+    private Integer targetReplicas;
+    private String state;
+    private Integer reassigningPartitions;
+    private List<Integer> throttledBrokers;
+    private Map<String, Object> additionalProperties;
+
+    @Description("The replication factor the topic is being changed to.")
+    public Integer getTargetReplicas() {
+        return targetReplicas;
+    }
+
+    public void setTargetReplicas(Integer targetReplicas) {
+        this.targetReplicas = targetReplicas;
+    }
+
+    @Description("The state of the change. " +
+            "`pending` when the change waits for other topics to finish moving, " +
+            "`ongoing` when the partitions of the topic are being reassigned.")
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    @Description("The number of partitions of the topic which are still being reassigned.")
+    public Integer getReassigningPartitions() {
+        return reassigningPartitions;
+    }
+
+    public void setReassigningPartitions(Integer reassigningPartitions) {
+        this.reassigningPartitions = reassigningPartitions;
+    }
+
+    @Description("The brokers on which the replication throttle rate was set by the Topic Operator for this change. " +
+            "The rate is removed from a broker once no other change uses it.")
+    public List<Integer> getThrottledBrokers() {
+        return throttledBrokers;
+    }
+
+    public void setThrottledBrokers(List<Integer> throttledBrokers) {
+        this.throttledBrokers = throttledBrokers;
+    }
+
+    @Override
+    public Map<String, Object> getAdditionalProperties() {
+        return this.additionalProperties != null ? this.additionalProperties : emptyMap();
+    }
+
+    @Override
+    public void setAdditionalProperty(String name, Object value) {
+        if (this.additionalProperties == null) {
+            this.additionalProperties = new HashMap<>(1);
+        }
+        this.additionalProperties.put(name, value);
+    }
+}
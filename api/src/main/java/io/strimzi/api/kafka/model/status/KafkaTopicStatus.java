@@ -20,13 +20,14 @@ import lombok.ToString;
         builderPackage = Constants.FABRIC8_KUBERNETES_API
 )
 @JsonInclude(JsonInclude.Include.NON_NULL)
-@JsonPropertyOrder({ "conditions", "observedGeneration", "topicName" })
+@JsonPropertyOrder({ "conditions", "observedGeneration", "topicName", "replicasChange" })
 @EqualsAndHashCode
 @ToString(callSuper = true)
 public class KafkaTopicStatus extends Status {
     private static final long serialVersionUID = 1L;
 
     private String topicName;
+    private KafkaTopicReplicasChangeStatus replicasChange;
 
     @Description("Topic name")
     public String getTopicName() {
@@ -36,4 +37,14 @@ public class KafkaTopicStatus extends Status {
     public void setTopicName(String topicName) {
         this.topicName = topicName;
     }
+
+    @Description("The status of the ongoing change of the replication factor of the topic. " +
+            "Not set when no change is in progress.")
+    public KafkaTopicReplicasChangeStatus getReplicasChange() {
+        return replicasChange;
+    }
+
+    public void setReplicasChange(KafkaTopicReplicasChangeStatus replicasChange) {
+        this.replicasChange = replicasChange;
+    }
 }
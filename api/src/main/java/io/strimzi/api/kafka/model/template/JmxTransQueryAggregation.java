@@ -0,0 +1,39 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.api.kafka.model.template;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Locale;
+
+public enum JmxTransQueryAggregation {
+    NONE,
+    SUM;
+
+    @JsonCreator
+    public static JmxTransQueryAggregation forValue(String value) {
+        switch (value.toLowerCase(Locale.ENGLISH)) {
+            case "none":
+                return NONE;
+            case "sum":
+                return SUM;
+            default:
+                return null;
+        }
+    }
+
+    @JsonValue
+    public String toValue() {
+        switch (this) {
+            case NONE:
+                return "none";
+            case SUM:
+                return "sum";
+            default:
+                return null;
+        }
+    }
+}
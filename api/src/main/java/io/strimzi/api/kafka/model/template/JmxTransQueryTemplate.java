@@ -24,11 +24,12 @@ import java.util.Map;
 )
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
 @JsonPropertyOrder({
-        "targetMBean", "attributes", "outputs"})
+        "targetMBean", "attributes", "aggregation", "outputs"})
 @EqualsAndHashCode
 public class JmxTransQueryTemplate implements Serializable, UnknownPropertyPreserving {
     private String targetMBean;
     private List<String> attributes;
+    private JmxTransQueryAggregation aggregation;
     private List<String> outputs;
 
     private static final long serialVersionUID = 1L;
@@ -37,7 +38,8 @@ public class JmxTransQueryTemplate implements Serializable, UnknownPropertyPrese
     @JsonProperty(required = true)
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @Description("If using wildcards instead of a specific MBean then the data is gathered from multiple MBeans. " +
-            "Otherwise if specifying an MBean then data is gathered from that specified MBean.")
+            "Otherwise if specifying an MBean then data is gathered from that specified MBean. " +
+            "When the metrics source is `prometheus`, this is a regular expression which has to match the whole name of the Prometheus metrics exposed by the brokers.")
     public String getTargetMBean() {
         return targetMBean;
     }
@@ -48,7 +50,8 @@ public class JmxTransQueryTemplate implements Serializable, UnknownPropertyPrese
 
     @JsonProperty(required = true)
     @JsonInclude(JsonInclude.Include.NON_NULL)
-    @Description("Determine which attributes of the targeted MBean should be included")
+    @Description("Determine which attributes of the targeted MBean should be included. " +
+            "When the metrics source is `prometheus`, these are the labels of the Prometheus metrics whose values are included in the name of the pushed metric.")
     public List<String> getAttributes() {
         return attributes;
     }
@@ -57,6 +60,21 @@ public class JmxTransQueryTemplate implements Serializable, UnknownPropertyPrese
         this.attributes = attributes;
     }
 
+    @Description("Aggregation of the matching Prometheus metrics. " +
+            "With `none`, the metrics of each broker are pushed separately. " +
+            "With `sum`, the values of the metrics with the same name and included labels are summed across all brokers. " +
+            "Used only when the metrics source is `prometheus`. " +
+            "Valid values are `none` and `sum`. " +
+            "Defaults to `none`.")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public JmxTransQueryAggregation getAggregation() {
+        return aggregation;
+    }
+
+    public void setAggregation(JmxTransQueryAggregation aggregation) {
+        this.aggregation = aggregation;
+    }
+
     @JsonProperty(required = true)
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @Description("List of the names of output definitions specified in the spec.kafka.jmxTrans.outputDefinitions that have defined where JMX metrics are pushed to, and in which data format")
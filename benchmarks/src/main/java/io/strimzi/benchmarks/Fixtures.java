@@ -0,0 +1,337 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
+import io.strimzi.api.kafka.model.AclOperation;
+import io.strimzi.api.kafka.model.AclResourcePatternType;
+import io.strimzi.api.kafka.model.AclRule;
+import io.strimzi.api.kafka.model.AclRuleBuilder;
+import io.strimzi.api.kafka.model.AclRuleGroupResourceBuilder;
+import io.strimzi.api.kafka.model.AclRuleTopicResourceBuilder;
+import io.strimzi.api.kafka.model.AclRuleType;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaAuthorizationSimpleBuilder;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.api.kafka.model.KafkaUserBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.api.kafka.model.storage.EphemeralStorage;
+import io.strimzi.api.kafka.model.storage.JbodStorageBuilder;
+import io.strimzi.api.kafka.model.storage.PersistentClaimStorageBuilder;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * Realistic and reproducible fixtures used by the benchmarks. All randomized values are generated from a fixed seed so
+ * that the results of different runs and releases can be compared.
+ */
+public class Fixtures {
+    public static final String NAMESPACE = "benchmark";
+    public static final String CLUSTER_NAME = "my-cluster";
+
+    public static final int BROKERS = 60;
+    public static final int TOPICS = 20_000;
+    public static final int ACLS = 8_000;
+    public static final int ACLS_PER_USER = 4;
+
+    private static final long SEED = 0x5742_1D5AL;
+
+    private static final AclOperation[] TOPIC_OPERATIONS = {AclOperation.READ, AclOperation.WRITE, AclOperation.DESCRIBE, AclOperation.CREATE};
+    private static final String[] CLEANUP_POLICIES = {"delete", "compact", "compact,delete"};
+
+    private Fixtures() { }
+
+    /**
+     * @return  Kafka version lookup with an image configured for every supported version
+     */
+    public static KafkaVersion.Lookup versions() {
+        Map<String, String> images = new HashMap<>();
+
+        for (String version : new KafkaVersion.Lookup(emptyMap(), emptyMap(), emptyMap(), emptyMap()).supportedVersions()) {
+            images.put(version, "strimzi/kafka:benchmark-kafka-" + version);
+        }
+
+        return new KafkaVersion.Lookup(images, images, images, images);
+    }
+
+    /**
+     * Creates a Kafka custom resource similar to the large production clusters: several listeners, JBOD storage, rack
+     * awareness, authorization and custom configuration.
+     *
+     * @param brokers   Number of brokers
+     *
+     * @return  Kafka custom resource
+     */
+    public static Kafka kafka(int brokers) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("auto.create.topics.enable", "false");
+        config.put("default.replication.factor", 3);
+        config.put("min.insync.replicas", 2);
+        config.put("offsets.topic.replication.factor", 3);
+        config.put("transaction.state.log.replication.factor", 3);
+        config.put("transaction.state.log.min.isr", 2);
+        config.put("num.partitions", 12);
+        config.put("num.network.threads", 8);
+        config.put("num.io.threads", 16);
+        config.put("log.retention.hours", 168);
+        config.put("log.segment.bytes", 1073741824);
+        config.put("log.message.format.version", "2.8");
+        config.put("inter.broker.protocol.version", "2.8");
+        config.put("replica.fetch.max.bytes", 10485760);
+        config.put("message.max.bytes", 10485760);
+
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(CLUSTER_NAME)
+                    .withNamespace(NAMESPACE)
+                    .withGeneration(1L)
+                    .addToLabels("app", "benchmark")
+                    .addToLabels("team", "platform")
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(brokers)
+                        .withListeners(
+                                new GenericKafkaListenerBuilder()
+                                        .withName("plain")
+                                        .withPort(9092)
+                                        .withType(KafkaListenerType.INTERNAL)
+                                        .withTls(false)
+                                        .build(),
+                                new GenericKafkaListenerBuilder()
+                                        .withName("tls")
+                                        .withPort(9093)
+                                        .withType(KafkaListenerType.INTERNAL)
+                                        .withTls(true)
+                                        .build(),
+                                new GenericKafkaListenerBuilder()
+                                        .withName("external")
+                                        .withPort(9094)
+                                        .withType(KafkaListenerType.NODEPORT)
+                                        .withTls(true)
+                                        .build())
+                        .withStorage(new JbodStorageBuilder()
+                                .withVolumes(
+                                        new PersistentClaimStorageBuilder().withId(0).withSize("1000Gi").withDeleteClaim(false).build(),
+                                        new PersistentClaimStorageBuilder().withId(1).withSize("1000Gi").withDeleteClaim(false).build())
+                                .build())
+                        .withNewRack()
+                            .withTopologyKey("topology.kubernetes.io/zone")
+                        .endRack()
+                        .withAuthorization(new KafkaAuthorizationSimpleBuilder().withSuperUsers("CN=admin").build())
+                        .withResources(new ResourceRequirementsBuilder()
+                                .addToRequests("memory", new Quantity("16Gi"))
+                                .addToRequests("cpu", new Quantity("4"))
+                                .addToLimits("memory", new Quantity("16Gi"))
+                                .addToLimits("cpu", new Quantity("8"))
+                                .build())
+                        .withConfig(config)
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(5)
+                        .withNewPersistentClaimStorage()
+                            .withSize("100Gi")
+                        .endPersistentClaimStorage()
+                    .endZookeeper()
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Returns the namespace of the fleet resource with given index when the fleet is spread over several namespaces
+     *
+     * @param index         Index of the resource
+     * @param namespaces    Number of namespaces
+     *
+     * @return  Name of the namespace
+     */
+    public static String namespace(int index, int namespaces) {
+        return NAMESPACE + "-" + (index % namespaces);
+    }
+
+    /**
+     * Creates a fleet of small Kafka clusters with 3 brokers and 3 ZooKeeper nodes, internal listeners only and
+     * ephemeral storage. These do not need anything what a mocked Kubernetes API cannot provide (such as node ports
+     * or storage provisioning).
+     *
+     * @param count         Number of Kafka clusters
+     * @param namespaces    Number of namespaces the clusters are spread over
+     *
+     * @return  List of Kafka custom resources
+     */
+    public static List<Kafka> kafkas(int count, int namespaces) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("default.replication.factor", 3);
+        config.put("min.insync.replicas", 2);
+        config.put("offsets.topic.replication.factor", 3);
+        config.put("transaction.state.log.replication.factor", 3);
+        config.put("transaction.state.log.min.isr", 2);
+
+        List<Kafka> kafkas = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            kafkas.add(new KafkaBuilder()
+                    .withNewMetadata()
+                        .withName("cluster-" + i)
+                        .withNamespace(namespace(i, namespaces))
+                        .withGeneration(1L)
+                        .addToLabels("app", "benchmark")
+                    .endMetadata()
+                    .withNewSpec()
+                        .withNewKafka()
+                            .withReplicas(3)
+                            .withListeners(
+                                    new GenericKafkaListenerBuilder()
+                                            .withName("plain")
+                                            .withPort(9092)
+                                            .withType(KafkaListenerType.INTERNAL)
+                                            .withTls(false)
+                                            .build(),
+                                    new GenericKafkaListenerBuilder()
+                                            .withName("tls")
+                                            .withPort(9093)
+                                            .withType(KafkaListenerType.INTERNAL)
+                                            .withTls(true)
+                                            .build())
+                            .withStorage(new EphemeralStorage())
+                            .withAuthorization(new KafkaAuthorizationSimpleBuilder().withSuperUsers("CN=admin").build())
+                            .withConfig(config)
+                        .endKafka()
+                        .withNewZookeeper()
+                            .withReplicas(3)
+                            .withStorage(new EphemeralStorage())
+                        .endZookeeper()
+                    .endSpec()
+                    .build());
+        }
+
+        return kafkas;
+    }
+
+    /**
+     * Creates KafkaTopic custom resources with varied partition counts and configurations
+     *
+     * @param count     Number of topics
+     *
+     * @return  List of KafkaTopic custom resources
+     */
+    public static List<KafkaTopic> kafkaTopics(int count) {
+        Random random = new Random(SEED);
+        List<KafkaTopic> topics = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> config = new HashMap<>();
+            config.put("cleanup.policy", CLEANUP_POLICIES[random.nextInt(CLEANUP_POLICIES.length)]);
+            config.put("retention.ms", String.valueOf(3_600_000L * (1 + random.nextInt(720))));
+            config.put("min.insync.replicas", "2");
+
+            if (random.nextBoolean()) {
+                config.put("segment.bytes", String.valueOf(1 << (20 + random.nextInt(10))));
+            }
+
+            topics.add(new KafkaTopicBuilder()
+                    .withNewMetadata()
+                        .withName("topic-" + i)
+                        .withNamespace(NAMESPACE)
+                        .addToLabels("strimzi.io/cluster", CLUSTER_NAME)
+                    .endMetadata()
+                    .withNewSpec()
+                        .withTopicName("team-" + (i % 50) + ".topic-" + i)
+                        .withPartitions(1 + random.nextInt(64))
+                        .withReplicas(3)
+                        .withConfig(config)
+                    .endSpec()
+                    .build());
+        }
+
+        return topics;
+    }
+
+    /**
+     * Creates ACL rules for topics and consumer groups
+     *
+     * @param count     Number of ACL rules
+     *
+     * @return  List of ACL rules
+     */
+    public static List<AclRule> aclRules(int count) {
+        Random random = new Random(SEED);
+        List<AclRule> rules = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            boolean prefixed = random.nextInt(4) == 0;
+
+            if (i % 4 == 3) {
+                rules.add(new AclRuleBuilder()
+                        .withType(AclRuleType.ALLOW)
+                        .withResource(new AclRuleGroupResourceBuilder()
+                                .withName("group-" + i)
+                                .withPatternType(prefixed ? AclResourcePatternType.PREFIX : AclResourcePatternType.LITERAL)
+                                .build())
+                        .withOperation(AclOperation.READ)
+                        .withHost("*")
+                        .build());
+            } else {
+                rules.add(new AclRuleBuilder()
+                        .withType(random.nextInt(20) == 0 ? AclRuleType.DENY : AclRuleType.ALLOW)
+                        .withResource(new AclRuleTopicResourceBuilder()
+                                .withName("team-" + (i % 50) + ".topic-" + i)
+                                .withPatternType(prefixed ? AclResourcePatternType.PREFIX : AclResourcePatternType.LITERAL)
+                                .build())
+                        .withOperation(TOPIC_OPERATIONS[random.nextInt(TOPIC_OPERATIONS.length)])
+                        .withHost("*")
+                        .build());
+            }
+        }
+
+        return rules;
+    }
+
+    /**
+     * Creates SCRAM-SHA-512 KafkaUser custom resources with simple authorization and {@link #ACLS_PER_USER} ACL rules
+     * per user
+     *
+     * @param count         Number of users
+     * @param namespaces    Number of namespaces the users are spread over
+     *
+     * @return  List of KafkaUser custom resources
+     */
+    public static List<KafkaUser> kafkaUsers(int count, int namespaces) {
+        List<AclRule> rules = aclRules(count * ACLS_PER_USER);
+        List<KafkaUser> users = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            users.add(new KafkaUserBuilder()
+                    .withNewMetadata()
+                        .withName("user-" + i)
+                        .withNamespace(namespace(i, namespaces))
+                        .withGeneration(1L)
+                        .addToLabels("strimzi.io/cluster", CLUSTER_NAME)
+                    .endMetadata()
+                    .withNewSpec()
+                        .withNewKafkaUserScramSha512ClientAuthentication()
+                        .endKafkaUserScramSha512ClientAuthentication()
+                        .withNewKafkaUserAuthorizationSimple()
+                            .withAcls(rules.subList(i * ACLS_PER_USER, (i + 1) * ACLS_PER_USER))
+                        .endKafkaUserAuthorizationSimple()
+                    .endSpec()
+                    .build());
+        }
+
+        return users;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.scale;
+
+import io.strimzi.test.mockkube.ApiCallObserver;
+import io.vertx.core.Context;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the calls to the mocked Kubernetes API and simulates the latency of a real API server by delaying every call.
+ * The calls done by the scale test itself (e.g. when modifying the resources to trigger watch events) are not counted
+ * and not delayed.
+ */
+public class ApiCalls implements ApiCallObserver {
+    private final long latencyMs;
+    private final long latencyJitterMs;
+
+    private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+    private final LongAdder eventLoopCalls = new LongAdder();
+    private final ThreadLocal<Boolean> untracked = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    /**
+     * Constructs the API calls observer
+     *
+     * @param latencyMs         Minimal latency of every API call
+     * @param latencyJitterMs   Maximal random latency added to the minimal latency
+     */
+    public ApiCalls(long latencyMs, long latencyJitterMs) {
+        this.latencyMs = latencyMs;
+        this.latencyJitterMs = latencyJitterMs;
+    }
+
+    @Override
+    public void onApiCall(String resourceType, String verb) {
+        if (untracked.get()) {
+            return;
+        }
+
+        calls.computeIfAbsent(verb, v -> new LongAdder()).increment();
+
+        if (Context.isOnEventLoopThread()) {
+            // Blocking calls should never be done from the event loop. We count them, but we do not block the event
+            // loop even more by simulating the latency.
+            eventLoopCalls.increment();
+        } else {
+            sleep(latencyMs + (latencyJitterMs > 0 ? ThreadLocalRandom.current().nextLong(latencyJitterMs + 1) : 0L));
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis > 0) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Runs the action without counting and delaying the API calls it does
+     *
+     * @param action    Action which should not be tracked
+     */
+    public void untracked(Runnable action) {
+        untracked.set(Boolean.TRUE);
+
+        try {
+            action.run();
+        } finally {
+            untracked.set(Boolean.FALSE);
+        }
+    }
+
+    /**
+     * @return  Snapshot of the current number of API calls per verb
+     */
+    public Snapshot snapshot() {
+        Map<String, Long> counts = new TreeMap<>();
+        calls.forEach((verb, count) -> counts.put(verb, count.sum()));
+
+        return new Snapshot(counts, eventLoopCalls.sum());
+    }
+
+    /**
+     * Number of API calls per verb at some point in time
+     */
+    public static class Snapshot {
+        private final Map<String, Long> counts;
+        private final long eventLoopCalls;
+
+        Snapshot(Map<String, Long> counts, long eventLoopCalls) {
+            this.counts = counts;
+            this.eventLoopCalls = eventLoopCalls;
+        }
+
+        /**
+         * @return  Total number of API calls
+         */
+        public long total() {
+            return counts.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        /**
+         * @return  Number of API calls done from an event loop thread
+         */
+        public long eventLoopCalls() {
+            return eventLoopCalls;
+        }
+
+        /**
+         * @return  Number of API calls per verb
+         */
+        public Map<String, Long> counts() {
+            return counts;
+        }
+
+        /**
+         * Calculates the API calls done since an earlier snapshot
+         *
+         * @param earlier   The earlier snapshot
+         *
+         * @return  Snapshot with the API calls done between the earlier snapshot and this snapshot
+         */
+        public Snapshot since(Snapshot earlier) {
+            Map<String, Long> delta = new TreeMap<>();
+            counts.forEach((verb, count) -> delta.put(verb, count - earlier.counts.getOrDefault(verb, 0L)));
+
+            return new Snapshot(delta, eventLoopCalls - earlier.eventLoopCalls);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.scale;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.benchmarks.Fixtures;
+import io.strimzi.operator.KubernetesVersion;
+import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.cluster.operator.resource.ZookeeperLeaderFinder;
+import io.strimzi.operator.cluster.operator.resource.ZookeeperScaler;
+import io.strimzi.operator.cluster.operator.resource.ZookeeperScalerProvider;
+import io.strimzi.operator.common.AdminClientProvider;
+import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.net.NetClientOptions;
+import io.vertx.core.net.PemKeyCertOptions;
+import io.vertx.core.net.PemTrustOptions;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+
+import java.lang.reflect.Constructor;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singleton;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives the reconciliations of the Kafka clusters by the real Kafka assembly operator of the Cluster Operator. Only
+ * the Kubernetes API is used for real (mocked by MockKube). The ZooKeeper and Kafka clients, which would need running
+ * clusters, are replaced by stubs which report healthy clusters.
+ */
+public class ClusterOperatorDriver implements ScaleDriver {
+    private final KubernetesClient client;
+    private final KafkaAssemblyOperator operator;
+
+    /**
+     * Constructs the driver
+     *
+     * @param vertx     Vert.x instance
+     * @param client    Kubernetes client
+     * @param metrics   Metrics provider
+     */
+    public ClusterOperatorDriver(Vertx vertx, KubernetesClient client, MetricsProvider metrics) {
+        this.client = client;
+
+        PlatformFeaturesAvailability pfa = new PlatformFeaturesAvailability(false, KubernetesVersion.V1_20);
+        ClusterOperatorConfig config = new ClusterOperatorConfig(
+                singleton("*"),
+                ClusterOperatorConfig.DEFAULT_FULL_RECONCILIATION_INTERVAL_MS,
+                ClusterOperatorConfig.DEFAULT_FULL_RECONCILIATION_INTERVAL_MS,
+                ClusterOperatorConfig.DEFAULT_OPERATION_TIMEOUT_MS,
+                ClusterOperatorConfig.DEFAULT_CONNECT_BUILD_TIMEOUT_MS,
+                false,
+                true,
+                Fixtures.versions(),
+                null,
+                emptyList(),
+                null,
+                null,
+                ClusterOperatorConfig.RbacScope.CLUSTER,
+                null,
+                "",
+                ClusterOperatorConfig.DEFAULT_STRIMZI_OPERATIONS_THREAD_POOL_SIZE);
+
+        ZookeeperLeaderFinder leaderFinder = new ZookeeperLeaderFinder(vertx, new SecretOperator(vertx, client), () -> new BackOff(5_000, 2, 4)) {
+            @Override
+            protected Future<Boolean> isLeader(Reconciliation reconciliation, Pod pod, NetClientOptions options) {
+                return Future.succeededFuture(true);
+            }
+
+            @Override
+            protected PemTrustOptions trustOptions(Reconciliation reconciliation, Secret clusterCaCertificateSecret) {
+                return new PemTrustOptions();
+            }
+
+            @Override
+            protected PemKeyCertOptions keyCertOptions(Secret coCertKeySecret) {
+                return new PemKeyCertOptions();
+            }
+        };
+
+        ResourceOperatorSupplier supplier = new ResourceOperatorSupplier(vertx, client, leaderFinder, adminClientProvider(),
+                zookeeperScalerProvider(), metrics, pfa, config.featureGates(), config.getOperationTimeoutMs());
+
+        this.operator = new KafkaAssemblyOperator(vertx, pfa, new MockCertManager(), new PasswordGenerator(12), supplier, config);
+    }
+
+    @Override
+    public String kind() {
+        return Kafka.RESOURCE_KIND;
+    }
+
+    @Override
+    public Future<Void> reconcile(String namespace, String name) {
+        return operator.reconcile(new Reconciliation("scale-test", Kafka.RESOURCE_KIND, namespace, name));
+    }
+
+    @Override
+    public Future<Watch> watch(String namespace) {
+        return operator.createWatch(namespace, ns -> true, e -> { });
+    }
+
+    @Override
+    public void touch(String namespace, String name, int round) {
+        Kafka current = Crds.kafkaOperation(client).inNamespace(namespace).withName(name).get();
+
+        Crds.kafkaOperation(client).inNamespace(namespace).withName(name).patch(new KafkaBuilder(current)
+                .editSpec()
+                    .editKafka()
+                        .addToConfig("log.retention.hours", 24 * (round + 1))
+                    .endKafka()
+                .endSpec()
+                .build());
+    }
+
+    /**
+     * @return  Provider of Kafka Admin clients which report a healthy Kafka cluster without any topics
+     */
+    private static AdminClientProvider adminClientProvider() {
+        return (bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName) -> {
+            Admin admin = mock(Admin.class);
+
+            try {
+                Constructor<DescribeClusterResult> describeCluster = DescribeClusterResult.class.getDeclaredConstructor(KafkaFuture.class, KafkaFuture.class, KafkaFuture.class, KafkaFuture.class);
+                describeCluster.setAccessible(true);
+                KafkaFuture<Node> controller = KafkaFutureImpl.completedFuture(new Node(0, "localhost", 9091));
+                KafkaFuture<String> clusterId = KafkaFutureImpl.completedFuture("CLUSTERID");
+                when(admin.describeCluster()).thenReturn(describeCluster.newInstance(null, controller, clusterId, null));
+
+                Constructor<ListTopicsResult> listTopics = ListTopicsResult.class.getDeclaredConstructor(KafkaFuture.class);
+                listTopics.setAccessible(true);
+                KafkaFuture<Map<String, TopicListing>> topics = KafkaFutureImpl.completedFuture(emptyMap());
+                when(admin.listTopics(any())).thenReturn(listTopics.newInstance(topics));
+
+                Constructor<DescribeTopicsResult> describeTopics = DescribeTopicsResult.class.getDeclaredConstructor(Map.class);
+                describeTopics.setAccessible(true);
+                when(admin.describeTopics(any())).thenReturn(describeTopics.newInstance(emptyMap()));
+
+                Constructor<DescribeConfigsResult> describeConfigs = DescribeConfigsResult.class.getDeclaredConstructor(Map.class);
+                describeConfigs.setAccessible(true);
+                when(admin.describeConfigs(any())).thenReturn(describeConfigs.newInstance(emptyMap()));
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+
+            return admin;
+        };
+    }
+
+    /**
+     * @return  Provider of ZooKeeper scalers which always succeed
+     */
+    private static ZookeeperScalerProvider zookeeperScalerProvider() {
+        return (reconciliation, vertx, zookeeperConnectionString, zkNodeAddress, clusterCaCertSecret, coKeySecret, operationTimeoutMs) -> {
+            ZookeeperScaler scaler = mock(ZookeeperScaler.class);
+            when(scaler.scale(anyInt())).thenReturn(Future.succeededFuture());
+            return scaler;
+        };
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.scale;
+
+import io.fabric8.kubernetes.client.Watch;
+import io.vertx.core.Future;
+
+/**
+ * Drives the reconciliations of one of the operators in the scale test
+ */
+public interface ScaleDriver {
+    /**
+     * @return  Kind of the custom resources reconciled by the operator
+     */
+    String kind();
+
+    /**
+     * Reconciles a single custom resource the same way as the operator does it when it receives a watch event or during
+     * the periodical reconciliation.
+     *
+     * @param namespace     Namespace of the custom resource
+     * @param name          Name of the custom resource
+     *
+     * @return  Future which completes when the reconciliation is finished
+     */
+    Future<Void> reconcile(String namespace, String name);
+
+    /**
+     * Opens the watch the operator uses to get notified about the changes to its custom resources. The watches of the
+     * mocked Kubernetes API are not namespace scoped, so a single watch gets the events from all namespaces.
+     *
+     * @param namespace     Namespace in which the watch should be opened
+     *
+     * @return  Future with the opened watch
+     */
+    Future<Watch> watch(String namespace);
+
+    /**
+     * Modifies the custom resource through the Kubernetes API so that a watch event is triggered
+     *
+     * @param namespace     Namespace of the custom resource
+     * @param name          Name of the custom resource
+     * @param round         Number of the modification round which can be used to make the modification unique
+     */
+    void touch(String namespace, String name, int round);
+}
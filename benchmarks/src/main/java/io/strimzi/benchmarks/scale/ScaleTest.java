@@ -0,0 +1,332 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.scale;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.KafkaList;
+import io.strimzi.api.kafka.KafkaTopicList;
+import io.strimzi.api.kafka.KafkaUserList;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.benchmarks.Fixtures;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.topic.TopicOperatorDriver;
+import io.strimzi.operator.user.operator.UserOperatorDriver;
+import io.strimzi.test.mockkube.MockKube;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import io.vertx.micrometer.VertxPrometheusOptions;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scale test of the operators. It runs the real Cluster, Topic and User Operator reconciliation logic against MockKube
+ * populated with a large fleet of custom resources. Every call to the mocked Kubernetes API is counted and delayed to
+ * simulate the latency of a real API server. The Kafka and ZooKeeper clients are stubbed, so only the Kubernetes side
+ * of the reconciliation is measured.
+ *
+ * For each operator, the test runs three phases:
+ *   - initial: reconciliation of all custom resources which creates all the dependent resources
+ *   - steady: reconciliation of all custom resources which are already up-to-date (the periodical reconciliation)
+ *   - storm: modification of all custom resources at once, reconciled through the operator watch
+ *
+ * Usage: java -cp benchmarks/target/benchmarks.jar io.strimzi.benchmarks.scale.ScaleTest [--option value]...
+ */
+public class ScaleTest {
+    private static final long QUIET_PERIOD_MS = 2_000L;
+    private static final long STORM_TIMEOUT_MS = 600_000L;
+
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+    static {
+        DEFAULTS.put("kafkas", "500");
+        DEFAULTS.put("topics", "5000");
+        DEFAULTS.put("users", "10000");
+        DEFAULTS.put("namespaces", "10");
+        DEFAULTS.put("parallelism", "100");
+        DEFAULTS.put("worker-pool-size", "20");
+        DEFAULTS.put("api-latency-ms", "5");
+        DEFAULTS.put("api-latency-jitter-ms", "5");
+        DEFAULTS.put("storm-rounds", "3");
+        DEFAULTS.put("operators", "co,to,uo");
+    }
+
+    /**
+     * Runs the scale test
+     *
+     * @param args  Options in the --name value format
+     *
+     * @throws InterruptedException When interrupted while waiting for the reconciliations
+     */
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = parseOptions(args);
+        int namespaces = Integer.parseInt(options.get("namespaces"));
+        int parallelism = Integer.parseInt(options.get("parallelism"));
+        int stormRounds = Integer.parseInt(options.get("storm-rounds"));
+        List<String> operators = Arrays.asList(options.get("operators").split(","));
+
+        List<Kafka> kafkas = Fixtures.kafkas(Integer.parseInt(options.get("kafkas")), namespaces);
+        List<KafkaTopic> topics = Fixtures.kafkaTopics(Integer.parseInt(options.get("topics")));
+        List<KafkaUser> users = Fixtures.kafkaUsers(Integer.parseInt(options.get("users")), namespaces);
+
+        ApiCalls apiCalls = new ApiCalls(Long.parseLong(options.get("api-latency-ms")), Long.parseLong(options.get("api-latency-jitter-ms")));
+        KubernetesClient client = new MockKube()
+                .withCustomResourceDefinition(Crds.kafka(), Kafka.class, KafkaList.class, Kafka::getStatus, Kafka::setStatus)
+                    .withInitialInstances(new HashSet<>(kafkas))
+                .end()
+                .withCustomResourceDefinition(Crds.kafkaTopic(), KafkaTopic.class, KafkaTopicList.class, KafkaTopic::getStatus, KafkaTopic::setStatus)
+                    .withInitialInstances(new HashSet<>(topics))
+                .end()
+                .withCustomResourceDefinition(Crds.kafkaUser(), KafkaUser.class, KafkaUserList.class, KafkaUser::getStatus, KafkaUser::setStatus)
+                    .withInitialInstances(new HashSet<>(users))
+                .end()
+                .withApiCallObserver(apiCalls)
+                .build();
+
+        // The User Operator always uses the Micrometer metrics provider, so the metrics have to be enabled
+        Vertx vertx = Vertx.vertx(new VertxOptions()
+                .setWorkerPoolSize(Integer.parseInt(options.get("worker-pool-size")))
+                .setMetricsOptions(new MicrometerMetricsOptions()
+                        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+                        .setEnabled(true)));
+        MetricsProvider metrics = new MicrometerMetricsProvider();
+
+        System.out.println("Scale test options: " + options);
+        List<PhaseResult> results = new ArrayList<>();
+
+        if (operators.contains("co")) {
+            results.addAll(run(new ClusterOperatorDriver(vertx, client, metrics), kafkas, parallelism, stormRounds, apiCalls));
+        }
+
+        if (operators.contains("to")) {
+            results.addAll(run(new TopicOperatorDriver(vertx, client, metrics, Fixtures.NAMESPACE, topics), topics, parallelism, stormRounds, apiCalls));
+        }
+
+        if (operators.contains("uo")) {
+            results.addAll(run(new UserOperatorDriver(vertx, client), users, parallelism, stormRounds, apiCalls));
+        }
+
+        System.out.println();
+        System.out.println(PhaseResult.header());
+        results.forEach(result -> System.out.println(result.format()));
+
+        vertx.close();
+        client.close();
+        System.exit(0);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>(DEFAULTS);
+
+        for (int i = 0; i < args.length; i += 2) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : args[i];
+
+            if (!DEFAULTS.containsKey(name) || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Unknown option or missing value: " + args[i] + ". Supported options (with defaults): " + DEFAULTS);
+            }
+
+            options.put(name, args[i + 1]);
+        }
+
+        return options;
+    }
+
+    /**
+     * Runs all phases of the scale test for one operator
+     */
+    private static List<PhaseResult> run(ScaleDriver driver, List<? extends HasMetadata> resources, int parallelism, int stormRounds, ApiCalls apiCalls) throws InterruptedException {
+        List<PhaseResult> results = new ArrayList<>();
+
+        System.out.println("Running the initial reconciliation of " + resources.size() + " " + driver.kind() + " resources");
+        results.add(reconcileAll("initial", driver, resources, parallelism, apiCalls));
+
+        System.out.println("Running the steady state reconciliation of " + resources.size() + " " + driver.kind() + " resources");
+        results.add(reconcileAll("steady", driver, resources, parallelism, apiCalls));
+
+        // MockKube watches are not namespace scoped, so a single watch gets the events for all resources
+        Watch watch = driver.watch(resources.get(0).getMetadata().getNamespace()).toCompletionStage().toCompletableFuture().join();
+
+        try {
+            for (int round = 0; round < stormRounds; round++) {
+                System.out.println("Running the watch event storm " + (round + 1) + " of " + stormRounds + " for " + driver.kind() + " resources");
+                results.add(storm("storm-" + (round + 1), driver, resources, round, apiCalls));
+            }
+        } finally {
+            watch.close();
+        }
+
+        return results;
+    }
+
+    /**
+     * Reconciles all resources with bounded parallelism and measures the latency of every reconciliation
+     */
+    private static PhaseResult reconcileAll(String phase, ScaleDriver driver, List<? extends HasMetadata> resources, int parallelism, ApiCalls apiCalls) throws InterruptedException {
+        Semaphore permits = new Semaphore(parallelism);
+        CountDownLatch done = new CountDownLatch(resources.size());
+        long[] latencies = new long[resources.size()];
+        AtomicInteger failed = new AtomicInteger();
+
+        resetPeakHeap();
+        ApiCalls.Snapshot before = apiCalls.snapshot();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < resources.size(); i++) {
+            permits.acquire();
+
+            int index = i;
+            HasMetadata resource = resources.get(i);
+            long reconciliationStart = System.nanoTime();
+
+            driver.reconcile(resource.getMetadata().getNamespace(), resource.getMetadata().getName()).onComplete(res -> {
+                latencies[index] = System.nanoTime() - reconciliationStart;
+
+                if (res.failed()) {
+                    failed.incrementAndGet();
+                }
+
+                permits.release();
+                done.countDown();
+            });
+        }
+
+        done.await();
+        long durationNs = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new PhaseResult(driver.kind(), phase, resources.size(), failed.get(), durationNs, latencies,
+                apiCalls.snapshot().since(before), usedHeapAfterGc(), peakHeap());
+    }
+
+    /**
+     * Modifies all resources at once and waits until the operator stops calling the Kubernetes API
+     */
+    private static PhaseResult storm(String phase, ScaleDriver driver, List<? extends HasMetadata> resources, int round, ApiCalls apiCalls) throws InterruptedException {
+        resetPeakHeap();
+        ApiCalls.Snapshot before = apiCalls.snapshot();
+        long start = System.nanoTime();
+
+        apiCalls.untracked(() -> {
+            for (HasMetadata resource : resources) {
+                driver.touch(resource.getMetadata().getNamespace(), resource.getMetadata().getName(), round);
+            }
+        });
+
+        long lastTotal = apiCalls.snapshot().total();
+        long lastChange = System.nanoTime();
+
+        while (System.nanoTime() - lastChange < TimeUnit.MILLISECONDS.toNanos(QUIET_PERIOD_MS)
+                && System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(STORM_TIMEOUT_MS)) {
+            Thread.sleep(100);
+            long total = apiCalls.snapshot().total();
+
+            if (total != lastTotal) {
+                lastTotal = total;
+                lastChange = System.nanoTime();
+            }
+        }
+
+        return new PhaseResult(driver.kind(), phase, resources.size(), 0, lastChange - start, null,
+                apiCalls.snapshot().since(before), usedHeapAfterGc(), peakHeap());
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long peakHeap() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Result of one phase of the scale test
+     */
+    static class PhaseResult {
+        private static final String FORMAT = "%-10s %-9s %9s %7s %11s %10s %9s %9s %9s %10s %10s %10s %10s";
+
+        private final String kind;
+        private final String phase;
+        private final int resources;
+        private final int failed;
+        private final long durationNs;
+        private final long[] sortedLatenciesNs;
+        private final ApiCalls.Snapshot apiCalls;
+        private final long usedHeap;
+        private final long peakHeap;
+
+        PhaseResult(String kind, String phase, int resources, int failed, long durationNs, long[] sortedLatenciesNs, ApiCalls.Snapshot apiCalls, long usedHeap, long peakHeap) {
+            this.kind = kind;
+            this.phase = phase;
+            this.resources = resources;
+            this.failed = failed;
+            this.durationNs = durationNs;
+            this.sortedLatenciesNs = sortedLatenciesNs;
+            this.apiCalls = apiCalls;
+            this.usedHeap = usedHeap;
+            this.peakHeap = peakHeap;
+        }
+
+        static String header() {
+            return String.format(FORMAT, "Kind", "Phase", "Resources", "Failed", "Duration[s]", "Per sec", "p50[ms]", "p99[ms]", "max[ms]",
+                    "API calls", "Per CR", "Heap[MB]", "Peak[MB]");
+        }
+
+        String format() {
+            double durationS = durationNs / 1e9;
+
+            return String.format(FORMAT, kind, phase, resources, failed,
+                    String.format("%.1f", durationS),
+                    String.format("%.1f", resources / durationS),
+                    percentile(0.5),
+                    percentile(0.99),
+                    percentile(1.0),
+                    apiCalls.total(),
+                    String.format("%.1f", (double) apiCalls.total() / resources),
+                    usedHeap / (1024 * 1024),
+                    peakHeap / (1024 * 1024))
+                    + "  " + apiCalls.counts()
+                    + (apiCalls.eventLoopCalls() > 0 ? " (" + apiCalls.eventLoopCalls() + " on event loop)" : "");
+        }
+
+        private String percentile(double percentile) {
+            if (sortedLatenciesNs == null || sortedLatenciesNs.length == 0) {
+                return "-";
+            }
+
+            int index = (int) Math.ceil(percentile * sortedLatenciesNs.length) - 1;
+            return String.format("%.1f", sortedLatenciesNs[Math.max(0, index)] / 1e6);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.benchmarks.Fixtures;
+import io.strimzi.operator.common.Reconciliation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the generation of the Kafka model and of its StatefulSet for a 60 broker cluster
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaClusterBenchmark {
+    private KafkaVersion.Lookup versions;
+    private Kafka kafka;
+    private KafkaCluster kafkaCluster;
+
+    @Setup
+    public void setup() {
+        versions = Fixtures.versions();
+        kafka = Fixtures.kafka(Fixtures.BROKERS);
+        kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, versions);
+    }
+
+    @Benchmark
+    public KafkaCluster fromCrd() {
+        return KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, versions);
+    }
+
+    @Benchmark
+    public StatefulSet generateStatefulSet() {
+        return kafkaCluster.generateStatefulSet(false, null, null);
+    }
+}
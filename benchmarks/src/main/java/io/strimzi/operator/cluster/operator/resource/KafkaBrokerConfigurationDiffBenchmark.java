@@ -0,0 +1,75 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.benchmarks.Fixtures;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.common.MetricsAndLogging;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.OrderedProperties;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptySet;
+
+/**
+ * Benchmarks the diffing of the current broker configuration (as returned by the Admin API) and the desired broker
+ * configuration generated by the operator. This is done for every broker in every reconciliation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaBrokerConfigurationDiffBenchmark {
+    private KafkaVersion kafkaVersion;
+    private String desired;
+    private Config current;
+
+    @Setup
+    public void setup() {
+        KafkaVersion.Lookup versions = Fixtures.versions();
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, Fixtures.kafka(Fixtures.BROKERS), versions);
+        kafkaCluster.generateAncillaryConfigMap(new MetricsAndLogging(null, null), emptySet(), emptySet(), false);
+
+        kafkaVersion = kafkaCluster.getKafkaVersion();
+        desired = kafkaCluster.getBrokersConfiguration();
+
+        // The current configuration differs in a few dynamically updatable options
+        Map<String, String> currentOptions = new OrderedProperties().addStringPairs(desired).asMap();
+        currentOptions.put("num.io.threads", "8");
+        currentOptions.put("num.network.threads", "4");
+        currentOptions.put("log.retention.hours", "72");
+
+        List<ConfigEntry> entries = new ArrayList<>(currentOptions.size());
+        for (Map.Entry<String, String> option : currentOptions.entrySet()) {
+            entries.add(new ConfigEntry(option.getKey(), option.getValue()));
+        }
+
+        current = new Config(entries);
+    }
+
+    @Benchmark
+    public boolean configurationDiff() {
+        return new KafkaBrokerConfigurationDiff(Reconciliation.DUMMY_RECONCILIATION, current, desired, kafkaVersion, 0).canBeUpdatedDynamically();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
+import io.strimzi.benchmarks.Fixtures;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.resource.ResourceDiff;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmarks the diffing of the current and desired Kafka StatefulSet using the generic ResourceDiff and the
+ * StatefulSetDiff used by the StatefulSet operator
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatefulSetDiffBenchmark {
+    // Same as the ignorable paths used by the AbstractResourceOperator
+    private static final Pattern IGNORABLE_PATHS = Pattern.compile("^(/metadata/managedFields|/status)$");
+
+    private StatefulSet current;
+    private StatefulSet unchanged;
+    private StatefulSet changed;
+
+    @Setup
+    public void setup() {
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, Fixtures.kafka(Fixtures.BROKERS), Fixtures.versions());
+
+        current = kafkaCluster.generateStatefulSet(false, null, null);
+        unchanged = kafkaCluster.generateStatefulSet(false, null, null);
+        changed = new StatefulSetBuilder(current)
+                .editSpec()
+                    .withReplicas(Fixtures.BROKERS + 3)
+                    .editTemplate()
+                        .editMetadata()
+                            .addToAnnotations("strimzi.io/generation", "2")
+                        .endMetadata()
+                        .editSpec()
+                            .editFirstContainer()
+                                .withImage("strimzi/kafka:benchmark-changed")
+                                .addNewEnv()
+                                    .withName("BENCHMARK")
+                                    .withValue("true")
+                                .endEnv()
+                            .endContainer()
+                        .endSpec()
+                    .endTemplate()
+                .endSpec()
+                .build();
+    }
+
+    @Benchmark
+    public void resourceDiff(Blackhole blackhole) {
+        blackhole.consume(new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "StatefulSet", Fixtures.CLUSTER_NAME, current, unchanged, IGNORABLE_PATHS).isEmpty());
+        blackhole.consume(new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "StatefulSet", Fixtures.CLUSTER_NAME, current, changed, IGNORABLE_PATHS).isEmpty());
+    }
+
+    @Benchmark
+    public void statefulSetDiff(Blackhole blackhole) {
+        blackhole.consume(new StatefulSetDiff(Reconciliation.DUMMY_RECONCILIATION, current, unchanged).isEmpty());
+        blackhole.consume(new StatefulSetDiff(Reconciliation.DUMMY_RECONCILIATION, current, changed).changesSpecTemplate());
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks the logging done by a single reconciliation with the INFO level enabled. The logger is configured in
+ * log4j2.properties of the benchmarks to write the messages to /dev/null. Run it with the GC profiler
+ * ({@code -prof gc}) to get the allocation per reconciliation ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReconciliationLoggerBenchmark {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create("io.strimzi.benchmarks.logging.ReconciliationLoggerBenchmark");
+
+    /**
+     * Number of debug and trace messages logged during the reconciliation. These are disabled at the INFO level.
+     */
+    private static final int DISABLED_MESSAGES = 200;
+
+    @Param({"false", "true"})
+    public boolean structured;
+
+    private Reconciliation reconciliation;
+    private List<String> topicDescriptions;
+
+    @Setup
+    public void setup() {
+        ReconciliationLogger.structured(structured);
+        reconciliation = new Reconciliation("watch", "Kafka", "my-namespace", "my-cluster");
+        topicDescriptions = IntStream.range(0, 100)
+                .mapToObj(i -> "(name=my-topic-" + i + ", internal=false, partitions=(partition=0, leader=0, replicas=0,1,2, isr=0,1,2))")
+                .collect(Collectors.toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ReconciliationLogger.structured(false);
+    }
+
+    @Benchmark
+    public void reconcile() {
+        LOGGER.infoCr(reconciliation, "{} {} will be checked for creation or modification", reconciliation.kind(), reconciliation.name());
+
+        for (int i = 0; i < DISABLED_MESSAGES; i++) {
+            LOGGER.debugCr(reconciliation, "{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted",
+                    "my-topic", i, 2, "min.insync.replicas", 2, 0);
+            LOGGER.traceCr(reconciliation, topicDescriptions);
+        }
+
+        LOGGER.infoCr(reconciliation, "Rolling pod {} due to {}", "my-cluster-kafka-0", "manual rolling update");
+        LOGGER.infoCr(reconciliation, "reconciled");
+    }
+}
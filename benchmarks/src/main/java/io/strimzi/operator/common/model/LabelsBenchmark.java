@@ -0,0 +1,59 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.benchmarks.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Labels operations used when generating every resource owned by the operators
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LabelsBenchmark {
+    private Kafka kafka;
+    private Labels labels;
+    private Map<String, String> templateLabels;
+
+    @Setup
+    public void setup() {
+        kafka = Fixtures.kafka(Fixtures.BROKERS);
+        labels = Labels.generateDefaultLabels(kafka, "strimzi", "strimzi-cluster-operator");
+        templateLabels = Map.of("team", "platform", "cost-center", "1234", "environment", "production");
+    }
+
+    @Benchmark
+    public Labels generateDefaultLabels() {
+        return Labels.generateDefaultLabels(kafka, "strimzi", "strimzi-cluster-operator");
+    }
+
+    @Benchmark
+    public Labels withAdditionalLabels() {
+        return labels.withStrimziName(Fixtures.CLUSTER_NAME + "-kafka")
+                .withAdditionalLabels(templateLabels);
+    }
+
+    @Benchmark
+    public String selectorString() {
+        return labels.strimziSelectorLabels().toSelectorString();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import io.strimzi.benchmarks.Fixtures;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.common.MetricsAndLogging;
+import io.strimzi.operator.common.Reconciliation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptySet;
+
+/**
+ * Benchmarks parsing and writing of the broker configuration with OrderedProperties
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderedPropertiesBenchmark {
+    private String brokerConfiguration;
+    private OrderedProperties parsed;
+
+    @Setup
+    public void setup() {
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, Fixtures.kafka(Fixtures.BROKERS), Fixtures.versions());
+        kafkaCluster.generateAncillaryConfigMap(new MetricsAndLogging(null, null), emptySet(), emptySet(), false);
+
+        brokerConfiguration = kafkaCluster.getBrokersConfiguration();
+        parsed = new OrderedProperties().addStringPairs(brokerConfiguration);
+    }
+
+    @Benchmark
+    public OrderedProperties parse() {
+        return new OrderedProperties().addStringPairs(brokerConfiguration);
+    }
+
+    @Benchmark
+    public String write() {
+        return parsed.asPairs();
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.benchmarks.Fixtures;
+import io.strimzi.benchmarks.scale.ScaleDriver;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Drives the reconciliations of the KafkaTopic resources by the real Topic Operator. Only the Kubernetes API is used
+ * for real (mocked by MockKube). Kafka and the topic store are replaced by in-memory implementations.
+ */
+public class TopicOperatorDriver implements ScaleDriver {
+    private final KubernetesClient client;
+    private final Labels labels;
+    private final TopicOperator operator;
+    private final Map<String, KafkaTopic> topics;
+
+    /**
+     * Constructs the driver
+     *
+     * @param vertx         Vert.x instance
+     * @param client        Kubernetes client
+     * @param metrics       Metrics provider
+     * @param namespace     Namespace watched by the Topic Operator
+     * @param topics        The KafkaTopic resources which will be reconciled
+     */
+    public TopicOperatorDriver(Vertx vertx, KubernetesClient client, MetricsProvider metrics, String namespace, List<KafkaTopic> topics) {
+        this.client = client;
+        this.labels = Labels.fromString("strimzi.io/cluster=" + Fixtures.CLUSTER_NAME);
+        this.topics = topics.stream().collect(Collectors.toMap(topic -> topic.getMetadata().getName(), topic -> topic));
+
+        Map<String, String> config = new HashMap<>();
+        config.put(Config.ZOOKEEPER_CONNECT.key, "localhost:2181");
+        config.put(Config.KAFKA_BOOTSTRAP_SERVERS.key, "localhost:9092");
+        config.put(Config.NAMESPACE.key, namespace);
+        config.put(Config.CLIENT_ID.key, "scale-test");
+
+        this.operator = new TopicOperator(vertx, new InMemoryKafka(), new K8sImpl(vertx, client, labels, namespace),
+                new InMemoryTopicStore(), labels, namespace, new Config(config), metrics);
+    }
+
+    @Override
+    public String kind() {
+        return KafkaTopic.RESOURCE_KIND;
+    }
+
+    @Override
+    public Future<Void> reconcile(String namespace, String name) {
+        // The Topic Operator reads the current resource from the Kubernetes API, the event only identifies it
+        KafkaTopic topic = topics.get(name);
+        LogContext logContext = LogContext.kubeWatch(Watcher.Action.MODIFIED, topic).withKubeTopic(topic);
+
+        return operator.onResourceEvent(logContext, topic, Watcher.Action.MODIFIED);
+    }
+
+    @Override
+    public Future<Watch> watch(String namespace) {
+        return Future.succeededFuture(Crds.topicOperation(client)
+                .inNamespace(namespace)
+                .withLabels(labels.labels())
+                .watch(new K8sTopicWatcher(operator, Future.succeededFuture(), () -> { })));
+    }
+
+    @Override
+    public void touch(String namespace, String name, int round) {
+        KafkaTopic current = Crds.topicOperation(client).inNamespace(namespace).withName(name).get();
+
+        Crds.topicOperation(client).inNamespace(namespace).withName(name).patch(new KafkaTopicBuilder(current)
+                .editSpec()
+                    .addToConfig("retention.ms", String.valueOf(3_600_000L * (round + 1)))
+                .endSpec()
+                .build());
+    }
+
+    /**
+     * In-memory Kafka cluster which applies all changes immediately
+     */
+    static class InMemoryKafka implements Kafka {
+        private final Map<TopicName, Topic> topics = new ConcurrentHashMap<>();
+
+        @Override
+        public Future<Void> createTopic(Reconciliation reconciliation, Topic newTopic) {
+            topics.put(newTopic.getTopicName(), new Topic.Builder(newTopic.getTopicName(), newTopic.getNumPartitions(),
+                    newTopic.getNumReplicas(), newTopic.getConfig()).build());
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public Future<Void> deleteTopic(Reconciliation reconciliation, TopicName topicName) {
+            topics.remove(topicName);
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public Future<Boolean> topicExists(Reconciliation reconciliation, TopicName topicName) {
+            return Future.succeededFuture(topics.containsKey(topicName));
+        }
+
+        @Override
+        public Future<Void> updateTopicConfig(Reconciliation reconciliation, Topic topic) {
+            topics.computeIfPresent(topic.getTopicName(), (name, current) -> new Topic.Builder(current).withConfig(topic.getConfig()).build());
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public Future<Void> increasePartitions(Reconciliation reconciliation, Topic topic) {
+            topics.computeIfPresent(topic.getTopicName(), (name, current) -> new Topic.Builder(current).withNumPartitions(topic.getNumPartitions()).build());
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public Future<TopicMetadata> topicMetadata(Reconciliation reconciliation, TopicName topicName) {
+            Topic topic = topics.get(topicName);
+
+            if (topic == null) {
+                return Future.succeededFuture(null);
+            }
+
+            List<Node> replicas = IntStream.range(0, Math.max(1, topic.getNumReplicas()))
+                    .mapToObj(id -> new Node(id, "broker-" + id, 9092))
+                    .collect(Collectors.toList());
+            List<TopicPartitionInfo> partitions = IntStream.range(0, topic.getNumPartitions())
+                    .mapToObj(partition -> new TopicPartitionInfo(partition, replicas.get(0), replicas, replicas))
+                    .collect(Collectors.toList());
+            org.apache.kafka.clients.admin.Config config = new org.apache.kafka.clients.admin.Config(topic.getConfig().entrySet().stream()
+                    .map(entry -> new ConfigEntry(entry.getKey(), entry.getValue()))
+                    .collect(Collectors.toList()));
+
+            return Future.succeededFuture(new TopicMetadata(new TopicDescription(topicName.toString(), false, partitions), config));
+        }
+
+        @Override
+        public Future<Set<String>> listTopics() {
+            return Future.succeededFuture(topics.keySet().stream().map(TopicName::toString).collect(Collectors.toSet()));
+        }
+    }
+
+    /**
+     * In-memory topic store
+     */
+    static class InMemoryTopicStore implements TopicStore {
+        private final Map<TopicName, Topic> topics = new ConcurrentHashMap<>();
+
+        @Override
+        public Future<Topic> read(TopicName name) {
+            return Future.succeededFuture(topics.get(name));
+        }
+
+        @Override
+        public Future<Void> create(Topic topic) {
+            if (topics.putIfAbsent(topic.getTopicName(), topic) != null) {
+                return Future.failedFuture(new EntityExistsException());
+            }
+
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public Future<Void> update(Topic topic) {
+            if (topics.replace(topic.getTopicName(), topic) == null) {
+                return Future.failedFuture(new NoSuchEntityExistsException());
+            }
+
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public Future<Void> delete(TopicName topicName) {
+            if (topics.remove(topicName) == null) {
+                return Future.failedFuture(new NoSuchEntityExistsException());
+            }
+
+            return Future.succeededFuture();
+        }
+    }
+}
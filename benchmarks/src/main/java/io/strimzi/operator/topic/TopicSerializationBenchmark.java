@@ -0,0 +1,99 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.benchmarks.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversions done by the Topic Operator for every topic when it (re)builds its view of a 20k topic
+ * store: KafkaTopic resources to topics, topics to the JSON used by the topic store and back, and the diffs of the
+ * topics.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TopicSerializationBenchmark {
+    private List<KafkaTopic> kafkaTopics;
+    private List<Topic> topics;
+    private List<Topic> changedTopics;
+    private List<byte[]> jsons;
+    private Labels labels;
+
+    @Setup
+    public void setup() {
+        labels = new Labels("strimzi.io/cluster", Fixtures.CLUSTER_NAME);
+        kafkaTopics = Fixtures.kafkaTopics(Fixtures.TOPICS);
+        topics = new ArrayList<>(kafkaTopics.size());
+        changedTopics = new ArrayList<>(kafkaTopics.size());
+        jsons = new ArrayList<>(kafkaTopics.size());
+
+        for (KafkaTopic kafkaTopic : kafkaTopics) {
+            Topic topic = TopicSerialization.fromTopicResource(kafkaTopic);
+            topics.add(topic);
+            jsons.add(TopicSerialization.toJson(topic));
+
+            // Every tenth topic has a changed configuration
+            Topic.Builder changed = new Topic.Builder(topic);
+            if (changedTopics.size() % 10 == 0) {
+                changed.withConfigEntry("retention.ms", "1000");
+            }
+            changedTopics.add(changed.build());
+        }
+    }
+
+    @Benchmark
+    public void fromTopicResource(Blackhole blackhole) {
+        for (KafkaTopic kafkaTopic : kafkaTopics) {
+            blackhole.consume(TopicSerialization.fromTopicResource(kafkaTopic));
+        }
+    }
+
+    @Benchmark
+    public void toTopicResource(Blackhole blackhole) {
+        for (Topic topic : topics) {
+            blackhole.consume(TopicSerialization.toTopicResource(topic, labels));
+        }
+    }
+
+    @Benchmark
+    public void toJson(Blackhole blackhole) {
+        for (Topic topic : topics) {
+            blackhole.consume(TopicSerialization.toJson(topic));
+        }
+    }
+
+    @Benchmark
+    public void fromJson(Blackhole blackhole) {
+        for (byte[] json : jsons) {
+            blackhole.consume(TopicSerialization.fromJson(json));
+        }
+    }
+
+    @Benchmark
+    public void diff(Blackhole blackhole) {
+        for (int i = 0; i < topics.size(); i++) {
+            blackhole.consume(TopicDiff.diff(topics.get(i), changedTopics.get(i)));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.model.acl;
+
+import io.strimzi.api.kafka.model.AclRule;
+import io.strimzi.benchmarks.Fixtures;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.security.auth.KafkaPrincipal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the ACL handling done by the User Operator for 8k ACL rules: conversion of the rules from the custom
+ * resources, conversion to and from the Kafka ACL bindings and the diff of the desired and current rules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimpleAclRuleBenchmark {
+    private static final KafkaPrincipal PRINCIPAL = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=benchmark-user");
+
+    private List<AclRule> aclRules;
+    private Set<SimpleAclRule> desired;
+    private Set<SimpleAclRule> current;
+    private List<AclBinding> bindings;
+
+    @Setup
+    public void setup() {
+        aclRules = Fixtures.aclRules(Fixtures.ACLS);
+        desired = new HashSet<>(aclRules.size());
+        bindings = new ArrayList<>(aclRules.size());
+
+        for (AclRule rule : aclRules) {
+            SimpleAclRule simpleAclRule = SimpleAclRule.fromCrd(rule);
+            desired.add(simpleAclRule);
+            bindings.add(simpleAclRule.toKafkaAclBinding(PRINCIPAL));
+        }
+
+        // Current rules differ in 5% of the rules
+        current = new HashSet<>(desired.size());
+        int i = 0;
+        for (AclRule rule : aclRules) {
+            if (i++ % 20 != 0) {
+                current.add(SimpleAclRule.fromCrd(rule));
+            }
+        }
+    }
+
+    @Benchmark
+    public Set<SimpleAclRule> fromCrd() {
+        Set<SimpleAclRule> rules = new HashSet<>(aclRules.size());
+
+        for (AclRule rule : aclRules) {
+            rules.add(SimpleAclRule.fromCrd(rule));
+        }
+
+        return rules;
+    }
+
+    @Benchmark
+    public List<AclBinding> toKafkaAclBindings() {
+        List<AclBinding> result = new ArrayList<>(desired.size());
+
+        for (SimpleAclRule rule : desired) {
+            result.add(rule.toKafkaAclBinding(PRINCIPAL));
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    public Set<SimpleAclRule> fromKafkaAclBindings() {
+        Set<SimpleAclRule> rules = new HashSet<>(bindings.size());
+
+        for (AclBinding binding : bindings) {
+            rules.add(SimpleAclRule.fromAclBinding(binding));
+        }
+
+        return rules;
+    }
+
+    @Benchmark
+    public int diff() {
+        // Same diff as done by the SimpleAclOperator when updating the ACLs
+        Set<SimpleAclRule> toBeDeleted = new HashSet<>(current);
+        toBeDeleted.removeAll(desired);
+
+        Set<SimpleAclRule> toBeAdded = new HashSet<>(desired);
+        toBeAdded.removeAll(current);
+
+        return toBeDeleted.size() + toBeAdded.size();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.KafkaUserList;
+import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.api.kafka.model.KafkaUserBuilder;
+import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.benchmarks.scale.ScaleDriver;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.operator.common.operator.resource.CrdOperator;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.strimzi.operator.user.UserOperatorConfig;
+import io.strimzi.operator.user.model.acl.SimpleAclRule;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Drives the reconciliations of the KafkaUser resources by the real User Operator. Only the Kubernetes API is used for
+ * real (mocked by MockKube). The SCRAM-SHA credentials, quotas and ACLs, which would need a running Kafka cluster, are
+ * replaced by operators which do not do anything.
+ */
+public class UserOperatorDriver implements ScaleDriver {
+    private final KubernetesClient client;
+    private final KafkaUserOperator operator;
+
+    /**
+     * Constructs the driver. The User Operator always uses the Micrometer metrics provider, so Vert.x has to be
+     * created with the Micrometer metrics enabled.
+     *
+     * @param vertx     Vert.x instance
+     * @param client    Kubernetes client
+     */
+    public UserOperatorDriver(Vertx vertx, KubernetesClient client) {
+        this.client = client;
+
+        UserOperatorConfig config = new UserOperatorConfig(
+                "*",
+                UserOperatorConfig.DEFAULT_FULL_RECONCILIATION_INTERVAL_MS,
+                "localhost:9092",
+                "localhost:2181",
+                UserOperatorConfig.DEFAULT_ZOOKEEPER_SESSION_TIMEOUT_MS,
+                Labels.EMPTY,
+                "ca-cert",
+                "ca-key",
+                "cluster-ca-cert",
+                "entity-operator-certs",
+                "ca-namespace",
+                "",
+                true,
+                365,
+                30,
+                UserOperatorConfig.DEFAULT_CERTIFICATE_BATCH_WINDOW_MS,
+                UserOperatorConfig.DEFAULT_CERTIFICATE_ISSUANCE_THREADS,
+                UserOperatorConfig.DEFAULT_MAX_CONCURRENT_SECRET_WRITES);
+
+        ScramShaCredentialsOperator scramOperator = new ScramShaCredentialsOperator(vertx, null) {
+            @Override
+            Future<Void> reconcile(Reconciliation reconciliation, String username, String password) {
+                return Future.succeededFuture();
+            }
+
+            @Override
+            public List<String> list() {
+                return Collections.emptyList();
+            }
+        };
+
+        KafkaUserQuotasOperator quotasOperator = new KafkaUserQuotasOperator(vertx, null) {
+            @Override
+            Future<ReconcileResult<KafkaUserQuotas>> reconcile(Reconciliation reconciliation, String username, KafkaUserQuotas quotas) {
+                return Future.succeededFuture(ReconcileResult.noop(quotas));
+            }
+        };
+
+        SimpleAclOperator aclOperator = new SimpleAclOperator(vertx, null) {
+            @Override
+            public Future<ReconcileResult<Set<SimpleAclRule>>> reconcile(Reconciliation reconciliation, String username, Set<SimpleAclRule> desired) {
+                return Future.succeededFuture(ReconcileResult.noop(desired));
+            }
+
+            @Override
+            public Set<String> getUsersWithAcls() {
+                return Collections.emptySet();
+            }
+        };
+
+        this.operator = new KafkaUserOperator(vertx, new MockCertManager(),
+                new CrdOperator<>(vertx, client, KafkaUser.class, KafkaUserList.class, KafkaUser.RESOURCE_KIND),
+                new SecretOperator(vertx, client), scramOperator, quotasOperator, aclOperator, config);
+    }
+
+    @Override
+    public String kind() {
+        return KafkaUser.RESOURCE_KIND;
+    }
+
+    @Override
+    public Future<Void> reconcile(String namespace, String name) {
+        return operator.reconcile(new Reconciliation("scale-test", KafkaUser.RESOURCE_KIND, namespace, name));
+    }
+
+    @Override
+    public Future<Watch> watch(String namespace) {
+        return operator.createWatch(namespace, ns -> true, e -> { });
+    }
+
+    @Override
+    public void touch(String namespace, String name, int round) {
+        KafkaUser current = Crds.kafkaUserOperation(client).inNamespace(namespace).withName(name).get();
+
+        Crds.kafkaUserOperation(client).inNamespace(namespace).withName(name).patch(new KafkaUserBuilder(current)
+                .editMetadata()
+                    .addToAnnotations("scale-test/round", String.valueOf(round))
+                .endMetadata()
+                .build());
+    }
+}
@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.WatcherException;
 import io.strimzi.operator.cluster.operator.assembly.AbstractConnectOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
@@ -22,14 +23,22 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.http.HttpServer;
+import io.vertx.core.json.JsonArray;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import static java.util.Arrays.asList;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -37,7 +46,8 @@ import org.apache.logging.log4j.Logger;
 /**
  * An "operator" for managing assemblies of various types <em>in a particular namespace</em>.
  * The Cluster Operator's multiple namespace support is achieved by deploying multiple
- * {@link ClusterOperator}'s in Vertx.
+ * {@link ClusterOperator}'s in Vertx. Alternatively, when the ClusterWideWatch feature gate is enabled, a single
+ * {@link ClusterOperator} uses cluster-wide watches and ignores the events from namespaces which are not watched.
  */
 public class ClusterOperator extends AbstractVerticle {
 
@@ -53,9 +63,13 @@ public class ClusterOperator extends AbstractVerticle {
 
     private final KubernetesClient client;
     private final String namespace;
+    private final Set<String> watchedNamespaces;
+    private final Predicate<String> namespaceFilter;
     private final ClusterOperatorConfig config;
 
     private final Map<String, Watch> watchByKind = new ConcurrentHashMap<>();
+    private AtomicInteger activeWatches;
+    private volatile boolean stopping = false;
 
     private long reconcileTimer;
     private final KafkaAssemblyOperator kafkaAssemblyOperator;
@@ -75,8 +89,49 @@ public class ClusterOperator extends AbstractVerticle {
                            KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator,
                            KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator,
                            MetricsProvider metricsProvider) {
-        LOGGER.info("Creating ClusterOperator for namespace {}", namespace);
+        this(namespace, null, config, client, kafkaAssemblyOperator, kafkaConnectAssemblyOperator, kafkaMirrorMakerAssemblyOperator,
+                kafkaMirrorMaker2AssemblyOperator, kafkaBridgeAssemblyOperator, kafkaRebalanceAssemblyOperator, metricsProvider);
+    }
+
+    /**
+     * Creates the Cluster Operator verticle. When the set of watched namespaces is not null, the verticle uses
+     * cluster-wide watches and periodic reconciliations and ignores all resources from namespaces outside of this set.
+     *
+     * @param namespace                             Namespace which should be watched (or * for all namespaces)
+     * @param watchedNamespaces                     Namespaces which should be operated when using the cluster-wide
+     *                                              watch or null to operate all resources from the watched namespace
+     * @param config                                Cluster Operator configuration
+     * @param client                                Kubernetes client
+     * @param kafkaAssemblyOperator                 Kafka operator
+     * @param kafkaConnectAssemblyOperator          Kafka Connect operator
+     * @param kafkaMirrorMakerAssemblyOperator      Kafka Mirror Maker operator
+     * @param kafkaMirrorMaker2AssemblyOperator     Kafka Mirror Maker 2 operator
+     * @param kafkaBridgeAssemblyOperator           Kafka Bridge operator
+     * @param kafkaRebalanceAssemblyOperator        Kafka Rebalance operator
+     * @param metricsProvider                       Metrics provider
+     */
+    @SuppressWarnings({"checkstyle:ParameterNumber"})
+    public ClusterOperator(String namespace,
+                           Set<String> watchedNamespaces,
+                           ClusterOperatorConfig config,
+                           KubernetesClient client,
+                           KafkaAssemblyOperator kafkaAssemblyOperator,
+                           KafkaConnectAssemblyOperator kafkaConnectAssemblyOperator,
+                           KafkaMirrorMakerAssemblyOperator kafkaMirrorMakerAssemblyOperator,
+                           KafkaMirrorMaker2AssemblyOperator kafkaMirrorMaker2AssemblyOperator,
+                           KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator,
+                           KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator,
+                           MetricsProvider metricsProvider) {
+        if (watchedNamespaces != null) {
+            LOGGER.info("Creating ClusterOperator for namespaces {} using cluster-wide watch", watchedNamespaces);
+            this.namespaceFilter = watchedNamespaces::contains;
+        } else {
+            LOGGER.info("Creating ClusterOperator for namespace {}", namespace);
+            this.namespaceFilter = ns -> true;
+        }
+
         this.namespace = namespace;
+        this.watchedNamespaces = watchedNamespaces;
         this.config = config;
         this.client = client;
         this.kafkaAssemblyOperator = kafkaAssemblyOperator;
@@ -92,31 +147,48 @@ public class ClusterOperator extends AbstractVerticle {
     @Override
     public void start(Promise<Void> start) {
         LOGGER.info("Starting ClusterOperator for namespace {}", namespace);
+        long startTime = System.nanoTime();
 
         // Configure the executor here, but it is used only in other places
         getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", config.getOperationsThreadPoolSize(), TimeUnit.SECONDS.toNanos(120));
 
+        activeWatches = metricsProvider.gauge(AbstractOperator.METRICS_PREFIX + "watches.active",
+                "Number of watches opened by the operator", Tags.of("namespace", namespace));
+
         List<Future> watchFutures = new ArrayList<>(8);
         List<AbstractOperator<?, ?, ?, ?>> operators = new ArrayList<>(asList(
                 kafkaAssemblyOperator, kafkaMirrorMakerAssemblyOperator,
                 kafkaConnectAssemblyOperator, kafkaBridgeAssemblyOperator, kafkaMirrorMaker2AssemblyOperator));
         for (AbstractOperator<?, ?, ?, ?> operator : operators) {
-            watchFutures.add(operator.createWatch(namespace, operator.recreateWatch(namespace)).compose(w -> {
-                LOGGER.info("Opened watch for {} operator", operator.kind());
-                watchByKind.put(operator.kind(), w);
-                return Future.succeededFuture();
-            }));
+            operator.scheduler().configure(config.getReconciliationIntervalMs(), config.getMaxReconciliationIntervalMs());
+            watchFutures.add(watch(operator.kind(), onClose -> operator.createWatch(namespace, namespaceFilter, onClose)));
         }
 
-        watchFutures.add(AbstractConnectOperator.createConnectorWatch(kafkaConnectAssemblyOperator, namespace, config.getCustomResourceSelector()));
-        watchFutures.add(kafkaRebalanceAssemblyOperator.createRebalanceWatch(namespace));
+        watchFutures.add(watch("KafkaConnector", onClose -> AbstractConnectOperator.createConnectorWatch(kafkaConnectAssemblyOperator,
+                namespace, namespaceFilter, config.getCustomResourceSelector(), onClose)));
+        watchFutures.add(watch(kafkaRebalanceAssemblyOperator.kind(), onClose -> kafkaRebalanceAssemblyOperator.createRebalanceWatch(namespace, namespaceFilter, onClose)));
 
         CompositeFuture.join(watchFutures)
                 .compose(f -> {
-                    LOGGER.info("Setting up periodic reconciliation for namespace {}", namespace);
-                    this.reconcileTimer = vertx.setPeriodic(this.config.getReconciliationIntervalMs(), res2 -> {
+                    long watchesDuration = System.nanoTime() - startTime;
+                    LOGGER.info("Opened all watches for namespace {} in {}ms", namespace, TimeUnit.NANOSECONDS.toMillis(watchesDuration));
+                    metricsProvider.timer(AbstractOperator.METRICS_PREFIX + "startup.watches.duration",
+                            "The time needed to open all watches of a namespace during startup", Tags.empty())
+                            .record(watchesDuration, TimeUnit.NANOSECONDS);
+
+                    // The first periodic reconciliation is delayed randomly to spread the load from the different
+                    // namespaces instead of reconciling all of them at the same time
+                    long interval = this.config.getReconciliationIntervalMs();
+                    long initialDelay = Math.max(1, interval / 2 + ThreadLocalRandom.current().nextLong(interval / 2 + 1));
+                    LOGGER.info("Setting up periodic reconciliation for namespace {} starting in {}ms", namespace, initialDelay);
+                    this.reconcileTimer = vertx.setTimer(initialDelay, res1 -> {
                         LOGGER.info("Triggering periodic reconciliation for namespace {}", namespace);
                         reconcileAll("timer");
+
+                        this.reconcileTimer = vertx.setPeriodic(interval, res2 -> {
+                            LOGGER.info("Triggering periodic reconciliation for namespace {}", namespace);
+                            reconcileAll("timer");
+                        });
                     });
                     return startHealthServer().map((Void) null);
                 })
@@ -127,28 +199,82 @@ public class ClusterOperator extends AbstractVerticle {
     @Override
     public void stop(Promise<Void> stop) {
         LOGGER.info("Stopping ClusterOperator for namespace {}", namespace);
+        stopping = true;
         vertx.cancelTimer(reconcileTimer);
-        for (Watch watch : watchByKind.values()) {
+        for (String kind : watchByKind.keySet()) {
+            Watch watch = watchByKind.remove(kind);
             if (watch != null) {
                 watch.close();
+                activeWatches.decrementAndGet();
             }
-            // TODO remove the watch from the watchByKind
         }
         client.close();
         stop.complete();
     }
 
+    /**
+     * Opens a watch and tracks it in the watchByKind map and in the active watches metric. When the watch is closed
+     * with an exception, it is recreated and the new watch is tracked instead of the old one.
+     *
+     * @param kind          Kind of the watched resources
+     * @param createWatch   Function which opens the watch with the given callback for closing the watch
+     *
+     * @return  Future which completes when the watch is opened
+     */
+    private Future<Void> watch(String kind, Function<Consumer<WatcherException>, Future<Watch>> createWatch) {
+        Consumer<WatcherException> onClose = new Consumer<>() {
+            @Override
+            public void accept(WatcherException e) {
+                if (watchByKind.remove(kind) != null) {
+                    activeWatches.decrementAndGet();
+                }
+
+                if (e != null && !stopping) {
+                    LOGGER.error("Watch for {} closed with exception in namespace {}", kind, namespace, e);
+                    createWatch.apply(this)
+                            .onSuccess(w -> trackWatch(kind, w))
+                            .onFailure(t -> LOGGER.error("Failed to recreate watch for {} in namespace {}", kind, namespace, t));
+                } else {
+                    LOGGER.info("Watch for {} closed in namespace {}", kind, namespace);
+                }
+            }
+        };
+
+        return createWatch.apply(onClose)
+                .map(w -> {
+                    LOGGER.info("Opened watch for {} operator", kind);
+                    trackWatch(kind, w);
+                    return null;
+                });
+    }
+
+    /**
+     * Tracks the opened watch. The active watches metric is increased only when the watch does not replace another
+     * watch of the same kind.
+     *
+     * @param kind      Kind of the watched resources
+     * @param watch     The opened watch
+     */
+    private void trackWatch(String kind, Watch watch) {
+        if (stopping) {
+            // The watch was opened while the verticle was being stopped
+            watch.close();
+        } else if (watchByKind.put(kind, watch) == null) {
+            activeWatches.incrementAndGet();
+        }
+    }
+
     /**
       Periodical reconciliation (in case we lost some event)
      */
     private void reconcileAll(String trigger) {
         Handler<AsyncResult<Void>> ignore = ignored -> { };
-        kafkaAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaMirrorMakerAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaConnectAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaMirrorMaker2AssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaBridgeAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaRebalanceAssemblyOperator.reconcileAll(trigger, namespace, ignore);
+        kafkaAssemblyOperator.reconcileAll(trigger, namespace, namespaceFilter, ignore);
+        kafkaMirrorMakerAssemblyOperator.reconcileAll(trigger, namespace, namespaceFilter, ignore);
+        kafkaConnectAssemblyOperator.reconcileAll(trigger, namespace, namespaceFilter, ignore);
+        kafkaMirrorMaker2AssemblyOperator.reconcileAll(trigger, namespace, namespaceFilter, ignore);
+        kafkaBridgeAssemblyOperator.reconcileAll(trigger, namespace, namespaceFilter, ignore);
+        kafkaRebalanceAssemblyOperator.reconcileAll(trigger, namespace, namespaceFilter, ignore);
     }
 
     /**
@@ -167,6 +293,10 @@ public class ClusterOperator extends AbstractVerticle {
                         PrometheusMeterRegistry metrics = (PrometheusMeterRegistry) metricsProvider.meterRegistry();
                         request.response().setStatusCode(200)
                                 .end(metrics.scrape());
+                    } else if (request.path().equals("/reconciliations")) {
+                        request.response().setStatusCode(200)
+                                .putHeader("Content-Type", "application/json")
+                                .end(reconciliations(request.getParam("kind")).encodePrettily());
                     }
                 })
                 .listen(HEALTH_SERVER_PORT, ar -> {
@@ -180,6 +310,42 @@ public class ClusterOperator extends AbstractVerticle {
         return result.future();
     }
 
+    /**
+     * Collects the timelines of the in-flight and recently completed reconciliations of all operators. The operators
+     * are shared by all Cluster Operator verticles, so the result is the same for all of them.
+     *
+     * @param kind  Kind of the resources for which the reconciliations should be returned or null for all kinds
+     *
+     * @return  JSON array with the reconciliations of the operators
+     */
+    /*test*/ JsonArray reconciliations(String kind) {
+        JsonArray result = new JsonArray();
+
+        for (AbstractOperator<?, ?, ?, ?> operator : asList(kafkaAssemblyOperator, kafkaMirrorMakerAssemblyOperator,
+                kafkaConnectAssemblyOperator, kafkaBridgeAssemblyOperator, kafkaMirrorMaker2AssemblyOperator, kafkaRebalanceAssemblyOperator)) {
+            if (kind == null || kind.equals(operator.kind())) {
+                result.add(operator.profiler().toJson());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @return  The namespace watched by this Cluster Operator verticle
+     */
+    public String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * @return  The namespaces operated by this Cluster Operator verticle when using the cluster-wide watch or null
+     *          when all resources from the watched namespace are operated
+     */
+    public Set<String> getWatchedNamespaces() {
+        return watchedNamespaces;
+    }
+
     public static String secretName(String cluster) {
         return cluster + CERTS_SUFFIX;
     }
@@ -38,6 +38,7 @@ public class ClusterOperatorConfig {
 
     public static final String STRIMZI_NAMESPACE = "STRIMZI_NAMESPACE";
     public static final String STRIMZI_FULL_RECONCILIATION_INTERVAL_MS = "STRIMZI_FULL_RECONCILIATION_INTERVAL_MS";
+    public static final String STRIMZI_MAX_RECONCILIATION_INTERVAL_MS = "STRIMZI_MAX_RECONCILIATION_INTERVAL_MS";
     public static final String STRIMZI_OPERATION_TIMEOUT_MS = "STRIMZI_OPERATION_TIMEOUT_MS";
     public static final String STRIMZI_CONNECT_BUILD_TIMEOUT_MS = "STRIMZI_CONNECT_BUILD_TIMEOUT_MS";
     public static final String STRIMZI_IMAGE_PULL_POLICY = "STRIMZI_IMAGE_PULL_POLICY";
@@ -79,6 +80,7 @@ public class ClusterOperatorConfig {
 
     private final Set<String> namespaces;
     private final long reconciliationIntervalMs;
+    private final long maxReconciliationIntervalMs;
     private final long operationTimeoutMs;
     private final long connectBuildTimeoutMs;
     private final boolean createClusterRoles;
@@ -98,6 +100,7 @@ public class ClusterOperatorConfig {
      *
      * @param namespaces namespace in which the operator will run and create resources
      * @param reconciliationIntervalMs    specify every how many milliseconds the reconciliation runs
+     * @param maxReconciliationIntervalMs specify the maximal interval to which the periodic reconciliation of the unchanged resources is backed off
      * @param operationTimeoutMs    timeout for internal operations specified in milliseconds
      * @param connectBuildTimeoutMs timeout used to wait for a Kafka Connect builds to finish
      * @param createClusterRoles true to create the ClusterRoles
@@ -116,6 +119,7 @@ public class ClusterOperatorConfig {
     public ClusterOperatorConfig(
             Set<String> namespaces,
             long reconciliationIntervalMs,
+            long maxReconciliationIntervalMs,
             long operationTimeoutMs,
             long connectBuildTimeoutMs,
             boolean createClusterRoles,
@@ -131,6 +135,7 @@ public class ClusterOperatorConfig {
             int operationsThreadPoolSize) {
         this.namespaces = unmodifiableSet(new HashSet<>(namespaces));
         this.reconciliationIntervalMs = reconciliationIntervalMs;
+        this.maxReconciliationIntervalMs = maxReconciliationIntervalMs;
         this.operationTimeoutMs = operationTimeoutMs;
         this.connectBuildTimeoutMs = connectBuildTimeoutMs;
         this.createClusterRoles = createClusterRoles;
@@ -181,6 +186,7 @@ public class ClusterOperatorConfig {
     public static ClusterOperatorConfig fromMap(Map<String, String> map, KafkaVersion.Lookup lookup) {
         Set<String> namespaces = parseNamespaceList(map.get(STRIMZI_NAMESPACE));
         long reconciliationInterval = parseReconciliationInterval(map.get(STRIMZI_FULL_RECONCILIATION_INTERVAL_MS));
+        long maxReconciliationInterval = parseMaxReconciliationInterval(map.get(STRIMZI_MAX_RECONCILIATION_INTERVAL_MS), reconciliationInterval);
         long operationTimeout = parseTimeout(map.get(STRIMZI_OPERATION_TIMEOUT_MS), DEFAULT_OPERATION_TIMEOUT_MS);
         long connectBuildTimeout = parseTimeout(map.get(STRIMZI_CONNECT_BUILD_TIMEOUT_MS), DEFAULT_CONNECT_BUILD_TIMEOUT_MS);
         boolean createClusterRoles = parseCreateClusterRoles(map.get(STRIMZI_CREATE_CLUSTER_ROLES));
@@ -197,6 +203,7 @@ public class ClusterOperatorConfig {
         return new ClusterOperatorConfig(
                 namespaces,
                 reconciliationInterval,
+                maxReconciliationInterval,
                 operationTimeout,
                 connectBuildTimeout,
                 createClusterRoles,
@@ -241,6 +248,21 @@ public class ClusterOperatorConfig {
         return reconciliationInterval;
     }
 
+    private static long parseMaxReconciliationInterval(String maxReconciliationIntervalEnvVar, long reconciliationInterval) {
+        long maxReconciliationInterval = reconciliationInterval;
+
+        if (maxReconciliationIntervalEnvVar != null) {
+            maxReconciliationInterval = Long.parseLong(maxReconciliationIntervalEnvVar);
+
+            if (maxReconciliationInterval < reconciliationInterval) {
+                throw new InvalidConfigurationException(STRIMZI_MAX_RECONCILIATION_INTERVAL_MS
+                        + " has to be greater than or equal to " + STRIMZI_FULL_RECONCILIATION_INTERVAL_MS);
+            }
+        }
+
+        return maxReconciliationInterval;
+    }
+
     private static long parseTimeout(String timeoutEnvVar, long defaultTimeout) {
         long timeout = defaultTimeout;
 
@@ -419,6 +441,14 @@ public class ClusterOperatorConfig {
         return reconciliationIntervalMs;
     }
 
+    /**
+     * @return  maximal number of milliseconds to which the periodic reconciliation of the unchanged resources is backed
+     *          off (the same as the reconciliation interval when the backoff is disabled)
+     */
+    public long getMaxReconciliationIntervalMs() {
+        return maxReconciliationIntervalMs;
+    }
+
     /**
      * @return  how many milliseconds should we wait for Kubernetes operations
      */
@@ -509,6 +539,7 @@ public class ClusterOperatorConfig {
         return "ClusterOperatorConfig(" +
                 "namespaces=" + namespaces +
                 ",reconciliationIntervalMs=" + reconciliationIntervalMs +
+                ",maxReconciliationIntervalMs=" + maxReconciliationIntervalMs +
                 ",operationTimeoutMs=" + operationTimeoutMs +
                 ",connectBuildTimeoutMs=" + connectBuildTimeoutMs +
                 ",createClusterRoles=" + createClusterRoles +
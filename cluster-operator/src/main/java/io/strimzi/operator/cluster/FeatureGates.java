@@ -18,10 +18,12 @@ public class FeatureGates {
 
     private static final String CONTROL_PLANE_LISTENER = "ControlPlaneListener";
     private static final String SERVICE_ACCOUNT_PATCHING = "ServiceAccountPatching";
+    private static final String CLUSTER_WIDE_WATCH = "ClusterWideWatch";
 
     // When adding new feature gates, do not forget to add them to allFeatureGates() and toString() methods
     private final FeatureGate controlPlaneListener = new FeatureGate(CONTROL_PLANE_LISTENER, false);
     private final FeatureGate serviceAccountPatching = new FeatureGate(SERVICE_ACCOUNT_PATCHING, false);
+    private final FeatureGate clusterWideWatch = new FeatureGate(CLUSTER_WIDE_WATCH, false);
 
     /**
      * Constructs the feature gates configuration.
@@ -49,6 +51,9 @@ public class FeatureGates {
                     case SERVICE_ACCOUNT_PATCHING:
                         setValueOnlyOnce(serviceAccountPatching, value);
                         break;
+                    case CLUSTER_WIDE_WATCH:
+                        setValueOnlyOnce(clusterWideWatch, value);
+                        break;
                     default:
                         throw new InvalidConfigurationException("Unknown feature gate " + featureGate + " found in the configuration");
                 }
@@ -85,6 +90,13 @@ public class FeatureGates {
         return serviceAccountPatching.isEnabled();
     }
 
+    /**
+     * @return  Returns true when the ClusterWideWatch feature gate is enabled
+     */
+    public boolean clusterWideWatchEnabled() {
+        return clusterWideWatch.isEnabled();
+    }
+
     /**
      * Returns a list of all Feature gates. Used for testing.
      *
@@ -93,7 +105,8 @@ public class FeatureGates {
     /*test*/ List<FeatureGate> allFeatureGates()  {
         return List.of(
                 controlPlaneListener,
-                serviceAccountPatching
+                serviceAccountPatching,
+                clusterWideWatch
         );
     }
 
@@ -101,7 +114,8 @@ public class FeatureGates {
     public String toString() {
         return "FeatureGates(" +
                 "controlPlaneListener=" + controlPlaneListener.isEnabled() + "," +
-                "ServiceAccountPatching=" + serviceAccountPatching.isEnabled() +
+                "ServiceAccountPatching=" + serviceAccountPatching.isEnabled() + "," +
+                "ClusterWideWatch=" + clusterWideWatch.isEnabled() +
                 ")";
     }
 
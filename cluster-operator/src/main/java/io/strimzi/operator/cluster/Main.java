@@ -18,9 +18,11 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOpe
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.operator.resource.AbstractWatchableResourceOperator;
 import io.strimzi.operator.common.operator.resource.ClusterRoleOperator;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
@@ -36,8 +38,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import io.micrometer.core.instrument.Tags;
 import io.vertx.core.VertxOptions;
 import io.vertx.micrometer.MicrometerMetricsOptions;
 import io.vertx.micrometer.VertxPrometheusOptions;
@@ -127,11 +133,18 @@ public class Main {
         KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator =
                 new KafkaRebalanceAssemblyOperator(vertx, pfa, resourceOperatorSupplier, config);
 
+        long startTime = System.nanoTime();
+        Queue<ClusterOperator> pending = new ConcurrentLinkedQueue<>();
         List<Future> futures = new ArrayList<>(config.getNamespaces().size());
-        for (String namespace : config.getNamespaces()) {
+        Map<ClusterOperator, Promise<String>> promises = new HashMap<>(config.getNamespaces().size());
+
+        if (useClusterWideWatch(config)) {
+            // A single verticle with cluster-wide watches is used instead of one verticle with its own watches per namespace
+            LOGGER.info("Using cluster-wide watch for namespaces {}", config.getNamespaces());
             Promise<String> prom = Promise.promise();
             futures.add(prom.future());
-            ClusterOperator operator = new ClusterOperator(namespace,
+            ClusterOperator operator = new ClusterOperator(AbstractWatchableResourceOperator.ANY_NAMESPACE,
+                    config.getNamespaces(),
                     config,
                     client,
                     kafkaClusterOperations,
@@ -141,6 +154,75 @@ public class Main {
                     kafkaBridgeAssemblyOperator,
                     kafkaRebalanceAssemblyOperator,
                     resourceOperatorSupplier.metricsProvider);
+            pending.add(operator);
+            promises.put(operator, prom);
+        } else {
+            for (String namespace : config.getNamespaces()) {
+                Promise<String> prom = Promise.promise();
+                futures.add(prom.future());
+                ClusterOperator operator = new ClusterOperator(namespace,
+                        config,
+                        client,
+                        kafkaClusterOperations,
+                        kafkaConnectClusterOperations,
+                        kafkaMirrorMakerAssemblyOperator,
+                        kafkaMirrorMaker2AssemblyOperator,
+                        kafkaBridgeAssemblyOperator,
+                        kafkaRebalanceAssemblyOperator,
+                        resourceOperatorSupplier.metricsProvider);
+                pending.add(operator);
+                promises.put(operator, prom);
+            }
+        }
+
+        // The verticles are deployed with bounded concurrency to not overload the Kubernetes API server when
+        // watching many namespaces. The operations thread pool size is used as the limit.
+        int concurrency = Math.min(Math.max(1, config.getOperationsThreadPoolSize()), pending.size());
+        LOGGER.info("Deploying Cluster Operator verticles for {} namespaces with concurrency {}", pending.size(), concurrency);
+
+        for (int i = 0; i < concurrency; i++) {
+            deployNext(vertx, config, pending, promises);
+        }
+
+        return CompositeFuture.join(futures)
+                .onComplete(res -> {
+                    long duration = System.nanoTime() - startTime;
+                    LOGGER.info("Cluster Operator verticles for {} namespaces started in {}ms", futures.size(), TimeUnit.NANOSECONDS.toMillis(duration));
+                    resourceOperatorSupplier.metricsProvider.timer(AbstractOperator.METRICS_PREFIX + "startup.duration",
+                            "The time needed to start the Cluster Operator verticles for all watched namespaces", Tags.empty())
+                            .record(duration, TimeUnit.NANOSECONDS);
+                });
+    }
+
+    /**
+     * Checks whether a single cluster-wide watch should be used instead of separate watches for each namespace. The
+     * cluster-wide watch is used only when enabled using the ClusterWideWatch feature gate and when the operator
+     * watches multiple namespaces.
+     *
+     * @param config    Cluster Operator configuration
+     *
+     * @return  True if the cluster-wide watch should be used. False otherwise.
+     */
+    /*test*/ static boolean useClusterWideWatch(ClusterOperatorConfig config) {
+        return config.featureGates().clusterWideWatchEnabled()
+                && config.getNamespaces().size() > 1
+                && !config.getNamespaces().contains(AbstractWatchableResourceOperator.ANY_NAMESPACE);
+    }
+
+    /**
+     * Deploys the next pending Cluster Operator verticle. Once the deployment finishes, the next verticle is deployed.
+     *
+     * @param vertx     Vertx instance
+     * @param config    Cluster Operator configuration
+     * @param pending   Queue with the verticles which were not deployed yet
+     * @param promises  Promises which should be completed when the verticles are deployed
+     */
+    private static void deployNext(Vertx vertx, ClusterOperatorConfig config, Queue<ClusterOperator> pending, Map<ClusterOperator, Promise<String>> promises) {
+        ClusterOperator operator = pending.poll();
+
+        if (operator != null) {
+            String namespace = operator.getNamespace();
+
             vertx.deployVerticle(operator,
                 res -> {
                     if (res.succeeded()) {
@@ -153,10 +235,10 @@ public class Main {
                         LOGGER.error("Cluster Operator verticle in namespace {} failed to start", namespace, res.cause());
                         System.exit(1);
                     }
-                    prom.handle(res);
+                    promises.get(operator).handle(res);
+                    deployNext(vertx, config, pending, promises);
                 });
         }
-        return CompositeFuture.join(futures);
     }
 
     /*test*/ static Future<Void> maybeCreateClusterRoles(Vertx vertx, ClusterOperatorConfig config, KubernetesClient client)  {
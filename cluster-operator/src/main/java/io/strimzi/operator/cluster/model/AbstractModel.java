@@ -95,11 +95,13 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -156,6 +158,11 @@ public abstract class AbstractModel {
     private static final String ENV_VAR_HTTP_PROXY = "HTTP_PROXY";
     private static final String ENV_VAR_HTTPS_PROXY = "HTTPS_PROXY";
     private static final String ENV_VAR_NO_PROXY = "NO_PROXY";
+
+    /**
+     * Default logging configurations are read from the classpath only once and shared
+     */
+    private static final Map<String, Map<String, String>> ORDERED_PROPERTIES = new ConcurrentHashMap<>();
     /**
      * Configure HTTP/HTTPS Proxy env vars
      * These are set in the Cluster Operator and then passed to all created containers
@@ -409,7 +416,8 @@ public abstract class AbstractModel {
     }
 
     /**
-     * Read a config file and returns the properties in a deterministic order.
+     * Read a config file and returns the properties in a deterministic order. The file is read from the classpath
+     * only once and a copy of the cached properties is returned on subsequent calls.
      *
      * @param reconciliation The reconciliation
      * @param configFileName The filename.
@@ -419,6 +427,14 @@ public abstract class AbstractModel {
         if (configFileName == null || configFileName.isEmpty()) {
             throw new IllegalArgumentException("configFileName must be non-empty string");
         }
+
+        Map<String, String> cached = ORDERED_PROPERTIES.computeIfAbsent(configFileName,
+            fileName -> Collections.unmodifiableMap(new LinkedHashMap<>(readOrderedProperties(reconciliation, fileName).asMap())));
+
+        return new OrderedProperties().addMapPairs(cached);
+    }
+
+    private static OrderedProperties readOrderedProperties(Reconciliation reconciliation, String configFileName) {
         OrderedProperties properties = new OrderedProperties();
         InputStream is = AbstractModel.class.getResourceAsStream("/" + configFileName);
         if (is == null) {
@@ -39,6 +39,7 @@ import io.strimzi.api.kafka.model.Logging;
 import io.strimzi.api.kafka.model.Probe;
 import io.strimzi.api.kafka.model.ProbeBuilder;
 import io.strimzi.api.kafka.model.TlsSidecar;
+import io.strimzi.api.kafka.model.storage.Storage;
 import io.strimzi.api.kafka.model.template.CruiseControlTemplate;
 import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.cluster.model.cruisecontrol.Capacity;
@@ -103,10 +104,7 @@ public class CruiseControl extends AbstractModel {
     private TlsSidecar tlsSidecar;
     private String tlsSidecarImage;
     private String minInsyncReplicas = "1";
-    private Double brokerDiskMiBCapacity;
-    private int brokerCpuUtilizationCapacity;
-    private Double brokerInboundNetworkKiBPerSecondCapacity;
-    private Double brokerOuboundNetworkKiBPerSecondCapacity;
+    private String capacityConfiguration;
 
     public static final String REST_API_PORT_NAME = "rest-api";
     public static final int REST_API_PORT = 9090;
@@ -118,10 +116,7 @@ public class CruiseControl extends AbstractModel {
     protected static final String ENV_VAR_ZOOKEEPER_CONNECT = "STRIMZI_ZOOKEEPER_CONNECT";
     protected static final String ENV_VAR_STRIMZI_KAFKA_BOOTSTRAP_SERVERS = "STRIMZI_KAFKA_BOOTSTRAP_SERVERS";
     protected static final String ENV_VAR_MIN_INSYNC_REPLICAS = "MIN_INSYNC_REPLICAS";
-    protected static final String ENV_VAR_BROKER_DISK_MIB_CAPACITY = "BROKER_DISK_MIB_CAPACITY";
-    protected static final String ENV_VAR_BROKER_CPU_UTILIZATION_CAPACITY = "BROKER_CPU_UTILIZATION_CAPACITY";
-    protected static final String ENV_VAR_BROKER_INBOUND_NETWORK_KIB_PER_SECOND_CAPACITY = "BROKER_INBOUND_NETWORK_KIB_PER_SECOND_CAPACITY";
-    protected static final String ENV_VAR_BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY = "BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY";
+    protected static final String ENV_VAR_CRUISE_CONTROL_CAPACITY_CONFIGURATION = "CRUISE_CONTROL_CAPACITY_CONFIGURATION";
 
     // Templates
     protected List<ContainerEnvVar> templateCruiseControlContainerEnvVars;
@@ -172,8 +167,23 @@ public class CruiseControl extends AbstractModel {
         return KafkaCluster.serviceName(cluster) + ":" + DEFAULT_BOOTSTRAP_SERVERS_PORT;
     }
 
-    @SuppressWarnings("deprecation")
     public static CruiseControl fromCrd(Reconciliation reconciliation, Kafka kafkaAssembly, KafkaVersion.Lookup versions) {
+        return fromCrd(reconciliation, kafkaAssembly, versions, kafkaAssembly.getSpec().getKafka().getStorage(), kafkaAssembly.getSpec().getKafka().getReplicas());
+    }
+
+    /**
+     * Creates the Cruise Control model from the Kafka custom resource
+     *
+     * @param reconciliation    The reconciliation
+     * @param kafkaAssembly     The Kafka custom resource
+     * @param versions          Supported Kafka versions
+     * @param kafkaStorage      The storage actually used by the Kafka brokers (used to generate the disk capacity)
+     * @param kafkaReplicas     The number of Kafka brokers (used to generate the per-broker capacity)
+     *
+     * @return  Cruise Control model or null if Cruise Control is not enabled
+     */
+    @SuppressWarnings("deprecation")
+    public static CruiseControl fromCrd(Reconciliation reconciliation, Kafka kafkaAssembly, KafkaVersion.Lookup versions, Storage kafkaStorage, int kafkaReplicas) {
         CruiseControl cruiseControl = null;
         CruiseControlSpec spec = kafkaAssembly.getSpec().getCruiseControl();
         KafkaClusterSpec kafkaClusterSpec = kafkaAssembly.getSpec().getKafka();
@@ -210,11 +220,8 @@ public class CruiseControl extends AbstractModel {
                 cruiseControl.minInsyncReplicas = configuration.getConfigOption(MIN_INSYNC_REPLICAS);
             }
 
-            Capacity capacity = new Capacity(kafkaAssembly.getSpec());
-            cruiseControl.brokerDiskMiBCapacity = capacity.getDiskMiB();
-            cruiseControl.brokerCpuUtilizationCapacity = capacity.getCpuUtilization();
-            cruiseControl.brokerInboundNetworkKiBPerSecondCapacity = capacity.getInboundNetworkKiBPerSecond();
-            cruiseControl.brokerOuboundNetworkKiBPerSecondCapacity = capacity.getOutboundNetworkKiBPerSecond();
+            Capacity capacity = new Capacity(kafkaAssembly.getSpec(), kafkaReplicas, kafkaStorage);
+            cruiseControl.capacityConfiguration = capacity.generateCapacityConfig().encodePrettily();
 
             // Parse different types of metrics configurations
             ModelUtils.parseMetrics(cruiseControl, spec);
@@ -454,10 +461,7 @@ public class CruiseControl extends AbstractModel {
         varList.add(buildEnvVar(ENV_VAR_STRIMZI_KAFKA_GC_LOG_ENABLED, String.valueOf(gcLoggingEnabled)));
         varList.add(buildEnvVar(ENV_VAR_MIN_INSYNC_REPLICAS, String.valueOf(minInsyncReplicas)));
 
-        varList.add(buildEnvVar(ENV_VAR_BROKER_DISK_MIB_CAPACITY, String.valueOf(brokerDiskMiBCapacity)));
-        varList.add(buildEnvVar(ENV_VAR_BROKER_CPU_UTILIZATION_CAPACITY, String.valueOf(brokerCpuUtilizationCapacity)));
-        varList.add(buildEnvVar(ENV_VAR_BROKER_INBOUND_NETWORK_KIB_PER_SECOND_CAPACITY, String.valueOf(brokerInboundNetworkKiBPerSecondCapacity)));
-        varList.add(buildEnvVar(ENV_VAR_BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY,  String.valueOf(brokerOuboundNetworkKiBPerSecondCapacity)));
+        varList.add(buildEnvVar(ENV_VAR_CRUISE_CONTROL_CAPACITY_CONFIGURATION, capacityConfiguration));
 
         heapOptions(varList, 1.0, 0L);
         jvmPerformanceOptions(varList);
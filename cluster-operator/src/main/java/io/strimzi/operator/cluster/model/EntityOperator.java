@@ -21,6 +21,7 @@ import io.fabric8.kubernetes.api.model.apps.DeploymentStrategy;
 import io.fabric8.kubernetes.api.model.apps.DeploymentStrategyBuilder;
 import io.fabric8.kubernetes.api.model.rbac.ClusterRole;
 import io.fabric8.kubernetes.api.model.rbac.PolicyRule;
+import io.fabric8.kubernetes.api.model.rbac.PolicyRuleBuilder;
 import io.fabric8.kubernetes.api.model.rbac.Role;
 import io.strimzi.api.kafka.model.ContainerEnvVar;
 import io.strimzi.api.kafka.model.EntityOperatorSpec;
@@ -58,6 +59,8 @@ public class EntityOperator extends AbstractModel {
     protected static final String TLS_SIDECAR_CA_CERTS_VOLUME_NAME = "cluster-ca-certs";
     protected static final String TLS_SIDECAR_CA_CERTS_VOLUME_MOUNT = "/etc/tls-sidecar/cluster-ca-certs/";
 
+    private static volatile List<PolicyRule> clusterRoleRules;
+
     // Volume name of the temporary volume used by the TLS sidecar container
     // Because the container shares the pod with other containers, it needs to have unique name
     /*test*/ static final String TLS_SIDECAR_TMP_DIRECTORY_DEFAULT_VOLUME_NAME = "strimzi-tls-sidecar-tmp";
@@ -375,22 +378,9 @@ public class EntityOperator extends AbstractModel {
      * @return role for the entity operator
      */
     public Role generateRole(String ownerNamespace, String namespace) {
-        List<PolicyRule> rules;
-
-        try (BufferedReader br = new BufferedReader(
-                new InputStreamReader(
-                    Main.class.getResourceAsStream("/cluster-roles/031-ClusterRole-strimzi-entity-operator.yaml"),
-                    StandardCharsets.UTF_8)
-            )
-        ) {
-            String yaml = br.lines().collect(Collectors.joining(System.lineSeparator()));
-            ObjectMapper yamlReader = new ObjectMapper(new YAMLFactory());
-            ClusterRole cr = yamlReader.readValue(yaml, ClusterRole.class);
-            rules = cr.getRules();
-        } catch (IOException e) {
-            LOGGER.errorCr(reconciliation, "Failed to read entity-operator ClusterRole.", e);
-            throw new RuntimeException(e);
-        }
+        List<PolicyRule> rules = clusterRoleRules().stream()
+                .map(rule -> new PolicyRuleBuilder(rule).build())
+                .collect(Collectors.toList());
 
         Role role = super.generateRole(namespace, rules);
 
@@ -402,6 +392,36 @@ public class EntityOperator extends AbstractModel {
         return role;
     }
 
+    /**
+     * Reads the rules of the entity operator ClusterRole. The ClusterRole is read from the classpath only once and the
+     * rules are shared. The caller should copy them before using them in a new resource.
+     *
+     * @return  List with the rules from the entity operator ClusterRole
+     */
+    private static List<PolicyRule> clusterRoleRules() {
+        List<PolicyRule> rules = clusterRoleRules;
+
+        if (rules == null) {
+            try (BufferedReader br = new BufferedReader(
+                    new InputStreamReader(
+                        Main.class.getResourceAsStream("/cluster-roles/031-ClusterRole-strimzi-entity-operator.yaml"),
+                        StandardCharsets.UTF_8)
+                )
+            ) {
+                String yaml = br.lines().collect(Collectors.joining(System.lineSeparator()));
+                ObjectMapper yamlReader = new ObjectMapper(new YAMLFactory());
+                ClusterRole cr = yamlReader.readValue(yaml, ClusterRole.class);
+                rules = Collections.unmodifiableList(cr.getRules());
+                clusterRoleRules = rules;
+            } catch (IOException e) {
+                LOGGER.errorOp("Failed to read entity-operator ClusterRole.", e);
+                throw new RuntimeException(e);
+            }
+        }
+
+        return rules;
+    }
+
     protected static void javaOptions(List<EnvVar> envVars, JvmOptions jvmOptions, List<SystemProperty> javaSystemProperties) {
         StringBuilder strimziJavaOpts = new StringBuilder();
         String xms = jvmOptions != null ? jvmOptions.getXms() : null;
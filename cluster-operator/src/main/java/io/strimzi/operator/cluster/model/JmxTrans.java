@@ -21,6 +21,7 @@ import io.fabric8.kubernetes.api.model.apps.DeploymentStrategy;
 import io.fabric8.kubernetes.api.model.apps.DeploymentStrategyBuilder;
 import io.fabric8.kubernetes.api.model.apps.RollingUpdateDeploymentBuilder;
 import io.strimzi.api.kafka.model.ContainerEnvVar;
+import io.strimzi.api.kafka.model.JmxTransMetricsSource;
 import io.strimzi.api.kafka.model.JmxTransResources;
 import io.strimzi.api.kafka.model.JmxTransSpec;
 import io.strimzi.api.kafka.model.Kafka;
@@ -28,6 +29,7 @@ import io.strimzi.api.kafka.model.KafkaJmxAuthenticationPassword;
 import io.strimzi.api.kafka.model.Probe;
 import io.strimzi.api.kafka.model.ProbeBuilder;
 import io.strimzi.api.kafka.model.template.JmxTransOutputDefinitionTemplate;
+import io.strimzi.api.kafka.model.template.JmxTransQueryAggregation;
 import io.strimzi.api.kafka.model.template.JmxTransQueryTemplate;
 import io.strimzi.api.kafka.model.template.JmxTransTemplate;
 import io.strimzi.operator.cluster.model.components.JmxTransOutputWriter;
@@ -42,6 +44,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /*
  * Class for handling JmxTrans configuration passed by the user. Used to get the resources needed to create the
@@ -65,11 +68,19 @@ public class JmxTrans extends AbstractModel {
     protected static final String JMX_METRICS_CONFIG_SUFFIX = "-jmxtrans-config";
     public static final String JMX_FILE_PATH = "/var/lib/jmxtrans";
 
+    // Configuration of the bridge pushing the metrics scraped from the Prometheus JMX Exporter of the brokers
+    public static final String PROMETHEUS_BRIDGE_CONFIGMAP_KEY = "prometheus-bridge.conf";
+    protected static final String GRAPHITE_OUTPUT_WRITER = "com.googlecode.jmxtrans.model.output.GraphiteWriter";
+    protected static final String GRAPHITE_OUTPUT_WRITER_FACTORY = "com.googlecode.jmxtrans.model.output.GraphiteWriterFactory";
+    protected static final String STDOUT_OUTPUT_WRITER = "com.googlecode.jmxtrans.model.output.StdOutWriter";
+
     protected static final String ENV_VAR_JMXTRANS_LOGGING_LEVEL = "JMXTRANS_LOGGING_LEVEL";
+    protected static final String ENV_VAR_JMXTRANS_METRICS_SOURCE = "JMXTRANS_METRICS_SOURCE";
 
 
     private boolean isDeployed;
     private boolean isJmxAuthenticated;
+    private JmxTransMetricsSource metricsSource = JmxTransMetricsSource.JMX;
     private String configMapName;
     private String clusterName;
     private String loggingLevel;
@@ -105,19 +116,18 @@ public class JmxTrans extends AbstractModel {
         JmxTrans result = null;
         JmxTransSpec spec = kafkaAssembly.getSpec().getJmxTrans();
         if (spec != null) {
-            if (kafkaAssembly.getSpec().getKafka().getJmxOptions() == null) {
-                String error = String.format("Can't start up JmxTrans '%s' in '%s' as Kafka spec.kafka.jmxOptions is not specified",
-                        JmxTransResources.deploymentName(kafkaAssembly.getMetadata().getName()),
-                        kafkaAssembly.getMetadata().getNamespace());
-                LOGGER.warnCr(reconciliation, error);
-                throw new InvalidResourceException(error);
+            JmxTransMetricsSource metricsSource = spec.getMetricsSource() != null ? spec.getMetricsSource() : JmxTransMetricsSource.JMX;
+
+            if (metricsSource == JmxTransMetricsSource.PROMETHEUS) {
+                validatePrometheusSource(reconciliation, kafkaAssembly, spec);
+            } else {
+                validateJmxSource(reconciliation, kafkaAssembly);
             }
             result = new JmxTrans(reconciliation, kafkaAssembly);
             result.isDeployed = true;
-
-            if (kafkaAssembly.getSpec().getKafka().getJmxOptions().getAuthentication() instanceof KafkaJmxAuthenticationPassword) {
-                result.isJmxAuthenticated = true;
-            }
+            result.metricsSource = metricsSource;
+            result.isJmxAuthenticated = metricsSource == JmxTransMetricsSource.JMX
+                    && kafkaAssembly.getSpec().getKafka().getJmxOptions().getAuthentication() instanceof KafkaJmxAuthenticationPassword;
 
             result.loggingLevel = spec.getLogLevel() == null ? "" : spec.getLogLevel();
 
@@ -160,6 +170,71 @@ public class JmxTrans extends AbstractModel {
         return result;
     }
 
+    /**
+     * Checks that the JMX port of the brokers is enabled, so that the metrics can be read directly over JMX.
+     *
+     * @param reconciliation The reconciliation
+     * @param kafkaAssembly The Kafka custom resource
+     */
+    private static void validateJmxSource(Reconciliation reconciliation, Kafka kafkaAssembly) {
+        if (kafkaAssembly.getSpec().getKafka().getJmxOptions() == null) {
+            String error = String.format("Can't start up JmxTrans '%s' in '%s' as Kafka spec.kafka.jmxOptions is not specified",
+                    JmxTransResources.deploymentName(kafkaAssembly.getMetadata().getName()),
+                    kafkaAssembly.getMetadata().getNamespace());
+            LOGGER.warnCr(reconciliation, error);
+            throw new InvalidResourceException(error);
+        }
+    }
+
+    /**
+     * Checks that the metrics can be scraped from the Prometheus JMX Exporter of the brokers and that the bridge
+     * supports all the outputs.
+     *
+     * @param reconciliation The reconciliation
+     * @param kafkaAssembly The Kafka custom resource
+     * @param spec The JmxTrans that was defined by the user
+     */
+    private static void validatePrometheusSource(Reconciliation reconciliation, Kafka kafkaAssembly, JmxTransSpec spec) {
+        List<String> errors = new ArrayList<>();
+
+        if (kafkaAssembly.getSpec().getKafka().getMetricsConfig() == null) {
+            errors.add("Kafka spec.kafka.metricsConfig is not specified");
+        }
+
+        if (spec.getOutputDefinitions() != null) {
+            for (JmxTransOutputDefinitionTemplate output : spec.getOutputDefinitions()) {
+                if (bridgeOutputType(output) == null) {
+                    errors.add("output type " + output.getOutputType() + " of output " + output.getName() + " is not supported with the prometheus metrics source");
+                } else if (!STDOUT_OUTPUT_WRITER.equals(output.getOutputType()) && (output.getHost() == null || output.getPort() == null)) {
+                    errors.add("output " + output.getName() + " has no host or port");
+                }
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            String error = String.format("Can't start up JmxTrans '%s' in '%s' as %s",
+                    JmxTransResources.deploymentName(kafkaAssembly.getMetadata().getName()),
+                    kafkaAssembly.getMetadata().getNamespace(),
+                    String.join(", ", errors));
+            LOGGER.warnCr(reconciliation, error);
+            throw new InvalidResourceException(error);
+        }
+    }
+
+    /**
+     * @param output Output definition
+     * @return The type of the output used by the Prometheus bridge or null if the bridge does not support this output
+     */
+    private static String bridgeOutputType(JmxTransOutputDefinitionTemplate output) {
+        if (GRAPHITE_OUTPUT_WRITER.equals(output.getOutputType()) || GRAPHITE_OUTPUT_WRITER_FACTORY.equals(output.getOutputType())) {
+            return "graphite";
+        } else if (STDOUT_OUTPUT_WRITER.equals(output.getOutputType())) {
+            return "stdout";
+        } else {
+            return null;
+        }
+    }
+
     public Deployment generateDeployment(ImagePullPolicy imagePullPolicy, List<LocalObjectReference> imagePullSecrets) {
         if (!isDeployed()) {
             return null;
@@ -209,6 +284,50 @@ public class JmxTrans extends AbstractModel {
         }
     }
 
+    /**
+     * Generates the config of the bridge which scrapes the Prometheus JMX Exporter endpoint of each broker, filters
+     * and aggregates the metrics and pushes them to the outputs. Each line configures a broker, an output or a query.
+     * The regular expression of the query is the last field, so it can contain any characters apart from new lines.
+     *
+     * @param spec The JmxTrans that was defined by the user
+     * @param numOfBrokers number of kafka brokers
+     * @return the bridge config file that targets each broker
+     */
+    private String generatePrometheusBridgeConfig(JmxTransSpec spec, int numOfBrokers) {
+        StringBuilder config = new StringBuilder();
+        String headlessService = KafkaCluster.headlessServiceName(cluster);
+
+        for (int brokerNumber = 0; brokerNumber < numOfBrokers; brokerNumber++) {
+            String brokerPodName = KafkaCluster.kafkaPodName(clusterName, brokerNumber);
+            config.append("broker ").append(brokerPodName)
+                    .append(' ').append(brokerPodName).append('.').append(headlessService)
+                    .append(' ').append(METRICS_PORT).append('\n');
+        }
+
+        for (JmxTransOutputDefinitionTemplate output : spec.getOutputDefinitions()) {
+            config.append("output ").append(output.getName())
+                    .append(' ').append(bridgeOutputType(output))
+                    .append(' ').append(output.getHost() != null ? output.getHost() : "-")
+                    .append(' ').append(output.getPort() != null ? output.getPort() : "-").append('\n');
+        }
+
+        for (JmxTransQueryTemplate query : spec.getKafkaQueries()) {
+            JmxTransQueryAggregation aggregation = query.getAggregation() != null ? query.getAggregation() : JmxTransQueryAggregation.NONE;
+            List<String> labels = query.getAttributes() != null ? query.getAttributes() : Collections.emptyList();
+            String outputs = spec.getOutputDefinitions().stream()
+                    .map(JmxTransOutputDefinitionTemplate::getName)
+                    .filter(name -> query.getOutputs().contains(name))
+                    .collect(Collectors.joining(","));
+
+            config.append("query ").append(aggregation.toValue())
+                    .append(' ').append(outputs.isEmpty() ? "-" : outputs)
+                    .append(' ').append(labels.isEmpty() ? "-" : String.join(",", labels))
+                    .append(' ').append(query.getTargetMBean()).append('\n');
+        }
+
+        return config.toString();
+    }
+
     /**
      * Generates the JmxTrans config map
      *
@@ -219,8 +338,11 @@ public class JmxTrans extends AbstractModel {
      */
     public ConfigMap generateJmxTransConfigMap(JmxTransSpec spec, int numOfBrokers) throws JsonProcessingException {
         Map<String, String> data = new HashMap<>(1);
-        String jmxConfig = generateJMXConfig(spec, numOfBrokers);
-        data.put(JMXTRANS_CONFIGMAP_KEY, jmxConfig);
+        if (metricsSource == JmxTransMetricsSource.PROMETHEUS) {
+            data.put(PROMETHEUS_BRIDGE_CONFIGMAP_KEY, generatePrometheusBridgeConfig(spec, numOfBrokers));
+        } else {
+            data.put(JMXTRANS_CONFIGMAP_KEY, generateJMXConfig(spec, numOfBrokers));
+        }
         configMapName = jmxTransConfigName(clusterName);
         return createConfigMap(jmxTransConfigName(clusterName), data);
     }
@@ -251,7 +373,7 @@ public class JmxTrans extends AbstractModel {
                 .withName(name)
                 .withImage(getImage())
                 .withEnv(getEnvVars())
-                .withReadinessProbe(jmxTransReadinessProbe(readinessProbeOptions, clusterName))
+                .withReadinessProbe(jmxTransReadinessProbe(readinessProbeOptions, clusterName, metricsSource))
                 .withResources(getResources())
                 .withVolumeMounts(getVolumeMounts())
                 .withImagePullPolicy(determineImagePullPolicy(imagePullPolicy, getImage()))
@@ -272,6 +394,7 @@ public class JmxTrans extends AbstractModel {
             varList.add(buildEnvVarFromSecret(KafkaCluster.ENV_VAR_KAFKA_JMX_PASSWORD, KafkaCluster.jmxSecretName(cluster), KafkaCluster.SECRET_JMX_PASSWORD_KEY));
         }
         varList.add(buildEnvVar(ENV_VAR_JMXTRANS_LOGGING_LEVEL, loggingLevel));
+        varList.add(buildEnvVar(ENV_VAR_JMXTRANS_METRICS_SOURCE, metricsSource.toValue()));
 
         // Add shared environment variables used for all containers
         varList.addAll(getRequiredEnvVars());
@@ -322,9 +445,13 @@ public class JmxTrans extends AbstractModel {
         return isJmxAuthenticated;
     }
 
-    protected static io.fabric8.kubernetes.api.model.Probe jmxTransReadinessProbe(io.strimzi.api.kafka.model.Probe  kafkaJmxMetricsReadinessProbe, String clusterName) {
+    public JmxTransMetricsSource getMetricsSource() {
+        return metricsSource;
+    }
+
+    protected static io.fabric8.kubernetes.api.model.Probe jmxTransReadinessProbe(io.strimzi.api.kafka.model.Probe  kafkaJmxMetricsReadinessProbe, String clusterName, JmxTransMetricsSource metricsSource) {
         String internalBootstrapServiceName = KafkaCluster.headlessServiceName(clusterName);
-        String metricsPortValue = String.valueOf(KafkaCluster.JMX_PORT);
+        String metricsPortValue = String.valueOf(metricsSource == JmxTransMetricsSource.PROMETHEUS ? METRICS_PORT : KafkaCluster.JMX_PORT);
         kafkaJmxMetricsReadinessProbe = kafkaJmxMetricsReadinessProbe == null ? DEFAULT_JMX_TRANS_PROBE : kafkaJmxMetricsReadinessProbe;
         return ProbeGenerator.execProbe(kafkaJmxMetricsReadinessProbe, Arrays.asList("/opt/jmx/jmxtrans_readiness_check.sh", internalBootstrapServiceName, metricsPortValue));
     }
@@ -109,6 +109,8 @@ public class KafkaCluster extends AbstractModel {
 
     protected static final String ENV_VAR_KAFKA_INIT_EXTERNAL_ADDRESS = "EXTERNAL_ADDRESS";
     protected static final String ENV_VAR_KAFKA_INIT_EXTERNAL_ADDRESS_TYPE = "EXTERNAL_ADDRESS_TYPE";
+    protected static final String ENV_VAR_KAFKA_INIT_RACK_ID = "RACK_ID";
+    protected static final String ENV_VAR_KAFKA_INIT_NODE_ADDRESSES = "NODE_ADDRESSES";
 
     private static final String ENV_VAR_KAFKA_METRICS_ENABLED = "KAFKA_METRICS_ENABLED";
 
@@ -125,6 +127,7 @@ public class KafkaCluster extends AbstractModel {
     protected static final int INGRESS_PORT = 443;
 
     protected static final String KAFKA_NAME = "kafka";
+    public static final String DATA_VOLUME_MOUNT_PATH = "/var/lib/kafka";
     protected static final String CLUSTER_CA_CERTS_VOLUME = "cluster-ca";
     protected static final String BROKER_CERTS_VOLUME = "broker-certs";
     protected static final String CLIENT_CA_CERTS_VOLUME = "client-ca-cert";
@@ -170,6 +173,20 @@ public class KafkaCluster extends AbstractModel {
 
     public static final String ANNO_STRIMZI_CUSTOM_LISTENER_CERT_THUMBPRINTS = Annotations.STRIMZI_DOMAIN + "custom-listener-cert-thumbprints";
 
+    /**
+     * Pre-resolved rack ID of the broker pod. The value depends on the node on which the pod is scheduled, so it has
+     * to be set on each pod individually (for example by an admission webhook) and not through the pod template. When
+     * set, the init container does not read the rack from the node labels.
+     */
+    public static final String ANNO_STRIMZI_IO_RACK_ID = Annotations.STRIMZI_DOMAIN + "rack-id";
+
+    /**
+     * Pre-resolved addresses of the node of the broker pod in the type1=address1,type2=address2 format. Like the rack
+     * ID, it has to be set on each pod individually. When set, the init container does not read the addresses from the
+     * node status.
+     */
+    public static final String ANNO_STRIMZI_IO_NODE_ADDRESSES = Annotations.STRIMZI_DOMAIN + "node-addresses";
+
     // Env vars for JMX service
     protected static final String ENV_VAR_KAFKA_JMX_ENABLED = "KAFKA_JMX_ENABLED";
 
@@ -252,7 +269,7 @@ public class KafkaCluster extends AbstractModel {
         this.readinessProbeOptions = DEFAULT_HEALTHCHECK_OPTIONS;
         this.isMetricsEnabled = DEFAULT_KAFKA_METRICS_ENABLED;
 
-        this.mountPath = "/var/lib/kafka";
+        this.mountPath = DATA_VOLUME_MOUNT_PATH;
 
         this.logAndMetricsConfigVolumeName = "kafka-metrics-and-logging";
         this.logAndMetricsConfigMountPath = "/opt/kafka/custom-config/";
@@ -1518,10 +1535,14 @@ public class KafkaCluster extends AbstractModel {
 
         if (rack != null) {
             varList.add(buildEnvVar(ENV_VAR_KAFKA_INIT_RACK_TOPOLOGY_KEY, rack.getTopologyKey()));
+            // Empty when the pod does not have the annotation => the rack is read from the node labels
+            varList.add(buildEnvVarFromFieldRef(ENV_VAR_KAFKA_INIT_RACK_ID, "metadata.annotations['" + ANNO_STRIMZI_IO_RACK_ID + "']"));
         }
 
         if (!ListenersUtils.nodePortListeners(listeners).isEmpty()) {
             varList.add(buildEnvVar(ENV_VAR_KAFKA_INIT_EXTERNAL_ADDRESS, "TRUE"));
+            // Empty when the pod does not have the annotation => the addresses are read from the node status
+            varList.add(buildEnvVarFromFieldRef(ENV_VAR_KAFKA_INIT_NODE_ADDRESSES, "metadata.annotations['" + ANNO_STRIMZI_IO_NODE_ADDRESSES + "']"));
         }
 
         // Add shared environment variables used for all containers
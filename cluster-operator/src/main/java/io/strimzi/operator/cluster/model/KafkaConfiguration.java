@@ -20,6 +20,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
@@ -35,6 +36,11 @@ public class KafkaConfiguration extends AbstractConfiguration {
     private static final List<String> FORBIDDEN_PREFIXES;
     private static final List<String> FORBIDDEN_PREFIX_EXCEPTIONS;
 
+    /**
+     * Config models are loaded lazily and shared, so that the JSON files are parsed only once per Kafka version
+     */
+    private static final Map<String, Map<String, ConfigModel>> CONFIG_MODELS = new ConcurrentHashMap<>();
+
     static {
         FORBIDDEN_PREFIXES = AbstractConfiguration.splitPrefixesToList(KafkaClusterSpec.FORBIDDEN_PREFIXES);
         FORBIDDEN_PREFIX_EXCEPTIONS = AbstractConfiguration.splitPrefixesToList(KafkaClusterSpec.FORBIDDEN_PREFIX_EXCEPTIONS);
@@ -102,11 +108,16 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     /**
-     * Gets the config model for the given version of the Kafka broker.
+     * Gets the config model for the given version of the Kafka broker. The config model is read from the classpath
+     * only once and the returned map is shared.
      * @param kafkaVersion The broker version.
-     * @return The config model for that broker version.
+     * @return The unmodifiable config model for that broker version.
      */
     public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
+        return CONFIG_MODELS.computeIfAbsent(kafkaVersion.version(), version -> Collections.unmodifiableMap(loadConfigModel(kafkaVersion)));
+    }
+
+    private static Map<String, ConfigModel> loadConfigModel(KafkaVersion kafkaVersion) {
         String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
         try {
             try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
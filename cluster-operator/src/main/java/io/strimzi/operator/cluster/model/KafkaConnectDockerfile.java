@@ -16,13 +16,22 @@ import io.strimzi.operator.common.Util;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 /**
  * This class is used to generate the Dockerfile used by Kafka Connect Build. It takes the API definition with the
  * desired plugins and generates a Dockerfile which pulls and installs them. To generate the Dockerfile, it is using
  * the PrintWriter.
+ *
+ * The Dockerfile uses a multi-stage build. Each connector plugin is downloaded in its own build stage, which is named
+ * after the hash of the base image and of the commands used to download the plugin artifacts (including their URLs and
+ * checksums). The final image just copies the plugins from these stages. Changing one of the plugins therefore changes
+ * only its own stage, and the stages of the other plugins can be taken from the layer cache of the builder.
  */
 public class KafkaConnectDockerfile {
     private static final String BASE_PLUGIN_PATH = "/opt/kafka/plugins/";
@@ -37,7 +46,10 @@ public class KafkaConnectDockerfile {
     private static final String HTTPS_PROXY = System.getenv(ENV_VAR_HTTPS_PROXY);
     private static final String NO_PROXY = System.getenv(ENV_VAR_NO_PROXY);
 
+    private static final String PLUGIN_STAGE_PREFIX = "plugin-";
+
     private final String dockerfile;
+    private final List<String> pluginLayers = new ArrayList<>();
 
     /**
      * Broker configuration template constructor
@@ -50,11 +62,11 @@ public class KafkaConnectDockerfile {
         PrintWriter writer = new PrintWriter(stringWriter);
 
         printHeader(writer); // Print initial comment
+        connectorPluginStages(writer, fromImage, connectBuild.getPlugins()); // Download each plugin in its own build stage
+        printSectionHeader(writer, "Kafka Connect image with connector plugins");
         from(writer, fromImage); // Create FROM statement
-        user(writer, ROOT_USER); // Switch to root user to be able to add plugins
-        proxy(writer); // Configures proxy environment variables
-        connectorPlugins(writer, connectBuild.getPlugins());
-        user(writer, NON_PRIVILEGED_USER); // Switch back to the regular unprivileged user
+        copyConnectorPlugins(writer, connectBuild.getPlugins()); // Copy the plugins from their build stages
+        user(writer, NON_PRIVILEGED_USER); // Make sure the regular unprivileged user is used
 
         dockerfile = stringWriter.toString();
 
@@ -72,6 +84,66 @@ public class KafkaConnectDockerfile {
         writer.println();
     }
 
+    /**
+     * Generates the build stages downloading the connector plugins. Each plugin is downloaded in its own stage, so
+     * that the layers with the plugins which did not change can be reused from the cache. Plugins without any
+     * artifacts are skipped.
+     *
+     * @param writer        Writer for printing the Docker commands
+     * @param fromImage     Base image which should be used for the build stages
+     * @param plugins       List of plugins which should be added to the container image
+     */
+    private void connectorPluginStages(PrintWriter writer, String fromImage, List<Plugin> plugins) {
+        Set<String> stages = new LinkedHashSet<>(plugins.size());
+
+        for (Plugin plugin : plugins)   {
+            if (plugin.getArtifacts() == null || plugin.getArtifacts().isEmpty()) {
+                continue;
+            }
+
+            StringWriter stageWriter = new StringWriter();
+            PrintWriter stage = new PrintWriter(stageWriter);
+
+            user(stage, ROOT_USER); // Switch to root user to be able to add plugins
+            proxy(stage); // Configures proxy environment variables
+            addPlugin(stage, plugin);
+            stage.close();
+
+            String stageBody = stageWriter.toString();
+            String layer = Util.sha1Prefix(fromImage + "\n" + stageBody);
+            pluginLayers.add(layer);
+
+            if (stages.add(layer)) {
+                // Identical plugins share the same stage
+                printSectionHeader(writer, "Connector plugin " + plugin.getName());
+                writer.println("FROM " + fromImage + " AS " + PLUGIN_STAGE_PREFIX + layer);
+                writer.println();
+                writer.print(stageBody);
+            }
+        }
+    }
+
+    /**
+     * Generates the COPY statements which copy the connector plugins from their build stages to the final image
+     *
+     * @param writer    Writer for printing the Docker commands
+     * @param plugins   List of plugins which should be added to the container image
+     */
+    private void copyConnectorPlugins(PrintWriter writer, List<Plugin> plugins) {
+        int layer = 0;
+
+        for (Plugin plugin : plugins)   {
+            if (plugin.getArtifacts() == null || plugin.getArtifacts().isEmpty()) {
+                continue;
+            }
+
+            String connectorPath = BASE_PLUGIN_PATH + plugin.getName();
+            writer.println("COPY --from=" + PLUGIN_STAGE_PREFIX + pluginLayers.get(layer++) + " " + connectorPath + " " + connectorPath);
+        }
+
+        writer.println();
+    }
+
     /**
      * Generates proxy arguments if set in the operator
      *
@@ -105,18 +177,6 @@ public class KafkaConnectDockerfile {
         writer.println();
     }
 
-    /**
-     * Adds the commands to donwload and possibly unpact the connector plugins
-     *
-     * @param writer    Writer for printing the Docker commands
-     * @param plugins   List of plugins which should be added to the container image
-     */
-    private void connectorPlugins(PrintWriter writer, List<Plugin> plugins) {
-        for (Plugin plugin : plugins)   {
-            addPlugin(writer, plugin);
-        }
-    }
-
     /**
      * Adds a particular connector plugin to the container image. It will go through the individual artifacts and add
      * them one by one depending on their type.
@@ -125,8 +185,6 @@ public class KafkaConnectDockerfile {
      * @param plugin    A single plugin which should be added to the new container image
      */
     private void addPlugin(PrintWriter writer, Plugin plugin)    {
-        printSectionHeader(writer, "Connector plugin " + plugin.getName());
-
         String connectorPath = BASE_PLUGIN_PATH + plugin.getName();
 
         for (Artifact art : plugin.getArtifacts())  {
@@ -325,4 +383,15 @@ public class KafkaConnectDockerfile {
     public String hashStub()    {
         return Util.sha1Prefix(dockerfile);
     }
+
+    /**
+     * Returns the keys of the connector plugin layers in the order of the plugins. The key is derived from the base
+     * image and from the commands downloading the plugin artifacts. So it changes only when the plugin changes and it
+     * can be used to find out which plugin layers can be reused from a previous build.
+     *
+     * @return  List with the keys of the plugin layers
+     */
+    public List<String> getPluginLayers() {
+        return Collections.unmodifiableList(pluginLayers);
+    }
 }
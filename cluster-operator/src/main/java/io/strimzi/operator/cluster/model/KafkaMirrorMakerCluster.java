@@ -27,6 +27,7 @@ import io.strimzi.api.kafka.model.Probe;
 import io.strimzi.api.kafka.model.ProbeBuilder;
 import io.strimzi.api.kafka.model.template.KafkaMirrorMakerTemplate;
 import io.strimzi.api.kafka.model.tracing.Tracing;
+import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
 
 import java.util.ArrayList;
@@ -49,6 +50,13 @@ public class KafkaMirrorMakerCluster extends AbstractModel {
     private static final int DEFAULT_HEALTHCHECK_DELAY = 60;
     private static final int DEFAULT_HEALTHCHECK_TIMEOUT = 5;
     private static final int DEFAULT_HEALTHCHECK_PERIOD = 10;
+    /*test*/ static final int DEFAULT_STALL_TIMEOUT = 300;
+
+    /**
+     * Time in seconds without any progress after which the Mirror Maker agent considers the mirroring to be stalled
+     * and lets the liveness probe fail
+     */
+    public static final String ANNO_STRIMZI_IO_STALL_TIMEOUT = Annotations.STRIMZI_DOMAIN + "stall-timeout";
     public static final Probe READINESS_PROBE_OPTIONS = new ProbeBuilder().withTimeoutSeconds(DEFAULT_HEALTHCHECK_TIMEOUT).withInitialDelaySeconds(DEFAULT_HEALTHCHECK_DELAY).build();
     protected static final boolean DEFAULT_KAFKA_MIRRORMAKER_METRICS_ENABLED = false;
 
@@ -92,6 +100,7 @@ public class KafkaMirrorMakerCluster extends AbstractModel {
 
     protected static final String ENV_VAR_STRIMZI_READINESS_PERIOD = "STRIMZI_READINESS_PERIOD";
     protected static final String ENV_VAR_STRIMZI_LIVENESS_PERIOD = "STRIMZI_LIVENESS_PERIOD";
+    protected static final String ENV_VAR_STRIMZI_STALL_TIMEOUT = "STRIMZI_STALL_TIMEOUT";
     protected static final String ENV_VAR_STRIMZI_TRACING = "STRIMZI_TRACING";
 
     protected String include;
@@ -101,6 +110,7 @@ public class KafkaMirrorMakerCluster extends AbstractModel {
     protected KafkaMirrorMakerConsumerSpec consumer;
     protected List<ContainerEnvVar> templateContainerEnvVars;
     protected SecurityContext templateContainerSecurityContext;
+    protected int stallTimeout = DEFAULT_STALL_TIMEOUT;
 
     /**
      * Constructor
@@ -199,11 +209,28 @@ public class KafkaMirrorMakerCluster extends AbstractModel {
             kafkaMirrorMakerCluster.tracing = spec.getTracing();
         }
 
+        kafkaMirrorMakerCluster.stallTimeout = parseStallTimeout(reconciliation, kafkaMirrorMaker);
         kafkaMirrorMakerCluster.setOwnerReference(kafkaMirrorMaker);
 
         return kafkaMirrorMakerCluster;
     }
 
+    private static int parseStallTimeout(Reconciliation reconciliation, KafkaMirrorMaker kafkaMirrorMaker) {
+        try {
+            int stallTimeout = Annotations.intAnnotation(kafkaMirrorMaker, ANNO_STRIMZI_IO_STALL_TIMEOUT, DEFAULT_STALL_TIMEOUT);
+
+            if (stallTimeout > 0) {
+                return stallTimeout;
+            }
+        } catch (NumberFormatException e) {
+            // Handled below
+        }
+
+        LOGGER.warnCr(reconciliation, "Annotation {} has to be a positive number of seconds. The default stall timeout of {} seconds will be used.",
+                ANNO_STRIMZI_IO_STALL_TIMEOUT, DEFAULT_STALL_TIMEOUT);
+        return DEFAULT_STALL_TIMEOUT;
+    }
+
     protected List<ContainerPort> getContainerPortList() {
         List<ContainerPort> portList = new ArrayList<>(1);
         if (isMetricsEnabled) {
@@ -379,6 +406,7 @@ public class KafkaMirrorMakerCluster extends AbstractModel {
                 String.valueOf(livenessProbeOptions.getPeriodSeconds() != null ? livenessProbeOptions.getPeriodSeconds() : DEFAULT_HEALTHCHECK_PERIOD)));
         varList.add(buildEnvVar(ENV_VAR_STRIMZI_READINESS_PERIOD,
                 String.valueOf(readinessProbeOptions.getPeriodSeconds() != null ? readinessProbeOptions.getPeriodSeconds() : DEFAULT_HEALTHCHECK_PERIOD)));
+        varList.add(buildEnvVar(ENV_VAR_STRIMZI_STALL_TIMEOUT, String.valueOf(stallTimeout)));
 
         // Add shared environment variables used for all containers
         varList.addAll(getRequiredEnvVars());
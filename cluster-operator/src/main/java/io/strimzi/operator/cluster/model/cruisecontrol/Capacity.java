@@ -6,34 +6,154 @@ package io.strimzi.operator.cluster.model.cruisecontrol;
 
 import io.strimzi.api.kafka.model.KafkaSpec;
 import io.strimzi.api.kafka.model.balancing.BrokerCapacity;
+import io.strimzi.api.kafka.model.balancing.BrokerCapacityOverride;
 import io.strimzi.api.kafka.model.storage.EphemeralStorage;
 import io.strimzi.api.kafka.model.storage.JbodStorage;
 import io.strimzi.api.kafka.model.storage.PersistentClaimStorage;
 import io.strimzi.api.kafka.model.storage.SingleVolumeStorage;
 import io.strimzi.api.kafka.model.storage.Storage;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.VolumeUtils;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static io.strimzi.operator.cluster.model.StorageUtils.parseMemory;
 
+/**
+ * Cruise Control broker capacity configuration. The capacity is generated for each broker of the Kafka cluster,
+ * so that the brokers can use different CPU and network capacities (configured through the overrides) and that the
+ * disk capacity can be configured separately for each JBOD volume.
+ */
 public class Capacity {
     public static final double DEFAULT_BROKER_DISK_MIB_CAPACITY = 100_000;  // in MiB
     public static final int DEFAULT_BROKER_CPU_UTILIZATION_CAPACITY = 100;  // as a percentage (0-100)
     public static final double DEFAULT_BROKER_INBOUND_NETWORK_KIB_PER_SECOND_CAPACITY = 10_000;  // in KiB/s
     public static final double DEFAULT_BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY = 10_000;  // in KiB/s
 
+    public static final String DEFAULT_BROKER_ID = "-1";
+    public static final String DEFAULT_BROKER_DOC = "This is the default capacity. Capacity unit used for disk is in MB, cpu is in percentage, network throughput is in KB.";
+
+    private static final String BROKER_CAPACITIES_KEY = "brokerCapacities";
+    private static final String BROKER_ID_KEY = "brokerId";
+    private static final String CAPACITY_KEY = "capacity";
+    private static final String DOC_KEY = "doc";
+    private static final String DISK_KEY = "DISK";
+    private static final String CPU_KEY = "CPU";
+    private static final String INBOUND_NETWORK_KEY = "NW_IN";
+    private static final String OUTBOUND_NETWORK_KEY = "NW_OUT";
+
     private Double diskMiB;
     private Integer cpuUtilization;
     private Double inboundNetworkKiBPerSecond;
     private Double outboundNetworkKiBPerSecond;
 
+    private final int replicas;
+    private final Storage storage;
+    private final boolean diskConfigured;
+    private final Map<Integer, BrokerCapacityOverride> overrides = new HashMap<>();
+
     public Capacity(KafkaSpec spec) {
+        this(spec, spec.getKafka().getReplicas(), spec.getKafka().getStorage());
+    }
+
+    /**
+     * Creates the capacity configuration
+     *
+     * @param spec      Spec of the Kafka custom resource
+     * @param replicas  Number of Kafka brokers
+     * @param storage   Storage used by the Kafka brokers. This should be the storage actually used by the brokers,
+     *                  which might differ from the storage in the spec when the storage change is not allowed.
+     */
+    public Capacity(KafkaSpec spec, int replicas, Storage storage) {
         BrokerCapacity bc = spec.getCruiseControl().getBrokerCapacity();
 
-        this.diskMiB = bc != null && bc.getDisk() != null ? getSizeInMiB(bc.getDisk()) : generateDiskCapacity(spec.getKafka().getStorage());
+        this.replicas = replicas;
+        this.storage = storage;
+        this.diskConfigured = bc != null && bc.getDisk() != null;
+
+        this.diskMiB = diskConfigured ? getSizeInMiB(bc.getDisk()) : generateDiskCapacity(storage);
         this.cpuUtilization = bc != null && bc.getCpuUtilization() != null ? bc.getCpuUtilization() : DEFAULT_BROKER_CPU_UTILIZATION_CAPACITY;
         this.inboundNetworkKiBPerSecond = bc != null && bc.getInboundNetwork() != null ? getThroughputInKiB(bc.getInboundNetwork()) : DEFAULT_BROKER_INBOUND_NETWORK_KIB_PER_SECOND_CAPACITY;
         this.outboundNetworkKiBPerSecond = bc != null && bc.getOutboundNetwork() != null ? getThroughputInKiB(bc.getOutboundNetwork()) : DEFAULT_BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY;
+
+        if (bc != null && bc.getOverrides() != null) {
+            for (BrokerCapacityOverride override : bc.getOverrides()) {
+                if (override.getBrokers() != null) {
+                    // When a broker is listed in multiple overrides, the first one wins
+                    override.getBrokers().forEach(broker -> overrides.putIfAbsent(broker, override));
+                }
+            }
+        }
+    }
+
+    /**
+     * Generates the Cruise Control capacity configuration file in the JSON format. The file always contains the
+     * default capacity (with the broker ID -1). When any overrides are configured or when the brokers use JBOD storage,
+     * it contains also the capacity of each broker with its overrides applied and with the disk capacity of each JBOD
+     * volume.
+     *
+     * @return  The capacity configuration as JsonObject
+     */
+    public JsonObject generateCapacityConfig() {
+        JsonArray brokerCapacities = new JsonArray();
+        brokerCapacities.add(brokerCapacity(DEFAULT_BROKER_ID, String.valueOf(diskMiB), cpuUtilization,
+                inboundNetworkKiBPerSecond, outboundNetworkKiBPerSecond, DEFAULT_BROKER_DOC));
+
+        boolean perVolumeDisk = storage instanceof JbodStorage && !diskConfigured;
+
+        if (perVolumeDisk || !overrides.isEmpty()) {
+            for (int broker = 0; broker < replicas; broker++) {
+                BrokerCapacityOverride override = overrides.get(broker);
+
+                Integer cpu = override != null && override.getCpuUtilization() != null ? override.getCpuUtilization() : cpuUtilization;
+                Double inbound = override != null && override.getInboundNetwork() != null ? getThroughputInKiB(override.getInboundNetwork()) : inboundNetworkKiBPerSecond;
+                Double outbound = override != null && override.getOutboundNetwork() != null ? getThroughputInKiB(override.getOutboundNetwork()) : outboundNetworkKiBPerSecond;
+                Object disk = perVolumeDisk ? generateJbodDiskCapacity((JbodStorage) storage, broker) : String.valueOf(diskMiB);
+
+                brokerCapacities.add(brokerCapacity(String.valueOf(broker), disk, cpu, inbound, outbound,
+                        override != null ? "Capacity for broker " + broker + " with overrides" : "Capacity for broker " + broker));
+            }
+        }
+
+        return new JsonObject().put(BROKER_CAPACITIES_KEY, brokerCapacities);
+    }
+
+    private static JsonObject brokerCapacity(String brokerId, Object disk, Integer cpu, Double inbound, Double outbound, String doc) {
+        JsonObject capacity = new JsonObject()
+                .put(DISK_KEY, disk)
+                .put(CPU_KEY, String.valueOf(cpu))
+                .put(INBOUND_NETWORK_KEY, String.valueOf(inbound))
+                .put(OUTBOUND_NETWORK_KEY, String.valueOf(outbound));
+
+        return new JsonObject()
+                .put(BROKER_ID_KEY, brokerId)
+                .put(CAPACITY_KEY, capacity)
+                .put(DOC_KEY, doc);
+    }
+
+    /**
+     * Generates the disk capacity of each log directory of a broker using JBOD storage. The log directories use the
+     * same paths as the log.dirs option in the broker configuration.
+     *
+     * @param storage   JBOD storage
+     * @param broker    ID of the broker
+     *
+     * @return  JsonObject with the log directories as keys and their capacity in MiB as values
+     */
+    private static JsonObject generateJbodDiskCapacity(JbodStorage storage, int broker) {
+        JsonObject disks = new JsonObject();
+
+        for (SingleVolumeStorage volume : storage.getVolumes()) {
+            String logDir = VolumeUtils.getDataVolumeMountPaths(volume, KafkaCluster.DATA_VOLUME_MOUNT_PATH).get(0).getMountPath()
+                    + "/kafka-log" + broker;
+            disks.put(logDir, String.valueOf(generateDiskCapacity(volume)));
+        }
+
+        return disks;
     }
 
     /**
@@ -13,6 +13,7 @@ import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.CustomResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.Resource;
@@ -61,6 +62,7 @@ import io.strimzi.operator.common.operator.resource.PodDisruptionBudgetOperator;
 import io.strimzi.operator.common.operator.resource.ServiceAccountOperator;
 import io.strimzi.operator.common.operator.resource.ServiceOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
+import io.strimzi.operator.common.operator.resource.StatusWriter;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.vertx.core.CompositeFuture;
@@ -81,7 +83,9 @@ import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -193,10 +197,48 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
      */
     public static Future<Void> createConnectorWatch(AbstractConnectOperator<KubernetesClient, KafkaConnect, KafkaConnectList, Resource<KafkaConnect>, KafkaConnectSpec, KafkaConnectStatus> connectOperator,
                                                     String watchNamespaceOrWildcard, Labels selectorLabels) {
+        return createConnectorWatch(connectOperator, watchNamespaceOrWildcard, ns -> true, selectorLabels);
+    }
+
+    /**
+     * Create a watch on {@code KafkaConnector} in the given {@code namespace} which ignores the events from namespaces
+     * not accepted by the namespace filter.
+     *
+     * @param connectOperator The operator for {@code KafkaConnect}.
+     * @param watchNamespaceOrWildcard The namespace to watch.
+     * @param namespaceFilter Filter for the namespaces of the received events.
+     * @param selectorLabels Selector labels for filtering the custom resources
+     *
+     * @return A future which completes when the watch has been set up.
+     */
+    public static Future<Void> createConnectorWatch(AbstractConnectOperator<KubernetesClient, KafkaConnect, KafkaConnectList, Resource<KafkaConnect>, KafkaConnectSpec, KafkaConnectStatus> connectOperator,
+                                                    String watchNamespaceOrWildcard, Predicate<String> namespaceFilter, Labels selectorLabels) {
+        return createConnectorWatch(connectOperator, watchNamespaceOrWildcard, namespaceFilter, selectorLabels, e -> {
+            if (e != null) {
+                throw new KubernetesClientException(e.getMessage());
+            }
+        }).map((Void) null);
+    }
+
+    /**
+     * Create a watch on {@code KafkaConnector} in the given {@code namespace} which ignores the events from namespaces
+     * not accepted by the namespace filter.
+     *
+     * @param connectOperator The operator for {@code KafkaConnect}.
+     * @param watchNamespaceOrWildcard The namespace to watch.
+     * @param namespaceFilter Filter for the namespaces of the received events.
+     * @param selectorLabels Selector labels for filtering the custom resources
+     * @param onClose Callback called when the watch is closed.
+     *
+     * @return A future which completes with the watch when it has been set up.
+     */
+    public static Future<Watch> createConnectorWatch(AbstractConnectOperator<KubernetesClient, KafkaConnect, KafkaConnectList, Resource<KafkaConnect>, KafkaConnectSpec, KafkaConnectStatus> connectOperator,
+                                                     String watchNamespaceOrWildcard, Predicate<String> namespaceFilter, Labels selectorLabels,
+                                                     Consumer<WatcherException> onClose) {
         Optional<LabelSelector> selector = (selectorLabels == null || selectorLabels.toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, selectorLabels.toMap()));
 
         return Util.async(connectOperator.vertx, () -> {
-            connectOperator.connectorOperator.watch(watchNamespaceOrWildcard, new Watcher<KafkaConnector>() {
+            return connectOperator.connectorOperator.watch(watchNamespaceOrWildcard, new Watcher<KafkaConnector>() {
                 @Override
                 public void eventReceived(Action action, KafkaConnector kafkaConnector) {
                     String connectorName = kafkaConnector.getMetadata().getName();
@@ -205,6 +247,11 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                     String connectName = kafkaConnector.getMetadata().getLabels() == null ? null : kafkaConnector.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL);
                     String connectNamespace = connectorNamespace;
 
+                    if (!namespaceFilter.test(connectorNamespace)) {
+                        LOGGER.traceOp("Ignoring {} event for {} {} in namespace {} which is not watched", action, connectorKind, connectorName, connectorNamespace);
+                        return;
+                    }
+
                     switch (action) {
                         case ADDED:
                         case DELETED:
@@ -218,7 +265,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                                             if (connect == null) {
                                                 Reconciliation r = new Reconciliation("connector-watch", connectOperator.kind(),
                                                         kafkaConnector.getMetadata().getNamespace(), connectName);
-                                                updateStatus(r, noConnectCluster(connectNamespace, connectName), kafkaConnector, connectOperator.connectorOperator);
+                                                updateStatus(r, noConnectCluster(connectNamespace, connectName), kafkaConnector, connectOperator.connectorOperator, connectOperator.statusWriter);
                                                 LOGGER.infoCr(r, "{} {} in namespace {} was {}, but Connect cluster {} does not exist", connectorKind, connectorName, connectorNamespace, action, connectName);
                                                 return Future.succeededFuture();
                                             } else {
@@ -232,7 +279,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                                                     return Future.succeededFuture();
                                                 } else if (connect.getSpec() != null && connect.getSpec().getReplicas() == 0)  {
                                                     LOGGER.infoCr(reconciliation, "{} {} in namespace {} was {}, but Connect cluster {} has 0 replicas", connectorKind, connectorName, connectorNamespace, action, connectName);
-                                                    updateStatus(reconciliation, zeroReplicas(connectNamespace, connectName), kafkaConnector, connectOperator.connectorOperator);
+                                                    updateStatus(reconciliation, zeroReplicas(connectNamespace, connectName), kafkaConnector, connectOperator.connectorOperator, connectOperator.statusWriter);
                                                     return Future.succeededFuture();
                                                 } else {
                                                     LOGGER.infoCr(reconciliation, "{} {} in namespace {} was {}", connectorKind, connectorName, connectorNamespace, action);
@@ -255,7 +302,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                                         new InvalidResourceException("Resource lacks label '"
                                                 + Labels.STRIMZI_CLUSTER_LABEL
                                                 + "': No connect cluster in which to create this connector."),
-                                        kafkaConnector, connectOperator.connectorOperator);
+                                        kafkaConnector, connectOperator.connectorOperator, connectOperator.statusWriter);
                             }
 
                             break;
@@ -269,13 +316,10 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
                 @Override
                 public void onClose(WatcherException e) {
-                    if (e != null) {
-                        throw new KubernetesClientException(e.getMessage());
-                    }
+                    onClose.accept(e);
                 }
             });
-            return null;
-        });
+        }, false);
     }
 
     public static boolean isUseResources(HasMetadata connect) {
@@ -492,6 +536,23 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     private boolean needsReconfiguring(Reconciliation reconciliation, String connectorName,
                                        KafkaConnectorSpec connectorSpec,
                                        Map<String, String> actual) {
+        Map<String, String> desired = desiredConnectorConfig(connectorName, connectorSpec);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debugCr(reconciliation, "Desired: {}", new TreeMap<>(desired));
+            LOGGER.debugCr(reconciliation, "Actual:  {}", new TreeMap<>(actual));
+        }
+        return !desired.equals(actual);
+    }
+
+    /**
+     * Builds the connector configuration in the same form as it is returned by the Connect REST API
+     *
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     *
+     * @return  Map with the desired connector configuration
+     */
+    protected static Map<String, String> desiredConnectorConfig(String connectorName, KafkaConnectorSpec connectorSpec) {
         Map<String, String> desired = new HashMap<>(connectorSpec.getConfig().size());
         // The actual which comes from Connect API includes tasks.max, connector.class and name,
         // which connectorSpec.getConfig() does not
@@ -503,11 +564,19 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         for (Map.Entry<String, Object> entry : connectorSpec.getConfig().entrySet()) {
             desired.put(entry.getKey(), entry.getValue() != null ? entry.getValue().toString() : null);
         }
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debugCr(reconciliation, "Desired: {}", new TreeMap<>(desired));
-            LOGGER.debugCr(reconciliation, "Actual:  {}", new TreeMap<>(actual));
-        }
-        return !desired.equals(actual);
+        return desired;
+    }
+
+    /**
+     * Computes the hash of a connector configuration. The hash does not depend on the order of the options, so the
+     * hash of the desired configuration can be compared with the hash of the configuration from the Connect REST API.
+     *
+     * @param config    The connector configuration
+     *
+     * @return  Hash of the configuration
+     */
+    protected static String connectorConfigHash(Map<String, ?> config) {
+        return Util.stringHash(new TreeMap<>(config).toString());
     }
 
     protected Future<Map<String, Object>> createOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
@@ -632,14 +701,13 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             .compose(ignored -> Future.succeededFuture());
     }
 
-    public static void updateStatus(Reconciliation reconciliation, Throwable error, KafkaConnector kafkaConnector2, CrdOperator<?, KafkaConnector, ?> connectorOperations) {
+    public static void updateStatus(Reconciliation reconciliation, Throwable error, KafkaConnector kafkaConnector2, CrdOperator<?, KafkaConnector, ?> connectorOperations, StatusWriter statusWriter) {
         KafkaConnectorStatus status = new KafkaConnectorStatus();
         StatusUtils.setStatusConditionAndObservedGeneration(kafkaConnector2, status, error);
         StatusDiff diff = new StatusDiff(kafkaConnector2.getStatus(), status);
         if (!diff.isEmpty()) {
-            KafkaConnector copy = new KafkaConnectorBuilder(kafkaConnector2).build();
-            copy.setStatus(status);
-            connectorOperations.updateStatusAsync(reconciliation, copy);
+            statusWriter.updateStatus(reconciliation, connectorOperations, kafkaConnector2.getMetadata().getNamespace(), kafkaConnector2.getMetadata().getName(), status,
+                (connector, connectorStatus) -> new KafkaConnectorBuilder(connector).withStatus(connectorStatus).build());
         }
     }
 
@@ -783,52 +851,13 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                                 Reconciliation reconciliation,
                                 S desiredStatus,
                                 BiFunction<T, S, T> copyWithStatus) {
-        Promise<Void> updateStatusPromise = Promise.promise();
-
-        resourceOperator.getAsync(resource.getMetadata().getNamespace(), resource.getMetadata().getName()).onComplete(getRes -> {
-            if (getRes.succeeded()) {
-                T fetchedResource = getRes.result();
-
-                if (fetchedResource != null) {
-                    if ((!(fetchedResource instanceof KafkaConnector))
-                            && (!(fetchedResource instanceof KafkaMirrorMaker2))
-                            && StatusUtils.isResourceV1alpha1(fetchedResource)) {
-                        LOGGER.warnCr(reconciliation, "{} {} needs to be upgraded from version {} to 'v1beta1' to use the status field",
-                                fetchedResource.getKind(), fetchedResource.getMetadata().getName(), fetchedResource.getApiVersion());
-                        updateStatusPromise.complete();
-                    } else {
-                        S currentStatus = fetchedResource.getStatus();
-
-                        StatusDiff ksDiff = new StatusDiff(currentStatus, desiredStatus);
-
-                        if (!ksDiff.isEmpty()) {
-                            T resourceWithNewStatus = copyWithStatus.apply(fetchedResource, desiredStatus);
-
-                            resourceOperator.updateStatusAsync(reconciliation, resourceWithNewStatus).onComplete(updateRes -> {
-                                if (updateRes.succeeded()) {
-                                    LOGGER.debugCr(reconciliation, "Completed status update");
-                                    updateStatusPromise.complete();
-                                } else {
-                                    LOGGER.errorCr(reconciliation, "Failed to update status", updateRes.cause());
-                                    updateStatusPromise.fail(updateRes.cause());
-                                }
-                            });
-                        } else {
-                            LOGGER.debugCr(reconciliation, "Status did not change");
-                            updateStatusPromise.complete();
-                        }
-                    }
-                } else {
-                    LOGGER.errorCr(reconciliation, "Current {} resource not found", resource.getKind());
-                    updateStatusPromise.fail("Current " + resource.getKind() + " resource not found");
-                }
-            } else {
-                LOGGER.errorCr(reconciliation, "Failed to get the current {} resource and its status", resource.getKind(), getRes.cause());
-                updateStatusPromise.fail(getRes.cause());
-            }
-        });
+        Predicate<T> statusSupported = fetchedResource -> fetchedResource instanceof KafkaConnector
+                || fetchedResource instanceof KafkaMirrorMaker2
+                || !StatusUtils.isResourceV1alpha1(fetchedResource);
 
-        return updateStatusPromise.future();
+        return statusWriter.updateStatus(reconciliation, resourceOperator, resource.getMetadata().getNamespace(), resource.getMetadata().getName(),
+                desiredStatus, copyWithStatus, statusSupported)
+                .mapEmpty();
     }
 
     Future<ReconcileResult<Secret>> kafkaConnectJmxSecret(Reconciliation reconciliation, String namespace, String name, KafkaConnectCluster connectCluster) {
@@ -5,7 +5,9 @@
 package io.strimzi.operator.cluster.operator.assembly;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.Node;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
@@ -14,6 +16,7 @@ import io.fabric8.kubernetes.api.model.PodTemplateSpec;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
 import io.fabric8.kubernetes.api.model.rbac.ClusterRoleBinding;
@@ -24,13 +27,22 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.openshift.api.model.Route;
 import io.strimzi.api.kafka.KafkaList;
+import io.strimzi.api.kafka.KafkaRebalanceList;
 import io.strimzi.api.kafka.model.CertAndKeySecretSource;
 import io.strimzi.api.kafka.model.CertificateAuthority;
 import io.strimzi.api.kafka.model.Constants;
+import io.strimzi.api.kafka.model.CruiseControlSpec;
+import io.strimzi.api.kafka.model.EntityOperatorSpec;
+import io.strimzi.api.kafka.model.EntityTopicOperatorSpec;
+import io.strimzi.api.kafka.model.EntityUserOperatorSpec;
 import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.KafkaRebalance;
+import io.strimzi.api.kafka.model.KafkaRebalanceBuilder;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.api.kafka.model.KafkaSpec;
+import io.strimzi.api.kafka.model.balancing.KafkaRebalanceMode;
+import io.strimzi.api.kafka.model.balancing.KafkaRebalanceState;
 import io.strimzi.api.kafka.model.listener.NodeAddressType;
 import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
 import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerConfigurationBroker;
@@ -68,10 +80,10 @@ import io.strimzi.operator.cluster.model.KafkaVersionChange;
 import io.strimzi.operator.cluster.model.ListenersUtils;
 import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.model.NodeUtils;
-import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.cluster.model.StorageDiff;
 import io.strimzi.operator.cluster.model.StorageUtils;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
+import io.strimzi.operator.cluster.model.cruisecontrol.Capacity;
 import io.strimzi.operator.cluster.operator.resource.ConcurrentDeletionException;
 import io.strimzi.operator.cluster.operator.resource.KafkaRoller;
 import io.strimzi.operator.cluster.operator.resource.KafkaSetOperator;
@@ -86,6 +98,7 @@ import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.ReconciliationProfiler;
 import io.strimzi.operator.common.MetricsAndLogging;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
@@ -106,6 +119,7 @@ import io.strimzi.operator.common.operator.resource.RoleOperator;
 import io.strimzi.operator.common.operator.resource.RouteOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
+import io.micrometer.core.instrument.Tags;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -122,6 +136,7 @@ import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
@@ -129,13 +144,20 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.function.Function;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static io.strimzi.operator.cluster.model.AbstractModel.ANCILLARY_CM_KEY_LOG_CONFIG;
 import static io.strimzi.operator.cluster.model.AbstractModel.ANNO_STRIMZI_IO_STORAGE;
@@ -158,6 +180,12 @@ import static java.util.Collections.emptyMap;
 public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesClient, Kafka, KafkaList, Resource<Kafka>, KafkaSpec, KafkaStatus> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaAssemblyOperator.class.getName());
 
+    /**
+     * Annotation of the Kafka StatefulSet with the brokers added by a scale-up for which the add-brokers KafkaRebalance
+     * was not created yet
+     */
+    /* test */ static final String ANNO_STRIMZI_IO_PENDING_ADD_BROKERS = Annotations.STRIMZI_DOMAIN + "pending-add-brokers";
+
     private final long operationTimeoutMs;
     private final String operatorNamespace;
     private final Labels operatorNamespaceLabels;
@@ -177,8 +205,11 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final StorageClassOperator storageClassOperator;
     private final NodeOperator nodeOperator;
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> crdOperator;
+    private final CrdOperator<KubernetesClient, KafkaRebalance, KafkaRebalanceList> kafkaRebalanceOperator;
     private final ZookeeperScalerProvider zkScalerProvider;
     private final AdminClientProvider adminClientProvider;
+    private final ModelCache modelCache;
+    private final int pvcReconciliationConcurrency;
 
     /**
      * @param vertx The Vertx instance
@@ -211,9 +242,31 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         this.ingressV1Beta1Operations = supplier.ingressV1Beta1Operations;
         this.storageClassOperator = supplier.storageClassOperations;
         this.crdOperator = supplier.kafkaOperator;
+        this.kafkaRebalanceOperator = supplier.kafkaRebalanceOperator;
+        this.modelCache = new ModelCache(kind(), metrics);
         this.nodeOperator = supplier.nodeOperator;
         this.zkScalerProvider = supplier.zkScalerProvider;
         this.adminClientProvider = supplier.adminClientProvider;
+        // The PVCs are reconciled in parallel using the same limit as the operations thread pool
+        this.pvcReconciliationConcurrency = Math.max(1, config.getOperationsThreadPoolSize());
+    }
+
+    /**
+     * @param clusterName   Name of the Kafka cluster
+     *
+     * @return  Name of the KafkaRebalance which moves the replicas to the brokers added by scaling up
+     */
+    /* test */ static String addBrokersRebalanceName(String clusterName) {
+        return clusterName + "-add-brokers";
+    }
+
+    /**
+     * @param clusterName   Name of the Kafka cluster
+     *
+     * @return  Name of the KafkaRebalance which moves the replicas off the brokers removed by scaling down
+     */
+    /* test */ static String removeBrokersRebalanceName(String clusterName) {
+        return clusterName + "-remove-brokers";
     }
 
     @Override
@@ -255,111 +308,147 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         return createOrUpdatePromise.future();
     }
 
+    /**
+     * Runs a reconciliation step and records it in the timeline of the reconciliation.
+     *
+     * @param state         Reconciliation state
+     * @param step          Name of the reconciliation step
+     * @param stepSupplier  Supplier which starts the reconciliation step
+     *
+     * @return  Future which completes when the reconciliation step completes
+     */
+    private Future<ReconciliationState> step(ReconciliationState state, String step, Supplier<Future<ReconciliationState>> stepSupplier) {
+        return ReconciliationProfiler.profile(state.reconciliation, ReconciliationProfiler.STEP, step, stepSupplier);
+    }
+
+    /**
+     * Runs a reconciliation step, records it in the timeline of the reconciliation and records its duration in the
+     * reconciliation step timer tagged with the name of the step.
+     *
+     * @param state         Reconciliation state
+     * @param step          Name of the reconciliation step
+     * @param stepSupplier  Supplier which starts the reconciliation step
+     *
+     * @return  Future which completes when the reconciliation step completes
+     */
+    private Future<ReconciliationState> timedStep(ReconciliationState state, String step, Supplier<Future<ReconciliationState>> stepSupplier) {
+        long startTime = System.nanoTime();
+
+        return step(state, step, stepSupplier)
+                .onComplete(res -> metrics.timer(METRICS_PREFIX + "reconciliation.step.duration",
+                                "The time needed to run the individual steps of the Kafka reconciliation",
+                                Tags.of("kind", kind(), "step", step))
+                        .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS));
+    }
+
     Future<Void> reconcile(ReconciliationState reconcileState)  {
         Promise<Void> chainPromise = Promise.promise();
 
         reconcileState.initialStatus()
-                .compose(state -> state.reconcileCas(this::dateSupplier))
-                .compose(state -> state.clusterOperatorSecret(this::dateSupplier))
-                .compose(state -> state.getKafkaClusterDescription())
-                .compose(state -> state.prepareVersionChange())
+                .compose(state -> timedStep(state, "reconcileCas", () -> state.reconcileCas(this::dateSupplier)))
+                .compose(state -> step(state, "clusterOperatorSecret", () -> state.clusterOperatorSecret(this::dateSupplier)))
+                .compose(state -> step(state, "getKafkaClusterDescription", () -> state.getKafkaClusterDescription()))
+                .compose(state -> step(state, "kafkaRebalanceBeforeScaleDown", () -> state.kafkaRebalanceBeforeScaleDown()))
+                .compose(state -> step(state, "kafkaRebalanceBeforeScaleUp", () -> state.kafkaRebalanceBeforeScaleUp()))
+                .compose(state -> step(state, "prepareVersionChange", () -> state.prepareVersionChange()))
                 // Roll everything if a new CA is added to the trust store.
-                .compose(state -> state.rollingUpdateForNewCaKey())
-                .compose(state -> state.getZookeeperDescription())
-                .compose(state -> state.zkModelWarnings())
-                .compose(state -> state.zkManualPodCleaning())
-                .compose(state -> state.zkNetPolicy())
-                .compose(state -> state.zkManualRollingUpdate())
-                .compose(state -> state.zkVersionChange())
-                .compose(state -> state.zookeeperServiceAccount())
-                .compose(state -> state.zkPvcs())
-                .compose(state -> state.zkService())
-                .compose(state -> state.zkHeadlessService())
-                .compose(state -> state.zkGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.zkAncillaryCm())
-                .compose(state -> state.zkNodesSecret())
-                .compose(state -> state.zkPodDisruptionBudget())
-                .compose(state -> state.zkStatefulSet())
-                .compose(state -> state.zkScalingDown())
-                .compose(state -> state.zkRollingUpdate())
-                .compose(state -> state.zkPodsReady())
-                .compose(state -> state.zkScalingUp())
-                .compose(state -> state.zkScalingCheck())
-                .compose(state -> state.zkServiceEndpointReadiness())
-                .compose(state -> state.zkHeadlessServiceEndpointReadiness())
-                .compose(state -> state.zkPersistentClaimDeletion())
-
-                .compose(state -> state.checkKafkaSpec())
-                .compose(state -> state.kafkaModelWarnings())
-                .compose(state -> state.kafkaManualPodCleaning())
-                .compose(state -> state.kafkaNetPolicy())
-                .compose(state -> state.kafkaManualRollingUpdate())
-                .compose(state -> state.kafkaPvcs())
-                .compose(state -> state.kafkaInitServiceAccount())
-                .compose(state -> state.kafkaInitClusterRoleBinding())
-                .compose(state -> state.kafkaScaleDown())
-                .compose(state -> state.kafkaServices())
-                .compose(state -> state.kafkaRoutes())
-                .compose(state -> state.kafkaIngresses())
-                .compose(state -> state.kafkaIngressesV1Beta1())
-                .compose(state -> state.kafkaInternalServicesReady())
-                .compose(state -> state.kafkaLoadBalancerServicesReady())
-                .compose(state -> state.kafkaNodePortServicesReady())
-                .compose(state -> state.kafkaRoutesReady())
-                .compose(state -> state.kafkaIngressesReady())
-                .compose(state -> state.kafkaIngressesV1Beta1Ready())
-                .compose(state -> state.kafkaGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.customListenerCertificates())
-                .compose(state -> state.kafkaAncillaryCm())
-                .compose(state -> state.kafkaBrokersSecret())
-                .compose(state -> state.kafkaJmxSecret())
-                .compose(state -> state.kafkaPodDisruptionBudget())
-                .compose(state -> state.kafkaStatefulSet())
-                .compose(state -> state.kafkaRollToAddOrRemoveVolumes())
-                .compose(state -> state.kafkaRollingUpdate())
-                .compose(state -> state.kafkaScaleUp())
-                .compose(state -> state.kafkaPodsReady())
-                .compose(state -> state.kafkaServiceEndpointReady())
-                .compose(state -> state.kafkaHeadlessServiceEndpointReady())
-                .compose(state -> state.kafkaGetClusterId())
-                .compose(state -> state.kafkaPersistentClaimDeletion())
+                .compose(state -> step(state, "rollingUpdateForNewCaKey", () -> state.rollingUpdateForNewCaKey()))
+                .compose(state -> step(state, "getZookeeperDescription", () -> state.getZookeeperDescription()))
+                .compose(state -> step(state, "zkModelWarnings", () -> state.zkModelWarnings()))
+                .compose(state -> step(state, "zkManualPodCleaning", () -> state.zkManualPodCleaning()))
+                .compose(state -> step(state, "zkNetPolicy", () -> state.zkNetPolicy()))
+                .compose(state -> step(state, "zkManualRollingUpdate", () -> state.zkManualRollingUpdate()))
+                .compose(state -> step(state, "zkVersionChange", () -> state.zkVersionChange()))
+                .compose(state -> step(state, "zookeeperServiceAccount", () -> state.zookeeperServiceAccount()))
+                .compose(state -> step(state, "zkPvcs", () -> state.zkPvcs()))
+                .compose(state -> step(state, "zkService", () -> state.zkService()))
+                .compose(state -> step(state, "zkHeadlessService", () -> state.zkHeadlessService()))
+                .compose(state -> timedStep(state, "zkGenerateCertificates", () -> state.zkGenerateCertificates(this::dateSupplier)))
+                .compose(state -> step(state, "zkAncillaryCm", () -> state.zkAncillaryCm()))
+                .compose(state -> step(state, "zkNodesSecret", () -> state.zkNodesSecret()))
+                .compose(state -> step(state, "zkPodDisruptionBudget", () -> state.zkPodDisruptionBudget()))
+                .compose(state -> step(state, "zkStatefulSet", () -> state.zkStatefulSet()))
+                .compose(state -> step(state, "zkScalingDown", () -> state.zkScalingDown()))
+                .compose(state -> step(state, "zkRollingUpdate", () -> state.zkRollingUpdate()))
+                .compose(state -> step(state, "zkPodsReady", () -> state.zkPodsReady()))
+                .compose(state -> step(state, "zkScalingUp", () -> state.zkScalingUp()))
+                .compose(state -> step(state, "zkScalingCheck", () -> state.zkScalingCheck()))
+                .compose(state -> step(state, "zkServiceEndpointReadiness", () -> state.zkServiceEndpointReadiness()))
+                .compose(state -> step(state, "zkHeadlessServiceEndpointReadiness", () -> state.zkHeadlessServiceEndpointReadiness()))
+                .compose(state -> step(state, "zkPersistentClaimDeletion", () -> state.zkPersistentClaimDeletion()))
+
+                .compose(state -> step(state, "checkKafkaSpec", () -> state.checkKafkaSpec()))
+                .compose(state -> step(state, "kafkaModelWarnings", () -> state.kafkaModelWarnings()))
+                .compose(state -> step(state, "kafkaManualPodCleaning", () -> state.kafkaManualPodCleaning()))
+                .compose(state -> step(state, "kafkaNetPolicy", () -> state.kafkaNetPolicy()))
+                .compose(state -> step(state, "kafkaManualRollingUpdate", () -> state.kafkaManualRollingUpdate()))
+                .compose(state -> step(state, "kafkaPvcs", () -> state.kafkaPvcs()))
+                .compose(state -> step(state, "kafkaInitServiceAccount", () -> state.kafkaInitServiceAccount()))
+                .compose(state -> step(state, "kafkaInitClusterRoleBinding", () -> state.kafkaInitClusterRoleBinding()))
+                .compose(state -> step(state, "kafkaScaleDown", () -> state.kafkaScaleDown()))
+                .compose(state -> step(state, "kafkaServices", () -> state.kafkaServices()))
+                .compose(state -> step(state, "kafkaRoutes", () -> state.kafkaRoutes()))
+                .compose(state -> step(state, "kafkaIngresses", () -> state.kafkaIngresses()))
+                .compose(state -> step(state, "kafkaIngressesV1Beta1", () -> state.kafkaIngressesV1Beta1()))
+                .compose(state -> step(state, "kafkaInternalServicesReady", () -> state.kafkaInternalServicesReady()))
+                .compose(state -> step(state, "kafkaLoadBalancerServicesReady", () -> state.kafkaLoadBalancerServicesReady()))
+                .compose(state -> step(state, "kafkaNodePortServicesReady", () -> state.kafkaNodePortServicesReady()))
+                .compose(state -> step(state, "kafkaRoutesReady", () -> state.kafkaRoutesReady()))
+                .compose(state -> step(state, "kafkaIngressesReady", () -> state.kafkaIngressesReady()))
+                .compose(state -> step(state, "kafkaIngressesV1Beta1Ready", () -> state.kafkaIngressesV1Beta1Ready()))
+                .compose(state -> timedStep(state, "kafkaGenerateCertificates", () -> state.kafkaGenerateCertificates(this::dateSupplier)))
+                .compose(state -> step(state, "customListenerCertificates", () -> state.customListenerCertificates()))
+                .compose(state -> step(state, "kafkaAncillaryCm", () -> state.kafkaAncillaryCm()))
+                .compose(state -> step(state, "kafkaBrokersSecret", () -> state.kafkaBrokersSecret()))
+                .compose(state -> step(state, "kafkaJmxSecret", () -> state.kafkaJmxSecret()))
+                .compose(state -> step(state, "kafkaPodDisruptionBudget", () -> state.kafkaPodDisruptionBudget()))
+                .compose(state -> step(state, "kafkaStatefulSet", () -> state.kafkaStatefulSet()))
+                .compose(state -> step(state, "kafkaRollToAddOrRemoveVolumes", () -> state.kafkaRollToAddOrRemoveVolumes()))
+                .compose(state -> step(state, "kafkaRollingUpdate", () -> state.kafkaRollingUpdate()))
+                .compose(state -> step(state, "kafkaScaleUp", () -> state.kafkaScaleUp()))
+                .compose(state -> step(state, "kafkaPodsReady", () -> state.kafkaPodsReady()))
+                .compose(state -> step(state, "kafkaRebalanceAfterScaleUp", () -> state.kafkaRebalanceAfterScaleUp()))
+                .compose(state -> step(state, "kafkaServiceEndpointReady", () -> state.kafkaServiceEndpointReady()))
+                .compose(state -> step(state, "kafkaHeadlessServiceEndpointReady", () -> state.kafkaHeadlessServiceEndpointReady()))
+                .compose(state -> step(state, "kafkaGetClusterId", () -> state.kafkaGetClusterId()))
+                .compose(state -> step(state, "kafkaPersistentClaimDeletion", () -> state.kafkaPersistentClaimDeletion()))
                 // This has to run after all possible rolling updates which might move the pods to different nodes
-                .compose(state -> state.kafkaNodePortExternalListenerStatus())
-                .compose(state -> state.kafkaCustomCertificatesToStatus())
-
-                .compose(state -> state.getEntityOperatorDescription())
-                .compose(state -> state.entityOperatorRole())
-                .compose(state -> state.entityTopicOperatorRole())
-                .compose(state -> state.entityUserOperatorRole())
-                .compose(state -> state.entityOperatorServiceAccount())
-                .compose(state -> state.entityOperatorTopicOpRoleBindingForRole())
-                .compose(state -> state.entityOperatorUserOpRoleBindingForRole())
-                .compose(state -> state.entityOperatorTopicOpAncillaryCm())
-                .compose(state -> state.entityOperatorUserOpAncillaryCm())
-                .compose(state -> state.entityOperatorSecret(this::dateSupplier))
-                .compose(state -> state.entityOperatorDeployment())
-                .compose(state -> state.entityOperatorReady())
-
-                .compose(state -> state.getCruiseControlDescription())
-                .compose(state -> state.cruiseControlNetPolicy())
-                .compose(state -> state.cruiseControlServiceAccount())
-                .compose(state -> state.cruiseControlAncillaryCm())
-                .compose(state -> state.cruiseControlSecret(this::dateSupplier))
-                .compose(state -> state.cruiseControlDeployment())
-                .compose(state -> state.cruiseControlService())
-                .compose(state -> state.cruiseControlReady())
-
-                .compose(state -> state.getKafkaExporterDescription())
-                .compose(state -> state.kafkaExporterServiceAccount())
-                .compose(state -> state.kafkaExporterSecret(this::dateSupplier))
-                .compose(state -> state.kafkaExporterDeployment())
-                .compose(state -> state.kafkaExporterReady())
-
-                .compose(state -> state.getJmxTransDescription())
-                .compose(state -> state.jmxTransServiceAccount())
-                .compose(state -> state.jmxTransConfigMap())
-                .compose(state -> state.jmxTransDeployment())
-                .compose(state -> state.jmxTransDeploymentReady())
+                .compose(state -> step(state, "kafkaNodePortExternalListenerStatus", () -> state.kafkaNodePortExternalListenerStatus()))
+                .compose(state -> step(state, "kafkaCustomCertificatesToStatus", () -> state.kafkaCustomCertificatesToStatus()))
+
+                .compose(state -> step(state, "getEntityOperatorDescription", () -> state.getEntityOperatorDescription()))
+                .compose(state -> step(state, "entityOperatorRole", () -> state.entityOperatorRole()))
+                .compose(state -> step(state, "entityTopicOperatorRole", () -> state.entityTopicOperatorRole()))
+                .compose(state -> step(state, "entityUserOperatorRole", () -> state.entityUserOperatorRole()))
+                .compose(state -> step(state, "entityOperatorServiceAccount", () -> state.entityOperatorServiceAccount()))
+                .compose(state -> step(state, "entityOperatorTopicOpRoleBindingForRole", () -> state.entityOperatorTopicOpRoleBindingForRole()))
+                .compose(state -> step(state, "entityOperatorUserOpRoleBindingForRole", () -> state.entityOperatorUserOpRoleBindingForRole()))
+                .compose(state -> step(state, "entityOperatorTopicOpAncillaryCm", () -> state.entityOperatorTopicOpAncillaryCm()))
+                .compose(state -> step(state, "entityOperatorUserOpAncillaryCm", () -> state.entityOperatorUserOpAncillaryCm()))
+                .compose(state -> step(state, "entityOperatorSecret", () -> state.entityOperatorSecret(this::dateSupplier)))
+                .compose(state -> step(state, "entityOperatorDeployment", () -> state.entityOperatorDeployment()))
+                .compose(state -> step(state, "entityOperatorReady", () -> state.entityOperatorReady()))
+
+                .compose(state -> step(state, "getCruiseControlDescription", () -> state.getCruiseControlDescription()))
+                .compose(state -> step(state, "cruiseControlNetPolicy", () -> state.cruiseControlNetPolicy()))
+                .compose(state -> step(state, "cruiseControlServiceAccount", () -> state.cruiseControlServiceAccount()))
+                .compose(state -> step(state, "cruiseControlAncillaryCm", () -> state.cruiseControlAncillaryCm()))
+                .compose(state -> step(state, "cruiseControlSecret", () -> state.cruiseControlSecret(this::dateSupplier)))
+                .compose(state -> step(state, "cruiseControlDeployment", () -> state.cruiseControlDeployment()))
+                .compose(state -> step(state, "cruiseControlService", () -> state.cruiseControlService()))
+                .compose(state -> step(state, "cruiseControlReady", () -> state.cruiseControlReady()))
+
+                .compose(state -> step(state, "getKafkaExporterDescription", () -> state.getKafkaExporterDescription()))
+                .compose(state -> step(state, "kafkaExporterServiceAccount", () -> state.kafkaExporterServiceAccount()))
+                .compose(state -> step(state, "kafkaExporterSecret", () -> state.kafkaExporterSecret(this::dateSupplier)))
+                .compose(state -> step(state, "kafkaExporterDeployment", () -> state.kafkaExporterDeployment()))
+                .compose(state -> step(state, "kafkaExporterReady", () -> state.kafkaExporterReady()))
+
+                .compose(state -> step(state, "getJmxTransDescription", () -> state.getJmxTransDescription()))
+                .compose(state -> step(state, "jmxTransServiceAccount", () -> state.jmxTransServiceAccount()))
+                .compose(state -> step(state, "jmxTransConfigMap", () -> state.jmxTransConfigMap()))
+                .compose(state -> step(state, "jmxTransDeployment", () -> state.jmxTransDeployment()))
+                .compose(state -> step(state, "jmxTransDeploymentReady", () -> state.jmxTransDeploymentReady()))
 
                 .map((Void) null)
                 .onComplete(chainPromise);
@@ -396,6 +485,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         private KafkaCluster kafkaCluster = null;
         private Integer kafkaCurrentReplicas = null;
+        private List<Integer> kafkaPendingAddedBrokers = emptyList();
+        /* test */ List<Integer> kafkaAddedBrokers = emptyList();
         /* test */ KafkaStatus kafkaStatus = new KafkaStatus();
 
         /* test */ ReconcileResult<StatefulSet> kafkaDiffs;
@@ -423,7 +514,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         /* test */ KafkaExporter kafkaExporter;
         /* test */ Deployment exporterDeployment = null;
 
-        /* test */ Set<String> fsResizingRestartRequest = new HashSet<>();
+        /* test */ Set<String> fsResizingRestartRequest = ConcurrentHashMap.newKeySet();
 
         // Certificate change indicators
         private boolean existingZookeeperCertsChanged = false;
@@ -456,49 +547,11 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
          * @return
          */
         Future<Void> updateStatus(KafkaStatus desiredStatus) {
-            Promise<Void> updateStatusPromise = Promise.promise();
-
-            crdOperator.getAsync(namespace, name).onComplete(getRes -> {
-                if (getRes.succeeded())    {
-                    Kafka kafka = getRes.result();
-
-                    if (kafka != null) {
-                        if ((Constants.RESOURCE_GROUP_NAME + "/" + Constants.V1ALPHA1).equals(kafka.getApiVersion()))   {
-                            LOGGER.warnCr(reconciliation, "The resource needs to be upgraded from version {} to 'v1beta1' to use the status field", kafka.getApiVersion());
-                            updateStatusPromise.complete();
-                        } else {
-                            KafkaStatus currentStatus = kafka.getStatus();
-
-                            StatusDiff ksDiff = new StatusDiff(currentStatus, desiredStatus);
-
-                            if (!ksDiff.isEmpty()) {
-                                Kafka resourceWithNewStatus = new KafkaBuilder(kafka).withStatus(desiredStatus).build();
+            BiFunction<Kafka, KafkaStatus, Kafka> copyWithStatus = (kafka, status) -> new KafkaBuilder(kafka).withStatus(status).build();
+            Predicate<Kafka> statusSupported = kafka -> !(Constants.RESOURCE_GROUP_NAME + "/" + Constants.V1ALPHA1).equals(kafka.getApiVersion());
 
-                                crdOperator.updateStatusAsync(reconciliation, resourceWithNewStatus).onComplete(updateRes -> {
-                                    if (updateRes.succeeded()) {
-                                        LOGGER.debugCr(reconciliation, "Completed status update");
-                                        updateStatusPromise.complete();
-                                    } else {
-                                        LOGGER.errorCr(reconciliation, "Failed to update status", updateRes.cause());
-                                        updateStatusPromise.fail(updateRes.cause());
-                                    }
-                                });
-                            } else {
-                                LOGGER.debugCr(reconciliation, "Status did not change");
-                                updateStatusPromise.complete();
-                            }
-                        }
-                    } else {
-                        LOGGER.errorCr(reconciliation, "Current Kafka resource not found");
-                        updateStatusPromise.fail("Current Kafka resource not found");
-                    }
-                } else {
-                    LOGGER.errorCr(reconciliation, "Failed to get the current Kafka resource and its status", getRes.cause());
-                    updateStatusPromise.fail(getRes.cause());
-                }
-            });
-
-            return updateStatusPromise.future();
+            return statusWriter.updateStatus(reconciliation, crdOperator, namespace, name, desiredStatus, copyWithStatus, statusSupported)
+                    .mapEmpty();
         }
 
         /**
@@ -1347,10 +1400,15 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         Future<ReconciliationState> zkScalingUpByOne(ZookeeperScaler zkScaler, int current, int desired) {
             if (current < desired) {
+                long start = System.nanoTime();
+
                 return zkSetOperations.scaleUp(reconciliation, namespace, zkCluster.getName(), current + 1)
                         .compose(ignore -> podOperations.readiness(reconciliation, namespace, zkCluster.getPodName(current), 1_000, operationTimeoutMs))
                         .compose(ignore -> zkScaler.scale(current + 1))
-                        .compose(ignore -> zkScalingUpByOne(zkScaler, current + 1, desired));
+                        .compose(ignore -> {
+                            LOGGER.infoCr(reconciliation, "Zookeeper scaled up from {} to {} replicas in {}ms", current, current + 1, (System.nanoTime() - start) / 1_000_000);
+                            return zkScalingUpByOne(zkScaler, current + 1, desired);
+                        });
             } else {
                 return Future.succeededFuture(this);
             }
@@ -1391,10 +1449,15 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         Future<ReconciliationState> zkScalingDownByOne(ZookeeperScaler zkScaler, int current, int desired) {
             if (current > desired) {
+                long start = System.nanoTime();
+
                 return podsReady(zkCluster, current - 1)
                         .compose(ignore -> zkScaler.scale(current - 1))
                         .compose(ignore -> zkSetOperations.scaleDown(reconciliation, namespace, zkCluster.getName(), current - 1))
-                        .compose(ignore -> zkScalingDownByOne(zkScaler, current - 1, desired));
+                        .compose(ignore -> {
+                            LOGGER.infoCr(reconciliation, "Zookeeper scaled down from {} to {} replicas in {}ms", current, current - 1, (System.nanoTime() - start) / 1_000_000);
+                            return zkScalingDownByOne(zkScaler, current - 1, desired);
+                        });
             } else {
                 return Future.succeededFuture(this);
             }
@@ -1458,6 +1521,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         if (sts != null && sts.getSpec() != null)   {
                             this.kafkaCurrentReplicas = sts.getSpec().getReplicas();
                             this.currentStsVersion = Annotations.annotations(sts).get(ANNO_STRIMZI_IO_KAFKA_VERSION);
+                            this.kafkaPendingAddedBrokers = pendingAddedBrokers(sts);
                             this.kafkaStsAlreadyExists = true;
                         }
 
@@ -1569,6 +1633,171 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             ));
         }
 
+        /**
+         * @return  True if the brokers should be rebalanced by Cruise Control when the cluster is scaled
+         */
+        private boolean rebalanceOnScaling() {
+            return kafkaAssembly.getSpec().getCruiseControl() != null
+                    && Annotations.booleanAnnotation(kafkaAssembly, Annotations.ANNO_STRIMZI_IO_REBALANCE_ON_SCALING, false);
+        }
+
+        private KafkaRebalance brokersRebalance(String rebalanceName, KafkaRebalanceMode mode, List<Integer> brokers) {
+            return new KafkaRebalanceBuilder()
+                    .withNewMetadata()
+                        .withName(rebalanceName)
+                        .withNamespace(namespace)
+                        .withLabels(singletonMap(Labels.STRIMZI_CLUSTER_LABEL, name))
+                        .withAnnotations(singletonMap(Annotations.ANNO_STRIMZI_IO_REBALANCE_AUTO_APPROVAL, "true"))
+                    .endMetadata()
+                    .withNewSpec()
+                        .withMode(mode)
+                        .withBrokers(brokers)
+                    .endSpec()
+                    .build();
+        }
+
+        /**
+         * @param sts   The current Kafka StatefulSet
+         *
+         * @return  The brokers added by a previous scale-up for which the add-brokers KafkaRebalance was not created yet
+         */
+        private List<Integer> pendingAddedBrokers(StatefulSet sts) {
+            String brokers = Annotations.stringAnnotation(sts, ANNO_STRIMZI_IO_PENDING_ADD_BROKERS, "");
+
+            try {
+                return Arrays.stream(brokers.split(","))
+                        .map(String::trim)
+                        .filter(broker -> !broker.isEmpty())
+                        .map(Integer::valueOf)
+                        .collect(Collectors.toList());
+            } catch (NumberFormatException e) {
+                LOGGER.warnCr(reconciliation, "Ignoring invalid value {} of the {} annotation", brokers, ANNO_STRIMZI_IO_PENDING_ADD_BROKERS);
+                return emptyList();
+            }
+        }
+
+        private boolean isRebalanceReady(KafkaRebalance rebalance) {
+            return rebalance.getStatus() != null
+                    && rebalance.getStatus().getConditions() != null
+                    && rebalance.getStatus().getConditions().stream()
+                        .anyMatch(condition -> KafkaRebalanceState.Ready.toString().equals(condition.getType())
+                                && "True".equals(condition.getStatus()));
+        }
+
+        /**
+         * When rebalancing on scaling is enabled, the scale-down of the Kafka brokers is postponed until Cruise Control
+         * moves all replicas off the removed brokers. The brokers are drained by a KafkaRebalance in the
+         * {@code remove-brokers} mode which is created and approved automatically. Until it is ready, the Kafka cluster
+         * keeps its current number of replicas.
+         *
+         * @return  Future with the reconciliation state
+         */
+        Future<ReconciliationState> kafkaRebalanceBeforeScaleDown() {
+            if (!rebalanceOnScaling() || kafkaCurrentReplicas == null || kafkaCurrentReplicas <= kafkaCluster.getReplicas()) {
+                return Future.succeededFuture(this);
+            }
+
+            List<Integer> removedBrokers = IntStream.range(kafkaCluster.getReplicas(), kafkaCurrentReplicas).boxed().collect(Collectors.toList());
+            String rebalanceName = removeBrokersRebalanceName(name);
+
+            return kafkaRebalanceOperator.getAsync(namespace, rebalanceName)
+                    .compose(rebalance -> {
+                        boolean sameBrokers = rebalance != null && rebalance.getSpec() != null
+                                && removedBrokers.equals(rebalance.getSpec().getBrokers());
+
+                        if (sameBrokers && isRebalanceReady(rebalance)) {
+                            LOGGER.infoCr(reconciliation, "Brokers {} were drained by KafkaRebalance {} and will be removed", removedBrokers, rebalanceName);
+                            return kafkaRebalanceOperator.reconcile(reconciliation, namespace, rebalanceName, null)
+                                    .map(this);
+                        }
+
+                        LOGGER.infoCr(reconciliation, "Scale-down of the Kafka brokers {} is postponed until they are drained by KafkaRebalance {}", removedBrokers, rebalanceName);
+                        kafkaCluster.setReplicas(kafkaCurrentReplicas);
+                        kafkaStatus.addCondition(StatusUtils.buildWarningCondition("ScaleDownPostponed",
+                                "The scale-down of the brokers " + removedBrokers + " is postponed until they are drained by KafkaRebalance " + rebalanceName + "."));
+
+                        if (sameBrokers) {
+                            return Future.succeededFuture(this);
+                        }
+
+                        // A rebalance for different brokers cannot be reused because its proposal is already computed
+                        return kafkaRebalanceOperator.reconcile(reconciliation, namespace, rebalanceName, null)
+                                .compose(ignored -> kafkaRebalanceOperator.reconcile(reconciliation, namespace, rebalanceName,
+                                        brokersRebalance(rebalanceName, KafkaRebalanceMode.REMOVE_BROKERS, removedBrokers)))
+                                .map(this);
+                    });
+        }
+
+        /**
+         * When rebalancing on scaling is enabled, the brokers added by a scale-up are kept in an annotation of the Kafka
+         * StatefulSet until the add-brokers KafkaRebalance is created for them. So a reconciliation which fails after
+         * the scale-up but before the KafkaRebalance is created does not lose them. The pending brokers are dropped
+         * once a KafkaRebalance for them exists.
+         *
+         * @return  Future with the reconciliation state
+         */
+        Future<ReconciliationState> kafkaRebalanceBeforeScaleUp() {
+            if (!rebalanceOnScaling()) {
+                return Future.succeededFuture(this);
+            }
+
+            int desiredReplicas = kafkaCluster.getReplicas();
+            Set<Integer> addedBrokers = kafkaPendingAddedBrokers.stream()
+                    .filter(broker -> broker < desiredReplicas)
+                    .collect(Collectors.toCollection(TreeSet::new));
+            String rebalanceName = addBrokersRebalanceName(name);
+
+            if (kafkaCurrentReplicas != null && kafkaCurrentReplicas > 0 && kafkaCurrentReplicas < desiredReplicas) {
+                IntStream.range(kafkaCurrentReplicas, desiredReplicas).forEach(addedBrokers::add);
+                this.kafkaAddedBrokers = new ArrayList<>(addedBrokers);
+
+                // The previous rebalance is deleted before the scale-up is recorded. So an existing rebalance for the
+                // pending brokers found by a later reconciliation was always created for this scale-up.
+                return kafkaRebalanceOperator.reconcile(reconciliation, namespace, rebalanceName, null)
+                        .map(this);
+            } else if (addedBrokers.isEmpty()) {
+                return Future.succeededFuture(this);
+            }
+
+            List<Integer> pendingBrokers = new ArrayList<>(addedBrokers);
+
+            return kafkaRebalanceOperator.getAsync(namespace, rebalanceName)
+                    .map(rebalance -> {
+                        if (rebalance != null && rebalance.getSpec() != null
+                                && pendingBrokers.equals(rebalance.getSpec().getBrokers())) {
+                            LOGGER.debugCr(reconciliation, "KafkaRebalance {} for the added Kafka brokers {} already exists", rebalanceName, pendingBrokers);
+                        } else {
+                            LOGGER.infoCr(reconciliation, "KafkaRebalance {} for the Kafka brokers {} added by a previous reconciliation was not created yet", rebalanceName, pendingBrokers);
+                            this.kafkaAddedBrokers = pendingBrokers;
+                        }
+
+                        return this;
+                    });
+        }
+
+        /**
+         * When rebalancing on scaling is enabled, Cruise Control moves replicas to the brokers added by the scale-up
+         * once they are ready. The replicas are moved by a KafkaRebalance in the {@code add-brokers} mode which is
+         * created and approved automatically.
+         *
+         * @return  Future with the reconciliation state
+         */
+        Future<ReconciliationState> kafkaRebalanceAfterScaleUp() {
+            if (!rebalanceOnScaling() || kafkaAddedBrokers.isEmpty()) {
+                return Future.succeededFuture(this);
+            }
+
+            String rebalanceName = addBrokersRebalanceName(name);
+
+            LOGGER.infoCr(reconciliation, "Replicas will be moved to the added Kafka brokers {} by KafkaRebalance {}", kafkaAddedBrokers, rebalanceName);
+
+            // Any previous rebalance is replaced because its proposal was computed for different brokers
+            return kafkaRebalanceOperator.reconcile(reconciliation, namespace, rebalanceName, null)
+                    .compose(ignored -> kafkaRebalanceOperator.reconcile(reconciliation, namespace, rebalanceName,
+                            brokersRebalance(rebalanceName, KafkaRebalanceMode.ADD_BROKERS, kafkaAddedBrokers)))
+                    .map(this);
+        }
+
         Future<ReconciliationState> kafkaScaleDown() {
             return withVoid(kafkaSetOperations.scaleDown(reconciliation, namespace, kafkaCluster.getName(), kafkaCluster.getReplicas()));
         }
@@ -1763,14 +1992,18 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 .compose(compositeFuture -> {
                     LOGGER.debugCr(reconciliation, "Attempt to get clusterId");
                     Promise<ReconciliationState> resultPromise = Promise.promise();
+                    ReconciliationProfiler.Span span = ReconciliationProfiler.startSpan(reconciliation, ReconciliationProfiler.ADMIN_API, "describeCluster");
                     vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
                         future -> {
+                            span.start();
                             Admin kafkaAdmin = null;
+                            boolean succeeded = false;
                             try {
                                 String bootstrapHostname = KafkaResources.bootstrapServiceName(this.name) + "." + this.namespace + ".svc:" + KafkaCluster.REPLICATION_PORT;
                                 LOGGER.debugCr(reconciliation, "Creating AdminClient for clusterId using {}", bootstrapHostname);
                                 kafkaAdmin = adminClientProvider.createAdminClient(bootstrapHostname, compositeFuture.resultAt(0), compositeFuture.resultAt(1), "cluster-operator");
                                 kafkaStatus.setClusterId(kafkaAdmin.describeCluster().clusterId().get());
+                                succeeded = true;
                             } catch (KafkaException e) {
                                 LOGGER.warnCr(reconciliation, "Kafka exception getting clusterId {}", e.getMessage());
                             } catch (InterruptedException e) {
@@ -1781,6 +2014,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                 if (kafkaAdmin != null) {
                                     kafkaAdmin.close();
                                 }
+                                span.end(succeeded);
                             }
                             future.complete(this);
                         },
@@ -2484,59 +2718,123 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             return Integer.parseInt(podName.substring(podName.lastIndexOf("-") + 1));
         }
 
+        /**
+         * Reconciles the PVCs of the cluster and resizes them when their size changed. The existing PVCs are listed
+         * using a single label-selected call and patched against the listed state without reading them again. The
+         * Storage Classes are looked up only once for each reconciliation.
+         * The PVCs are reconciled in parallel with bounded concurrency. The pods using the PVCs waiting for the file
+         * system resizing are collected in fsResizingRestartRequest and restarted in the next rolling update.
+         *
+         * @param pvcs      Desired PVCs
+         * @param cluster   Model of the cluster using the PVCs
+         *
+         * @return  Future which completes when all PVCs are reconciled
+         */
         Future<ReconciliationState> maybeResizeReconcilePvcs(List<PersistentVolumeClaim> pvcs, AbstractModel cluster) {
-            List<Future> futures = new ArrayList<>(pvcs.size());
-
-            for (PersistentVolumeClaim desiredPvc : pvcs)  {
-                Promise<Void> resultPromise = Promise.promise();
-
-                pvcOperations.getAsync(namespace, desiredPvc.getMetadata().getName()).onComplete(res -> {
-                    if (res.succeeded())    {
-                        PersistentVolumeClaim currentPvc = res.result();
-
-                        if (currentPvc == null || currentPvc.getStatus() == null || !"Bound".equals(currentPvc.getStatus().getPhase())) {
-                            // This branch handles the following conditions:
-                            // * The PVC doesn't exist yet, we should create it
-                            // * The PVC is not Bound and we should reconcile it
-                            reconcilePvc(desiredPvc).onComplete(resultPromise);
-                        } else if (currentPvc.getStatus().getConditions().stream().anyMatch(cond -> "Resizing".equals(cond.getType()) && "true".equals(cond.getStatus().toLowerCase(Locale.ENGLISH))))  {
-                            // The PVC is Bound but it is already resizing => Nothing to do, we should let it resize
-                            LOGGER.debugCr(reconciliation, "The PVC {} is resizing, nothing to do", desiredPvc.getMetadata().getName());
-                            resultPromise.complete();
-                        } else if (currentPvc.getStatus().getConditions().stream().anyMatch(cond -> "FileSystemResizePending".equals(cond.getType()) && "true".equals(cond.getStatus().toLowerCase(Locale.ENGLISH))))  {
-                            // The PVC is Bound and resized but waiting for FS resizing => We need to restart the pod which is using it
-                            String podName = cluster.getPodName(getPodIndexFromPvcName(desiredPvc.getMetadata().getName()));
-                            fsResizingRestartRequest.add(podName);
-                            LOGGER.infoCr(reconciliation, "The PVC {} is waiting for file system resizing and the pod {} needs to be restarted.", desiredPvc.getMetadata().getName(), podName);
-                            resultPromise.complete();
-                        } else {
-                            // The PVC is Bound and resizing is not in progress => We should check if the SC supports resizing and check if size changed
-                            Long currentSize = StorageUtils.parseMemory(currentPvc.getSpec().getResources().getRequests().get("storage"));
-                            Long desiredSize = StorageUtils.parseMemory(desiredPvc.getSpec().getResources().getRequests().get("storage"));
-
-                            if (!currentSize.equals(desiredSize))   {
-                                // The sizes are different => we should resize (shrinking will be handled in StorageDiff, so we do not need to check that)
-                                resizePvc(currentPvc, desiredPvc).onComplete(resultPromise);
-                            } else  {
-                                // size didn't changed, just reconcile
-                                reconcilePvc(desiredPvc).onComplete(resultPromise);
-                            }
+            if (pvcs.isEmpty()) {
+                return Future.succeededFuture(this);
+            }
+
+            return pvcOperations.listAsync(namespace, cluster.getSelectorLabels())
+                    .compose(existingPvcs -> {
+                        Map<String, PersistentVolumeClaim> currentPvcs = new HashMap<>(existingPvcs.size());
+                        for (PersistentVolumeClaim pvc : existingPvcs) {
+                            currentPvcs.put(pvc.getMetadata().getName(), pvc);
+                        }
+
+                        Queue<PersistentVolumeClaim> pending = new ConcurrentLinkedQueue<>(pvcs);
+                        Map<String, Future<StorageClass>> storageClasses = new ConcurrentHashMap<>();
+                        int concurrency = Math.min(pvcReconciliationConcurrency, pvcs.size());
+
+                        List<Future> futures = new ArrayList<>(concurrency);
+                        for (int i = 0; i < concurrency; i++) {
+                            futures.add(reconcileNextPvc(pending, currentPvcs, storageClasses, cluster));
                         }
-                    } else {
-                        resultPromise.fail(res.cause());
-                    }
-                });
 
-                futures.add(resultPromise.future());
+                        return CompositeFuture.all(futures);
+                    })
+                    .map(i -> {
+                        List<String> podsToRestart = fsResizingRestartRequest.stream()
+                                .filter(podName -> podName.startsWith(cluster.getName() + "-"))
+                                .sorted()
+                                .collect(Collectors.toList());
+
+                        if (!podsToRestart.isEmpty()) {
+                            LOGGER.infoCr(reconciliation, "Pods {} will be restarted in a single rolling update to resize their file systems", podsToRestart);
+                        }
+
+                        return this;
+                    });
+        }
+
+        /**
+         * Takes the next pending PVC and reconciles it. Once it is reconciled, the next pending PVC is taken until
+         * there are no more pending PVCs.
+         */
+        private Future<Void> reconcileNextPvc(Queue<PersistentVolumeClaim> pending, Map<String, PersistentVolumeClaim> currentPvcs,
+                                              Map<String, Future<StorageClass>> storageClasses, AbstractModel cluster) {
+            PersistentVolumeClaim desiredPvc = pending.poll();
+
+            if (desiredPvc == null) {
+                return Future.succeededFuture();
             }
 
-            return withVoid(CompositeFuture.all(futures));
+            String pvcName = desiredPvc.getMetadata().getName();
+            // PVCs without the selector labels (e.g. created by older versions) are not listed and are fetched directly
+            Future<PersistentVolumeClaim> currentPvcFuture = currentPvcs.containsKey(pvcName)
+                    ? Future.succeededFuture(currentPvcs.get(pvcName))
+                    : pvcOperations.getAsync(namespace, pvcName);
+
+            return currentPvcFuture
+                    .compose(currentPvc -> maybeResizeReconcilePvc(currentPvc, desiredPvc, storageClasses, cluster))
+                    .compose(i -> reconcileNextPvc(pending, currentPvcs, storageClasses, cluster));
+        }
+
+        private Future<Void> maybeResizeReconcilePvc(PersistentVolumeClaim currentPvc, PersistentVolumeClaim desiredPvc,
+                                                     Map<String, Future<StorageClass>> storageClasses, AbstractModel cluster) {
+            if (currentPvc == null || currentPvc.getStatus() == null || !"Bound".equals(currentPvc.getStatus().getPhase())) {
+                // This branch handles the following conditions:
+                // * The PVC doesn't exist yet, we should create it
+                // * The PVC is not Bound and we should reconcile it
+                return reconcilePvc(currentPvc, desiredPvc);
+            } else if (currentPvc.getStatus().getConditions().stream().anyMatch(cond -> "Resizing".equals(cond.getType()) && "true".equals(cond.getStatus().toLowerCase(Locale.ENGLISH))))  {
+                // The PVC is Bound but it is already resizing => Nothing to do, we should let it resize
+                LOGGER.debugCr(reconciliation, "The PVC {} is resizing, nothing to do", desiredPvc.getMetadata().getName());
+                return Future.succeededFuture();
+            } else if (currentPvc.getStatus().getConditions().stream().anyMatch(cond -> "FileSystemResizePending".equals(cond.getType()) && "true".equals(cond.getStatus().toLowerCase(Locale.ENGLISH))))  {
+                // The PVC is Bound and resized but waiting for FS resizing => We need to restart the pod which is using it
+                String podName = cluster.getPodName(getPodIndexFromPvcName(desiredPvc.getMetadata().getName()));
+                fsResizingRestartRequest.add(podName);
+                LOGGER.infoCr(reconciliation, "The PVC {} is waiting for file system resizing and the pod {} needs to be restarted.", desiredPvc.getMetadata().getName(), podName);
+                return Future.succeededFuture();
+            } else {
+                // The PVC is Bound and resizing is not in progress => We should check if the SC supports resizing and check if size changed
+                Long currentSize = StorageUtils.parseMemory(currentPvc.getSpec().getResources().getRequests().get("storage"));
+                Long desiredSize = StorageUtils.parseMemory(desiredPvc.getSpec().getResources().getRequests().get("storage"));
+
+                if (!currentSize.equals(desiredSize))   {
+                    // The sizes are different => we should resize (shrinking will be handled in StorageDiff, so we do not need to check that)
+                    return resizePvc(currentPvc, desiredPvc, storageClasses);
+                } else  {
+                    // size didn't changed, just reconcile
+                    return reconcilePvc(currentPvc, desiredPvc);
+                }
+            }
         }
 
-        Future<Void> reconcilePvc(PersistentVolumeClaim desired)  {
+        /**
+         * Reconciles the PVC against its current state which was already listed or fetched, so that the PVC does not
+         * need to be read again. The PVC is patched only when it differs from the current state.
+         *
+         * @param current   Current PVC or null if it does not exist
+         * @param desired   Desired PVC
+         *
+         * @return  Future which completes when the PVC is reconciled
+         */
+        Future<Void> reconcilePvc(PersistentVolumeClaim current, PersistentVolumeClaim desired)  {
             Promise<Void> resultPromise = Promise.promise();
 
-            pvcOperations.reconcile(reconciliation, namespace, desired.getMetadata().getName(), desired).onComplete(pvcRes -> {
+            pvcOperations.reconcile(reconciliation, namespace, desired.getMetadata().getName(), current, desired).onComplete(pvcRes -> {
                 if (pvcRes.succeeded()) {
                     resultPromise.complete();
                 } else {
@@ -2547,13 +2845,14 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             return resultPromise.future();
         }
 
-        Future<Void> resizePvc(PersistentVolumeClaim current, PersistentVolumeClaim desired)  {
+        Future<Void> resizePvc(PersistentVolumeClaim current, PersistentVolumeClaim desired, Map<String, Future<StorageClass>> storageClasses)  {
             Promise<Void> resultPromise = Promise.promise();
 
             String storageClassName = current.getSpec().getStorageClassName();
 
             if (storageClassName != null && !storageClassName.isEmpty()) {
-                storageClassOperator.getAsync(storageClassName).onComplete(scRes -> {
+                // The Storage Class is looked up only once for all PVCs using it
+                storageClasses.computeIfAbsent(storageClassName, storageClassOperator::getAsync).onComplete(scRes -> {
                     if (scRes.succeeded()) {
                         StorageClass sc = scRes.result();
 
@@ -2567,7 +2866,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         } else  {
                             // Resizing supported by SC => We can reconcile the PVC to have it resized
                             LOGGER.infoCr(reconciliation, "Resizing PVC {} from {} to {}.", desired.getMetadata().getName(), current.getStatus().getCapacity().get("storage").getAmount(), desired.getSpec().getResources().getRequests().get("storage").getAmount());
-                            pvcOperations.reconcile(reconciliation, namespace, desired.getMetadata().getName(), desired).onComplete(pvcRes -> {
+                            pvcOperations.reconcile(reconciliation, namespace, desired.getMetadata().getName(), current, desired).onComplete(pvcRes -> {
                                 if (pvcRes.succeeded()) {
                                     resultPromise.complete();
                                 } else {
@@ -2729,6 +3028,12 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         customListenerCertificateThumbprints.toString());
             }
 
+            // Keeps the added brokers until the add-brokers KafkaRebalance is created for them
+            if (!kafkaAddedBrokers.isEmpty()) {
+                Annotations.annotations(kafkaSts).put(ANNO_STRIMZI_IO_PENDING_ADD_BROKERS,
+                        kafkaAddedBrokers.stream().map(String::valueOf).collect(Collectors.joining(",")));
+            }
+
             return kafkaSts;
         }
 
@@ -3086,33 +3391,45 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         }
 
         final Future<ReconciliationState> getEntityOperatorDescription() {
-            this.entityOperator = EntityOperator.fromCrd(reconciliation, kafkaAssembly, versions);
+            EntityOperatorSpec entityOperatorSpec = kafkaAssembly.getSpec().getEntityOperator();
 
-            if (entityOperator != null) {
-                EntityTopicOperator topicOperator = entityOperator.getTopicOperator();
-                EntityUserOperator userOperator = entityOperator.getUserOperator();
+            if (entityOperatorSpec != null) {
+                EntityTopicOperatorSpec topicOperatorSpec = entityOperatorSpec.getTopicOperator();
+                EntityUserOperatorSpec userOperatorSpec = entityOperatorSpec.getUserOperator();
 
                 return CompositeFuture.join(
-                            topicOperator == null ? Future.succeededFuture(null) :
-                                Util.metricsAndLogging(reconciliation, configMapOperations, kafkaAssembly.getMetadata().getNamespace(), topicOperator.getLogging(), null),
-                            userOperator == null ? Future.succeededFuture(null) :
-                                Util.metricsAndLogging(reconciliation, configMapOperations, kafkaAssembly.getMetadata().getNamespace(), userOperator.getLogging(), null))
+                            topicOperatorSpec == null ? Future.succeededFuture(null) :
+                                Util.metricsAndLogging(reconciliation, configMapOperations, kafkaAssembly.getMetadata().getNamespace(), topicOperatorSpec.getLogging(), null),
+                            userOperatorSpec == null ? Future.succeededFuture(null) :
+                                Util.metricsAndLogging(reconciliation, configMapOperations, kafkaAssembly.getMetadata().getNamespace(), userOperatorSpec.getLogging(), null))
                         .compose(res -> {
                             MetricsAndLogging toMetricsAndLogging = res.resultAt(0);
                             MetricsAndLogging uoMetricsAndLogging = res.resultAt(1);
 
-                            if (topicOperator != null)  {
-                                this.topicOperatorMetricsAndLogsConfigMap = topicOperator.generateMetricsAndLogConfigMap(toMetricsAndLogging);
-                            }
-
-                            if (userOperator != null)   {
-                                this.userOperatorMetricsAndLogsConfigMap = userOperator.generateMetricsAndLogConfigMap(uoMetricsAndLogging);
-                            }
-
-                            this.eoDeployment = entityOperator.generateDeployment(pfa.isOpenshift(), emptyMap(), imagePullPolicy, imagePullSecrets);
+                            CachedModel<EntityOperator> cached = modelCache.computeIfChanged(namespace, name, "EntityOperator",
+                                modelInputsHash(toMetricsAndLogging, uoMetricsAndLogging),
+                                () -> {
+                                    EntityOperator entityOperator = EntityOperator.fromCrd(reconciliation, kafkaAssembly, versions);
+                                    EntityTopicOperator topicOperator = entityOperator.getTopicOperator();
+                                    EntityUserOperator userOperator = entityOperator.getUserOperator();
+
+                                    ConfigMap topicOperatorCm = topicOperator == null ? null : topicOperator.generateMetricsAndLogConfigMap(toMetricsAndLogging);
+                                    ConfigMap userOperatorCm = userOperator == null ? null : userOperator.generateMetricsAndLogConfigMap(uoMetricsAndLogging);
+
+                                    return new CachedModel<>(entityOperator,
+                                            entityOperator.generateDeployment(pfa.isOpenshift(), emptyMap(), imagePullPolicy, imagePullSecrets),
+                                            topicOperatorCm, userOperatorCm);
+                                },
+                                CachedModel::copy);
+
+                            this.entityOperator = cached.model;
+                            this.topicOperatorMetricsAndLogsConfigMap = cached.configMaps.get(0);
+                            this.userOperatorMetricsAndLogsConfigMap = cached.configMaps.get(1);
+                            this.eoDeployment = cached.deployment;
                             return Future.succeededFuture(this);
                         });
             } else {
+                this.entityOperator = null;
                 return Future.succeededFuture(this);
             }
         }
@@ -3356,19 +3673,36 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         }
 
         /*test*/ final Future<ReconciliationState> getCruiseControlDescription() {
-            CruiseControl cruiseControl = CruiseControl.fromCrd(reconciliation, kafkaAssembly, versions);
+            CruiseControlSpec cruiseControlSpec = kafkaAssembly.getSpec().getCruiseControl();
 
-            if (cruiseControl != null) {
+            if (cruiseControlSpec != null) {
                 return Util.metricsAndLogging(reconciliation, configMapOperations, kafkaAssembly.getMetadata().getNamespace(),
-                        cruiseControl.getLogging(), cruiseControl.getMetricsConfigInCm())
+                        cruiseControlSpec.getLogging(), cruiseControlSpec.getMetricsConfig())
                         .compose(metricsAndLogging -> {
-                            ConfigMap logAndMetricsConfigMap = cruiseControl.generateMetricsAndLogConfigMap(metricsAndLogging);
-
-                            Map<String, String> annotations = singletonMap(CruiseControl.ANNO_STRIMZI_IO_LOGGING, logAndMetricsConfigMap.getData().get(ANCILLARY_CM_KEY_LOG_CONFIG));
-
-                            this.cruiseControlMetricsAndLogsConfigMap = logAndMetricsConfigMap;
-                            this.cruiseControl = cruiseControl;
-                            this.ccDeployment = cruiseControl.generateDeployment(pfa.isOpenshift(), annotations, imagePullPolicy, imagePullSecrets);
+                            // The capacity is generated from the storage and replicas actually used by the brokers
+                            // which do not have to match the Kafka CR (e.g. when the storage change is not allowed)
+                            Storage kafkaStorage = kafkaCluster != null ? kafkaCluster.getStorage() : kafkaAssembly.getSpec().getKafka().getStorage();
+                            int kafkaReplicas = kafkaCluster != null ? kafkaCluster.getReplicas() : kafkaAssembly.getSpec().getKafka().getReplicas();
+                            String capacity = new Capacity(kafkaAssembly.getSpec(), kafkaReplicas, kafkaStorage).generateCapacityConfig().encode();
+                            String inputsHash = modelInputsHash(metricsAndLogging);
+
+                            CachedModel<CruiseControl> cached = modelCache.computeIfChanged(namespace, name, "CruiseControl",
+                                inputsHash != null ? Util.stringHash(inputsHash + "/" + capacity) : null,
+                                () -> {
+                                    CruiseControl cruiseControl = CruiseControl.fromCrd(reconciliation, kafkaAssembly, versions, kafkaStorage, kafkaReplicas);
+                                    ConfigMap logAndMetricsConfigMap = cruiseControl.generateMetricsAndLogConfigMap(metricsAndLogging);
+
+                                    Map<String, String> annotations = singletonMap(CruiseControl.ANNO_STRIMZI_IO_LOGGING, logAndMetricsConfigMap.getData().get(ANCILLARY_CM_KEY_LOG_CONFIG));
+
+                                    return new CachedModel<>(cruiseControl,
+                                            cruiseControl.generateDeployment(pfa.isOpenshift(), annotations, imagePullPolicy, imagePullSecrets),
+                                            logAndMetricsConfigMap);
+                                },
+                                CachedModel::copy);
+
+                            this.cruiseControlMetricsAndLogsConfigMap = cached.configMaps.get(0);
+                            this.cruiseControl = cached.model;
+                            this.ccDeployment = cached.deployment;
 
                             return Future.succeededFuture(this);
                         });
@@ -3651,11 +3985,54 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         }
 
         private final Future<ReconciliationState> getKafkaExporterDescription() {
-            this.kafkaExporter = KafkaExporter.fromCrd(reconciliation, kafkaAssembly, versions);
-            this.exporterDeployment = kafkaExporter.generateDeployment(pfa.isOpenshift(), imagePullPolicy, imagePullSecrets);
+            CachedModel<KafkaExporter> cached = modelCache.computeIfChanged(namespace, name, "KafkaExporter",
+                modelInputsHash(),
+                () -> {
+                    KafkaExporter kafkaExporter = KafkaExporter.fromCrd(reconciliation, kafkaAssembly, versions);
+                    return new CachedModel<>(kafkaExporter, kafkaExporter.generateDeployment(pfa.isOpenshift(), imagePullPolicy, imagePullSecrets));
+                },
+                CachedModel::copy);
+
+            this.kafkaExporter = cached.model;
+            this.exporterDeployment = cached.deployment;
             return Future.succeededFuture(this);
         }
 
+        /**
+         * Computes the hash of the inputs of the models which depend only on the Kafka custom resource and on the
+         * external metrics and logging ConfigMaps. The hash is used to reuse the models from the model cache when
+         * nothing changed. Returns null when the generation of the Kafka custom resource is not known and the models
+         * should not be cached.
+         *
+         * @param metricsAndLoggings    External metrics and logging ConfigMaps used by the models
+         *
+         * @return  Hash of the model inputs or null when the models should not be cached
+         */
+        private String modelInputsHash(MetricsAndLogging... metricsAndLoggings) {
+            ObjectMeta metadata = kafkaAssembly.getMetadata();
+
+            if (metadata.getGeneration() == null) {
+                return null;
+            }
+
+            StringBuilder inputs = new StringBuilder()
+                    .append(metadata.getUid()).append('/')
+                    .append(metadata.getGeneration()).append('/')
+                    .append(metadata.getLabels()).append('/')
+                    .append(metadata.getAnnotations());
+
+            for (MetricsAndLogging metricsAndLogging : metricsAndLoggings) {
+                if (metricsAndLogging != null) {
+                    inputs.append('/').append(metricsAndLogging.getMetricsCm() == null ? null : metricsAndLogging.getMetricsCm().getData())
+                            .append('/').append(metricsAndLogging.getLoggingCm() == null ? null : metricsAndLogging.getLoggingCm().getData());
+                } else {
+                    inputs.append("/null");
+                }
+            }
+
+            return Util.stringHash(inputs.toString());
+        }
+
         Future<ReconciliationState> kafkaExporterServiceAccount() {
             return withVoid(serviceAccountOperations.reconcile(reconciliation, namespace,
                     KafkaExporter.containerServiceAccountName(name),
@@ -3784,14 +4161,54 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     }
 
     /**
-     * Deletes the ClusterRoleBinding which as a cluster-scoped resource cannot be deleted by the ownerReference
+     * Deletes the ClusterRoleBinding which as a cluster-scoped resource cannot be deleted by the ownerReference and
+     * drops the cached models and certificates of the deleted cluster
      *
      * @param reconciliation    The Reconciliation identification
      * @return                  Future indicating the result of the deletion
      */
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        modelCache.remove(reconciliation.namespace(), reconciliation.name());
+        for (String secretName : List.of(KafkaCluster.brokersSecretName(reconciliation.name()),
+                ZookeeperCluster.nodesSecretName(reconciliation.name()),
+                KafkaResources.clusterCaCertificateSecretName(reconciliation.name()),
+                KafkaResources.clusterCaKeySecretName(reconciliation.name()),
+                KafkaResources.clientsCaCertificateSecretName(reconciliation.name()),
+                KafkaResources.clientsCaKeySecretName(reconciliation.name()))) {
+            Ca.forgetCachedCerts(reconciliation.namespace(), secretName);
+        }
+
         return withIgnoreRbacError(reconciliation, clusterRoleBindingOperations.reconcile(reconciliation, KafkaResources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null)
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
     }
+
+    /**
+     * Model together with the Deployment and ConfigMaps generated from it, as stored in the model cache
+     *
+     * @param <M>   Type of the model
+     */
+    static class CachedModel<M> {
+        final M model;
+        final Deployment deployment;
+        final List<ConfigMap> configMaps;
+
+        CachedModel(M model, Deployment deployment, ConfigMap... configMaps) {
+            this.model = model;
+            this.deployment = deployment;
+            this.configMaps = Arrays.asList(configMaps);
+        }
+
+        /**
+         * Copies the generated resources, because they might be modified later during the reconciliation. The model
+         * itself is not modified after the resources are generated, so it can be shared.
+         *
+         * @return  Copy of the cached model
+         */
+        CachedModel<M> copy() {
+            return new CachedModel<>(model,
+                    deployment == null ? null : new DeploymentBuilder(deployment).build(),
+                    configMaps.stream().map(cm -> cm == null ? null : new ConfigMapBuilder(cm).build()).toArray(ConfigMap[]::new));
+        }
+    }
 }
@@ -127,6 +127,18 @@ public interface KafkaConnectApi {
      */
     Future<List<String>> list(String host, int port);
 
+    /**
+     * Make a {@code GET} request to {@code /connectors?expand=status&expand=info}. This returns the status and the
+     * configuration of all connectors using a single request.
+     * @param reconciliation The reconciliation
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     * @return A Future which completes with the result of the request. If the request was successful,
+     * this returns a map of the connector names to their expanded description with the {@code status} and
+     * {@code info} keys.
+     */
+    Future<Map<String, Map<String, Object>>> listExpanded(Reconciliation reconciliation, String host, int port);
+
     /**
      * Make a {@code GET} request to {@code /connector-plugins}.
      * @param reconciliation The reconciliation
@@ -44,6 +44,8 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     };
     public static final TypeReference<Map<String, String>> MAP_OF_STRINGS = new TypeReference<Map<String, String>>() {
     };
+    public static final TypeReference<Map<String, Map<String, Object>>> MAP_OF_TREES = new TypeReference<Map<String, Map<String, Object>>>() {
+    };
     public static final TypeReference<Map<String, Map<String, String>>> MAP_OF_MAP_OF_STRINGS = new TypeReference<Map<String, Map<String, String>>>() {
     };
     public static final TypeReference<Map<String, Map<String, List<String>>>> MAP_OF_MAP_OF_LIST_OF_STRING = new TypeReference<Map<String, Map<String, List<String>>>>() {
@@ -348,6 +350,11 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 }));
     }
 
+    @Override
+    public Future<Map<String, Map<String, Object>>> listExpanded(Reconciliation reconciliation, String host, int port) {
+        return doGet(reconciliation, host, port, "/connectors?expand=status&expand=info", Collections.singleton(200), MAP_OF_TREES);
+    }
+
     @Override
     public Future<List<ConnectorPlugin>> listConnectorPlugins(Reconciliation reconciliation, String host, int port) {
         String path = "/connector-plugins";
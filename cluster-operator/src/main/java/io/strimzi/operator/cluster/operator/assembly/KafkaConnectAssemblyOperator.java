@@ -17,6 +17,7 @@ import io.strimzi.api.kafka.KafkaConnectList;
 import io.strimzi.api.kafka.model.KafkaConnect;
 import io.strimzi.api.kafka.model.KafkaConnectResources;
 import io.strimzi.api.kafka.model.KafkaConnectSpec;
+import io.strimzi.api.kafka.model.status.KafkaConnectBuildStatus;
 import io.strimzi.api.kafka.model.status.KafkaConnectStatus;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.ClusterOperatorConfig;
@@ -43,8 +44,15 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
@@ -102,6 +110,8 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
     @Override
     protected Future<KafkaConnectStatus> createOrUpdate(Reconciliation reconciliation, KafkaConnect kafkaConnect) {
         BuildState buildState = new BuildState();
+        // The status of the last build is kept until a new build finishes
+        buildState.buildStatus = kafkaConnect.getStatus() != null ? kafkaConnect.getStatus().getBuild() : null;
         KafkaConnectCluster connect;
         KafkaConnectBuild build;
         KafkaConnectStatus kafkaConnectStatus = new KafkaConnectStatus();
@@ -135,13 +145,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                 })
                 .compose(i -> deploymentOperations.getAsync(namespace, connect.getName()))
                 .compose(deployment -> {
-                    if (deployment != null) {
-                        // Extract information from the current deployment. This is used to figure out if new build needs to be run or not.
-                        buildState.currentBuildRevision = Annotations.stringAnnotation(deployment.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null);
-                        buildState.currentImage = deployment.getSpec().getTemplate().getSpec().getContainers().get(0).getImage();
-                        buildState.forceRebuild = Annotations.hasAnnotation(deployment, Annotations.STRIMZI_IO_CONNECT_FORCE_REBUILD);
-                    }
-
+                    currentBuildState(buildState, deployment);
                     return Future.succeededFuture();
                 })
                 .compose(i -> connectBuild(reconciliation, namespace, build, buildState))
@@ -158,10 +162,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                 .compose(i -> kafkaConnectJmxSecret(reconciliation, namespace, kafkaConnect.getMetadata().getName(), connect))
                 .compose(i -> podDisruptionBudgetOperator.reconcile(reconciliation, namespace, connect.getName(), connect.generatePodDisruptionBudget()))
                 .compose(i -> {
-                    if (buildState.desiredBuildRevision != null) {
-                        annotations.put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, buildState.desiredBuildRevision);
-                    }
-
+                    addBuildAnnotations(annotations, buildState);
                     Deployment dep = connect.generateDeployment(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets);
 
                     if (buildState.desiredImage != null) {
@@ -183,6 +184,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
 
                     kafkaConnectStatus.setReplicas(connect.getReplicas());
                     kafkaConnectStatus.setLabelSelector(connect.getSelectorLabels().toSelectorString());
+                    kafkaConnectStatus.setBuild(build.getBuild() != null ? buildState.buildStatus : null);
 
                     if (reconciliationResult.succeeded())   {
                         createOrUpdatePromise.complete(kafkaConnectStatus);
@@ -261,8 +263,13 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                 LOGGER.infoCr(reconciliation, "Build configuration did not changed. Nothing new to build. Container image {} will be used.", buildState.currentImage);
                 buildState.desiredImage = buildState.currentImage;
                 buildState.desiredBuildRevision = newBuildRevision;
+                buildState.desiredPluginLayers = buildState.currentPluginLayers;
                 return Future.succeededFuture();
-            } else if (pfa.supportsS2I()) {
+            }
+
+            buildState.desiredPluginLayers = dockerfile.getPluginLayers();
+
+            if (pfa.supportsS2I()) {
                 // Revisions differ and we have S2I support => we are on OpenShift and should do a build
                 return openShiftBuild(reconciliation, namespace, connectBuild, buildState, dockerfile, newBuildRevision);
             } else {
@@ -371,7 +378,9 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                         ContainerStateTerminated state = pod.getStatus().getContainerStatuses().get(0).getState().getTerminated();
                         buildState.desiredImage = state.getMessage().trim();
                         buildState.desiredBuildRevision = newBuildRevision;
-                        LOGGER.infoCr(reconciliation, "Build completed successfully. New image is {}.", buildState.desiredImage);
+                        buildState.buildStatus = buildStatus(buildState, kubernetesBuildDurationSeconds(state));
+                        LOGGER.infoCr(reconciliation, "Build completed successfully. New image is {}. {} of {} connector plugin layers were unchanged.",
+                                buildState.desiredImage, buildState.buildStatus.getCachedPluginLayers(), buildState.buildStatus.getPluginLayers());
                         return Future.succeededFuture();
                     } else {
                         ContainerStateTerminated state = pod.getStatus().getContainerStatuses().get(0).getState().getTerminated();
@@ -493,8 +502,10 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
 
                             buildState.desiredImage = image.replace(tag, digest);
                             buildState.desiredBuildRevision = newBuildRevision;
+                            buildState.buildStatus = buildStatus(buildState, build.getStatus().getDuration() != null ? TimeUnit.NANOSECONDS.toSeconds(build.getStatus().getDuration()) : null);
 
-                            LOGGER.infoCr(reconciliation, "Build {} completed successfully. New image is {}.", buildState.currentBuildName, buildState.desiredImage);
+                            LOGGER.infoCr(reconciliation, "Build {} completed successfully. New image is {}. {} of {} connector plugin layers were unchanged.",
+                                    buildState.currentBuildName, buildState.desiredImage, buildState.buildStatus.getCachedPluginLayers(), buildState.buildStatus.getPluginLayers());
                             return Future.succeededFuture();
                         } else {
                             LOGGER.warnCr(reconciliation, "Build {} completed successfully. But the new container image was not found.", buildState.currentBuildName);
@@ -515,6 +526,83 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                 .mapEmpty();
     }
 
+    /**
+     * Calculates the duration of the build from the terminated state of the Kaniko builder container
+     *
+     * @param state     Terminated state of the builder container
+     *
+     * @return          Duration of the build in seconds or null if it cannot be determined
+     */
+    /*test*/ static Long kubernetesBuildDurationSeconds(ContainerStateTerminated state)  {
+        if (state.getStartedAt() == null || state.getFinishedAt() == null)  {
+            return null;
+        }
+
+        try {
+            return Duration.between(Instant.parse(state.getStartedAt()), Instant.parse(state.getFinishedAt())).getSeconds();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates the status of the finished build. The plugin layers which are the same as in the previous build are
+     * counted as cached, because the builder can take them from its layer cache.
+     *
+     * @param buildState        State object of the Kafka Connect build with the current and desired plugin layers
+     * @param durationSeconds   Duration of the build in seconds
+     *
+     * @return                  Status of the finished build
+     */
+    /*test*/ static KafkaConnectBuildStatus buildStatus(BuildState buildState, Long durationSeconds) {
+        List<String> currentLayers = buildState.currentPluginLayers != null ? buildState.currentPluginLayers : Collections.emptyList();
+
+        KafkaConnectBuildStatus status = new KafkaConnectBuildStatus();
+        status.setDurationSeconds(durationSeconds);
+        status.setPluginLayers(buildState.desiredPluginLayers.size());
+        status.setCachedPluginLayers((int) buildState.desiredPluginLayers.stream().filter(currentLayers::contains).count());
+
+        return status;
+    }
+
+    /**
+     * Extracts the information about the last build from the current Deployment. This is used to figure out if a new
+     * build needs to be run or not.
+     *
+     * @param buildState    Build state which should be updated
+     * @param deployment    Current Deployment or null if it does not exist
+     */
+    private static void currentBuildState(BuildState buildState, Deployment deployment) {
+        if (deployment == null) {
+            return;
+        }
+
+        buildState.currentBuildRevision = Annotations.stringAnnotation(deployment.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null);
+        buildState.currentImage = deployment.getSpec().getTemplate().getSpec().getContainers().get(0).getImage();
+        buildState.forceRebuild = Annotations.hasAnnotation(deployment, Annotations.STRIMZI_IO_CONNECT_FORCE_REBUILD);
+
+        String currentPluginLayers = Annotations.stringAnnotation(deployment.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_LAYERS, null);
+        if (currentPluginLayers != null && !currentPluginLayers.isEmpty()) {
+            buildState.currentPluginLayers = Arrays.asList(currentPluginLayers.split(","));
+        }
+    }
+
+    /**
+     * Adds the annotations with the revision and the plugin layers of the desired build to the pod template annotations
+     *
+     * @param annotations   Pod template annotations
+     * @param buildState    Build state with the desired build
+     */
+    private static void addBuildAnnotations(Map<String, String> annotations, BuildState buildState) {
+        if (buildState.desiredBuildRevision != null) {
+            annotations.put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, buildState.desiredBuildRevision);
+
+            if (buildState.desiredPluginLayers != null) {
+                annotations.put(Annotations.STRIMZI_IO_CONNECT_BUILD_LAYERS, String.join(",", buildState.desiredPluginLayers));
+            }
+        }
+    }
+
     /**
      * Utility class to held some helper states for the Kafka Connect Build. This helper class is used to pass the state
      * information around during the reconciliation. But also to make it easier to set the values from inside the lambdas.
@@ -526,5 +614,8 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
         public String desiredBuildRevision;
         public boolean forceRebuild = false;
         public String currentBuildName;
+        public List<String> currentPluginLayers;
+        public List<String> desiredPluginLayers;
+        public KafkaConnectBuildStatus buildStatus;
     }
 }
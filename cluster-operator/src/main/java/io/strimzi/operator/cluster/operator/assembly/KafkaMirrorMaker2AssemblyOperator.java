@@ -7,13 +7,21 @@ package io.strimzi.operator.cluster.operator.assembly;
 import java.io.Serializable;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 
 import io.fabric8.kubernetes.client.CustomResource;
 import io.strimzi.api.kafka.model.KafkaMirrorMaker2Spec;
@@ -70,6 +78,7 @@ import static io.strimzi.operator.common.Annotations.ANNO_STRIMZI_IO_RESTART_CON
 import static io.strimzi.operator.common.Annotations.ANNO_STRIMZI_IO_RESTART_CONNECTOR_TASK_PATTERN;
 import static io.strimzi.operator.common.Annotations.ANNO_STRIMZI_IO_RESTART_CONNECTOR_TASK_PATTERN_CONNECTOR;
 import static io.strimzi.operator.common.Annotations.ANNO_STRIMZI_IO_RESTART_CONNECTOR_TASK_PATTERN_TASK;
+import static java.util.Collections.emptyMap;
 
 /**
  * <p>Assembly operator for a "Kafka MirrorMaker 2.0" assembly, which manages:</p>
@@ -104,6 +113,8 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
     private static final String TRUSTSTORE_SUFFIX = ".truststore.p12";
     private static final String KEYSTORE_SUFFIX = ".keystore.p12";
     private static final String CONNECTORS_CONFIG_FILE = "/tmp/strimzi-mirrormaker2-connector.properties";
+    // Maximal number of mirrors which have their connectors reconciled at the same time
+    private static final int MAX_CONCURRENT_MIRRORS = 5;
 
     /**
      * @param vertx The Vertx instance
@@ -209,7 +220,11 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
     }
 
     /**
-     * Reconcile all the MirrorMaker 2.0 connectors selected by the given MirrorMaker 2.0 instance.
+     * Reconcile all the MirrorMaker 2.0 connectors selected by the given MirrorMaker 2.0 instance. The status and the
+     * configuration of all existing connectors are read using a single request. The connectors which have the desired
+     * configuration (compared using its hash) and state are not changed. The mirrors are reconciled in parallel with
+     * bounded concurrency.
+     *
      * @param reconciliation The reconciliation
      * @param kafkaMirrorMaker2 The MirrorMaker 2.0
      * @return A future, failed if any of the connectors could not be reconciled.
@@ -223,7 +238,8 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
         List<KafkaMirrorMaker2MirrorSpec> mirrors = ModelUtils.asListOrEmptyList(kafkaMirrorMaker2.getSpec().getMirrors());
         String host = KafkaMirrorMaker2Resources.qualifiedServiceName(mirrorMaker2Name, reconciliation.namespace());
         KafkaConnectApi apiClient = getKafkaConnectApi();
-        return apiClient.list(host, KafkaConnectCluster.REST_API_PORT).compose(deleteMirrorMaker2ConnectorNames -> {
+        return apiClient.listExpanded(reconciliation, host, KafkaConnectCluster.REST_API_PORT).compose(currentConnectors -> {
+            Set<String> deleteMirrorMaker2ConnectorNames = new HashSet<>(currentConnectors.keySet());
 
             for (Map.Entry<String, Function<KafkaMirrorMaker2MirrorSpec, KafkaMirrorMaker2ConnectorSpec>> connectorEntry : MIRRORMAKER2_CONNECTORS.entrySet()) {
                 deleteMirrorMaker2ConnectorNames.removeAll(mirrors.stream()
@@ -234,13 +250,48 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
             LOGGER.debugCr(reconciliation, "delete MirrorMaker 2.0 connectors: {}", deleteMirrorMaker2ConnectorNames);
             Stream<Future<Void>> deletionFutures = deleteMirrorMaker2ConnectorNames.stream()
                     .map(connectorName -> apiClient.delete(reconciliation, host, KafkaConnectCluster.REST_API_PORT, connectorName));
-            Stream<Future<Void>> createUpdateFutures = mirrors.stream()
-                    .map(mirror -> reconcileMirrorMaker2Connectors(reconciliation, host, apiClient, kafkaMirrorMaker2, mirror, mirrorMaker2Cluster, mirrorMaker2Status, desiredLogging));
+
+            Queue<KafkaMirrorMaker2MirrorSpec> pending = new ConcurrentLinkedQueue<>(mirrors);
+            Stream<Future<Void>> createUpdateFutures = IntStream.range(0, Math.min(MAX_CONCURRENT_MIRRORS, mirrors.size()))
+                    .mapToObj(i -> reconcileNextMirror(reconciliation, host, apiClient, kafkaMirrorMaker2, pending, currentConnectors, mirrorMaker2Cluster, mirrorMaker2Status));
+
             return CompositeFuture.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
-        });
+        })
+        .compose(i -> apiClient.updateConnectLoggers(reconciliation, host, KafkaConnectCluster.REST_API_PORT, desiredLogging, mirrorMaker2Cluster.getDefaultLogConfig()))
+        .map((Void) null);
     }
 
-    private Future<Void> reconcileMirrorMaker2Connectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, KafkaMirrorMaker2 mirrorMaker2, KafkaMirrorMaker2MirrorSpec mirror, KafkaMirrorMaker2Cluster mirrorMaker2Cluster, KafkaMirrorMaker2Status mirrorMaker2Status, String desiredLogging) {
+    /**
+     * Takes the next pending mirror and reconciles its connectors. Once they are reconciled, the next pending mirror is
+     * taken until there are no more pending mirrors. The duration of the reconciliation of each mirror is recorded in
+     * a metric.
+     */
+    private Future<Void> reconcileNextMirror(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, KafkaMirrorMaker2 mirrorMaker2,
+                                             Queue<KafkaMirrorMaker2MirrorSpec> pending, Map<String, Map<String, Object>> currentConnectors,
+                                             KafkaMirrorMaker2Cluster mirrorMaker2Cluster, KafkaMirrorMaker2Status mirrorMaker2Status) {
+        KafkaMirrorMaker2MirrorSpec mirror = pending.poll();
+
+        if (mirror == null) {
+            return Future.succeededFuture();
+        }
+
+        Timer.Sample sample = Timer.start(metrics.meterRegistry());
+
+        return reconcileMirrorMaker2Connectors(reconciliation, host, apiClient, mirrorMaker2, mirror, currentConnectors, mirrorMaker2Cluster, mirrorMaker2Status)
+                .onComplete(i -> sample.stop(mirrorReconciliationsTimer(reconciliation, mirror)))
+                .compose(i -> reconcileNextMirror(reconciliation, host, apiClient, mirrorMaker2, pending, currentConnectors, mirrorMaker2Cluster, mirrorMaker2Status));
+    }
+
+    private Timer mirrorReconciliationsTimer(Reconciliation reconciliation, KafkaMirrorMaker2MirrorSpec mirror) {
+        return metrics.timer(METRICS_PREFIX + "mirrormaker2.mirror.reconciliations.duration",
+                "The time the reconciliation of the connectors of a MirrorMaker 2.0 mirror takes to complete",
+                Tags.of(Tag.of("kind", kind()),
+                        Tag.of("namespace", reconciliation.namespace()),
+                        Tag.of("name", reconciliation.name()),
+                        Tag.of("mirror", mirror.getSourceCluster() + "->" + mirror.getTargetCluster())));
+    }
+
+    private Future<Void> reconcileMirrorMaker2Connectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, KafkaMirrorMaker2 mirrorMaker2, KafkaMirrorMaker2MirrorSpec mirror, Map<String, Map<String, Object>> currentConnectors, KafkaMirrorMaker2Cluster mirrorMaker2Cluster, KafkaMirrorMaker2Status mirrorMaker2Status) {
         String targetClusterAlias = mirror.getTargetCluster();
         String sourceClusterAlias = mirror.getSourceCluster();
         if (targetClusterAlias == null) {
@@ -279,11 +330,9 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
 
                         prepareMirrorMaker2ConnectorConfig(reconciliation, mirror, clusterMap.get(sourceClusterAlias), clusterMap.get(targetClusterAlias), connectorSpec, mirrorMaker2Cluster);
                         LOGGER.debugCr(reconciliation, "creating/updating connector {} config: {}", connectorName, asJson(reconciliation, connectorSpec).toString());
-                        return reconcileMirrorMaker2Connector(reconciliation, mirrorMaker2, apiClient, host, connectorName, connectorSpec, mirrorMaker2Status);
+                        return reconcileMirrorMaker2Connector(reconciliation, mirrorMaker2, apiClient, host, connectorName, connectorSpec, currentConnectors.get(connectorName), mirrorMaker2Status);
                     })                            
                     .collect(Collectors.toList()))
-                    .map((Void) null)
-                    .compose(i -> apiClient.updateConnectLoggers(reconciliation, host, KafkaConnectCluster.REST_API_PORT, desiredLogging, mirrorMaker2Cluster.getDefaultLogConfig()))
                     .map((Void) null);
     }
 
@@ -423,8 +472,24 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
         return securityProtocol;
     }
 
-    private Future<Void> reconcileMirrorMaker2Connector(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, KafkaConnectApi apiClient, String host, String connectorName, KafkaConnectorSpec connectorSpec, KafkaMirrorMaker2Status mirrorMaker2Status) {
-        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, mirrorMaker2)
+    private Future<Void> reconcileMirrorMaker2Connector(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, KafkaConnectApi apiClient, String host, String connectorName, KafkaConnectorSpec connectorSpec, Map<String, Object> currentConnector, KafkaMirrorMaker2Status mirrorMaker2Status) {
+        Future<ConnectorStatusAndConditions> connectorFuture;
+
+        if (currentConnector == null || !isConnectorConfigUpToDate(connectorName, connectorSpec, currentConnector)) {
+            LOGGER.debugCr(reconciliation, "Connector {} does not exist or does not have desired config", connectorName);
+            connectorFuture = createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec)
+                    .compose(createConnectorStatusAndConditions());
+        } else if (isConnectorStateUpToDate(connectorSpec, currentConnector)
+                && !hasRestartAnnotation(mirrorMaker2, connectorName)
+                && getRestartTaskAnnotationTaskID(mirrorMaker2, connectorName) < 0) {
+            // Nothing to change => the status from the list of connectors is used
+            LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config and state", connectorName);
+            connectorFuture = Future.succeededFuture(new ConnectorStatusAndConditions(connectorStatus(currentConnector)));
+        } else {
+            connectorFuture = maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, mirrorMaker2);
+        }
+
+        return connectorFuture
                 .onComplete(result -> {
                     if (result.succeeded()) {
                         mirrorMaker2Status.addConditions(result.result().conditions);
@@ -436,6 +501,39 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
                 }).compose(ignored -> Future.succeededFuture());
     }
 
+    /**
+     * Checks whether the connector has the desired configuration by comparing the hash of the desired configuration
+     * with the hash of the configuration from the expanded list of connectors.
+     */
+    /* test */ static boolean isConnectorConfigUpToDate(String connectorName, KafkaConnectorSpec connectorSpec, Map<String, Object> currentConnector) {
+        Object info = currentConnector.get("info");
+        Object config = info instanceof Map ? ((Map<?, ?>) info).get("config") : null;
+
+        if (!(config instanceof Map)) {
+            return false;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, ?> currentConfig = (Map<String, ?>) config;
+        return connectorConfigHash(desiredConnectorConfig(connectorName, connectorSpec)).equals(connectorConfigHash(currentConfig));
+    }
+
+    /**
+     * Checks whether the connector is running or paused as desired.
+     */
+    /* test */ static boolean isConnectorStateUpToDate(KafkaConnectorSpec connectorSpec, Map<String, Object> currentConnector) {
+        Object connector = connectorStatus(currentConnector).get("connector");
+        Object state = connector instanceof Map ? ((Map<?, ?>) connector).get("state") : null;
+
+        return Boolean.TRUE.equals(connectorSpec.getPause()) ? "PAUSED".equals(state) : "RUNNING".equals(state);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> connectorStatus(Map<String, Object> currentConnector) {
+        Object status = currentConnector.get("status");
+        return status instanceof Map ? (Map<String, Object>) status : emptyMap();
+    }
+
     private Future<Void> maybeUpdateMirrorMaker2Status(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, Throwable error) {
         KafkaMirrorMaker2Status status = new KafkaMirrorMaker2Status();
         if (error != null) {
@@ -8,6 +8,7 @@ import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.Resource;
@@ -22,6 +23,7 @@ import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.api.kafka.model.status.KafkaRebalanceStatus;
 import io.strimzi.api.kafka.model.status.KafkaRebalanceStatusBuilder;
 import io.strimzi.api.kafka.model.balancing.KafkaRebalanceAnnotation;
+import io.strimzi.api.kafka.model.balancing.KafkaRebalanceMode;
 import io.strimzi.api.kafka.model.balancing.KafkaRebalanceState;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.ClusterOperatorConfig;
@@ -62,6 +64,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -191,11 +195,43 @@ public class KafkaRebalanceAssemblyOperator
      * @return A future which completes when the watch has been set up.
      */
     public Future<Void> createRebalanceWatch(String watchNamespaceOrWildcard) {
+        return createRebalanceWatch(watchNamespaceOrWildcard, ns -> true);
+    }
 
+    /**
+     * Create a watch on {@code KafkaRebalance} in the given {@code watchNamespaceOrWildcard} which ignores the events
+     * from namespaces not accepted by the namespace filter.
+     *
+     * @param watchNamespaceOrWildcard The namespace to watch, or "*" to watch all namespaces.
+     * @param namespaceFilter Filter for the namespaces of the received events.
+     * @return A future which completes when the watch has been set up.
+     */
+    public Future<Void> createRebalanceWatch(String watchNamespaceOrWildcard, Predicate<String> namespaceFilter) {
+        return createRebalanceWatch(watchNamespaceOrWildcard, namespaceFilter, e -> {
+            if (e != null) {
+                throw new KubernetesClientException(e.getMessage());
+            }
+        }).map((Void) null);
+    }
+
+    /**
+     * Create a watch on {@code KafkaRebalance} in the given {@code watchNamespaceOrWildcard} which ignores the events
+     * from namespaces not accepted by the namespace filter.
+     *
+     * @param watchNamespaceOrWildcard The namespace to watch, or "*" to watch all namespaces.
+     * @param namespaceFilter Filter for the namespaces of the received events.
+     * @param onClose Callback called when the watch is closed.
+     * @return A future which completes with the watch when it has been set up.
+     */
+    public Future<Watch> createRebalanceWatch(String watchNamespaceOrWildcard, Predicate<String> namespaceFilter, Consumer<WatcherException> onClose) {
         return Util.async(this.vertx, () -> {
-            kafkaRebalanceOperator.watch(watchNamespaceOrWildcard, selector(), new Watcher<KafkaRebalance>() {
+            return kafkaRebalanceOperator.watch(watchNamespaceOrWildcard, selector(), new Watcher<KafkaRebalance>() {
                 @Override
                 public void eventReceived(Action action, KafkaRebalance kafkaRebalance) {
+                    if (!namespaceFilter.test(kafkaRebalance.getMetadata().getNamespace())) {
+                        return;
+                    }
+
                     Reconciliation reconciliation = new Reconciliation("kafkarebalance-watch", kafkaRebalance.getKind(),
                             kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName());
 
@@ -210,14 +246,11 @@ public class KafkaRebalanceAssemblyOperator
 
                 @Override
                 public void onClose(WatcherException e) {
-                    if (e != null) {
-                        throw new KubernetesClientException(e.getMessage());
-                    }
+                    onClose.accept(e);
                 }
 
             });
-            return null;
-        });
+        }, false);
     }
 
     /**
@@ -298,13 +331,17 @@ public class KafkaRebalanceAssemblyOperator
 
             StatusDiff diff = new StatusDiff(kafkaRebalance.getStatus(), desiredStatus);
             if (!diff.isEmpty()) {
-                return kafkaRebalanceOperator
-                        .updateStatusAsync(reconciliation, new KafkaRebalanceBuilder(kafkaRebalance).withStatus(desiredStatus).build());
+                return statusWriter.updateStatus(reconciliation, kafkaRebalanceOperator, kafkaRebalance, desiredStatus,
+                        KafkaRebalanceAssemblyOperator::copyWithStatus);
             }
         }
         return Future.succeededFuture(kafkaRebalance);
     }
 
+    private static KafkaRebalance copyWithStatus(KafkaRebalance kafkaRebalance, KafkaRebalanceStatus status) {
+        return new KafkaRebalanceBuilder(kafkaRebalance).withStatus(status).build();
+    }
+
     private RebalanceOptions.RebalanceOptionsBuilder convertRebalanceSpecToRebalanceOptions(KafkaRebalanceSpec kafkaRebalanceSpec) {
 
         RebalanceOptions.RebalanceOptionsBuilder rebalanceOptionsBuilder = new RebalanceOptions.RebalanceOptionsBuilder();
@@ -333,6 +370,12 @@ public class KafkaRebalanceAssemblyOperator
         if (kafkaRebalanceSpec.getReplicaMovementStrategies() != null) {
             rebalanceOptionsBuilder.withReplicaMovementStrategies(kafkaRebalanceSpec.getReplicaMovementStrategies());
         }
+        if (kafkaRebalanceSpec.getMode() != null) {
+            rebalanceOptionsBuilder.withMode(kafkaRebalanceSpec.getMode());
+        }
+        if (kafkaRebalanceSpec.getBrokers() != null) {
+            rebalanceOptionsBuilder.withBrokers(kafkaRebalanceSpec.getBrokers());
+        }
 
         return rebalanceOptionsBuilder;
 
@@ -373,7 +416,11 @@ public class KafkaRebalanceAssemblyOperator
                                                         rebalanceStateConditionType(updatedKafkaRebalance.getStatus()),
                                                         ANNO_STRIMZI_IO_REBALANCE,
                                                         rawRebalanceAnnotation(updatedKafkaRebalance));
-                                                if (hasRebalanceAnnotation(updatedKafkaRebalance)) {
+                                                // The status writer re-reads the resource when the write of the status fails with
+                                                // a conflict. Only the annotation of the resource this reconciliation acted on is
+                                                // removed, an annotation changed in the meantime is kept for the next reconciliation.
+                                                if (hasRebalanceAnnotation(currentKafkaRebalance)
+                                                        && rawRebalanceAnnotation(currentKafkaRebalance).equals(rawRebalanceAnnotation(updatedKafkaRebalance))) {
                                                     LOGGER.debugCr(reconciliation, "Removing annotation {}={}",
                                                             ANNO_STRIMZI_IO_REBALANCE,
                                                             rawRebalanceAnnotation(updatedKafkaRebalance));
@@ -812,6 +859,10 @@ public class KafkaRebalanceAssemblyOperator
                                                          RebalanceOptions.RebalanceOptionsBuilder rebalanceOptionsBuilder) {
         switch (rebalanceAnnotation) {
             case none:
+                if (Annotations.booleanAnnotation(kafkaRebalance, Annotations.ANNO_STRIMZI_IO_REBALANCE_AUTO_APPROVAL, false)) {
+                    LOGGER.infoCr(reconciliation, "Proposal approved automatically because of annotation {}", Annotations.ANNO_STRIMZI_IO_REBALANCE_AUTO_APPROVAL);
+                    return requestRebalance(reconciliation, host, apiClient, kafkaRebalance, false, rebalanceOptionsBuilder);
+                }
                 LOGGER.debugCr(reconciliation, "No {} annotation set", ANNO_STRIMZI_IO_REBALANCE);
                 return configMapOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName()).compose(loadmap -> Future.succeededFuture(new MapAndStatus<>(loadmap, buildRebalanceStatusFromPreviousStatus(kafkaRebalance.getStatus(), validate(reconciliation, kafkaRebalance)))));
             case approve:
@@ -1045,6 +1096,14 @@ public class KafkaRebalanceAssemblyOperator
                         return updateStatus(reconciliation, kafkaRebalance, new KafkaRebalanceStatus(),
                                 new InvalidResourceException("Kafka resource lacks 'cruiseControl' declaration "
                                         + ": No deployed Cruise Control for doing a rebalance.")).mapEmpty();
+                    } else if (kafkaRebalance.getSpec() != null
+                            && kafkaRebalance.getSpec().getMode() != null
+                            && kafkaRebalance.getSpec().getMode() != KafkaRebalanceMode.FULL
+                            && (kafkaRebalance.getSpec().getBrokers() == null || kafkaRebalance.getSpec().getBrokers().isEmpty())) {
+                        LOGGER.warnCr(reconciliation, "KafkaRebalance in mode '{}' lacks the list of brokers.", kafkaRebalance.getSpec().getMode().toValue());
+                        return updateStatus(reconciliation, kafkaRebalance, new KafkaRebalanceStatus(),
+                                new InvalidResourceException("The 'brokers' list is required when using the rebalance mode '"
+                                        + kafkaRebalance.getSpec().getMode().toValue() + "'.")).mapEmpty();
                     }
 
                     CruiseControlApi apiClient = cruiseControlClientProvider();
@@ -1052,6 +1111,11 @@ public class KafkaRebalanceAssemblyOperator
                     // get latest KafkaRebalance state as it may have changed
                     return kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
                         .compose(currentKafkaRebalance -> {
+                            if (currentKafkaRebalance == null) {
+                                LOGGER.debugCr(reconciliation, "{} {} in namespace {} was deleted", kind(), kafkaRebalance.getMetadata().getName(), clusterNamespace);
+                                return Future.succeededFuture();
+                            }
+
                             KafkaRebalanceStatus kafkaRebalanceStatus = currentKafkaRebalance.getStatus();
                             KafkaRebalanceState currentState;
                             // cluster rebalance is new or it is in one of the others states
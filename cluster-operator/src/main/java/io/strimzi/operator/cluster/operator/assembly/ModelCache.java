@@ -0,0 +1,131 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Cache for the desired state generated from the custom resources. The cached values are identified by the namespace
+ * and name of the custom resource and by the component they belong to. Each value is stored together with a hash of
+ * all inputs used to generate it (for example the generation of the custom resource and the content of the external
+ * logging and metrics ConfigMaps). When the inputs did not change, the cached value is reused instead of generating
+ * it again.
+ *
+ * The cached values are always copied before being returned, because the desired state can be modified by the
+ * reconciliation after it was generated.
+ */
+public class ModelCache {
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final String kind;
+    private final MetricsProvider metrics;
+    private final Map<String, Entry<?>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the model cache
+     *
+     * @param kind      Kind of the custom resources for which the models are cached (used for metrics)
+     * @param metrics   Metrics provider used for the cache-hit metrics
+     */
+    public ModelCache(String kind, MetricsProvider metrics) {
+        this.kind = kind;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the cached value when it was generated from the same inputs or generates and caches a new value
+     * otherwise. When the inputs hash is null, the value is always generated and nothing is cached.
+     *
+     * @param namespace     Namespace of the custom resource
+     * @param name          Name of the custom resource
+     * @param component     Component to which the value belongs
+     * @param inputsHash    Hash of all inputs used to generate the value
+     * @param generator     Generates the value
+     * @param copier        Copies the value so that the cached value cannot be modified by the reconciliation
+     * @param <T>           Type of the cached value
+     *
+     * @return  The cached or newly generated value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T computeIfChanged(String namespace, String name, String component, String inputsHash, Supplier<T> generator, UnaryOperator<T> copier) {
+        if (inputsHash == null) {
+            return generator.get();
+        }
+
+        String key = namespace + "/" + name + "/" + component;
+        Entry<T> entry = (Entry<T>) cache.get(key);
+
+        if (entry != null && entry.inputsHash.equals(inputsHash)) {
+            metrics.counter(AbstractOperator.METRICS_PREFIX + "model.cache.hits",
+                    "Number of models reused from the model cache", Tags.of("kind", kind, "component", component))
+                    .increment();
+            metrics.counter(AbstractOperator.METRICS_PREFIX + "model.cache.saved.cpu.time",
+                    "CPU time in milliseconds saved by reusing the models from the model cache", Tags.of("kind", kind, "component", component))
+                    .increment(entry.cpuTimeMs);
+
+            return entry.value == null ? null : copier.apply(entry.value);
+        } else {
+            metrics.counter(AbstractOperator.METRICS_PREFIX + "model.cache.misses",
+                    "Number of models which had to be generated because they were not found in the model cache", Tags.of("kind", kind, "component", component))
+                    .increment();
+
+            long startTime = cpuTimeNanos();
+            T value = generator.get();
+            double cpuTimeMs = (cpuTimeNanos() - startTime) / 1_000_000.0;
+
+            cache.put(key, new Entry<>(inputsHash, value == null ? null : copier.apply(value), cpuTimeMs));
+
+            return value;
+        }
+    }
+
+    /**
+     * Removes all cached values belonging to the custom resource
+     *
+     * @param namespace     Namespace of the custom resource
+     * @param name          Name of the custom resource
+     */
+    public void remove(String namespace, String name) {
+        String prefix = namespace + "/" + name + "/";
+        cache.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * @return  Number of the cached values
+     */
+    /*test*/ int size() {
+        return cache.size();
+    }
+
+    private static long cpuTimeNanos() {
+        return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    /**
+     * Cached value together with the hash of its inputs and the CPU time needed to generate it
+     *
+     * @param <T>   Type of the cached value
+     */
+    private static class Entry<T> {
+        private final String inputsHash;
+        private final T value;
+        private final double cpuTimeMs;
+
+        Entry(String inputsHash, T value, double cpuTimeMs) {
+            this.inputsHash = inputsHash;
+            this.value = value;
+            this.cpuTimeMs = cpuTimeMs;
+        }
+    }
+}
@@ -108,9 +108,12 @@ class KafkaAvailability {
             List<Node> isr = pi.isr();
             if (minIsr >= 0) {
                 if (pi.replicas().size() <= minIsr) {
-                    LOGGER.debugCr(reconciliation, "{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted, but there are only {} replicas.",
-                            td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                            pi.replicas().size());
+                    // Called for every partition => avoid creating the parameters when debug logging is disabled
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debugCr(reconciliation, "{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted, but there are only {} replicas.",
+                                td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
+                                pi.replicas().size());
+                    }
                 } else if (isr.size() < minIsr
                         && contains(pi.replicas(), broker)) {
                     logIsrReplicas(td, pi, isr);
@@ -125,7 +128,7 @@ class KafkaAvailability {
                         LOGGER.infoCr(reconciliation, "{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted.",
                                 td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
                         return true;
-                    } else {
+                    } else if (LOGGER.isDebugEnabled()) {
                         LOGGER.debugCr(reconciliation, "{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted, but there are only {} replicas.",
                                 td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
                                 pi.replicas().size());
@@ -137,7 +140,9 @@ class KafkaAvailability {
     }
 
     private void logIsrReplicas(TopicDescription td, TopicPartitionInfo pi, List<Node> isr) {
-        LOGGER.debugCr(reconciliation, "{}/{} has ISR={}, replicas={}", td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debugCr(reconciliation, "{}/{} has ISR={}, replicas={}", td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()));
+        }
     }
 
     String nodeList(List<Node> nodes) {
@@ -43,6 +43,7 @@ import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationProfiler;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
@@ -516,7 +517,7 @@ public class KafkaRoller {
      */
     protected Config brokerConfig(int brokerId) throws ForceableProblem, InterruptedException {
         ConfigResource resource = new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(brokerId));
-        return await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, allClient.describeConfigs(singletonList(resource)).values().get(resource)),
+        return await(adminCall("describeConfigs broker " + brokerId, () -> allClient.describeConfigs(singletonList(resource)).values().get(resource)),
             30, TimeUnit.SECONDS,
             error -> new ForceableProblem("Error getting broker config", error)
         );
@@ -529,12 +530,26 @@ public class KafkaRoller {
      */
     protected Config brokerLogging(int brokerId) throws ForceableProblem, InterruptedException {
         ConfigResource resource = Util.getBrokersLogging(brokerId);
-        return await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, allClient.describeConfigs(singletonList(resource)).values().get(resource)),
+        return await(adminCall("describeConfigs broker-logger " + brokerId, () -> allClient.describeConfigs(singletonList(resource)).values().get(resource)),
                 30, TimeUnit.SECONDS,
             error -> new ForceableProblem("Error getting broker logging", error)
         );
     }
 
+    /**
+     * Calls the Kafka Admin API and records the call in the timeline of the reconciliation
+     *
+     * @param name  Name of the call used in the timeline
+     * @param call  Supplier which issues the call
+     * @param <T>   Type of the result
+     *
+     * @return  Future which completes on the context thread when the call completes
+     */
+    private <T> Future<T> adminCall(String name, Supplier<KafkaFuture<T>> call) {
+        return ReconciliationProfiler.profile(reconciliation, ReconciliationProfiler.ADMIN_API, name,
+            () -> Util.kafkaFutureToVertxFuture(reconciliation, vertx, call.get()));
+    }
+
     protected void dynamicUpdateBrokerConfig(int podId, Admin ac, KafkaBrokerConfigurationDiff configurationDiff, KafkaBrokerLoggingConfigurationDiff logDiff)
             throws ForceableProblem, InterruptedException {
         Map<ConfigResource, Collection<AlterConfigOp>> updatedConfig = new HashMap<>(2);
@@ -544,19 +559,26 @@ public class KafkaRoller {
         LOGGER.debugCr(reconciliation, "Altering broker configuration {}", podId);
         LOGGER.traceCr(reconciliation, "Altering broker configuration {} with {}", podId, updatedConfig);
 
-        AlterConfigsResult alterConfigResult = ac.incrementalAlterConfigs(updatedConfig);
-        KafkaFuture<Void> brokerConfigFuture = alterConfigResult.values().get(Util.getBrokersConfig(podId));
-        KafkaFuture<Void> brokerLoggingConfigFuture = alterConfigResult.values().get(Util.getBrokersLogging(podId));
-        await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, brokerConfigFuture), 30, TimeUnit.SECONDS,
-            error -> {
-                LOGGER.errorCr(reconciliation, "Error doing dynamic config update", error);
-                return new ForceableProblem("Error doing dynamic update", error);
-            });
-        await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, brokerLoggingConfigFuture), 30, TimeUnit.SECONDS,
-            error -> {
-                LOGGER.errorCr(reconciliation, "Error performing dynamic logging update for pod {}", podId, error);
-                return new ForceableProblem("Error performing dynamic logging update for pod " + podId, error);
-            });
+        ReconciliationProfiler.Span span = ReconciliationProfiler.startSpan(reconciliation, ReconciliationProfiler.ADMIN_API, "incrementalAlterConfigs broker " + podId);
+        boolean succeeded = false;
+        try {
+            AlterConfigsResult alterConfigResult = ac.incrementalAlterConfigs(updatedConfig);
+            KafkaFuture<Void> brokerConfigFuture = alterConfigResult.values().get(Util.getBrokersConfig(podId));
+            KafkaFuture<Void> brokerLoggingConfigFuture = alterConfigResult.values().get(Util.getBrokersLogging(podId));
+            await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, brokerConfigFuture), 30, TimeUnit.SECONDS,
+                error -> {
+                    LOGGER.errorCr(reconciliation, "Error doing dynamic config update", error);
+                    return new ForceableProblem("Error doing dynamic update", error);
+                });
+            await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, brokerLoggingConfigFuture), 30, TimeUnit.SECONDS,
+                error -> {
+                    LOGGER.errorCr(reconciliation, "Error performing dynamic logging update for pod {}", podId, error);
+                    return new ForceableProblem("Error performing dynamic logging update for pod " + podId, error);
+                });
+            succeeded = true;
+        } finally {
+            span.end(succeeded);
+        }
 
         LOGGER.infoCr(reconciliation, "Dynamic reconfiguration for broker {} was successful.", podId);
     }
@@ -613,7 +635,7 @@ public class KafkaRoller {
     private boolean canRoll(int podId, long timeout, TimeUnit unit, boolean ignoreSslError)
             throws ForceableProblem, InterruptedException {
         try {
-            return await(availability(allClient).canRoll(podId), timeout, unit,
+            return await(ReconciliationProfiler.profile(reconciliation, ReconciliationProfiler.ADMIN_API, "canRoll broker " + podId, () -> availability(allClient).canRoll(podId)), timeout, unit,
                 t -> new ForceableProblem("An error while trying to determine rollability", t));
         } catch (ForceableProblem e) {
             // If we're not able to connect then roll
@@ -741,13 +763,23 @@ public class KafkaRoller {
         // Don't use all allClient here, because it will have cache metadata about which is the controller.
         try (Admin ac = adminClient(singletonList(podId), false)) {
             Node controllerNode = null;
+            Exception describeClusterError = null;
+            ReconciliationProfiler.Span span = ReconciliationProfiler.startSpan(reconciliation, ReconciliationProfiler.ADMIN_API, "describeCluster broker " + podId);
+            boolean succeeded = false;
             try {
                 DescribeClusterResult describeClusterResult = ac.describeCluster();
                 KafkaFuture<Node> controller = describeClusterResult.controller();
                 controllerNode = controller.get(timeout, unit);
                 restartContext.clearConnectionError();
+                succeeded = true;
             } catch (ExecutionException | TimeoutException e) {
-                maybeTcpProbe(podId, e, restartContext);
+                describeClusterError = e;
+            } finally {
+                span.end(succeeded);
+            }
+
+            if (describeClusterError != null) {
+                maybeTcpProbe(podId, describeClusterError, restartContext);
             }
             int id = controllerNode == null || Node.noNode().equals(controllerNode) ? -1 : controllerNode.id();
             LOGGER.debugCr(reconciliation, "Controller is {}", id);
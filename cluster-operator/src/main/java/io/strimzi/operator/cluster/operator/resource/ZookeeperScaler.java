@@ -25,6 +25,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.function.Function;
 
 /**
@@ -53,6 +55,9 @@ public class ZookeeperScaler implements AutoCloseable {
 
     private final Reconciliation reconciliation;
 
+    private ZKClientConfig clientConfig;
+    private ZooKeeperAdmin zkAdmin;
+
     /**
      * ZookeeperScaler constructor
      *
@@ -91,39 +96,65 @@ public class ZookeeperScaler implements AutoCloseable {
     /**
      * Scales Zookeeper to defined number of instances.
      * It generates new configuration according to the desired number of nodes and updates Zookeeper configuration.
+     * The connection to Zookeeper is opened on the first call and kept open for the subsequent calls, so that a
+     * scaling operation consisting of several steps uses a single session. The current configuration is read from
+     * Zookeeper in every call, because the ensemble might have changed between the steps (e.g. when a pod was
+     * restarted). The connection is closed when the scaling fails or when the scaler is closed.
      *
      * @param scaleTo   Number of Zookeeper nodes which should be used by the cluster
      *
      * @return          Future which succeeds / fails when the scaling is finished
      */
     public Future<Void> scale(int scaleTo) {
-        return getClientConfig()
-                .compose(this::connect)
+        long start = System.nanoTime();
+
+        return getConnection()
                 .compose(zkAdmin -> {
                     Promise<Void> scalePromise = Promise.promise();
 
                     getCurrentConfig(zkAdmin)
                             .compose(servers -> scaleTo(zkAdmin, servers, scaleTo))
-                            .onComplete(res ->
-                                closeConnection(zkAdmin)
-                                    .onComplete(closeResult -> {
-                                        // Ignoring the result of `closeConnection`
-                                        if (res.succeeded()) {
-                                            scalePromise.complete();
-                                        } else {
-                                            scalePromise.fail(res.cause());
-                                        }
-                                    }));
+                            .onComplete(res -> {
+                                if (res.succeeded()) {
+                                    LOGGER.debugCr(reconciliation, "Zookeeper configuration for {} nodes verified in {}ms", scaleTo, (System.nanoTime() - start) / 1_000_000);
+                                    scalePromise.complete();
+                                } else {
+                                    // The session might be broken => do not reuse it
+                                    disconnect().onComplete(closeResult -> {
+                                        // Ignoring the result of `disconnect`
+                                        scalePromise.fail(res.cause());
+                                    });
+                                }
+                            });
 
                     return scalePromise.future();
                 });
     }
 
     /**
-     * Close the ZookeeperScaler instance. This deletes the certificate files.
+     * Closes the Zookeeper connection kept by this scaler (if any).
+     *
+     * @return  Future which completes when the connection is closed
+     */
+    public Future<Void> disconnect() {
+        ZooKeeperAdmin connection = zkAdmin;
+        zkAdmin = null;
+
+        return closeConnection(connection);
+    }
+
+    /**
+     * Close the ZookeeperScaler instance. This closes the Zookeeper connection and deletes the certificate files.
      */
     @Override
     public void close() {
+        disconnect().onComplete(ignore -> deleteStoreFiles());
+    }
+
+    /**
+     * Deletes the truststore and keystore files
+     */
+    private void deleteStoreFiles() {
         if (trustStoreFile != null) {
             if (!trustStoreFile.delete())   {
                 LOGGER.debugCr(reconciliation, "Failed to delete file {}", trustStoreFile);
@@ -137,6 +168,36 @@ public class ZookeeperScaler implements AutoCloseable {
         }
     }
 
+    /**
+     * Returns the connection kept by this scaler or opens a new one if there is no connection yet or if the existing
+     * connection is not alive anymore
+     *
+     * @return      Future with the connected Zookeeper Admin client
+     */
+    private Future<ZooKeeperAdmin> getConnection() {
+        if (zkAdmin != null && zkAdmin.getState().isAlive() && zkAdmin.getState().isConnected()) {
+            return Future.succeededFuture(zkAdmin);
+        } else {
+            return disconnect()
+                    .recover(error -> Future.succeededFuture())
+                    .compose(ignore -> {
+                        if (clientConfig != null) {
+                            return Future.succeededFuture(clientConfig);
+                        } else {
+                            return getClientConfig();
+                        }
+                    })
+                    .compose(config -> {
+                        clientConfig = config;
+                        return connect(config);
+                    })
+                    .map(connected -> {
+                        zkAdmin = connected;
+                        return connected;
+                    });
+        }
+    }
+
     /**
      * Internal method used to create the Zookeeper Admin client and connect it to Zookeeper
      *
@@ -188,7 +249,8 @@ public class ZookeeperScaler implements AutoCloseable {
 
         if (isDifferent(currentServers, desiredServers))    {
             LOGGER.debugCr(reconciliation, "The Zookeeper server configuration needs to be updated");
-            return updateConfig(zkAdmin, desiredServers).map((Void) null);
+            return updateConfig(zkAdmin, joiningServers(currentServers, desiredServers), leavingServers(currentServers, desiredServers))
+                    .map((Void) null);
         } else {
             LOGGER.debugCr(reconciliation, "The Zookeeper server configuration is already up to date");
             return Future.succeededFuture();
@@ -196,7 +258,7 @@ public class ZookeeperScaler implements AutoCloseable {
     }
 
     /**
-     * Gets the current configuration from Zookeeper.
+     * Gets the current configuration from Zookeeper
      *
      * @return  Future containing Map with the current Zookeeper configuration
      */
@@ -219,18 +281,23 @@ public class ZookeeperScaler implements AutoCloseable {
     }
 
     /**
-     * Updates the configuration in the Zookeeper cluster
+     * Updates the configuration in the Zookeeper cluster using an incremental reconfiguration. Only the servers which
+     * are new or which changed are sent as joining servers and only the removed servers are sent as leaving servers.
+     * The members which already have the desired configuration are left untouched.
      *
-     * @param newServers    New configuration which will be used for the update
-     * @return              Future with the updated configuration
+     * @param joiningServers    Servers which should be added or updated
+     * @param leavingServers    IDs of the servers which should be removed
+     * @return                  Future with the updated configuration
      */
-    private Future<Map<String, String>> updateConfig(ZooKeeperAdmin zkAdmin, Map<String, String> newServers)    {
+    private Future<Map<String, String>> updateConfig(ZooKeeperAdmin zkAdmin, List<String> joiningServers, List<String> leavingServers)    {
         Promise<Map<String, String>> configPromise = Promise.promise();
 
         vertx.executeBlocking(promise -> {
             try {
-                LOGGER.debugCr(reconciliation, "Updating Zookeeper configuration to {}", newServers);
-                byte[] newConfig = zkAdmin.reconfigure(null, null, serversMapToList(newServers), -1, null);
+                LOGGER.debugCr(reconciliation, "Updating Zookeeper configuration with joining servers {} and leaving servers {}", joiningServers, leavingServers);
+                byte[] newConfig = zkAdmin.reconfigure(joiningServers.isEmpty() ? null : joiningServers,
+                        leavingServers.isEmpty() ? null : leavingServers,
+                        null, -1, null);
                 Map<String, String> servers = parseConfig(newConfig);
 
                 LOGGER.debugCr(reconciliation, "New Zookeeper configuration is {}", servers);
@@ -319,6 +386,44 @@ public class ZookeeperScaler implements AutoCloseable {
         return serversList;
     }
 
+    /**
+     * Finds the servers which are not part of the current configuration or which have a different configuration
+     *
+     * @param current   Map with current configuration
+     * @param desired   Map with desired configuration
+     * @return          List with the joining servers in the format expected by the ZookeeperAdmin client
+     */
+    /*test*/ static List<String> joiningServers(Map<String, String> current, Map<String, String> desired)  {
+        Map<String, String> joining = new TreeMap<>();
+
+        for (Map.Entry<String, String> entry : desired.entrySet())  {
+            if (!entry.getValue().equals(current.get(entry.getKey())))   {
+                joining.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        return serversMapToList(joining);
+    }
+
+    /**
+     * Finds the servers which are part of the current configuration but not of the desired configuration
+     *
+     * @param current   Map with current configuration
+     * @param desired   Map with desired configuration
+     * @return          List with IDs of the leaving servers
+     */
+    /*test*/ static List<String> leavingServers(Map<String, String> current, Map<String, String> desired)  {
+        List<String> leaving = new ArrayList<>();
+
+        for (String server : new TreeSet<>(current.keySet()))  {
+            if (!desired.containsKey(server))   {
+                leaving.add(server.substring("server.".length()));
+            }
+        }
+
+        return leaving;
+    }
+
     /**
      * Parse the byte array we get from Zookeeper into a map we use internally. The returned Map will container only
      * the server entries from the Zookeeper configuration. Other entries such as version will be ignored.
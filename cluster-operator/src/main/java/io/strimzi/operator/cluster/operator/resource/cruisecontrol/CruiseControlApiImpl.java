@@ -92,6 +92,26 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         });
     }
 
+    /**
+     * @param rbOptions The rebalance options
+     *
+     * @return  The Cruise Control endpoint which handles the rebalance in the mode given by the options
+     */
+    /* test */ static CruiseControlEndpoints rebalanceEndpoint(RebalanceOptions rbOptions) {
+        if (rbOptions != null && rbOptions.getMode() != null) {
+            switch (rbOptions.getMode()) {
+                case ADD_BROKERS:
+                    return CruiseControlEndpoints.ADD_BROKER;
+                case REMOVE_BROKERS:
+                    return CruiseControlEndpoints.REMOVE_BROKER;
+                default:
+                    break;
+            }
+        }
+
+        return CruiseControlEndpoints.REBALANCE;
+    }
+
     @Override
     @SuppressWarnings("deprecation")
     public Future<CruiseControlRebalanceResponse> rebalance(String host, int port, RebalanceOptions rbOptions, String userTaskId) {
@@ -102,7 +122,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         }
 
 
-        String path = new PathBuilder(CruiseControlEndpoints.REBALANCE)
+        String path = new PathBuilder(rebalanceEndpoint(rbOptions))
                 .addParameter(CruiseControlParameters.JSON, "true")
                 .addRebalanceParameters(rbOptions)
                 .build();
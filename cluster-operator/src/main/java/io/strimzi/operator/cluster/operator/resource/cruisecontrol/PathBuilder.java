@@ -4,10 +4,13 @@
  */
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
+import io.strimzi.api.kafka.model.balancing.KafkaRebalanceMode;
+
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class PathBuilder {
 
@@ -81,7 +84,13 @@ public class PathBuilder {
             }
 
             addIfNotZero(builder, CruiseControlParameters.CONCURRENT_PARTITION_MOVEMENTS, options.getConcurrentPartitionMovementsPerBroker());
-            addIfNotZero(builder, CruiseControlParameters.CONCURRENT_INTRA_PARTITION_MOVEMENTS, options.getConcurrentIntraBrokerPartitionMovements());
+            if (options.getMode() == null || options.getMode() == KafkaRebalanceMode.FULL) {
+                addIfNotZero(builder, CruiseControlParameters.CONCURRENT_INTRA_PARTITION_MOVEMENTS, options.getConcurrentIntraBrokerPartitionMovements());
+            } else if (options.getBrokers() != null) {
+                // The add_broker and remove_broker endpoints do not move replicas between disks
+                builder.addParameter(CruiseControlParameters.BROKER_ID,
+                        options.getBrokers().stream().map(String::valueOf).collect(Collectors.toList()));
+            }
             addIfNotZero(builder, CruiseControlParameters.CONCURRENT_LEADER_MOVEMENTS, options.getConcurrentLeaderMovements());
             addIfNotZero(builder, CruiseControlParameters.REPLICATION_THROTTLE, options.getReplicationThrottle());
 
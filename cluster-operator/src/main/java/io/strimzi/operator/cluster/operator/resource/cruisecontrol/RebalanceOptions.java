@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
+import io.strimzi.api.kafka.model.balancing.KafkaRebalanceMode;
+
 import java.util.List;
 
 public class RebalanceOptions {
@@ -30,6 +32,10 @@ public class RebalanceOptions {
     private long replicationThrottle;
     /** A list of strategy class names used to determine the execution order for the replica movements in the generated optimization proposal. */
     private List<String> replicaMovementStrategies;
+    /** Whether the rebalance runs across the whole cluster, moves replicas to added brokers or moves them off removed brokers */
+    private KafkaRebalanceMode mode;
+    /** The brokers which were added or which will be removed (used only by the add-brokers and remove-brokers modes) */
+    private List<Integer> brokers;
 
     public boolean isDryRun() {
         return isDryRun;
@@ -75,6 +81,14 @@ public class RebalanceOptions {
         return replicaMovementStrategies;
     }
 
+    public KafkaRebalanceMode getMode() {
+        return mode;
+    }
+
+    public List<Integer> getBrokers() {
+        return brokers;
+    }
+
     private RebalanceOptions(RebalanceOptionsBuilder builder) {
         this.isDryRun = builder.isDryRun;
         this.verbose = builder.verbose;
@@ -87,6 +101,8 @@ public class RebalanceOptions {
         this.concurrentLeaderMovements = builder.concurrentLeaderMovements;
         this.replicationThrottle = builder.replicationThrottle;
         this.replicaMovementStrategies = builder.replicaMovementStrategies;
+        this.mode = builder.mode;
+        this.brokers = builder.brokers;
     }
 
     public static class RebalanceOptionsBuilder {
@@ -101,6 +117,8 @@ public class RebalanceOptions {
         private int concurrentLeaderMovements;
         private long replicationThrottle;
         private List<String> replicaMovementStrategies;
+        private KafkaRebalanceMode mode;
+        private List<Integer> brokers;
 
         public RebalanceOptionsBuilder() {
             isDryRun = true;
@@ -113,6 +131,8 @@ public class RebalanceOptions {
             concurrentLeaderMovements = 0;
             replicationThrottle = 0;
             replicaMovementStrategies = null;
+            mode = KafkaRebalanceMode.FULL;
+            brokers = null;
         }
 
         public RebalanceOptionsBuilder withFullRun() {
@@ -177,6 +197,16 @@ public class RebalanceOptions {
             return this;
         }
 
+        public RebalanceOptionsBuilder withMode(KafkaRebalanceMode mode) {
+            this.mode = mode;
+            return this;
+        }
+
+        public RebalanceOptionsBuilder withBrokers(List<Integer> brokers) {
+            this.brokers = brokers;
+            return this;
+        }
+
         public RebalanceOptions build() {
             return new RebalanceOptions(this);
         }
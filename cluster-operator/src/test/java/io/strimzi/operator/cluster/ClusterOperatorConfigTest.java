@@ -58,6 +58,7 @@ public class ClusterOperatorConfigTest {
 
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(ClusterOperatorConfig.DEFAULT_FULL_RECONCILIATION_INTERVAL_MS));
+        assertThat(config.getMaxReconciliationIntervalMs(), is(ClusterOperatorConfig.DEFAULT_FULL_RECONCILIATION_INTERVAL_MS));
         assertThat(config.getOperationTimeoutMs(), is(ClusterOperatorConfig.DEFAULT_OPERATION_TIMEOUT_MS));
         assertThat(config.getConnectBuildTimeoutMs(), is(ClusterOperatorConfig.DEFAULT_CONNECT_BUILD_TIMEOUT_MS));
         assertThat(config.getOperatorNamespace(), is("operator-namespace"));
@@ -70,6 +71,7 @@ public class ClusterOperatorConfigTest {
         ClusterOperatorConfig config = new ClusterOperatorConfig(
                 singleton("namespace"),
                 60_000,
+                600_000,
                 30_000,
                 120_000,
                 false,
@@ -86,6 +88,7 @@ public class ClusterOperatorConfigTest {
 
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(60_000L));
+        assertThat(config.getMaxReconciliationIntervalMs(), is(600_000L));
         assertThat(config.getOperationTimeoutMs(), is(30_000L));
         assertThat(config.getConnectBuildTimeoutMs(), is(120_000L));
     }
@@ -116,6 +119,19 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getOperatorNamespaceLabels(), is(nullValue()));
     }
 
+    @Test
+    public void testMaxReconciliationInterval() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_RECONCILIATION_INTERVAL_MS, "300000");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getReconciliationIntervalMs(), is(30_000L));
+        assertThat(config.getMaxReconciliationIntervalMs(), is(300_000L));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_RECONCILIATION_INTERVAL_MS, "10000");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
     private Map<String, String> envWithImages() {
         Map<String, String> envVars = new HashMap<>(5);
         envVars.put(ClusterOperatorConfig.STRIMZI_KAFKA_IMAGES, KafkaVersionTestUtils.getKafkaImagesEnvVarString());
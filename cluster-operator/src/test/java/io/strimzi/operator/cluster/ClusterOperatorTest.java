@@ -38,6 +38,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -105,6 +106,31 @@ public class ClusterOperatorTest {
         startStopAllNamespaces(context, "*", false);
     }
 
+    @Test
+    public void testStartStopMultiNamespaceWithClusterWideWatchOnOpenShift(VertxTestContext context) throws InterruptedException {
+        startStopAllNamespaces(context, "namespace1,namespace2", true, "+ClusterWideWatch");
+    }
+
+    @Test
+    public void testStartStopMultiNamespaceWithClusterWideWatchOnK8s(VertxTestContext context) throws InterruptedException {
+        startStopAllNamespaces(context, "namespace1,namespace2", false, "+ClusterWideWatch");
+    }
+
+    @Test
+    public void testUseClusterWideWatch() {
+        Map<String, String> env = buildEnv("namespace1,namespace2");
+        assertThat(Main.useClusterWideWatch(ClusterOperatorConfig.fromMap(env, KafkaVersionTestUtils.getKafkaVersionLookup())), is(false));
+
+        env.put(ClusterOperatorConfig.STRIMZI_FEATURE_GATES, "+ClusterWideWatch");
+        assertThat(Main.useClusterWideWatch(ClusterOperatorConfig.fromMap(env, KafkaVersionTestUtils.getKafkaVersionLookup())), is(true));
+
+        env.put(ClusterOperatorConfig.STRIMZI_NAMESPACE, "namespace1");
+        assertThat(Main.useClusterWideWatch(ClusterOperatorConfig.fromMap(env, KafkaVersionTestUtils.getKafkaVersionLookup())), is(false));
+
+        env.put(ClusterOperatorConfig.STRIMZI_NAMESPACE, "*");
+        assertThat(Main.useClusterWideWatch(ClusterOperatorConfig.fromMap(env, KafkaVersionTestUtils.getKafkaVersionLookup())), is(false));
+    }
+
     /**
      * Asserts that Cluster Operator starts and then stops a verticle in each namespace
      *
@@ -185,6 +211,17 @@ public class ClusterOperatorTest {
      * @param namespaces namespaces the operator should be watching and operating on
      */
     private void startStopAllNamespaces(VertxTestContext context, String namespaces, boolean openShift) throws InterruptedException {
+        startStopAllNamespaces(context, namespaces, openShift, null);
+    }
+
+    /**
+     * Asserts that Cluster Operator starts and then stops a single verticle using cluster-wide watches
+     *
+     * @param context test context passed in for assertions
+     * @param namespaces namespaces the operator should be watching and operating on
+     * @param featureGates feature gates configuration or null
+     */
+    private void startStopAllNamespaces(VertxTestContext context, String namespaces, boolean openShift, String featureGates) throws InterruptedException {
         AtomicInteger numWatchers = new AtomicInteger(0);
         KubernetesClient client;
         if (openShift) {
@@ -220,6 +257,9 @@ public class ClusterOperatorTest {
         when(mockCms.inAnyNamespace()).thenReturn(mockFilteredCms);
 
         Map<String, String> env = buildEnv(namespaces);
+        if (featureGates != null) {
+            env.put(ClusterOperatorConfig.STRIMZI_FEATURE_GATES, featureGates);
+        }
 
         CountDownLatch latch = new CountDownLatch(2);
         Main.run(vertx, client, new PlatformFeaturesAvailability(openShift, KubernetesVersion.V1_16),
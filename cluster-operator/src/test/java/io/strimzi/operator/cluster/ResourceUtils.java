@@ -745,6 +745,7 @@ public class ResourceUtils {
         return new ClusterOperatorConfig(
                 singleton("dummy"),
                 60_000,
+                60_000,
                 operationTimeoutMs,
                 300_000,
                 false,
@@ -764,6 +765,7 @@ public class ResourceUtils {
         return new ClusterOperatorConfig(
                 singleton("dummy"),
                 60_000,
+                60_000,
                 operationTimeoutMs,
                 300_000,
                 false,
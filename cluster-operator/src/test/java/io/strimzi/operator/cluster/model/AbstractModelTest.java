@@ -15,6 +15,7 @@ import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.KafkaBuilder;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.model.OrderedProperties;
 import io.strimzi.test.TestUtils;
 
 import io.fabric8.kubernetes.api.model.OwnerReference;
@@ -212,4 +213,13 @@ public class AbstractModelTest {
         assertThat(am.determineImagePullPolicy(null, "docker.io/repo/image:latest-kafka-2.7.0"), is(ImagePullPolicy.ALWAYS.toString()));
     }
 
+    @ParallelTest
+    public void testOrderedPropertiesAreCopiedFromCache()  {
+        OrderedProperties first = AbstractModel.getOrderedProperties(Reconciliation.DUMMY_RECONCILIATION, "kafkaDefaultLoggingProperties");
+        first.addPair("my.custom.logger", "DEBUG");
+
+        OrderedProperties second = AbstractModel.getOrderedProperties(Reconciliation.DUMMY_RECONCILIATION, "kafkaDefaultLoggingProperties");
+        assertThat(second.asMap().containsKey("my.custom.logger"), is(false));
+        assertThat(second.asMap().isEmpty(), is(false));
+    }
 }
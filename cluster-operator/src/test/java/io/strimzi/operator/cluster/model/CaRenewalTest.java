@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.Subject;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.MockCertManager;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
 import io.vertx.junit5.VertxExtension;
@@ -16,14 +17,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.File;
 import java.io.IOException;
+import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.util.Base64;
+import java.util.Date;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @ParallelSuite
 @ExtendWith(VertxExtension.class)
@@ -31,8 +39,6 @@ public class CaRenewalTest {
     @ParallelTest
     public void renewalOfStatefulSetCertificatesWithNullSecret() throws IOException {
         Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
-            private AtomicInteger invocationCount = new AtomicInteger(0);
-
             @Override
             public boolean certRenewed() {
                 return false;
@@ -46,7 +52,8 @@ public class CaRenewalTest {
             @Override
             protected CertAndKey generateSignedCert(Subject subject,
                                                     File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
-                int index = invocationCount.getAndIncrement();
+                // The certificates are generated in parallel, so the index is taken from the subject
+                String index = subject.commonName();
 
                 return new CertAndKey(
                         ("new-key" + index).getBytes(),
@@ -59,7 +66,7 @@ public class CaRenewalTest {
         };
 
         int replicas = 3;
-        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().build();
+        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().withCommonName(String.valueOf(i)).build();
         Function<Integer, String> podNameFn = i -> "pod" + i;
         boolean isMaintenanceTimeWindowsSatisfied = true;
 
@@ -88,8 +95,6 @@ public class CaRenewalTest {
     @ParallelTest
     public void renewalOfStatefulSetCertificatesWithCaRenewal() throws IOException {
         Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
-            private AtomicInteger invocationCount = new AtomicInteger(0);
-
             @Override
             public boolean certRenewed() {
                 return true;
@@ -103,7 +108,8 @@ public class CaRenewalTest {
             @Override
             protected CertAndKey generateSignedCert(Subject subject,
                                                     File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
-                int index = invocationCount.getAndIncrement();
+                // The certificates are generated in parallel, so the index is taken from the subject
+                String index = subject.commonName();
 
                 return new CertAndKey(
                         ("new-key" + index).getBytes(),
@@ -134,7 +140,7 @@ public class CaRenewalTest {
                 .build();
 
         int replicas = 3;
-        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().build();
+        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().withCommonName(String.valueOf(i)).build();
         Function<Integer, String> podNameFn = i -> "pod" + i;
         boolean isMaintenanceTimeWindowsSatisfied = true;
 
@@ -164,8 +170,6 @@ public class CaRenewalTest {
     @ParallelTest
     public void renewalOfStatefulSetCertificatesDelayedRenewalInWindow() throws IOException {
         Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
-            private AtomicInteger invocationCount = new AtomicInteger(0);
-
             @Override
             public boolean certRenewed() {
                 return false;
@@ -189,7 +193,8 @@ public class CaRenewalTest {
             @Override
             protected CertAndKey generateSignedCert(Subject subject,
                                                     File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
-                int index = invocationCount.getAndIncrement();
+                // The certificates are generated in parallel, so the index is taken from the subject
+                String index = subject.commonName();
 
                 return new CertAndKey(
                         ("new-key" + index).getBytes(),
@@ -220,7 +225,7 @@ public class CaRenewalTest {
                 .build();
 
         int replicas = 3;
-        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().build();
+        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().withCommonName(String.valueOf(i)).build();
         Function<Integer, String> podNameFn = i -> "pod" + i;
         boolean isMaintenanceTimeWindowsSatisfied = true;
 
@@ -250,8 +255,6 @@ public class CaRenewalTest {
     @ParallelTest
     public void renewalOfStatefulSetCertificatesDelayedRenewalOutsideWindow() throws IOException {
         Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
-            private AtomicInteger invocationCount = new AtomicInteger(0);
-
             @Override
             public boolean certRenewed() {
                 return false;
@@ -275,7 +278,8 @@ public class CaRenewalTest {
             @Override
             protected CertAndKey generateSignedCert(Subject subject,
                                                     File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
-                int index = invocationCount.getAndIncrement();
+                // The certificates are generated in parallel, so the index is taken from the subject
+                String index = subject.commonName();
 
                 return new CertAndKey(
                         ("new-key" + index).getBytes(),
@@ -306,7 +310,7 @@ public class CaRenewalTest {
                 .build();
 
         int replicas = 3;
-        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().build();
+        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().withCommonName(String.valueOf(i)).build();
         Function<Integer, String> podNameFn = i -> "pod" + i;
         boolean isMaintenanceTimeWindowsSatisfied = false;
 
@@ -332,4 +336,161 @@ public class CaRenewalTest {
         assertThat(new String(newCerts.get("pod2").keyStore()), is("old-keystore"));
         assertThat(newCerts.get("pod2").storePassword(), is("old-password"));
     }
-}
\ No newline at end of file
+
+    @ParallelTest
+    public void checksOfUnchangedCertificatesAreCached() throws IOException {
+        AtomicInteger subjectChecks = new AtomicInteger(0);
+        AtomicInteger expirationChecks = new AtomicInteger(0);
+        X509Certificate mockCert = mock(X509Certificate.class);
+        when(mockCert.getNotAfter()).thenReturn(new Date(System.currentTimeMillis() + 365L * 24L * 60L * 60L * 1000L));
+
+        Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
+            @Override
+            public boolean certRenewed() {
+                return false;
+            }
+
+            @Override
+            public boolean isExpiring(Secret secret, String certKey)  {
+                expirationChecks.incrementAndGet();
+                return false;
+            }
+
+            @Override
+            protected boolean certSubjectChanged(CertAndKey certAndKey, Subject desiredSubject, String podName)    {
+                subjectChecks.incrementAndGet();
+                return false;
+            }
+
+            @Override
+            public X509Certificate getAsX509Certificate(Secret secret, String key)    {
+                return mockCert;
+            }
+        };
+
+        Secret initialSecret = new SecretBuilder()
+                .withNewMetadata()
+                    .withNewName("test-secret")
+                    .withNewNamespace("checks-are-cached")
+                    .withNewResourceVersion("1")
+                .endMetadata()
+                .addToData("pod0.crt", Base64.getEncoder().encodeToString("old-cert".getBytes()))
+                .addToData("pod0.key", Base64.getEncoder().encodeToString("old-key".getBytes()))
+                .addToData("pod0.p12", Base64.getEncoder().encodeToString("old-keystore".getBytes()))
+                .addToData("pod0.password", Base64.getEncoder().encodeToString("old-password".getBytes()))
+                .addToData("pod1.crt", Base64.getEncoder().encodeToString("old-cert".getBytes()))
+                .addToData("pod1.key", Base64.getEncoder().encodeToString("old-key".getBytes()))
+                .addToData("pod1.p12", Base64.getEncoder().encodeToString("old-keystore".getBytes()))
+                .addToData("pod1.password", Base64.getEncoder().encodeToString("old-password".getBytes()))
+                .build();
+
+        int replicas = 2;
+        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().withCommonName(String.valueOf(i)).build();
+        Function<Integer, String> podNameFn = i -> "pod" + i;
+
+        // First check parses the certificates
+        Map<String, CertAndKey> newCerts = mockedCa.maybeCopyOrGenerateCerts(Reconciliation.DUMMY_RECONCILIATION,
+                replicas, subjectFn, initialSecret, podNameFn, true);
+        assertThat(new String(newCerts.get("pod0").cert()), is("old-cert"));
+        assertThat(new String(newCerts.get("pod1").cert()), is("old-cert"));
+        assertThat(subjectChecks.get(), is(2));
+        assertThat(expirationChecks.get(), is(2));
+
+        // Unchanged Secret uses the cached results
+        newCerts = mockedCa.maybeCopyOrGenerateCerts(Reconciliation.DUMMY_RECONCILIATION,
+                replicas, subjectFn, initialSecret, podNameFn, true);
+        assertThat(new String(newCerts.get("pod0").cert()), is("old-cert"));
+        assertThat(new String(newCerts.get("pod1").cert()), is("old-cert"));
+        assertThat(subjectChecks.get(), is(2));
+        assertThat(expirationChecks.get(), is(2));
+
+        // Changed subject is checked again
+        Function<Integer, Subject> changedSubjectFn = i -> new Subject.Builder().withCommonName(String.valueOf(i)).addDnsName("my-new-dns-name").build();
+        mockedCa.maybeCopyOrGenerateCerts(Reconciliation.DUMMY_RECONCILIATION,
+                replicas, changedSubjectFn, initialSecret, podNameFn, true);
+        assertThat(subjectChecks.get(), is(4));
+        assertThat(expirationChecks.get(), is(4));
+
+        // New resource version of the Secret is checked again
+        Secret updatedSecret = new SecretBuilder(initialSecret)
+                .editMetadata()
+                    .withNewResourceVersion("2")
+                .endMetadata()
+                .build();
+        mockedCa.maybeCopyOrGenerateCerts(Reconciliation.DUMMY_RECONCILIATION,
+                replicas, subjectFn, updatedSecret, podNameFn, true);
+        assertThat(subjectChecks.get(), is(6));
+        assertThat(expirationChecks.get(), is(6));
+
+        // The previous resource version was replaced
+        mockedCa.maybeCopyOrGenerateCerts(Reconciliation.DUMMY_RECONCILIATION,
+                replicas, subjectFn, updatedSecret, podNameFn, true);
+        assertThat(subjectChecks.get(), is(6));
+        assertThat(expirationChecks.get(), is(6));
+
+        // Deleted Secret (e.g. after the cluster was deleted) is checked again
+        Ca.forgetCachedCerts("checks-are-cached", "test-secret");
+        mockedCa.maybeCopyOrGenerateCerts(Reconciliation.DUMMY_RECONCILIATION,
+                replicas, subjectFn, updatedSecret, podNameFn, true);
+        assertThat(subjectChecks.get(), is(8));
+        assertThat(expirationChecks.get(), is(8));
+
+        Ca.forgetCachedCerts("checks-are-cached", "test-secret");
+    }
+
+    private static Secret caCertSecret(String uid, String resourceVersion) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withNewName("my-cluster-cluster-ca-cert")
+                    .withNewNamespace("decoded-certs-are-cached")
+                    .withNewUid(uid)
+                    .withNewResourceVersion(resourceVersion)
+                .endMetadata()
+                .addToData(Ca.CA_CRT, MockCertManager.clusterCaCert())
+                .addToData(Ca.CA_STORE_PASSWORD, Base64.getEncoder().encodeToString("password".getBytes()))
+                .build();
+    }
+
+    @ParallelTest
+    public void decodedCertificatesAreCachedPerSecretVersion() throws CertificateException {
+        // The certificate factory of the JDK can return the same instance for the same data, so the cache is checked
+        // directly instead of comparing the instances of the decoded certificates
+        Secret secret = caCertSecret("uid-1", "1");
+        X509Certificate cert = Ca.cert(secret, Ca.CA_CRT);
+        assertThat(Ca.isCertCached(secret, Ca.CA_CRT), is(true));
+
+        // Same UID and resource version => decoded only once
+        assertThat(Ca.cert(caCertSecret("uid-1", "1"), Ca.CA_CRT), is(sameInstance(cert)));
+
+        // Changed in memory => decoded again
+        assertThat(Ca.decodedCert(secret, Ca.CA_CRT, MockCertManager.clientsCaCert()), is(not(cert)));
+
+        // New resource version or new Secret with the same name => decoded again
+        X509Certificate renewed = Ca.cert(caCertSecret("uid-1", "2"), Ca.CA_CRT);
+        assertThat(renewed, is(cert));
+        assertThat(Ca.isCertCached(caCertSecret("uid-1", "2"), Ca.CA_CRT), is(true));
+        assertThat(Ca.isCertCached(secret, Ca.CA_CRT), is(false));
+
+        Ca.cert(caCertSecret("uid-2", "2"), Ca.CA_CRT);
+        assertThat(Ca.isCertCached(caCertSecret("uid-2", "2"), Ca.CA_CRT), is(true));
+        assertThat(Ca.isCertCached(caCertSecret("uid-1", "2"), Ca.CA_CRT), is(false));
+
+        // Data which are not certificates keep failing
+        Secret current = caCertSecret("uid-2", "2");
+        assertThrows(CertificateException.class, () -> Ca.decodedCert(current, Ca.CA_STORE_PASSWORD, current.getData().get(Ca.CA_STORE_PASSWORD)));
+        assertThrows(CertificateException.class, () -> Ca.decodedCert(current, Ca.CA_STORE_PASSWORD, current.getData().get(Ca.CA_STORE_PASSWORD)));
+
+        // Secrets without UID or resource version are not cached
+        Secret unversioned = new SecretBuilder(secret).editMetadata().withNamespace("decoded-certs-are-not-cached").withResourceVersion(null).endMetadata().build();
+        assertThat(Ca.cert(unversioned, Ca.CA_CRT), is(cert));
+        assertThat(Ca.isCertCached(unversioned, Ca.CA_CRT), is(false));
+
+        // Deleted Secret (e.g. after the Kafka cluster was deleted) => decoded again
+        Ca.forgetCachedCerts("decoded-certs-are-cached", "my-cluster-cluster-ca-cert");
+        assertThat(Ca.isCertCached(current, Ca.CA_CRT), is(false));
+        assertThat(Ca.cert(current, Ca.CA_CRT), is(cert));
+        assertThat(Ca.isCertCached(current, Ca.CA_CRT), is(true));
+
+        Ca.forgetCachedCerts("decoded-certs-are-cached", "my-cluster-cluster-ca-cert");
+    }
+}
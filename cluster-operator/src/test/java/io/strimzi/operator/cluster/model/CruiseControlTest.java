@@ -42,6 +42,8 @@ import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.KafkaBuilder;
 import io.strimzi.api.kafka.model.MetricsConfig;
 import io.strimzi.api.kafka.model.balancing.BrokerCapacity;
+import io.strimzi.api.kafka.model.balancing.BrokerCapacityBuilder;
+import io.strimzi.api.kafka.model.balancing.BrokerCapacityOverrideBuilder;
 import io.strimzi.api.kafka.model.storage.EphemeralStorage;
 import io.strimzi.api.kafka.model.storage.JbodStorage;
 import io.strimzi.api.kafka.model.storage.PersistentClaimStorage;
@@ -57,6 +59,8 @@ import io.strimzi.operator.common.model.Labels;
 import io.strimzi.test.TestUtils;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import org.junit.jupiter.api.AfterAll;
 
 import java.util.ArrayList;
@@ -65,10 +69,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static io.strimzi.operator.cluster.model.CruiseControl.ENV_VAR_BROKER_CPU_UTILIZATION_CAPACITY;
-import static io.strimzi.operator.cluster.model.CruiseControl.ENV_VAR_BROKER_DISK_MIB_CAPACITY;
-import static io.strimzi.operator.cluster.model.CruiseControl.ENV_VAR_BROKER_INBOUND_NETWORK_KIB_PER_SECOND_CAPACITY;
-import static io.strimzi.operator.cluster.model.CruiseControl.ENV_VAR_BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY;
+import static io.strimzi.operator.cluster.model.CruiseControl.ENV_VAR_CRUISE_CONTROL_CAPACITY_CONFIGURATION;
 import static io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlConfigurationParameters.CRUISE_CONTROL_ANOMALY_DETECTION_CONFIG_KEY;
 import static io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlConfigurationParameters.CRUISE_CONTROL_DEFAULT_GOALS_CONFIG_KEY;
 import static io.strimzi.operator.cluster.model.cruisecontrol.Capacity.DEFAULT_BROKER_CPU_UTILIZATION_CAPACITY;
@@ -174,16 +175,37 @@ public class CruiseControlTest {
         expected.add(new EnvVarBuilder().withName(CruiseControl.ENV_VAR_STRIMZI_KAFKA_BOOTSTRAP_SERVERS).withValue(CruiseControl.defaultBootstrapServers(cluster)).build());
         expected.add(new EnvVarBuilder().withName(KafkaMirrorMakerCluster.ENV_VAR_STRIMZI_KAFKA_GC_LOG_ENABLED).withValue(Boolean.toString(AbstractModel.DEFAULT_JVM_GC_LOGGING_ENABLED)).build());
         expected.add(new EnvVarBuilder().withName(CruiseControl.ENV_VAR_MIN_INSYNC_REPLICAS).withValue(minInsyncReplicas).build());
-        expected.add(new EnvVarBuilder().withName(ENV_VAR_BROKER_DISK_MIB_CAPACITY).withValue(Double.toString(DEFAULT_BROKER_DISK_MIB_CAPACITY)).build());
-        expected.add(new EnvVarBuilder().withName(ENV_VAR_BROKER_CPU_UTILIZATION_CAPACITY).withValue(Integer.toString(DEFAULT_BROKER_CPU_UTILIZATION_CAPACITY)).build());
-        expected.add(new EnvVarBuilder().withName(ENV_VAR_BROKER_INBOUND_NETWORK_KIB_PER_SECOND_CAPACITY).withValue(Double.toString(DEFAULT_BROKER_INBOUND_NETWORK_KIB_PER_SECOND_CAPACITY)).build());
-        expected.add(new EnvVarBuilder().withName(ENV_VAR_BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY).withValue(Double.toString(DEFAULT_BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY)).build());
+        expected.add(new EnvVarBuilder().withName(ENV_VAR_CRUISE_CONTROL_CAPACITY_CONFIGURATION).withValue(getExpectedDefaultCapacity().encodePrettily()).build());
         expected.add(new EnvVarBuilder().withName(KafkaMirrorMakerCluster.ENV_VAR_KAFKA_HEAP_OPTS).withValue(kafkaHeapOpts).build());
         expected.add(new EnvVarBuilder().withName(CruiseControl.ENV_VAR_CRUISE_CONTROL_CONFIGURATION).withValue(configuration.getConfiguration()).build());
 
         return expected;
     }
 
+    private JsonObject getExpectedDefaultCapacity() {
+        return new JsonObject().put("brokerCapacities", new JsonArray().add(new JsonObject()
+                .put("brokerId", Capacity.DEFAULT_BROKER_ID)
+                .put("capacity", new JsonObject()
+                        .put("DISK", Double.toString(DEFAULT_BROKER_DISK_MIB_CAPACITY))
+                        .put("CPU", Integer.toString(DEFAULT_BROKER_CPU_UTILIZATION_CAPACITY))
+                        .put("NW_IN", Double.toString(DEFAULT_BROKER_INBOUND_NETWORK_KIB_PER_SECOND_CAPACITY))
+                        .put("NW_OUT", Double.toString(DEFAULT_BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY)))
+                .put("doc", Capacity.DEFAULT_BROKER_DOC)));
+    }
+
+    private JsonObject getCapacityConfiguration(Kafka resource) {
+        return new JsonObject(getCapacityConfigurationFromEnvVar(resource, ENV_VAR_CRUISE_CONTROL_CAPACITY_CONFIGURATION));
+    }
+
+    private static JsonObject getBrokerCapacity(JsonObject capacityConfiguration, String brokerId) {
+        return capacityConfiguration.getJsonArray("brokerCapacities").stream()
+                .map(JsonObject.class::cast)
+                .filter(broker -> brokerId.equals(broker.getString("brokerId")))
+                .findFirst()
+                .orElseThrow()
+                .getJsonObject("capacity");
+    }
+
     public String getCapacityConfigurationFromEnvVar(Kafka resource, String envVar) {
         CruiseControl cc = CruiseControl.fromCrd(Reconciliation.DUMMY_RECONCILIATION, resource, VERSIONS);
         Deployment dep = cc.generateDeployment(true, null, null, null);
@@ -218,10 +240,12 @@ public class CruiseControlTest {
             .build();
 
         Capacity generatedCapacity = new Capacity(resource.getSpec());
-        assertThat(getCapacityConfigurationFromEnvVar(resource, ENV_VAR_BROKER_DISK_MIB_CAPACITY), is(Double.toString(generatedCapacity.getDiskMiB())));
-        assertThat(getCapacityConfigurationFromEnvVar(resource, ENV_VAR_BROKER_CPU_UTILIZATION_CAPACITY), is(Integer.toString(generatedCapacity.getCpuUtilization())));
-        assertThat(getCapacityConfigurationFromEnvVar(resource, ENV_VAR_BROKER_INBOUND_NETWORK_KIB_PER_SECOND_CAPACITY), is(Double.toString(generatedCapacity.getInboundNetworkKiBPerSecond())));
-        assertThat(getCapacityConfigurationFromEnvVar(resource, ENV_VAR_BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY), is(Double.toString(generatedCapacity.getOutboundNetworkKiBPerSecond())));
+        JsonObject defaultCapacity = getBrokerCapacity(getCapacityConfiguration(resource), Capacity.DEFAULT_BROKER_ID);
+        assertThat(defaultCapacity.getString("DISK"), is(Double.toString(generatedCapacity.getDiskMiB())));
+        assertThat(defaultCapacity.getString("CPU"), is(Integer.toString(generatedCapacity.getCpuUtilization())));
+        assertThat(defaultCapacity.getString("NW_IN"), is(Double.toString(generatedCapacity.getInboundNetworkKiBPerSecond())));
+        assertThat(defaultCapacity.getString("NW_OUT"), is(Double.toString(generatedCapacity.getOutboundNetworkKiBPerSecond())));
+        assertThat(getCapacityConfiguration(resource).getJsonArray("brokerCapacities").size(), is(1));
 
         // Test generated disk capacity
         JbodStorage jbodStorage = new JbodStorage();
@@ -250,7 +274,62 @@ public class CruiseControlTest {
             .build();
 
         generatedCapacity = new Capacity(resource.getSpec());
-        assertThat(getCapacityConfigurationFromEnvVar(resource, ENV_VAR_BROKER_DISK_MIB_CAPACITY), is(Double.toString(generatedCapacity.getDiskMiB())));
+        JsonObject capacityConfiguration = getCapacityConfiguration(resource);
+        assertThat(getBrokerCapacity(capacityConfiguration, Capacity.DEFAULT_BROKER_ID).getString("DISK"), is(Double.toString(generatedCapacity.getDiskMiB())));
+
+        // JBOD storage has the capacity of each volume configured per broker
+        JsonObject broker0Disk = getBrokerCapacity(capacityConfiguration, "0").getJsonObject("DISK");
+        assertThat(broker0Disk.size(), is(2));
+        assertThat(broker0Disk.getString("/var/lib/kafka/data-0/kafka-log0"), is(Double.toString(Capacity.getSizeInMiB("50Gi"))));
+        assertThat(broker0Disk.getString("/var/lib/kafka/data-1/kafka-log0"), is(Double.toString(Capacity.getSizeInMiB("50G"))));
+    }
+
+    @ParallelTest
+    public void testBrokerCapacityOverrides() {
+        BrokerCapacity brokerCapacity = new BrokerCapacityBuilder()
+                .withInboundNetwork("10000KiB/s")
+                .withOutboundNetwork("10000KiB/s")
+                .withOverrides(new BrokerCapacityOverrideBuilder()
+                            .withBrokers(0, 2)
+                            .withCpuUtilization(50)
+                            .withInboundNetwork("20000KiB/s")
+                        .build())
+                .build();
+
+        Kafka resource = new KafkaBuilder(ResourceUtils.createKafka(namespace, cluster, 3, image, healthDelay, healthTimeout))
+            .editSpec()
+                .editKafka()
+                    .withVersion(version)
+                .endKafka()
+                .withNewCruiseControl()
+                    .withImage(ccImage)
+                    .withBrokerCapacity(brokerCapacity)
+                .endCruiseControl()
+            .endSpec()
+            .build();
+
+        JsonObject capacityConfiguration = getCapacityConfiguration(resource);
+        assertThat(capacityConfiguration.getJsonArray("brokerCapacities").size(), is(4));
+
+        JsonObject broker0 = getBrokerCapacity(capacityConfiguration, "0");
+        assertThat(broker0.getString("CPU"), is("50"));
+        assertThat(broker0.getString("NW_IN"), is("20000.0"));
+        assertThat(broker0.getString("NW_OUT"), is("10000.0"));
+
+        JsonObject broker1 = getBrokerCapacity(capacityConfiguration, "1");
+        assertThat(broker1.getString("CPU"), is(Integer.toString(DEFAULT_BROKER_CPU_UTILIZATION_CAPACITY)));
+        assertThat(broker1.getString("NW_IN"), is("10000.0"));
+
+        assertThat(getBrokerCapacity(capacityConfiguration, "2"), is(broker0));
+
+        // The capacity follows the number of brokers and storage actually used by the Kafka cluster
+        CruiseControl scaledCc = CruiseControl.fromCrd(Reconciliation.DUMMY_RECONCILIATION, resource, VERSIONS, resource.getSpec().getKafka().getStorage(), 4);
+        String capacity = scaledCc.getEnvVars().stream()
+                .filter(var -> ENV_VAR_CRUISE_CONTROL_CAPACITY_CONFIGURATION.equals(var.getName()))
+                .map(EnvVar::getValue)
+                .findFirst()
+                .orElseThrow();
+        assertThat(new JsonObject(capacity).getJsonArray("brokerCapacities").size(), is(5));
     }
 
     @ParallelTest
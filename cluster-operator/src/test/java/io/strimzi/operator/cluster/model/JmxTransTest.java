@@ -19,6 +19,7 @@ import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.strimzi.api.kafka.model.ContainerEnvVar;
 import io.strimzi.api.kafka.model.InlineLogging;
 import io.strimzi.api.kafka.model.JmxPrometheusExporterMetrics;
+import io.strimzi.api.kafka.model.JmxTransMetricsSource;
 import io.strimzi.api.kafka.model.JmxTransSpec;
 import io.strimzi.api.kafka.model.JmxTransSpecBuilder;
 import io.strimzi.api.kafka.model.Kafka;
@@ -27,6 +28,7 @@ import io.strimzi.api.kafka.model.KafkaJmxAuthenticationPasswordBuilder;
 import io.strimzi.api.kafka.model.KafkaJmxOptionsBuilder;
 import io.strimzi.api.kafka.model.template.ContainerTemplate;
 import io.strimzi.api.kafka.model.template.JmxTransOutputDefinitionTemplateBuilder;
+import io.strimzi.api.kafka.model.template.JmxTransQueryAggregation;
 import io.strimzi.api.kafka.model.template.JmxTransQueryTemplateBuilder;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.cluster.ResourceUtils;
@@ -54,7 +56,10 @@ import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ParallelSuite
 public class JmxTransTest {
@@ -390,4 +395,80 @@ public class JmxTransTest {
                         hasProperty("securityContext", equalTo(securityContext))
                 )));
     }
+
+    private Kafka prometheusSourceKafka(String outputType) {
+        return new KafkaBuilder(kafkaAssembly)
+                .editSpec()
+                    .editKafka()
+                        .withJmxOptions(null)
+                    .endKafka()
+                    .withJmxTrans(new JmxTransSpecBuilder()
+                            .withMetricsSource(JmxTransMetricsSource.PROMETHEUS)
+                            .withOutputDefinitions(new JmxTransOutputDefinitionTemplateBuilder()
+                                        .withName("graphite")
+                                        .withOutputType(outputType)
+                                        .withHost("my-graphite")
+                                        .withPort(2003)
+                                        .build(),
+                                    new JmxTransOutputDefinitionTemplateBuilder()
+                                        .withName("standardOut")
+                                        .withOutputType("com.googlecode.jmxtrans.model.output.StdOutWriter")
+                                        .build())
+                            .withKafkaQueries(new JmxTransQueryTemplateBuilder()
+                                        .withTargetMBean("kafka_server_brokertopicmetrics_.*_total")
+                                        .withAttributes("topic")
+                                        .withAggregation(JmxTransQueryAggregation.SUM)
+                                        .withOutputs("graphite", "standardOut")
+                                        .build(),
+                                    new JmxTransQueryTemplateBuilder()
+                                        .withTargetMBean("kafka_controller_kafkacontroller_activecontrollercount")
+                                        .withAttributes()
+                                        .withOutputs("standardOut")
+                                        .build())
+                            .build())
+                .endSpec()
+                .build();
+    }
+
+    @ParallelTest
+    public void testPrometheusMetricsSource() throws JsonProcessingException {
+        Kafka resource = prometheusSourceKafka("com.googlecode.jmxtrans.model.output.GraphiteWriterFactory");
+        JmxTrans jmxTrans = JmxTrans.fromCrd(Reconciliation.DUMMY_RECONCILIATION, resource, VERSIONS);
+
+        assertThat(jmxTrans.getMetricsSource(), is(JmxTransMetricsSource.PROMETHEUS));
+        assertThat(jmxTrans.isJmxAuthenticated(), is(false));
+
+        ConfigMap cm = jmxTrans.generateJmxTransConfigMap(resource.getSpec().getJmxTrans(), 2);
+        assertThat(cm.getData().get(JmxTrans.JMXTRANS_CONFIGMAP_KEY), is(nullValue()));
+        assertThat(cm.getData().get(JmxTrans.PROMETHEUS_BRIDGE_CONFIGMAP_KEY), is(
+                "broker foo-kafka-0 foo-kafka-0.foo-kafka-brokers 9404\n" +
+                "broker foo-kafka-1 foo-kafka-1.foo-kafka-brokers 9404\n" +
+                "output graphite graphite my-graphite 2003\n" +
+                "output standardOut stdout - -\n" +
+                "query sum graphite,standardOut topic kafka_server_brokertopicmetrics_.*_total\n" +
+                "query none standardOut - kafka_controller_kafkacontroller_activecontrollercount\n"));
+
+        Deployment deployment = jmxTrans.generateDeployment(null, null);
+        List<EnvVar> envVars = deployment.getSpec().getTemplate().getSpec().getContainers().get(0).getEnv();
+        assertThat(envVars, hasItem(new EnvVar(JmxTrans.ENV_VAR_JMXTRANS_METRICS_SOURCE, "prometheus", null)));
+        assertThat(envVars.stream().anyMatch(var -> KafkaCluster.ENV_VAR_KAFKA_JMX_USERNAME.equals(var.getName())), is(false));
+        assertThat(deployment.getSpec().getTemplate().getSpec().getContainers().get(0).getReadinessProbe().getExec().getCommand(),
+                is(List.of("/opt/jmx/jmxtrans_readiness_check.sh", "foo-kafka-brokers", "9404")));
+    }
+
+    @ParallelTest
+    public void testPrometheusMetricsSourceValidation() {
+        Kafka unsupportedOutput = prometheusSourceKafka("com.googlecode.jmxtrans.model.output.InfluxDbWriterFactory");
+        InvalidResourceException e = assertThrows(InvalidResourceException.class,
+            () -> JmxTrans.fromCrd(Reconciliation.DUMMY_RECONCILIATION, unsupportedOutput, VERSIONS));
+        assertThat(e.getMessage(), containsString("output type com.googlecode.jmxtrans.model.output.InfluxDbWriterFactory of output graphite is not supported"));
+
+        // The builder ignores a null polymorphic metrics configuration, so it is unset directly
+        Kafka noMetrics = prometheusSourceKafka("com.googlecode.jmxtrans.model.output.GraphiteWriter");
+        noMetrics.getSpec().getKafka().setMetricsConfig(null);
+        assertThat(noMetrics.getSpec().getKafka().getMetricsConfig(), is(nullValue()));
+        e = assertThrows(InvalidResourceException.class,
+            () -> JmxTrans.fromCrd(Reconciliation.DUMMY_RECONCILIATION, noMetrics, VERSIONS));
+        assertThat(e.getMessage(), containsString("Kafka spec.kafka.metricsConfig is not specified"));
+    }
 }
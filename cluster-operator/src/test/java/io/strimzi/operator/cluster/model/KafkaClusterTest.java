@@ -3054,6 +3054,39 @@ public class KafkaClusterTest {
 
     }
 
+    @ParallelTest
+    public void testInitContainerPreResolvedRackAndAddresses() {
+        Kafka kafkaAssembly = new KafkaBuilder(ResourceUtils.createKafka(namespace, cluster, replicas,
+                image, healthDelay, healthTimeout, jmxMetricsConfig, configuration, emptyMap()))
+                .editSpec()
+                    .editKafka()
+                        .withNewRack().withTopologyKey("rack-key").endRack()
+                        .withListeners(new GenericKafkaListenerBuilder()
+                                .withName("external")
+                                .withPort(9094)
+                                .withType(KafkaListenerType.NODEPORT)
+                                .withTls(true)
+                                .build())
+                    .endKafka()
+                .endSpec()
+                .build();
+
+        List<EnvVar> initEnvVars = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafkaAssembly, VERSIONS).getInitContainerEnvVars();
+
+        EnvVar rackId = initEnvVars.stream().filter(env -> KafkaCluster.ENV_VAR_KAFKA_INIT_RACK_ID.equals(env.getName())).findFirst().orElse(null);
+        assertThat(rackId, is(notNullValue()));
+        assertThat(rackId.getValueFrom().getFieldRef().getFieldPath(), is("metadata.annotations['strimzi.io/rack-id']"));
+
+        EnvVar nodeAddresses = initEnvVars.stream().filter(env -> KafkaCluster.ENV_VAR_KAFKA_INIT_NODE_ADDRESSES.equals(env.getName())).findFirst().orElse(null);
+        assertThat(nodeAddresses, is(notNullValue()));
+        assertThat(nodeAddresses.getValueFrom().getFieldRef().getFieldPath(), is("metadata.annotations['strimzi.io/node-addresses']"));
+
+        // Without rack and node port listeners, the pre-resolved values are not used
+        initEnvVars = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, this.kafkaAssembly, VERSIONS).getInitContainerEnvVars();
+        assertThat(initEnvVars.stream().anyMatch(env -> KafkaCluster.ENV_VAR_KAFKA_INIT_RACK_ID.equals(env.getName())), is(false));
+        assertThat(initEnvVars.stream().anyMatch(env -> KafkaCluster.ENV_VAR_KAFKA_INIT_NODE_ADDRESSES.equals(env.getName())), is(false));
+    }
+
     @ParallelTest
     public void testInitContainerEnvVarsConflict() {
         ContainerEnvVar envVar1 = new ContainerEnvVar();
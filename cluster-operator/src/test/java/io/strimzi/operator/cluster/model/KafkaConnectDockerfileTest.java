@@ -9,6 +9,7 @@ import io.strimzi.api.kafka.model.connect.build.Build;
 import io.strimzi.api.kafka.model.connect.build.BuildBuilder;
 import io.strimzi.api.kafka.model.connect.build.JarArtifactBuilder;
 import io.strimzi.api.kafka.model.connect.build.OtherArtifactBuilder;
+import io.strimzi.api.kafka.model.connect.build.Plugin;
 import io.strimzi.api.kafka.model.connect.build.PluginBuilder;
 import io.strimzi.api.kafka.model.connect.build.TgzArtifactBuilder;
 import io.strimzi.api.kafka.model.connect.build.ZipArtifactBuilder;
@@ -18,6 +19,7 @@ import io.strimzi.test.annotations.ParallelTest;
 import static io.strimzi.operator.cluster.model.KafkaBrokerConfigurationBuilderTest.IsEquivalent.isEquivalent;
 import static java.util.Collections.emptyList;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 @ParallelSuite
@@ -74,8 +76,8 @@ public class KafkaConnectDockerfileTest {
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild);
 
         assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
-                "USER root:root",
                 "USER 1001"));
+        assertThat(df.getPluginLayers().isEmpty(), is(true));
     }
 
     @ParallelTest
@@ -90,8 +92,8 @@ public class KafkaConnectDockerfileTest {
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild);
 
         assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
-                "USER root:root",
                 "USER 1001"));
+        assertThat(df.getPluginLayers().isEmpty(), is(true));
     }
 
     @ParallelTest
@@ -105,10 +107,12 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS " + stage(df, 0),
                 "USER root:root",
                 "RUN mkdir -p /opt/kafka/plugins/my-connector-plugin/51e5038c \\",
                 "      && curl -L --output /opt/kafka/plugins/my-connector-plugin/51e5038c/51e5038c.jar https://mydomain.tld/my.jar",
+                "FROM myImage:latest",
+                "COPY --from=" + stage(df, 0) + " /opt/kafka/plugins/my-connector-plugin /opt/kafka/plugins/my-connector-plugin",
                 "USER 1001"));
     }
 
@@ -123,13 +127,15 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS " + stage(df, 0),
                 "USER root:root",
                 "RUN mkdir -p /opt/kafka/plugins/my-connector-plugin/0df6d15c \\",
                 "      && curl -L --output /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar https://mydomain.tld/my2.jar \\",
                 "      && echo \"sha-512-checksum /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar\" > /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512 \\",
                 "      && sha512sum --check /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512 \\",
                 "      && rm -f /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512",
+                "FROM myImage:latest",
+                "COPY --from=" + stage(df, 0) + " /opt/kafka/plugins/my-connector-plugin /opt/kafka/plugins/my-connector-plugin",
                 "USER 1001"));
     }
 
@@ -144,10 +150,12 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS " + stage(df, 0),
                 "USER root:root",
                 "RUN mkdir -p /opt/kafka/plugins/my-connector-plugin/2c3b64c7 \\",
                 "      && curl -L --output /opt/kafka/plugins/my-connector-plugin/2c3b64c7/my.so https://mydomain.tld/download?artifact=my.so",
+                "FROM myImage:latest",
+                "COPY --from=" + stage(df, 0) + " /opt/kafka/plugins/my-connector-plugin /opt/kafka/plugins/my-connector-plugin",
                 "USER 1001"));
     }
 
@@ -162,13 +170,15 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS " + stage(df, 0),
                 "USER root:root",
                 "RUN mkdir -p /opt/kafka/plugins/my-connector-plugin/2e6fee06 \\",
                 "      && curl -L --output /opt/kafka/plugins/my-connector-plugin/2e6fee06/my2.so https://mydomain.tld/download?artifactId=1874 \\",
                 "      && echo \"sha-512-checksum /opt/kafka/plugins/my-connector-plugin/2e6fee06/my2.so\" > /opt/kafka/plugins/my-connector-plugin/2e6fee06/my2.so.sha512 \\",
                 "      && sha512sum --check /opt/kafka/plugins/my-connector-plugin/2e6fee06/my2.so.sha512 \\",
                 "      && rm -f /opt/kafka/plugins/my-connector-plugin/2e6fee06/my2.so.sha512",
+                "FROM myImage:latest",
+                "COPY --from=" + stage(df, 0) + " /opt/kafka/plugins/my-connector-plugin /opt/kafka/plugins/my-connector-plugin",
                 "USER 1001"));
     }
 
@@ -183,13 +193,15 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS " + stage(df, 0),
                 "USER root:root",
                 "RUN mkdir -p /opt/kafka/plugins/my-connector-plugin/2e6fee06 \\",
                 "      && curl -L --output /opt/kafka/plugins/my-connector-plugin/2e6fee06/2e6fee06 https://mydomain.tld/download?artifactId=1874 \\",
                 "      && echo \"sha-512-checksum /opt/kafka/plugins/my-connector-plugin/2e6fee06/2e6fee06\" > /opt/kafka/plugins/my-connector-plugin/2e6fee06/2e6fee06.sha512 \\",
                 "      && sha512sum --check /opt/kafka/plugins/my-connector-plugin/2e6fee06/2e6fee06.sha512 \\",
                 "      && rm -f /opt/kafka/plugins/my-connector-plugin/2e6fee06/2e6fee06.sha512",
+                "FROM myImage:latest",
+                "COPY --from=" + stage(df, 0) + " /opt/kafka/plugins/my-connector-plugin /opt/kafka/plugins/my-connector-plugin",
                 "USER 1001"));
     }
 
@@ -204,7 +216,7 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS " + stage(df, 0),
                 "USER root:root",
                 "RUN mkdir -p /opt/kafka/plugins/my-connector-plugin/51e5038c \\",
                 "      && curl -L --output /opt/kafka/plugins/my-connector-plugin/51e5038c/51e5038c.jar https://mydomain.tld/my.jar",
@@ -213,6 +225,8 @@ public class KafkaConnectDockerfileTest {
                 "      && echo \"sha-512-checksum /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar\" > /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512 \\",
                 "      && sha512sum --check /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512 \\",
                 "      && rm -f /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512",
+                "FROM myImage:latest",
+                "COPY --from=" + stage(df, 0) + " /opt/kafka/plugins/my-connector-plugin /opt/kafka/plugins/my-connector-plugin",
                 "USER 1001"));
     }
 
@@ -227,12 +241,14 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS " + stage(df, 0),
                 "USER root:root",
                 "RUN mkdir -p /opt/kafka/plugins/my-connector-plugin/6718766b \\",
                 "      && curl -L --output /opt/kafka/plugins/my-connector-plugin/6718766b.tgz https://mydomain.tld/my.tgz \\",
                 "      && tar xvfz /opt/kafka/plugins/my-connector-plugin/6718766b.tgz -C /opt/kafka/plugins/my-connector-plugin/6718766b \\",
                 "      && rm -vf /opt/kafka/plugins/my-connector-plugin/6718766b.tgz",
+                "FROM myImage:latest",
+                "COPY --from=" + stage(df, 0) + " /opt/kafka/plugins/my-connector-plugin /opt/kafka/plugins/my-connector-plugin",
                 "USER 1001"));
     }
 
@@ -247,13 +263,15 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS " + stage(df, 0),
                 "USER root:root",
                 "RUN mkdir -p /opt/kafka/plugins/my-connector-plugin/d8d533bc \\",
                 "      && curl -L --output /opt/kafka/plugins/my-connector-plugin/d8d533bc.zip https://mydomain.tld/my.zip \\",
                 "      && unzip /opt/kafka/plugins/my-connector-plugin/d8d533bc.zip -d /opt/kafka/plugins/my-connector-plugin/d8d533bc \\",
                 "      && find /opt/kafka/plugins/my-connector-plugin/d8d533bc -type l | xargs rm -f \\",
                 "      && rm -vf /opt/kafka/plugins/my-connector-plugin/d8d533bc.zip",
+                "FROM myImage:latest",
+                "COPY --from=" + stage(df, 0) + " /opt/kafka/plugins/my-connector-plugin /opt/kafka/plugins/my-connector-plugin",
                 "USER 1001"));
     }
 
@@ -268,7 +286,7 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS " + stage(df, 0),
                 "USER root:root",
                 "RUN mkdir -p /opt/kafka/plugins/my-connector-plugin/90e04094 \\",
                 "      && curl -L --output /opt/kafka/plugins/my-connector-plugin/90e04094.zip https://mydomain.tld/my2.zip \\",
@@ -278,6 +296,8 @@ public class KafkaConnectDockerfileTest {
                 "      && unzip /opt/kafka/plugins/my-connector-plugin/90e04094.zip -d /opt/kafka/plugins/my-connector-plugin/90e04094 \\",
                 "      && find /opt/kafka/plugins/my-connector-plugin/90e04094 -type l | xargs rm -f \\",
                 "      && rm -vf /opt/kafka/plugins/my-connector-plugin/90e04094.zip",
+                "FROM myImage:latest",
+                "COPY --from=" + stage(df, 0) + " /opt/kafka/plugins/my-connector-plugin /opt/kafka/plugins/my-connector-plugin",
                 "USER 1001"));
     }
 
@@ -292,7 +312,7 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS " + stage(df, 0),
                 "USER root:root",
                 "RUN mkdir -p /opt/kafka/plugins/my-connector-plugin/638bd501 \\",
                 "      && curl -L --output /opt/kafka/plugins/my-connector-plugin/638bd501.tgz https://mydomain.tld/my2.tgz \\",
@@ -301,6 +321,8 @@ public class KafkaConnectDockerfileTest {
                 "      && rm -f /opt/kafka/plugins/my-connector-plugin/638bd501.tgz.sha512 \\",
                 "      && tar xvfz /opt/kafka/plugins/my-connector-plugin/638bd501.tgz -C /opt/kafka/plugins/my-connector-plugin/638bd501 \\",
                 "      && rm -vf /opt/kafka/plugins/my-connector-plugin/638bd501.tgz",
+                "FROM myImage:latest",
+                "COPY --from=" + stage(df, 0) + " /opt/kafka/plugins/my-connector-plugin /opt/kafka/plugins/my-connector-plugin",
                 "USER 1001"));
     }
 
@@ -315,7 +337,7 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS " + stage(df, 0),
                 "USER root:root",
                 "RUN mkdir -p /opt/kafka/plugins/my-connector-plugin/6718766b \\",
                 "      && curl -L --output /opt/kafka/plugins/my-connector-plugin/6718766b.tgz https://mydomain.tld/my.tgz \\",
@@ -328,6 +350,8 @@ public class KafkaConnectDockerfileTest {
                 "      && rm -f /opt/kafka/plugins/my-connector-plugin/638bd501.tgz.sha512 \\",
                 "      && tar xvfz /opt/kafka/plugins/my-connector-plugin/638bd501.tgz -C /opt/kafka/plugins/my-connector-plugin/638bd501 \\",
                 "      && rm -vf /opt/kafka/plugins/my-connector-plugin/638bd501.tgz",
+                "FROM myImage:latest",
+                "COPY --from=" + stage(df, 0) + " /opt/kafka/plugins/my-connector-plugin /opt/kafka/plugins/my-connector-plugin",
                 "USER 1001"));
     }
 
@@ -342,7 +366,7 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS " + stage(df, 0),
                 "USER root:root",
                 "RUN mkdir -p /opt/kafka/plugins/my-connector-plugin/d8d533bc \\",
                 "      && curl -L --output /opt/kafka/plugins/my-connector-plugin/d8d533bc.zip https://mydomain.tld/my.zip \\",
@@ -357,6 +381,8 @@ public class KafkaConnectDockerfileTest {
                 "      && unzip /opt/kafka/plugins/my-connector-plugin/90e04094.zip -d /opt/kafka/plugins/my-connector-plugin/90e04094 \\",
                 "      && find /opt/kafka/plugins/my-connector-plugin/90e04094 -type l | xargs rm -f \\",
                 "      && rm -vf /opt/kafka/plugins/my-connector-plugin/90e04094.zip",
+                "FROM myImage:latest",
+                "COPY --from=" + stage(df, 0) + " /opt/kafka/plugins/my-connector-plugin /opt/kafka/plugins/my-connector-plugin",
                 "USER 1001"));
     }
 
@@ -378,13 +404,13 @@ public class KafkaConnectDockerfileTest {
                 "##############################\n" +
                 "##############################\n" +
                 "\n" +
-                "FROM myImage:latest\n" +
-                "\n" +
-                "USER root:root\n" +
-                "\n" +
                 "##########\n" +
                 "# Connector plugin my-connector-plugin\n" +
                 "##########\n" +
+                "FROM myImage:latest AS " + stage(df, 0) + "\n" +
+                "\n" +
+                "USER root:root\n" +
+                "\n" +
                 "RUN mkdir -p /opt/kafka/plugins/my-connector-plugin/51e5038c \\\n" +
                 "      && curl -L --output /opt/kafka/plugins/my-connector-plugin/51e5038c/51e5038c.jar https://mydomain.tld/my.jar\n" +
                 "\n" +
@@ -394,6 +420,93 @@ public class KafkaConnectDockerfileTest {
                 "      && sha512sum --check /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512 \\\n" +
                 "      && rm -f /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512\n" +
                 "\n" +
+                "##########\n" +
+                "# Kafka Connect image with connector plugins\n" +
+                "##########\n" +
+                "FROM myImage:latest\n" +
+                "\n" +
+                "COPY --from=" + stage(df, 0) + " /opt/kafka/plugins/my-connector-plugin /opt/kafka/plugins/my-connector-plugin\n" +
+                "\n" +
                 "USER 1001\n\n"));
     }
+
+    @ParallelTest
+    public void testMultiplePlugins()   {
+        Build connectBuild = new BuildBuilder()
+                .withPlugins(new PluginBuilder()
+                                .withName("my-connector-plugin")
+                                .withArtifacts(jarArtifactNoChecksum)
+                                .build(),
+                        new PluginBuilder()
+                                .withName("my-connector-plugin2")
+                                .withArtifacts(tgzArtifactNoChecksum)
+                                .build())
+                .build();
+
+        KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild);
+
+        assertThat(df.getPluginLayers().size(), is(2));
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS " + stage(df, 0),
+                "USER root:root",
+                "RUN mkdir -p /opt/kafka/plugins/my-connector-plugin/51e5038c \\",
+                "      && curl -L --output /opt/kafka/plugins/my-connector-plugin/51e5038c/51e5038c.jar https://mydomain.tld/my.jar",
+                "FROM myImage:latest AS " + stage(df, 1),
+                "RUN mkdir -p /opt/kafka/plugins/my-connector-plugin2/6718766b \\",
+                "      && curl -L --output /opt/kafka/plugins/my-connector-plugin2/6718766b.tgz https://mydomain.tld/my.tgz \\",
+                "      && tar xvfz /opt/kafka/plugins/my-connector-plugin2/6718766b.tgz -C /opt/kafka/plugins/my-connector-plugin2/6718766b \\",
+                "      && rm -vf /opt/kafka/plugins/my-connector-plugin2/6718766b.tgz",
+                "FROM myImage:latest",
+                "COPY --from=" + stage(df, 0) + " /opt/kafka/plugins/my-connector-plugin /opt/kafka/plugins/my-connector-plugin",
+                "COPY --from=" + stage(df, 1) + " /opt/kafka/plugins/my-connector-plugin2 /opt/kafka/plugins/my-connector-plugin2",
+                "USER 1001"));
+    }
+
+    @ParallelTest
+    public void testPluginLayersChangeOnlyWithThePlugin()   {
+        Plugin plugin1 = new PluginBuilder()
+                .withName("my-connector-plugin")
+                .withArtifacts(jarArtifactNoChecksum)
+                .build();
+
+        Plugin plugin2 = new PluginBuilder()
+                .withName("my-connector-plugin2")
+                .withArtifacts(zipArtifactNoChecksum)
+                .build();
+
+        Plugin plugin2WithChecksum = new PluginBuilder()
+                .withName("my-connector-plugin2")
+                .withArtifacts(zipArtifactWithChecksum)
+                .build();
+
+        KafkaConnectDockerfile original = new KafkaConnectDockerfile("myImage:latest", new BuildBuilder().withPlugins(plugin1, plugin2).build());
+        KafkaConnectDockerfile changedPlugin = new KafkaConnectDockerfile("myImage:latest", new BuildBuilder().withPlugins(plugin1, plugin2WithChecksum).build());
+        KafkaConnectDockerfile changedImage = new KafkaConnectDockerfile("myImage:2.0", new BuildBuilder().withPlugins(plugin1, plugin2).build());
+
+        // Only the layer of the changed plugin changes
+        assertThat(changedPlugin.getPluginLayers().get(0), is(original.getPluginLayers().get(0)));
+        assertThat(changedPlugin.getPluginLayers().get(1), is(not(original.getPluginLayers().get(1))));
+        assertThat(changedPlugin.hashStub(), is(not(original.hashStub())));
+
+        // Changing the base image changes all layers
+        assertThat(changedImage.getPluginLayers().get(0), is(not(original.getPluginLayers().get(0))));
+        assertThat(changedImage.getPluginLayers().get(1), is(not(original.getPluginLayers().get(1))));
+    }
+
+    @ParallelTest
+    public void testIdenticalPluginsShareStage()   {
+        Plugin plugin = new PluginBuilder()
+                .withName("my-connector-plugin")
+                .withArtifacts(jarArtifactNoChecksum)
+                .build();
+
+        KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", new BuildBuilder().withPlugins(plugin, plugin).build());
+
+        assertThat(df.getPluginLayers().size(), is(2));
+        assertThat(df.getPluginLayers().get(0), is(df.getPluginLayers().get(1)));
+        assertThat(df.getDockerfile().split("FROM myImage:latest AS " + stage(df, 0), -1).length, is(2));
+    }
+
+    private static String stage(KafkaConnectDockerfile dockerfile, int plugin)  {
+        return "plugin-" + dockerfile.getPluginLayers().get(plugin);
+    }
 }
@@ -173,6 +173,7 @@ public class KafkaMirrorMakerClusterTest {
         expected.add(new EnvVarBuilder().withName(KafkaMirrorMakerCluster.ENV_VAR_KAFKA_HEAP_OPTS).withValue(kafkaHeapOpts).build());
         expected.add(new EnvVarBuilder().withName(KafkaMirrorMakerCluster.ENV_VAR_STRIMZI_LIVENESS_PERIOD).withValue("10").build());
         expected.add(new EnvVarBuilder().withName(KafkaMirrorMakerCluster.ENV_VAR_STRIMZI_READINESS_PERIOD).withValue("10").build());
+        expected.add(new EnvVarBuilder().withName(KafkaMirrorMakerCluster.ENV_VAR_STRIMZI_STALL_TIMEOUT).withValue("300").build());
 
         return expected;
     }
@@ -250,6 +251,30 @@ public class KafkaMirrorMakerClusterTest {
         assertThat(mm.getEnvVars(), is(getExpectedEnvVars()));
     }
 
+    @ParallelTest
+    public void testStallTimeout()   {
+        KafkaMirrorMaker withStallTimeout = new KafkaMirrorMakerBuilder(resource)
+                .editMetadata()
+                    .addToAnnotations(KafkaMirrorMakerCluster.ANNO_STRIMZI_IO_STALL_TIMEOUT, "600")
+                .endMetadata()
+                .build();
+
+        List<EnvVar> envVars = KafkaMirrorMakerCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, withStallTimeout, VERSIONS).getEnvVars();
+        assertThat(envVars.stream().filter(env -> KafkaMirrorMakerCluster.ENV_VAR_STRIMZI_STALL_TIMEOUT.equals(env.getName()))
+                .map(EnvVar::getValue).findFirst().orElse(null), is("600"));
+
+        // Invalid values fall back to the default
+        KafkaMirrorMaker withInvalidStallTimeout = new KafkaMirrorMakerBuilder(resource)
+                .editMetadata()
+                    .addToAnnotations(KafkaMirrorMakerCluster.ANNO_STRIMZI_IO_STALL_TIMEOUT, "-1")
+                .endMetadata()
+                .build();
+
+        envVars = KafkaMirrorMakerCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, withInvalidStallTimeout, VERSIONS).getEnvVars();
+        assertThat(envVars.stream().filter(env -> KafkaMirrorMakerCluster.ENV_VAR_STRIMZI_STALL_TIMEOUT.equals(env.getName()))
+                .map(EnvVar::getValue).findFirst().orElse(null), is(String.valueOf(KafkaMirrorMakerCluster.DEFAULT_STALL_TIMEOUT)));
+    }
+
     @ParallelTest
     public void testGenerateDeployment()   {
         Deployment dep = mm.generateDeployment(new HashMap<String, String>(), true, null, null);
@@ -436,6 +436,7 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
         ClusterOperatorConfig config = new ClusterOperatorConfig(
                 singleton("dummy"),
                 60_000,
+                60_000,
                 120_000,
                 300_000,
                 false,
@@ -0,0 +1,316 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.KafkaRebalance;
+import io.strimzi.api.kafka.model.KafkaRebalanceBuilder;
+import io.strimzi.api.kafka.model.balancing.KafkaRebalanceMode;
+import io.strimzi.api.kafka.model.balancing.KafkaRebalanceState;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
+import io.strimzi.operator.KubernetesVersion;
+import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.model.AbstractModel;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperatorTest.findSecretWithName;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaAssemblyOperatorRebalanceOnScalingTest {
+    private static final KafkaVersion.Lookup VERSIONS = KafkaVersionTestUtils.getKafkaVersionLookup();
+    private static final String NAMESPACE = "testns";
+    private static final String NAME = "my-cluster";
+    private static final String ADD_BROKERS = KafkaAssemblyOperator.addBrokersRebalanceName(NAME);
+    private static final String REMOVE_BROKERS = KafkaAssemblyOperator.removeBrokersRebalanceName(NAME);
+
+    private static Vertx vertx;
+
+    private ResourceOperatorSupplier supplier;
+    private KafkaAssemblyOperator op;
+    private ArgumentCaptor<KafkaRebalance> rebalanceCaptor;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @BeforeEach
+    public void setup() {
+        supplier = ResourceUtils.supplierWithMocks(false);
+        when(supplier.podOperations.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(emptyList()));
+
+        rebalanceCaptor = ArgumentCaptor.forClass(KafkaRebalance.class);
+        when(supplier.kafkaRebalanceOperator.reconcile(any(), eq(NAMESPACE), anyString(), rebalanceCaptor.capture())).thenReturn(Future.succeededFuture());
+
+        op = new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.V1_18), new MockCertManager(),
+                new PasswordGenerator(10, "a", "a"), supplier, ResourceUtils.dummyClusterOperatorConfig(VERSIONS));
+    }
+
+    private static Kafka kafka(int replicas, boolean rebalanceOnScaling) {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(NAME)
+                    .withNamespace(NAMESPACE)
+                    .withAnnotations(singletonMap(Annotations.ANNO_STRIMZI_IO_REBALANCE_ON_SCALING, String.valueOf(rebalanceOnScaling)))
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(replicas)
+                        .withListeners(new GenericKafkaListenerBuilder()
+                                .withName("plain")
+                                .withPort(9092)
+                                .withType(KafkaListenerType.INTERNAL)
+                                .withTls(false)
+                                .build())
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endZookeeper()
+                    .withNewCruiseControl()
+                    .endCruiseControl()
+                .endSpec()
+                .build();
+    }
+
+    private void mockCurrentStatefulSet(int replicas, String pendingAddBrokers) {
+        StatefulSet sts = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka(replicas, true), VERSIONS).generateStatefulSet(false, null, null);
+
+        if (pendingAddBrokers != null) {
+            Annotations.annotations(sts).put(KafkaAssemblyOperator.ANNO_STRIMZI_IO_PENDING_ADD_BROKERS, pendingAddBrokers);
+        }
+
+        when(supplier.kafkaSetOperations.getAsync(NAMESPACE, KafkaCluster.kafkaClusterName(NAME))).thenReturn(Future.succeededFuture(sts));
+    }
+
+    private static KafkaRebalance rebalance(String name, KafkaRebalanceMode mode, List<Integer> brokers, boolean ready) {
+        return new KafkaRebalanceBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                    .withMode(mode)
+                    .withBrokers(brokers)
+                .endSpec()
+                .withNewStatus()
+                    .withConditions(new ConditionBuilder()
+                            .withType(ready ? KafkaRebalanceState.Ready.toString() : KafkaRebalanceState.Rebalancing.toString())
+                            .withStatus("True")
+                            .build())
+                .endStatus()
+                .build();
+    }
+
+    /**
+     * Runs the steps of the reconciliation which decide about the rebalancing when scaling the cluster
+     */
+    private Future<KafkaAssemblyOperator.ReconciliationState> reconcileScaling(Kafka kafka) {
+        KafkaAssemblyOperator.ReconciliationState state = op.new ReconciliationState(new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, NAME), kafka);
+
+        return state.getKafkaClusterDescription()
+                .compose(s -> s.kafkaRebalanceBeforeScaleDown())
+                .compose(s -> s.kafkaRebalanceBeforeScaleUp())
+                .compose(s -> s.kafkaRebalanceAfterScaleUp());
+    }
+
+    private static StatefulSet kafkaStatefulSet(KafkaAssemblyOperator.ReconciliationState state) {
+        List<Secret> secrets = ResourceUtils.createKafkaSecretsWithReplicas(NAMESPACE, NAME, 3, 3);
+        state.clusterCa = ResourceUtils.createInitialClusterCa(Reconciliation.DUMMY_RECONCILIATION, NAME,
+                findSecretWithName(secrets, AbstractModel.clusterCaCertSecretName(NAME)), findSecretWithName(secrets, AbstractModel.clusterCaKeySecretName(NAME)));
+        state.clientsCa = ResourceUtils.createInitialClientsCa(Reconciliation.DUMMY_RECONCILIATION, NAME,
+                findSecretWithName(secrets, KafkaCluster.clientsCaCertSecretName(NAME)), findSecretWithName(secrets, KafkaCluster.clientsCaKeySecretName(NAME)));
+
+        return state.getKafkaStatefulSet();
+    }
+
+    private static String pendingAddBrokers(KafkaAssemblyOperator.ReconciliationState state) {
+        return Annotations.annotations(kafkaStatefulSet(state)).get(KafkaAssemblyOperator.ANNO_STRIMZI_IO_PENDING_ADD_BROKERS);
+    }
+
+    @Test
+    public void testScaleUpCreatesAddBrokersRebalance(VertxTestContext context) {
+        mockCurrentStatefulSet(3, null);
+
+        Checkpoint async = context.checkpoint();
+        reconcileScaling(kafka(5, true))
+                .onComplete(context.succeeding(state -> context.verify(() -> {
+                    assertThat(state.kafkaAddedBrokers, is(asList(3, 4)));
+                    assertThat(pendingAddBrokers(state), is("3,4"));
+
+                    // The previous rebalance is deleted before the scale-up and again before the new one is created
+                    List<KafkaRebalance> rebalances = rebalanceCaptor.getAllValues();
+                    assertThat(rebalances, hasSize(3));
+                    assertThat(rebalances.get(0), is(nullValue()));
+                    assertThat(rebalances.get(1), is(nullValue()));
+                    assertThat(rebalances.get(2).getMetadata().getName(), is(ADD_BROKERS));
+                    assertThat(rebalances.get(2).getMetadata().getAnnotations(), hasEntry(Annotations.ANNO_STRIMZI_IO_REBALANCE_AUTO_APPROVAL, "true"));
+                    assertThat(rebalances.get(2).getSpec().getMode(), is(KafkaRebalanceMode.ADD_BROKERS));
+                    assertThat(rebalances.get(2).getSpec().getBrokers(), is(asList(3, 4)));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testPendingAddBrokersAreKeptAfterFailedScaleUp(VertxTestContext context) {
+        // The previous reconciliation scaled the cluster up but failed before it created the KafkaRebalance
+        mockCurrentStatefulSet(5, "3,4");
+        when(supplier.kafkaRebalanceOperator.getAsync(NAMESPACE, ADD_BROKERS)).thenReturn(Future.succeededFuture(null));
+
+        Checkpoint async = context.checkpoint();
+        reconcileScaling(kafka(5, true))
+                .onComplete(context.succeeding(state -> context.verify(() -> {
+                    assertThat(state.kafkaAddedBrokers, is(asList(3, 4)));
+                    assertThat(pendingAddBrokers(state), is("3,4"));
+
+                    KafkaRebalance rebalance = rebalanceCaptor.getValue();
+                    assertThat(rebalance.getMetadata().getName(), is(ADD_BROKERS));
+                    assertThat(rebalance.getSpec().getMode(), is(KafkaRebalanceMode.ADD_BROKERS));
+                    assertThat(rebalance.getSpec().getBrokers(), is(asList(3, 4)));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testPendingAddBrokersAreMergedWithNextScaleUp(VertxTestContext context) {
+        mockCurrentStatefulSet(5, "3,4");
+
+        Checkpoint async = context.checkpoint();
+        reconcileScaling(kafka(6, true))
+                .onComplete(context.succeeding(state -> context.verify(() -> {
+                    assertThat(state.kafkaAddedBrokers, is(asList(3, 4, 5)));
+                    assertThat(pendingAddBrokers(state), is("3,4,5"));
+                    assertThat(rebalanceCaptor.getValue().getSpec().getBrokers(), is(asList(3, 4, 5)));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testPendingAddBrokersAreDroppedOnceRebalanceExists(VertxTestContext context) {
+        mockCurrentStatefulSet(5, "3,4");
+        when(supplier.kafkaRebalanceOperator.getAsync(NAMESPACE, ADD_BROKERS))
+                .thenReturn(Future.succeededFuture(rebalance(ADD_BROKERS, KafkaRebalanceMode.ADD_BROKERS, asList(3, 4), false)));
+
+        Checkpoint async = context.checkpoint();
+        reconcileScaling(kafka(5, true))
+                .onComplete(context.succeeding(state -> context.verify(() -> {
+                    assertThat(state.kafkaAddedBrokers, is(emptyList()));
+                    assertThat(pendingAddBrokers(state), is(nullValue()));
+                    verify(supplier.kafkaRebalanceOperator, never()).reconcile(any(), any(), any(), any());
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testScaleDownIsPostponedUntilBrokersAreDrained(VertxTestContext context) {
+        mockCurrentStatefulSet(5, null);
+        when(supplier.kafkaRebalanceOperator.getAsync(NAMESPACE, REMOVE_BROKERS)).thenReturn(Future.succeededFuture(null));
+
+        Checkpoint async = context.checkpoint();
+        reconcileScaling(kafka(3, true))
+                .onComplete(context.succeeding(state -> context.verify(() -> {
+                    assertThat(state.kafkaStatus.getConditions(), hasSize(1));
+                    assertThat(state.kafkaStatus.getConditions().get(0).getReason(), is("ScaleDownPostponed"));
+                    assertThat(kafkaStatefulSet(state).getSpec().getReplicas(), is(5));
+
+                    KafkaRebalance rebalance = rebalanceCaptor.getValue();
+                    assertThat(rebalance.getMetadata().getName(), is(REMOVE_BROKERS));
+                    assertThat(rebalance.getSpec().getMode(), is(KafkaRebalanceMode.REMOVE_BROKERS));
+                    assertThat(rebalance.getSpec().getBrokers(), is(asList(3, 4)));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testScaleDownContinuesOnceBrokersAreDrained(VertxTestContext context) {
+        mockCurrentStatefulSet(5, null);
+        when(supplier.kafkaRebalanceOperator.getAsync(NAMESPACE, REMOVE_BROKERS))
+                .thenReturn(Future.succeededFuture(rebalance(REMOVE_BROKERS, KafkaRebalanceMode.REMOVE_BROKERS, asList(3, 4), true)));
+
+        Checkpoint async = context.checkpoint();
+        reconcileScaling(kafka(3, true))
+                .onComplete(context.succeeding(state -> context.verify(() -> {
+                    assertThat(state.kafkaStatus.getConditions(), is(nullValue()));
+                    assertThat(kafkaStatefulSet(state).getSpec().getReplicas(), is(3));
+
+                    // The drained rebalance is deleted
+                    verify(supplier.kafkaRebalanceOperator, times(1)).reconcile(any(), eq(NAMESPACE), eq(REMOVE_BROKERS), any());
+                    assertThat(rebalanceCaptor.getValue(), is(nullValue()));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testNoRebalanceWithoutAnnotation(VertxTestContext context) {
+        mockCurrentStatefulSet(3, null);
+
+        Checkpoint async = context.checkpoint();
+        reconcileScaling(kafka(5, false))
+                .onComplete(context.succeeding(state -> context.verify(() -> {
+                    assertThat(state.kafkaAddedBrokers, is(emptyList()));
+                    assertThat(pendingAddBrokers(state), is(nullValue()));
+                    verify(supplier.kafkaRebalanceOperator, never()).getAsync(any(), any());
+                    verify(supplier.kafkaRebalanceOperator, never()).reconcile(any(), any(), any(), any());
+
+                    async.flag();
+                })));
+    }
+}
@@ -176,7 +176,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 .withNewSpec()
                 .endSpec()
                 .withNewStatus()
-                    .withContainerStatuses(new ContainerStatusBuilder().withNewState().withNewTerminated().withExitCode(0).withMessage("my-connect-build@sha256:blablabla").endTerminated().endState().build())
+                    .withContainerStatuses(new ContainerStatusBuilder().withNewState().withNewTerminated().withExitCode(0).withMessage("my-connect-build@sha256:blablabla").withStartedAt("2021-06-01T10:00:00Z").withFinishedAt("2021-06-01T10:01:30Z").endTerminated().endState().build())
                 .endStatus()
                 .build();
         when(mockPodOps.waitFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), anyLong(), any(BiPredicate.class))).thenReturn(Future.succeededFuture((Void) null));
@@ -214,6 +214,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 assertThat(dep.getMetadata().getName(), is(connect.getName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla"));
                 assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub()));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_LAYERS, null), is(String.join(",", build.generateDockerfile().getPluginLayers())));
 
                 // Verify ConfigMap
                 List<ConfigMap> capturedCms = dockerfileCaptor.getAllValues();
@@ -241,6 +242,9 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 KafkaConnectStatus connectStatus = capturedConnects.get(0).getStatus();
                 assertThat(connectStatus.getConditions().get(0).getStatus(), is("True"));
                 assertThat(connectStatus.getConditions().get(0).getType(), is("Ready"));
+                assertThat(connectStatus.getBuild().getDurationSeconds(), is(90L));
+                assertThat(connectStatus.getBuild().getPluginLayers(), is(1));
+                assertThat(connectStatus.getBuild().getCachedPluginLayers(), is(0));
 
                 async.flag();
             })));
@@ -17,6 +17,8 @@ import io.strimzi.api.kafka.model.KafkaMirrorMaker2ClusterSpecBuilder;
 import io.strimzi.api.kafka.model.KafkaMirrorMaker2MirrorSpec;
 import io.strimzi.api.kafka.model.KafkaMirrorMaker2MirrorSpecBuilder;
 import io.strimzi.api.kafka.model.KafkaJmxOptionsBuilder;
+import io.strimzi.api.kafka.model.KafkaConnectorSpec;
+import io.strimzi.api.kafka.model.KafkaConnectorSpecBuilder;
 import io.strimzi.api.kafka.model.KafkaJmxAuthenticationPasswordBuilder;
 import io.strimzi.api.kafka.model.status.KafkaMirrorMaker2Status;
 import io.strimzi.operator.KubernetesVersion;
@@ -63,6 +65,7 @@ import java.util.concurrent.CopyOnWriteArraySet;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -138,6 +141,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
         when(mockConnectClient.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listExpanded(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
@@ -237,6 +241,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
         when(mockConnectClient.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listExpanded(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
@@ -347,6 +352,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
         when(mockConnectClient.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listExpanded(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
@@ -496,6 +502,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
         when(mockConnectClient.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listExpanded(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
@@ -554,6 +561,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
         when(mockConnectClient.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listExpanded(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
@@ -713,6 +721,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
         when(mockConnectClient.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listExpanded(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
@@ -805,6 +814,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
         when(mockConnectClient.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listExpanded(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
@@ -993,9 +1003,38 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
         return mirrorMaker2Captor;
     }
 
+    @Test
+    public void testConnectorUpToDateChecks() {
+        KafkaConnectorSpec connectorSpec = new KafkaConnectorSpecBuilder()
+                .withClassName("org.apache.kafka.connect.mirror.MirrorSourceConnector")
+                .withTasksMax(2)
+                .withConfig(Map.of("replication.factor", 3, "topics", "my-topic"))
+                .build();
+
+        Map<String, Object> currentConfig = new HashMap<>();
+        currentConfig.put("topics", "my-topic");
+        currentConfig.put("replication.factor", "3");
+        currentConfig.put("tasks.max", "2");
+        currentConfig.put("name", "a->b.MirrorSourceConnector");
+        currentConfig.put("connector.class", "org.apache.kafka.connect.mirror.MirrorSourceConnector");
+
+        Map<String, Object> currentConnector = Map.of(
+                "info", Map.of("config", currentConfig),
+                "status", Map.of("connector", Map.of("state", "RUNNING")));
+
+        assertThat(KafkaMirrorMaker2AssemblyOperator.isConnectorConfigUpToDate("a->b.MirrorSourceConnector", connectorSpec, currentConnector), is(true));
+        assertThat(KafkaMirrorMaker2AssemblyOperator.isConnectorConfigUpToDate("a->c.MirrorSourceConnector", connectorSpec, currentConnector), is(false));
+        assertThat(KafkaMirrorMaker2AssemblyOperator.isConnectorConfigUpToDate("a->b.MirrorSourceConnector", connectorSpec, Map.of()), is(false));
+
+        assertThat(KafkaMirrorMaker2AssemblyOperator.isConnectorStateUpToDate(connectorSpec, currentConnector), is(true));
+        connectorSpec.setPause(true);
+        assertThat(KafkaMirrorMaker2AssemblyOperator.isConnectorStateUpToDate(connectorSpec, currentConnector), is(false));
+    }
+
     private KafkaConnectApi createConnectClientMock() {
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
         when(mockConnectClient.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listExpanded(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
         return mockConnectClient;
     }
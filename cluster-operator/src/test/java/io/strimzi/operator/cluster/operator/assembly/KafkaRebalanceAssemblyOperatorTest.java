@@ -17,6 +17,7 @@ import io.strimzi.api.kafka.model.KafkaRebalanceSpec;
 import io.strimzi.api.kafka.model.KafkaRebalanceSpecBuilder;
 import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.api.kafka.model.balancing.KafkaRebalanceAnnotation;
+import io.strimzi.api.kafka.model.balancing.KafkaRebalanceMode;
 import io.strimzi.api.kafka.model.balancing.KafkaRebalanceState;
 import io.strimzi.api.kafka.model.status.KafkaRebalanceStatus;
 import io.strimzi.operator.KubernetesVersion;
@@ -905,6 +906,7 @@ public class KafkaRebalanceAssemblyOperatorTest {
         ClusterOperatorConfig config = new ClusterOperatorConfig(
                 singleton(CLUSTER_NAMESPACE),
                 60_000,
+                60_000,
                 120_000,
                 300_000,
                 false,
@@ -1006,6 +1008,78 @@ public class KafkaRebalanceAssemblyOperatorTest {
             })));
     }
 
+    /**
+     * Tests the transition from 'New' to 'NotReady' due to the missing list of brokers in the 'add-brokers' mode
+     *
+     * 1. A new KafkaRebalance resource is created in the 'add-brokers' mode without the list of brokers; it is in the 'New' state
+     * 2. The operator checks that the list of brokers is missing
+     * 3. The KafkaRebalance resource moves to 'NotReady' state
+     */
+    @Test
+    public void testAddBrokersModeWithoutBrokers(VertxTestContext context) {
+        KafkaRebalance kr =
+                createKafkaRebalance(CLUSTER_NAMESPACE, CLUSTER_NAME, RESOURCE_NAME, new KafkaRebalanceSpecBuilder()
+                        .withMode(KafkaRebalanceMode.ADD_BROKERS)
+                        .build());
+
+        Crds.kafkaRebalanceOperation(kubernetesClient).inNamespace(CLUSTER_NAMESPACE).create(kr);
+
+        when(mockKafkaOps.getAsync(CLUSTER_NAMESPACE, CLUSTER_NAME)).thenReturn(Future.succeededFuture(kafka));
+        mockRebalanceOperator(mockRebalanceOps, mockCmOps, CLUSTER_NAMESPACE, RESOURCE_NAME, kubernetesClient);
+
+        Checkpoint checkpoint = context.checkpoint();
+        kcrao.reconcileRebalance(new Reconciliation("test-trigger", KafkaRebalance.RESOURCE_KIND, CLUSTER_NAMESPACE, RESOURCE_NAME), kr)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertState(context, kubernetesClient, CLUSTER_NAMESPACE, RESOURCE_NAME,
+                        KafkaRebalanceState.NotReady, InvalidResourceException.class,
+                        "The 'brokers' list is required when using the rebalance mode 'add-brokers'.");
+                checkpoint.flag();
+            })));
+    }
+
+    /**
+     * Tests the transition from 'New' to 'ProposalReady' to 'Rebalancing' without any user approval
+     *
+     * 1. A new KafkaRebalance resource is created with the 'strimzi.io/rebalance-auto-approval' annotation; it is in the 'New' state
+     * 2. The rebalance proposal is ready on the first call and the resource moves to the 'ProposalReady' state
+     * 3. The next reconciliation approves the proposal automatically
+     * 4. The KafkaRebalance resource moves to the 'Rebalancing' state
+     */
+    @Test
+    public void testNewToProposalReadyToRebalancingWithAutoApproval(VertxTestContext context) throws IOException, URISyntaxException {
+        MockCruiseControl.setupCCRebalanceResponse(ccServer, 0);
+        MockCruiseControl.setupCCUserTasksResponseNoGoals(ccServer, 0, 0);
+
+        KafkaRebalance kr = new KafkaRebalanceBuilder(
+                createKafkaRebalance(CLUSTER_NAMESPACE, CLUSTER_NAME, RESOURCE_NAME, new KafkaRebalanceSpecBuilder().build()))
+                .editMetadata()
+                    .addToAnnotations(Annotations.ANNO_STRIMZI_IO_REBALANCE_AUTO_APPROVAL, "true")
+                .endMetadata()
+                .build();
+
+        Crds.kafkaRebalanceOperation(kubernetesClient).inNamespace(CLUSTER_NAMESPACE).create(kr);
+
+        when(mockKafkaOps.getAsync(CLUSTER_NAMESPACE, CLUSTER_NAME)).thenReturn(Future.succeededFuture(kafka));
+        mockRebalanceOperator(mockRebalanceOps, mockCmOps, CLUSTER_NAMESPACE, RESOURCE_NAME, kubernetesClient);
+
+        Checkpoint checkpoint = context.checkpoint();
+        kcrao.reconcileRebalance(new Reconciliation("test-trigger", KafkaRebalance.RESOURCE_KIND, CLUSTER_NAMESPACE, RESOURCE_NAME), kr)
+            .onComplete(context.succeeding(v ->
+                assertState(context, kubernetesClient, CLUSTER_NAMESPACE, RESOURCE_NAME, KafkaRebalanceState.ProposalReady)))
+            .compose(v -> {
+                KafkaRebalance kr2 = Crds.kafkaRebalanceOperation(kubernetesClient).inNamespace(CLUSTER_NAMESPACE).withName(RESOURCE_NAME).get();
+
+                return kcrao.reconcileRebalance(
+                        new Reconciliation("test-trigger", KafkaRebalance.RESOURCE_KIND, CLUSTER_NAMESPACE, RESOURCE_NAME),
+                        kr2);
+            })
+            .onComplete(context.succeeding(v -> {
+                // the resource moved from ProposalReady to Rebalancing without the approve annotation
+                assertState(context, kubernetesClient, CLUSTER_NAMESPACE, RESOURCE_NAME, KafkaRebalanceState.Rebalancing);
+                checkpoint.flag();
+            }));
+    }
+
     /**
      * Tests the transition from 'New' to 'NotReady' due to missing Kafka cluster label in the resource
      *
@@ -0,0 +1,97 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.cluster.ResourceUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ModelCacheTest {
+    private static List<String> generate(AtomicInteger counter) {
+        counter.incrementAndGet();
+        return new ArrayList<>(singletonList("model"));
+    }
+
+    @Test
+    public void testValueIsReusedWhenInputsDidNotChange() {
+        ModelCache cache = new ModelCache("Kafka", ResourceUtils.metricsProvider());
+        AtomicInteger generated = new AtomicInteger(0);
+
+        List<String> first = cache.computeIfChanged("ns", "my-cluster", "component", "hash-1", () -> generate(generated), ArrayList::new);
+        List<String> second = cache.computeIfChanged("ns", "my-cluster", "component", "hash-1", () -> generate(generated), ArrayList::new);
+
+        assertThat(generated.get(), is(1));
+        assertThat(second, is(first));
+        assertThat(second, is(not(sameInstance(first))));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    public void testValueIsGeneratedWhenInputsChanged() {
+        ModelCache cache = new ModelCache("Kafka", ResourceUtils.metricsProvider());
+        AtomicInteger generated = new AtomicInteger(0);
+
+        cache.computeIfChanged("ns", "my-cluster", "component", "hash-1", () -> generate(generated), ArrayList::new);
+        cache.computeIfChanged("ns", "my-cluster", "component", "hash-2", () -> generate(generated), ArrayList::new);
+        cache.computeIfChanged("ns", "my-cluster", "component", "hash-2", () -> generate(generated), ArrayList::new);
+
+        assertThat(generated.get(), is(2));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    public void testModificationsOfReturnedValueDoNotChangeCachedValue() {
+        ModelCache cache = new ModelCache("Kafka", ResourceUtils.metricsProvider());
+        AtomicInteger generated = new AtomicInteger(0);
+
+        List<String> first = cache.computeIfChanged("ns", "my-cluster", "component", "hash-1", () -> generate(generated), ArrayList::new);
+        first.add("modified");
+
+        List<String> second = cache.computeIfChanged("ns", "my-cluster", "component", "hash-1", () -> generate(generated), ArrayList::new);
+        second.add("modified-again");
+
+        List<String> third = cache.computeIfChanged("ns", "my-cluster", "component", "hash-1", () -> generate(generated), ArrayList::new);
+
+        assertThat(third, is(singletonList("model")));
+    }
+
+    @Test
+    public void testNothingIsCachedWithoutInputsHash() {
+        ModelCache cache = new ModelCache("Kafka", ResourceUtils.metricsProvider());
+        AtomicInteger generated = new AtomicInteger(0);
+
+        cache.computeIfChanged("ns", "my-cluster", "component", null, () -> generate(generated), ArrayList::new);
+        cache.computeIfChanged("ns", "my-cluster", "component", null, () -> generate(generated), ArrayList::new);
+
+        assertThat(generated.get(), is(2));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void testRemoveDeletesOnlyValuesOfTheCustomResource() {
+        ModelCache cache = new ModelCache("Kafka", ResourceUtils.metricsProvider());
+        AtomicInteger generated = new AtomicInteger(0);
+
+        cache.computeIfChanged("ns", "my-cluster", "component-1", "hash", () -> generate(generated), ArrayList::new);
+        cache.computeIfChanged("ns", "my-cluster", "component-2", "hash", () -> generate(generated), ArrayList::new);
+        cache.computeIfChanged("ns", "my-cluster-2", "component-1", "hash", () -> generate(generated), ArrayList::new);
+        assertThat(cache.size(), is(3));
+
+        cache.remove("ns", "my-cluster");
+        assertThat(cache.size(), is(1));
+
+        cache.computeIfChanged("ns", "my-cluster", "component-1", "hash", () -> generate(generated), ArrayList::new);
+        assertThat(generated.get(), is(4));
+    }
+}
@@ -25,6 +25,7 @@ import io.strimzi.operator.KubernetesVersion;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.MockCertManager;
 import io.strimzi.operator.common.operator.resource.PvcOperator;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
@@ -38,12 +39,16 @@ import org.mockito.ArgumentMatchers;
 
 import java.util.List;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class VolumeResizingTest {
@@ -111,11 +116,12 @@ public class VolumeResizingTest {
 
         // Mock the PVC Operator
         PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(emptyList()));
 
         when(mockPvcOps.getAsync(eq(namespace), ArgumentMatchers.startsWith("data-"))).thenReturn(Future.succeededFuture());
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
-        when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), any(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
 
         // Mock the StorageClass Operator
         StorageClassOperator mockSco = supplier.storageClassOperations;
@@ -154,6 +160,7 @@ public class VolumeResizingTest {
 
         // Mock the PVC Operator
         PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(emptyList()));
 
         List<PersistentVolumeClaim> realPvcs = kafkaCluster.generatePersistentVolumeClaims(kafka.getSpec().getKafka().getStorage());
         when(mockPvcOps.getAsync(eq(namespace), ArgumentMatchers.startsWith("data-")))
@@ -163,7 +170,7 @@ public class VolumeResizingTest {
                 });
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
-        when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), any(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
 
         // Mock the StorageClass Operator
         StorageClassOperator mockSco = supplier.storageClassOperations;
@@ -202,6 +209,7 @@ public class VolumeResizingTest {
 
         // Mock the PVC Operator
         PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(emptyList()));
 
         List<PersistentVolumeClaim> realPvcs = kafkaCluster.generatePersistentVolumeClaims(kafka.getSpec().getKafka().getStorage());
 
@@ -220,7 +228,7 @@ public class VolumeResizingTest {
                 });
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
-        when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), any(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
 
         // Mock the StorageClass Operator
         StorageClassOperator mockSco = supplier.storageClassOperations;
@@ -259,6 +267,7 @@ public class VolumeResizingTest {
 
         // Mock the PVC Operator
         PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(emptyList()));
 
         List<PersistentVolumeClaim> realPvcs = kafkaCluster.generatePersistentVolumeClaims(kafka.getSpec().getKafka().getStorage());
 
@@ -277,7 +286,7 @@ public class VolumeResizingTest {
                 });
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
-        when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), any(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
 
         // Mock the StorageClass Operator
         StorageClassOperator mockSco = supplier.storageClassOperations;
@@ -316,6 +325,7 @@ public class VolumeResizingTest {
 
         // Mock the PVC Operator
         PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(emptyList()));
 
         List<PersistentVolumeClaim> realPvcs = kafkaCluster.generatePersistentVolumeClaims(kafka.getSpec().getKafka().getStorage());
 
@@ -337,7 +347,7 @@ public class VolumeResizingTest {
                 });
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
-        when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), any(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
 
         // Mock the StorageClass Operator
         StorageClassOperator mockSco = supplier.storageClassOperations;
@@ -376,6 +386,7 @@ public class VolumeResizingTest {
 
         // Mock the PVC Operator
         PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(emptyList()));
 
         List<PersistentVolumeClaim> realPvcs = kafkaCluster.generatePersistentVolumeClaims(kafka.getSpec().getKafka().getStorage());
 
@@ -397,7 +408,7 @@ public class VolumeResizingTest {
                 });
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
-        when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), any(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
 
         // Mock the StorageClass Operator
         StorageClassOperator mockSco = supplier.storageClassOperations;
@@ -442,6 +453,7 @@ public class VolumeResizingTest {
 
         // Mock the PVC Operator
         PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(emptyList()));
 
         List<PersistentVolumeClaim> realPvcs = kafkaCluster.generatePersistentVolumeClaims(kafka.getSpec().getKafka().getStorage());
 
@@ -459,7 +471,7 @@ public class VolumeResizingTest {
                 });
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
-        when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), any(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
 
         // Mock the StorageClass Operator
         StorageClassOperator mockSco = supplier.storageClassOperations;
@@ -491,6 +503,65 @@ public class VolumeResizingTest {
                 });
     }
 
+    @Test
+    public void testListedVolumesAreResizedWithSingleStorageClassLookup()  {
+        Kafka kafka = getKafkaCrd();
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, VERSIONS);
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+
+        // Mock the PVC Operator
+        PvcOperator mockPvcOps = supplier.pvcOperations;
+
+        List<PersistentVolumeClaim> realPvcs = kafkaCluster.generatePersistentVolumeClaims(kafka.getSpec().getKafka().getStorage());
+
+        for (PersistentVolumeClaim pvc : realPvcs)    {
+            pvc.getSpec().getResources().getRequests().put("storage", new Quantity("10Gi"));
+            pvc.setStatus(new PersistentVolumeClaimStatusBuilder()
+                    .withPhase("Bound")
+                    .withCapacity(pvc.getSpec().getResources().getRequests())
+                    .build());
+        }
+
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(realPvcs));
+
+        ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), any(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
+
+        // Mock the StorageClass Operator
+        StorageClassOperator mockSco = supplier.storageClassOperations;
+
+        when(mockSco.getAsync(eq("mysc")))
+                .thenAnswer(invocation -> {
+                    StorageClass sc = new StorageClassBuilder()
+                            .withNewMetadata()
+                            .withName("mysc")
+                            .endMetadata()
+                            .withAllowVolumeExpansion(true)
+                            .build();
+
+                    return Future.succeededFuture(sc);
+                });
+
+        MockKafkaAssemblyOperator kao = new MockKafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, kubernetesVersion),
+                certManager,
+                passwordGenerator,
+                supplier,
+                config);
+
+        kao.resizeVolumes(new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, namespace, clusterName),
+                kafka, kafkaCluster.generatePersistentVolumeClaims(kafka.getSpec().getKafka().getStorage()), kafkaCluster).onComplete(res -> {
+                    assertThat(res.succeeded(), is(true));
+                    assertThat(pvcCaptor.getAllValues().size(), is(3));
+
+                    // The PVCs are taken from the list and the Storage Class is looked up only once
+                    verify(mockPvcOps, times(1)).listAsync(eq(namespace), any(Labels.class));
+                    verify(mockPvcOps, never()).getAsync(anyString(), anyString());
+                    // The listed PVCs are patched directly without reading them again
+                    verify(mockPvcOps, never()).reconcile(any(), anyString(), anyString(), any());
+                    verify(mockSco, times(1)).getAsync(eq("mysc"));
+                });
+    }
+
     // This allows to test the resizing on its own without any other methods being called and mocked
     class MockKafkaAssemblyOperator extends KafkaAssemblyOperator  {
         public MockKafkaAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa, CertManager certManager, PasswordGenerator passwordGenerator, ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
@@ -32,6 +32,7 @@ import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -41,7 +42,9 @@ import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInA
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -175,6 +178,63 @@ public class ZookeeperScalerTest {
         assertThat(ZookeeperScaler.serversMapToList(servers), containsInAnyOrder(expected.toArray()));
     }
 
+    @Test
+    public void testJoiningAndLeavingServers() {
+        Map<String, String> current = new HashMap<>(3);
+        current.put("server.1", "my-cluster-zookeeper-0.my-cluster-zookeeper-nodes.myproject.svc:2888:3888:participant;127.0.0.1:12181");
+        current.put("server.2", "my-cluster-zookeeper-1.my-cluster-zookeeper-nodes.myproject.svc:2888:3888:participant;127.0.0.1:12181");
+        current.put("server.3", "my-cluster-zookeeper-2.my-cluster-zookeeper-nodes.myproject.svc:2888:3888:participant;127.0.0.1:12181");
+
+        assertThat(ZookeeperScaler.joiningServers(current, ZookeeperScaler.generateConfig(3, zkNodeAddress)), is(List.of()));
+        assertThat(ZookeeperScaler.leavingServers(current, ZookeeperScaler.generateConfig(3, zkNodeAddress)), is(List.of()));
+
+        assertThat(ZookeeperScaler.joiningServers(current, ZookeeperScaler.generateConfig(4, zkNodeAddress)),
+                is(List.of("server.4=my-cluster-zookeeper-3.my-cluster-zookeeper-nodes.myproject.svc:2888:3888:participant;127.0.0.1:12181")));
+        assertThat(ZookeeperScaler.leavingServers(current, ZookeeperScaler.generateConfig(4, zkNodeAddress)), is(List.of()));
+
+        assertThat(ZookeeperScaler.joiningServers(current, ZookeeperScaler.generateConfig(1, zkNodeAddress)), is(List.of()));
+        assertThat(ZookeeperScaler.leavingServers(current, ZookeeperScaler.generateConfig(1, zkNodeAddress)), is(List.of("2", "3")));
+    }
+
+    @Test
+    public void testSessionIsReused(VertxTestContext context) throws KeeperException, InterruptedException {
+        String config = "server.1=my-cluster-zookeeper-0.my-cluster-zookeeper-nodes.myproject.svc:2888:3888:participant;127.0.0.1:12181\n" +
+                "version=100000000b";
+
+        String updated = "server.1=my-cluster-zookeeper-0.my-cluster-zookeeper-nodes.myproject.svc:2888:3888:participant;127.0.0.1:12181\n" +
+                "server.2=my-cluster-zookeeper-1.my-cluster-zookeeper-nodes.myproject.svc:2888:3888:participant;127.0.0.1:12181\n" +
+                "version=100000000c";
+
+        ZooKeeperAdmin mockZooAdmin = mock(ZooKeeperAdmin.class);
+        when(mockZooAdmin.getConfig(false, null)).thenReturn(config.getBytes(StandardCharsets.US_ASCII), updated.getBytes(StandardCharsets.US_ASCII));
+        when(mockZooAdmin.reconfigure(anyList(), isNull(), isNull(), anyLong(), isNull())).thenReturn(updated.getBytes(StandardCharsets.US_ASCII));
+        when(mockZooAdmin.getState()).thenReturn(ZooKeeper.States.CONNECTED);
+
+        AtomicInteger connections = new AtomicInteger(0);
+        ZooKeeperAdminProvider zooKeeperAdminProvider = new ZooKeeperAdminProvider() {
+            @Override
+            public ZooKeeperAdmin createZookeeperAdmin(String connectString, int sessionTimeout, Watcher watcher, ZKClientConfig conf) throws IOException {
+                connections.incrementAndGet();
+                return mockZooAdmin;
+            }
+        };
+
+        ZookeeperScaler scaler = new ZookeeperScaler(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"), vertx, zooKeeperAdminProvider, "zookeeper:2181", zkNodeAddress, dummyCaSecret, dummyCoSecret, 1_000);
+
+        Checkpoint check = context.checkpoint();
+        scaler.scale(2)
+                .compose(ignore -> scaler.scale(2))
+                .compose(ignore -> scaler.disconnect())
+                .onComplete(context.succeeding(res -> context.verify(() -> {
+                    assertThat(connections.get(), is(1));
+                    // The configuration is read again in each call, but the second call does not reconfigure anything
+                    verify(mockZooAdmin, times(2)).getConfig(false, null);
+                    verify(mockZooAdmin, times(1)).reconfigure(anyList(), isNull(), isNull(), anyLong(), isNull());
+                    verify(mockZooAdmin, times(1)).close(anyInt());
+                    check.flag();
+                })));
+    }
+
     @Test
     public void testConnectionTimeout(VertxTestContext context)  {
         ZooKeeperAdmin mockZooAdmin = mock(ZooKeeperAdmin.class);
@@ -217,11 +277,13 @@ public class ZookeeperScalerTest {
         ZookeeperScaler scaler = new ZookeeperScaler(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"), vertx, zooKeeperAdminProvider, "zookeeper:2181", zkNodeAddress, dummyCaSecret, dummyCoSecret, 1_000);
 
         Checkpoint check = context.checkpoint();
-        scaler.scale(1).onComplete(context.succeeding(res -> context.verify(() -> {
-            verify(mockZooAdmin, never()).reconfigure(isNull(), isNull(), anyList(), anyLong(), isNull());
-            verify(mockZooAdmin, times(1)).close(anyInt());
-            check.flag();
-        })));
+        scaler.scale(1)
+                .compose(ignore -> scaler.disconnect())
+                .onComplete(context.succeeding(res -> context.verify(() -> {
+                    verify(mockZooAdmin, never()).reconfigure(nullable(List.class), nullable(List.class), nullable(List.class), anyLong(), isNull());
+                    verify(mockZooAdmin, times(1)).close(anyInt());
+                    check.flag();
+                })));
     }
 
     @Test
@@ -235,7 +297,7 @@ public class ZookeeperScalerTest {
 
         ZooKeeperAdmin mockZooAdmin = mock(ZooKeeperAdmin.class);
         when(mockZooAdmin.getConfig(false, null)).thenReturn(config.getBytes(StandardCharsets.US_ASCII));
-        when(mockZooAdmin.reconfigure(isNull(), isNull(), anyList(), anyLong(), isNull())).thenReturn(updated.getBytes(StandardCharsets.US_ASCII));
+        when(mockZooAdmin.reconfigure(isNull(), eq(List.of("2")), isNull(), anyLong(), isNull())).thenReturn(updated.getBytes(StandardCharsets.US_ASCII));
         when(mockZooAdmin.getState()).thenReturn(ZooKeeper.States.CONNECTED);
 
         ZooKeeperAdminProvider zooKeeperAdminProvider = new ZooKeeperAdminProvider() {
@@ -249,11 +311,13 @@ public class ZookeeperScalerTest {
         ZookeeperScaler scaler = new ZookeeperScaler(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"), vertx, zooKeeperAdminProvider, "zookeeper:2181", zkNodeAddress, dummyCaSecret, dummyCoSecret, 1_000);
 
         Checkpoint check = context.checkpoint();
-        scaler.scale(1).onComplete(context.succeeding(res -> context.verify(() -> {
-            verify(mockZooAdmin, times(1)).reconfigure(isNull(), isNull(), anyList(), anyLong(), isNull());
-            verify(mockZooAdmin, times(1)).close(anyInt());
-            check.flag();
-        })));
+        scaler.scale(1)
+                .compose(ignore -> scaler.disconnect())
+                .onComplete(context.succeeding(res -> context.verify(() -> {
+                    verify(mockZooAdmin, times(1)).reconfigure(isNull(), eq(List.of("2")), isNull(), anyLong(), isNull());
+                    verify(mockZooAdmin, times(1)).close(anyInt());
+                    check.flag();
+                })));
     }
 
     @Test
@@ -264,7 +328,7 @@ public class ZookeeperScalerTest {
 
         ZooKeeperAdmin mockZooAdmin = mock(ZooKeeperAdmin.class);
         when(mockZooAdmin.getConfig(false, null)).thenReturn(config.getBytes(StandardCharsets.US_ASCII));
-        when(mockZooAdmin.reconfigure(isNull(), isNull(), anyList(), anyLong(), isNull())).thenThrow(new KeeperException.NewConfigNoQuorum());
+        when(mockZooAdmin.reconfigure(isNull(), eq(List.of("2")), isNull(), anyLong(), isNull())).thenThrow(new KeeperException.NewConfigNoQuorum());
         when(mockZooAdmin.getState()).thenReturn(ZooKeeper.States.CONNECTED);
 
         ZooKeeperAdminProvider zooKeeperAdminProvider = new ZooKeeperAdminProvider() {
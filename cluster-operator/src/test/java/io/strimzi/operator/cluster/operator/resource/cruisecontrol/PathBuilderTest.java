@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
+import io.strimzi.api.kafka.model.balancing.KafkaRebalanceMode;
 import org.junit.jupiter.api.Test;
 
 import java.io.UnsupportedEncodingException;
@@ -95,4 +96,37 @@ public class PathBuilderTest {
         assertThat(path, is(getExpectedRebalanceString()));
     }
 
+    @Test
+    public void testQueryAddBrokersOptions() throws UnsupportedEncodingException {
+
+        RebalanceOptions options = new RebalanceOptions.RebalanceOptionsBuilder()
+                .withMode(KafkaRebalanceMode.ADD_BROKERS)
+                .withBrokers(Arrays.asList(3, 4))
+                .withConcurrentPartitionMovementsPerBroker(10)
+                .withConcurrentIntraPartitionMovements(5)
+                .build();
+
+        String path = new PathBuilder(CruiseControlApiImpl.rebalanceEndpoint(options))
+                .addParameter(CruiseControlParameters.JSON, "true")
+                .addRebalanceParameters(options).build();
+
+        assertThat(path, is(CruiseControlEndpoints.ADD_BROKER.path + "?" +
+                CruiseControlParameters.JSON.key + "=true&" +
+                CruiseControlParameters.DRY_RUN.key + "=true&" +
+                CruiseControlParameters.VERBOSE.key + "=false&" +
+                CruiseControlParameters.SKIP_HARD_GOAL_CHECK.key + "=false&" +
+                CruiseControlParameters.CONCURRENT_PARTITION_MOVEMENTS.key + "=10&" +
+                CruiseControlParameters.BROKER_ID.key + "=" + URLEncoder.encode("3,4", StandardCharsets.UTF_8.toString())));
+    }
+
+    @Test
+    public void testRebalanceEndpoints() {
+        assertThat(CruiseControlApiImpl.rebalanceEndpoint(new RebalanceOptions.RebalanceOptionsBuilder().build()),
+                is(CruiseControlEndpoints.REBALANCE));
+        assertThat(CruiseControlApiImpl.rebalanceEndpoint(new RebalanceOptions.RebalanceOptionsBuilder().withMode(KafkaRebalanceMode.ADD_BROKERS).build()),
+                is(CruiseControlEndpoints.ADD_BROKER));
+        assertThat(CruiseControlApiImpl.rebalanceEndpoint(new RebalanceOptions.RebalanceOptionsBuilder().withMode(KafkaRebalanceMode.REMOVE_BROKERS).build()),
+                is(CruiseControlEndpoints.REMOVE_BROKER));
+        assertThat(CruiseControlApiImpl.rebalanceEndpoint(null), is(CruiseControlEndpoints.REBALANCE));
+    }
 }
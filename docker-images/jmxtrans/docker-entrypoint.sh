@@ -15,7 +15,10 @@ MONITOR_OPTS="-Dcom.sun.management.jmxremote -Dcom.sun.management.jmxremote.ssl=
               -Dcom.sun.management.jmxremote.rmi.port=9999 \
               -Djava.rmi.server.hostname=${PROXY_HOST}"
 
-if [ "$1" = 'start-without-jmx' ]; then
+if [ "$JMXTRANS_METRICS_SOURCE" = "prometheus" ]; then
+    # The metrics are scraped from the Prometheus JMX Exporter of the brokers, so JmxTrans itself is not started
+    set /usr/bin/tini -w -e 143 -- /opt/jmx/prometheus_bridge.sh
+elif [ "$1" = 'start-without-jmx' ]; then
     # shellcheck disable=SC2086
     set /usr/bin/tini -w -e 143 -- java -server $JAVA_OPTS $JMXTRANS_OPTS $GC_OPTS $EXEC
 elif [ "$1" = 'start-with-jmx' ]; then
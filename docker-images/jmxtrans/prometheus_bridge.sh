@@ -0,0 +1,152 @@
+#!/usr/bin/env bash
+set -e
+
+# Scrapes the Prometheus JMX Exporter endpoint of each Kafka broker, filters and aggregates the metrics selected by
+# the queries and pushes them to the outputs using the Graphite plaintext protocol.
+#
+# The config file has one entry per line:
+#   broker <name> <host> <port>
+#   output <name> <graphite|stdout> <host> <port>
+#   query <none|sum> <outputs> <labels> <regex>
+# The outputs and labels are comma separated lists (or - when empty).
+
+CONFIG_FILE="${JSON_DIR}/prometheus-bridge.conf"
+SCRAPE_TIMEOUT="${SCRAPE_TIMEOUT:-10}"
+
+log() {
+    if [ "$JMXTRANS_LOGGING_LEVEL" = "debug" ] || [ "$JMXTRANS_LOGGING_LEVEL" = "trace" ] || [ "$1" != "DEBUG" ]; then
+        echo "$(date -u +'%Y-%m-%d %H:%M:%S') $1 $2"
+    fi
+}
+
+# Converts the selected samples into Graphite lines. The label values included by the query are appended to the
+# metric name and the other labels are dropped.
+#   $1: prefix of the metric names
+#   $2: comma separated labels to include (or -)
+#   $3: regular expression selecting the metrics
+#   $4: timestamp
+to_graphite() {
+    awk -v prefix="$1" -v labels="$2" -v regex="$3" -v ts="$4" '
+        BEGIN { n = (labels == "-") ? 0 : split(labels, included, ",") }
+        /^#/ || NF < 2 { next }
+        {
+            brace = index($0, "{")
+            if (brace > 0) {
+                name = substr($0, 1, brace - 1)
+                close_brace = index($0, "}")
+                labelset = substr($0, brace + 1, close_brace - brace - 1)
+                split(substr($0, close_brace + 1), rest, " ")
+                value = rest[1]
+            } else {
+                name = $1
+                labelset = ""
+                value = $2
+            }
+
+            if (name !~ ("^(" regex ")$") || value ~ /NaN|Inf/) {
+                next
+            }
+
+            path = prefix "." name
+            for (i = 1; i <= n; i++) {
+                pattern = included[i] "=\""
+                start = index(labelset, pattern)
+                if (start > 0) {
+                    labelvalue = substr(labelset, start + length(pattern))
+                    labelvalue = substr(labelvalue, 1, index(labelvalue, "\"") - 1)
+                    gsub(/[^A-Za-z0-9_-]/, "_", labelvalue)
+                    path = path "." labelvalue
+                }
+            }
+
+            print path " " value " " ts
+        }'
+}
+
+# Sums the values of the Graphite lines with the same metric name
+sum_by_name() {
+    awk '{ sums[$1] += $2; ts[$1] = $3 } END { for (name in sums) printf "%s %.17g %s\n", name, sums[name], ts[name] }'
+}
+
+push() {
+    local type="$1" host="$2" port="$3" file="$4"
+
+    if [ "$type" = "stdout" ]; then
+        cat "$file"
+    elif ! nc -w "$SCRAPE_TIMEOUT" "$host" "$port" < "$file"; then
+        log "WARN" "Failed to push metrics to $host:$port"
+    fi
+}
+
+declare -a BROKERS OUTPUTS QUERIES
+
+while read -r kind rest; do
+    case "$kind" in
+        broker) BROKERS+=("$rest") ;;
+        output) OUTPUTS+=("$rest") ;;
+        query) QUERIES+=("$rest") ;;
+    esac
+done < "$CONFIG_FILE"
+
+log "INFO" "Pushing metrics of ${#BROKERS[@]} brokers to ${#OUTPUTS[@]} outputs every $SECONDS_BETWEEN_RUNS seconds"
+
+WORK_DIR=$(mktemp -d)
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+while true; do
+    started=$(date +%s)
+
+    # Scrape all brokers once per run, so that the number of queries does not add load on the brokers
+    for broker in "${BROKERS[@]}"; do
+        read -r name host port <<< "$broker"
+        if ! curl -s -f -m "$SCRAPE_TIMEOUT" "http://$host:$port/metrics" -o "$WORK_DIR/$name.prom"; then
+            log "WARN" "Failed to scrape metrics of broker $name from $host:$port"
+            rm -f "$WORK_DIR/$name.prom"
+        fi
+    done
+
+    for output in "${OUTPUTS[@]}"; do
+        read -r name type host port <<< "$output"
+        : > "$WORK_DIR/output-$name"
+    done
+
+    for query in "${QUERIES[@]}"; do
+        read -r aggregation outputs labels regex <<< "$query"
+        : > "$WORK_DIR/query"
+
+        for broker in "${BROKERS[@]}"; do
+            read -r name host port <<< "$broker"
+            if [ -f "$WORK_DIR/$name.prom" ]; then
+                if [ "$aggregation" = "sum" ]; then
+                    prefix="kafka"
+                else
+                    prefix="kafka.$name"
+                fi
+                to_graphite "$prefix" "$labels" "$regex" "$started" < "$WORK_DIR/$name.prom" >> "$WORK_DIR/query"
+            fi
+        done
+
+        if [ "$aggregation" = "sum" ]; then
+            sum_by_name < "$WORK_DIR/query" > "$WORK_DIR/query.sum"
+            mv "$WORK_DIR/query.sum" "$WORK_DIR/query"
+        fi
+
+        for name in ${outputs//,/ }; do
+            if [ -f "$WORK_DIR/output-$name" ]; then
+                cat "$WORK_DIR/query" >> "$WORK_DIR/output-$name"
+            fi
+        done
+    done
+
+    # Push the metrics of all queries to each output in a single batch
+    for output in "${OUTPUTS[@]}"; do
+        read -r name type host port <<< "$output"
+        log "DEBUG" "Pushing $(wc -l < "$WORK_DIR/output-$name") metrics to output $name"
+        push "$type" "$host" "$port" "$WORK_DIR/output-$name"
+    done
+
+    elapsed=$(( $(date +%s) - started ))
+    if [ "$elapsed" -lt "$SECONDS_BETWEEN_RUNS" ]; then
+        sleep $(( SECONDS_BETWEEN_RUNS - elapsed ))
+    fi
+done
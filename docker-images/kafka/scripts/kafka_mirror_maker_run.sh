@@ -53,7 +53,7 @@ export LOG_DIR="$KAFKA_HOME"
 
 # Enabling the Mirror Maker agent which monitors readiness / liveness
 rm -f /tmp/mirror-maker-ready /tmp/mirror-maker-alive 2> /dev/null
-KAFKA_OPTS="$KAFKA_OPTS -javaagent:$(ls "$KAFKA_HOME"/libs/mirror-maker-agent*.jar)=/tmp/mirror-maker-ready:/tmp/mirror-maker-alive:${STRIMZI_READINESS_PERIOD:-10}:${STRIMZI_LIVENESS_PERIOD:-10}"
+KAFKA_OPTS="$KAFKA_OPTS -javaagent:$(ls "$KAFKA_HOME"/libs/mirror-maker-agent*.jar)=/tmp/mirror-maker-ready:/tmp/mirror-maker-alive:${STRIMZI_READINESS_PERIOD:-10}:${STRIMZI_LIVENESS_PERIOD:-10}:${STRIMZI_STALL_TIMEOUT:-300}"
 export KAFKA_OPTS
 
 # enabling Prometheus JMX exporter as Java agent
@@ -4,7 +4,9 @@
  */
 package io.strimzi.kafka.init;
 
+import io.fabric8.kubernetes.api.model.Node;
 import io.fabric8.kubernetes.api.model.NodeAddress;
+import io.fabric8.kubernetes.api.model.NodeAddressBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 
 import io.strimzi.api.kafka.model.listener.NodeAddressType;
@@ -14,6 +16,7 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -24,6 +27,7 @@ public class InitWriter {
 
     private KubernetesClient client;
     private InitWriterConfig config;
+    private Node node;
 
     protected final static String FILE_RACK_ID = "rack.id";
     protected final static String FILE_EXTERNAL_ADDRESS = "external.address";
@@ -39,11 +43,17 @@ public class InitWriter {
      * @return if the operation was executed successfully
      */
     public boolean writeRack() {
+        String rackId;
 
-        Map<String, String> nodeLabels = client.nodes().withName(config.getNodeName()).get().getMetadata().getLabels();
-        LOGGER.info("NodeLabels = {}", nodeLabels);
-        String rackId = nodeLabels.get(config.getRackTopologyKey());
-        LOGGER.info("Rack: {} = {}", config.getRackTopologyKey(), rackId);
+        if (config.getRackId() != null) {
+            rackId = config.getRackId();
+            LOGGER.info("Rack: {} = {} (pre-resolved)", config.getRackTopologyKey(), rackId);
+        } else {
+            Map<String, String> nodeLabels = getNode().getMetadata().getLabels();
+            LOGGER.info("NodeLabels = {}", nodeLabels);
+            rackId = nodeLabels.get(config.getRackTopologyKey());
+            LOGGER.info("Rack: {} = {}", config.getRackTopologyKey(), rackId);
+        }
 
         if (rackId == null) {
             LOGGER.error("Node {} doesn't have the label {} for getting the rackid",
@@ -60,7 +70,15 @@ public class InitWriter {
      * @return if the operation was executed successfully
      */
     public boolean writeExternalAddress() {
-        List<NodeAddress> addresses = client.nodes().withName(config.getNodeName()).get().getStatus().getAddresses();
+        List<NodeAddress> addresses;
+
+        if (config.getNodeAddresses() != null) {
+            addresses = parseNodeAddresses(config.getNodeAddresses());
+            LOGGER.info("Using pre-resolved node addresses {}", config.getNodeAddresses());
+        } else {
+            addresses = getNode().getStatus().getAddresses();
+        }
+
         StringBuilder externalAddresses = new StringBuilder();
 
         String address = NodeUtils.findAddress(addresses, null);
@@ -82,6 +100,44 @@ public class InitWriter {
         return write(FILE_EXTERNAL_ADDRESS, externalAddresses.toString());
     }
 
+    /**
+     * Gets the Kubernetes cluster node on which this pod is running. The node is fetched from the Kubernetes API only
+     * once and then shared between the rack and the external address writers.
+     *
+     * @return  The cluster node
+     */
+    /* test */ Node getNode() {
+        if (node == null) {
+            long start = System.nanoTime();
+            node = client.nodes().withName(config.getNodeName()).get();
+            LOGGER.info("Node {} retrieved in {}ms", config.getNodeName(), (System.nanoTime() - start) / 1_000_000);
+        }
+
+        return node;
+    }
+
+    /**
+     * Parses the pre-resolved node addresses in the format type1=address1,type2=address2
+     *
+     * @param nodeAddresses     Comma separated list of type=address pairs
+     * @return                  List of node addresses
+     */
+    /* test */ static List<NodeAddress> parseNodeAddresses(String nodeAddresses) {
+        List<NodeAddress> addresses = new ArrayList<>();
+
+        for (String pair : nodeAddresses.split(",")) {
+            String[] typeAndAddress = pair.trim().split("=", 2);
+
+            if (typeAndAddress.length == 2 && !typeAndAddress[0].isEmpty() && !typeAndAddress[1].isEmpty()) {
+                addresses.add(new NodeAddressBuilder().withType(typeAndAddress[0]).withAddress(typeAndAddress[1]).build());
+            } else if (!pair.trim().isEmpty()) {
+                LOGGER.warn("Ignoring invalid node address {}", pair);
+            }
+        }
+
+        return addresses;
+    }
+
     /**
      * Formats address type and address into shell export command for environment variable
      *
@@ -16,6 +16,8 @@ public class InitWriterConfig {
     public static final String NODE_NAME = "NODE_NAME";
     public static final String EXTERNAL_ADDRESS = "EXTERNAL_ADDRESS";
     public static final String EXTERNAL_ADDRESS_TYPE = "EXTERNAL_ADDRESS_TYPE";
+    public static final String RACK_ID = "RACK_ID";
+    public static final String NODE_ADDRESSES = "NODE_ADDRESSES";
 
     public static final String DEFAULT_INIT_FOLDER = "/opt/kafka/init";
 
@@ -24,6 +26,8 @@ public class InitWriterConfig {
     private boolean externalAddress;
     private String addressType;
     private String initFolder;
+    private String rackId;
+    private String nodeAddresses;
 
     /**
      * Load configuration parameters from a related map
@@ -50,15 +54,29 @@ public class InitWriterConfig {
 
         String externalAddressType = map.get(InitWriterConfig.EXTERNAL_ADDRESS_TYPE);
 
-        return new InitWriterConfig(nodeName, rackTopologyKey, externalAddress, initFolder, externalAddressType);
+        String rackId = emptyToNull(map.get(InitWriterConfig.RACK_ID));
+        String nodeAddresses = emptyToNull(map.get(InitWriterConfig.NODE_ADDRESSES));
+
+        return new InitWriterConfig(nodeName, rackTopologyKey, externalAddress, initFolder, externalAddressType, rackId, nodeAddresses);
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
     }
 
     public InitWriterConfig(String nodeName, String rackTopologyKey, boolean externalAddress, String initFolder, String externalAddressType) {
+        this(nodeName, rackTopologyKey, externalAddress, initFolder, externalAddressType, null, null);
+    }
+
+    public InitWriterConfig(String nodeName, String rackTopologyKey, boolean externalAddress, String initFolder, String externalAddressType,
+                            String rackId, String nodeAddresses) {
         this.nodeName = nodeName;
         this.rackTopologyKey = rackTopologyKey;
         this.externalAddress = externalAddress;
         this.initFolder = initFolder;
         this.addressType = externalAddressType;
+        this.rackId = rackId;
+        this.nodeAddresses = nodeAddresses;
     }
 
     /**
@@ -96,6 +114,21 @@ public class InitWriterConfig {
         return addressType;
     }
 
+    /**
+     * @return The pre-resolved rack ID or null if it should be read from the node labels
+     */
+    public String getRackId() {
+        return rackId;
+    }
+
+    /**
+     * @return The pre-resolved node addresses (type=address pairs separated by comma) or null if they should be read
+     * from the node status
+     */
+    public String getNodeAddresses() {
+        return nodeAddresses;
+    }
+
     @Override
     public String toString() {
         return "InitWriterConfig(" +
@@ -104,6 +137,8 @@ public class InitWriterConfig {
                 ",externalAddress=" + externalAddress +
                 ",initFolder=" + initFolder +
                 ",addressType=" + addressType +
+                ",rackId=" + rackId +
+                ",nodeAddresses=" + nodeAddresses +
                 ")";
     }
 }
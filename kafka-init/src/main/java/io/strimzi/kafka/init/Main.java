@@ -14,6 +14,7 @@ public class Main {
     private static final Logger LOGGER = LogManager.getLogger(Main.class);
 
     public static void main(String[] args) {
+        long start = System.nanoTime();
 
         LOGGER.info("Init-kafka {} is starting", Main.class.getPackage().getImplementationVersion());
         InitWriterConfig config = InitWriterConfig.fromMap(System.getenv());
@@ -37,5 +38,7 @@ public class Main {
         }
 
         client.close();
+
+        LOGGER.info("Init-kafka finished in {}ms", (System.nanoTime() - start) / 1_000_000);
     }
 }
@@ -43,6 +43,27 @@ public class InitWriterConfigTest {
         assertThat(config.getAddressType(), is("InternalDNS"));
     }
 
+    @Test
+    public void testFromMapWithPreResolvedRackAndAddresses() {
+        Map<String, String> envs = new HashMap<>(envVars);
+        envs.put(InitWriterConfig.RACK_ID, "eu-zone1");
+        envs.put(InitWriterConfig.NODE_ADDRESSES, "InternalIP=192.168.2.94");
+
+        InitWriterConfig config = InitWriterConfig.fromMap(envs);
+        assertThat(config.getRackId(), is("eu-zone1"));
+        assertThat(config.getNodeAddresses(), is("InternalIP=192.168.2.94"));
+    }
+
+    @Test
+    public void testFromMapWithoutPreResolvedRackAndAddresses() {
+        Map<String, String> envs = new HashMap<>(envVars);
+        envs.put(InitWriterConfig.RACK_ID, "");
+
+        InitWriterConfig config = InitWriterConfig.fromMap(envs);
+        assertThat(config.getRackId(), is(nullValue()));
+        assertThat(config.getNodeAddresses(), is(nullValue()));
+    }
+
     @Test
     public void testFromMapEmptyEnvVarsThrows() {
         assertThrows(IllegalArgumentException.class, () -> InitWriterConfig.fromMap(Collections.emptyMap()));
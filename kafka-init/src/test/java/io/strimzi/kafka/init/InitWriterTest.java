@@ -28,6 +28,9 @@ import java.util.Map;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class InitWriterTest {
@@ -130,6 +133,67 @@ public class InitWriterTest {
         assertThat(writer.writeRack(), is(false));
     }
 
+    @Test
+    public void testNodeIsRetrievedOnlyOnce() throws IOException {
+        File kafkaFolder = new File(tempDir.getPath(), "/opt/kafka");
+        String initFolder = kafkaFolder.getAbsolutePath() + "/init";
+        new File(initFolder).mkdirs();
+
+        Map<String, String> envVars = new HashMap<>(InitWriterTest.envVars);
+        envVars.put(InitWriterConfig.INIT_FOLDER, initFolder);
+
+        InitWriterConfig config = InitWriterConfig.fromMap(envVars);
+
+        KubernetesClient client = mockKubernetesClient(config.getNodeName(), labels, addresses);
+
+        InitWriter writer = new InitWriter(client, config);
+        assertThat(writer.writeRack(), is(true));
+        assertThat(writer.writeExternalAddress(), is(true));
+
+        verify(client, times(1)).nodes();
+    }
+
+    @Test
+    public void testWritePreResolvedRackAndAddresses() throws IOException {
+        File kafkaFolder = new File(tempDir.getPath(), "/opt/kafka");
+        String initFolder = kafkaFolder.getAbsolutePath() + "/init";
+        new File(initFolder).mkdirs();
+
+        Map<String, String> envVars = new HashMap<>(InitWriterTest.envVars);
+        envVars.put(InitWriterConfig.INIT_FOLDER, initFolder);
+        envVars.put(InitWriterConfig.RACK_ID, "eu-zone2");
+        envVars.put(InitWriterConfig.NODE_ADDRESSES, "InternalDNS=my.internal.address,InternalIP=192.168.2.94");
+
+        InitWriterConfig config = InitWriterConfig.fromMap(envVars);
+
+        KubernetesClient client = mock(KubernetesClient.class);
+
+        InitWriter writer = new InitWriter(client, config);
+        assertThat(writer.writeRack(), is(true));
+        assertThat(writer.writeExternalAddress(), is(true));
+
+        assertThat(readFile(initFolder + "/rack.id"), is("eu-zone2"));
+        assertThat(readFile(initFolder + "/external.address"), is("export STRIMZI_NODEPORT_DEFAULT_ADDRESS=my.internal.address\n" +
+                "export STRIMZI_NODEPORT_EXTERNALIP_ADDRESS=my.internal.address\n" +
+                "export STRIMZI_NODEPORT_EXTERNALDNS_ADDRESS=my.internal.address\n" +
+                "export STRIMZI_NODEPORT_INTERNALIP_ADDRESS=192.168.2.94\n" +
+                "export STRIMZI_NODEPORT_INTERNALDNS_ADDRESS=my.internal.address\n" +
+                "export STRIMZI_NODEPORT_HOSTNAME_ADDRESS=my.internal.address\n"));
+
+        verify(client, never()).nodes();
+    }
+
+    @Test
+    public void testParseNodeAddresses() {
+        List<NodeAddress> parsed = InitWriter.parseNodeAddresses("ExternalDNS=my.external.address, InternalIP=192.168.2.94,invalid,");
+
+        assertThat(parsed.size(), is(2));
+        assertThat(parsed.get(0).getType(), is("ExternalDNS"));
+        assertThat(parsed.get(0).getAddress(), is("my.external.address"));
+        assertThat(parsed.get(1).getType(), is("InternalIP"));
+        assertThat(parsed.get(1).getAddress(), is("192.168.2.94"));
+    }
+
     private String readFile(String file) throws IOException {
         return new String(Files.readAllBytes(Paths.get(file)));
     }
@@ -8,20 +8,38 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.management.JMException;
-import javax.management.MBeanServerConnection;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerDelegate;
+import javax.management.MBeanServerNotification;
+import javax.management.Notification;
+import javax.management.NotificationListener;
 import javax.management.ObjectName;
+import javax.management.relation.MBeanServerNotificationFilter;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A Java agent which helps with the Readiness and Liveness check in Kafka Mirror Maker.
  *
+ * The agent listens for the registration and unregistration of the producer and consumer metrics MBeans and keeps
+ * track of them, so that the JMX server does not need to be queried for them again and again. The health of Mirror
+ * Maker is evaluated by a single health check thread and immediately whenever a client metrics MBean appears or
+ * disappears.
+ *
  * Liveness:
- *   In every loop it touches a liveness file if it doesn't exist. The file is expected to tbe deleted by the Kubernetes
- *   liveness probe. So it should be periodically deleted and recreated.
+ *   Mirror Maker is considered alive as long as it makes progress. Progress means that the consumed or the sent
+ *   record counters increased or that there is nothing to mirror, because the consumers report a lag of 0 or do not
+ *   report any lag at all (e.g. when they have no partitions assigned). When there was no progress for longer than the
+ *   stall timeout while the consumers are lagging, the mirror is considered to be stalled and the liveness file is not
+ *   recreated anymore. Otherwise the liveness file is touched if it doesn't exist. The file is expected to be deleted by the Kubernetes liveness probe. So it should be periodically deleted
+ *   and recreated.
  *
  * Readiness:
  *   Readiness checks the number of connections to the source and target Kafka clusters. If at least one connection
@@ -30,150 +48,271 @@ import java.util.Set;
 public class MirrorMakerAgent {
     private static final Logger LOGGER = LoggerFactory.getLogger(MirrorMakerAgent.class);
 
+    /*test*/ static final long DEFAULT_STALL_TIMEOUT_MS = 300_000L;
+
+    private static final String PRODUCER_METRICS = "kafka.producer:type=producer-metrics,client-id=*";
+    private static final String CONSUMER_METRICS = "kafka.consumer:type=consumer-metrics,client-id=*";
+    private static final String CONSUMER_FETCH_MANAGER_METRICS = "kafka.consumer:type=consumer-fetch-manager-metrics,client-id=*";
+
     private final File livenessFile;
     private final File readinessFile;
     private final long readinessSleepInterval;
     private final long livenessSleepInterval;
+    private final long stallTimeout;
+
+    private final MBeanServer beanConn = ManagementFactory.getPlatformMBeanServer();
+    private final Set<ObjectName> producerMetrics = ConcurrentHashMap.newKeySet();
+    private final Set<ObjectName> consumerMetrics = ConcurrentHashMap.newKeySet();
+    private final Set<ObjectName> consumerFetchMetrics = ConcurrentHashMap.newKeySet();
+
+    private ScheduledExecutorService executor;
+    private ObjectName producerMetricsPattern;
+    private ObjectName consumerMetricsPattern;
+    private ObjectName consumerFetchMetricsPattern;
+
+    private boolean ready = false;
+    private double lastConsumed = 0.0D;
+    private double lastSent = 0.0D;
+    private long lastProgress = System.currentTimeMillis();
 
     public MirrorMakerAgent(File readinessFile, File livenessFile, long readinessSleepInterval, long livenessSleepInterval) {
+        this(readinessFile, livenessFile, readinessSleepInterval, livenessSleepInterval, DEFAULT_STALL_TIMEOUT_MS);
+    }
+
+    public MirrorMakerAgent(File readinessFile, File livenessFile, long readinessSleepInterval, long livenessSleepInterval, long stallTimeout) {
         this.readinessFile = readinessFile;
         this.livenessFile = livenessFile;
         this.readinessSleepInterval = readinessSleepInterval;
         this.livenessSleepInterval = livenessSleepInterval;
+        this.stallTimeout = stallTimeout;
     }
 
     /**
-     * Starts two poller threads - one for readiness and one for liveness.
+     * Registers the MBean listener and starts the health check thread.
      */
     private void run() {
-        LOGGER.info("Starting readiness poller");
-        Thread readinessThread = new Thread(readinessPoller(), "ReadinessPoller");
-        readinessThread.setDaemon(true);
-        readinessThread.start();
-
-        LOGGER.info("Starting liveness poller");
-        Thread livenessThread = new Thread(livenessPoller(), "LivenessPoller");
-        livenessThread.setDaemon(true);
-        livenessThread.start();
+        try {
+            producerMetricsPattern = new ObjectName(PRODUCER_METRICS);
+            consumerMetricsPattern = new ObjectName(CONSUMER_METRICS);
+            consumerFetchMetricsPattern = new ObjectName(CONSUMER_FETCH_MANAGER_METRICS);
+        } catch (JMException e) {
+            LOGGER.error("Failed to create the metrics object names", e);
+            return;
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MirrorMakerHealthCheck");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        LOGGER.info("Starting client metrics listener");
+        try {
+            MBeanServerNotificationFilter filter = new MBeanServerNotificationFilter();
+            filter.enableAllObjectNames();
+            beanConn.addNotificationListener(MBeanServerDelegate.DELEGATE_NAME, metricsListener(), filter, null);
+        } catch (JMException e) {
+            LOGGER.error("Failed to register the client metrics listener", e);
+        }
+
+        // Pick up the client metrics which were registered before the listener
+        for (ObjectName name : beanConn.queryNames(null, null)) {
+            track(name);
+        }
+
+        long interval = Math.max(1L, Math.min(readinessSleepInterval, livenessSleepInterval));
+        LOGGER.info("Starting health check with interval {}ms and stall timeout {}ms", interval, stallTimeout);
+        executor.scheduleWithFixedDelay(this::checkHealth, 0, interval, TimeUnit.MILLISECONDS);
     }
 
     /**
-     * Creates the poller thread for the liveness check
+     * Creates the listener which keeps track of the producer and consumer metrics MBeans. Any change in the set of the
+     * client metrics triggers an immediate health check.
      *
-     * @return Runable for liveness check
+     * @return  Listener for the MBean server notifications
      */
-    private Runnable livenessPoller() {
-        return () -> {
-            while (true) {
-                if (!livenessFile.exists()) {
-                    try {
-                        LOGGER.debug("Mirror Maker is alive");
-                        touch(livenessFile);
-                    } catch (IOException e) {
-                        LOGGER.error("Could not write liveness file {}", livenessFile, e);
-                    }
+    private NotificationListener metricsListener() {
+        return (Notification notification, Object handback) -> {
+            if (notification instanceof MBeanServerNotification) {
+                ObjectName name = ((MBeanServerNotification) notification).getMBeanName();
+                boolean changed;
+
+                if (MBeanServerNotification.REGISTRATION_NOTIFICATION.equals(notification.getType())) {
+                    changed = track(name);
+                } else if (MBeanServerNotification.UNREGISTRATION_NOTIFICATION.equals(notification.getType())) {
+                    changed = producerMetrics.remove(name) | consumerMetrics.remove(name) | consumerFetchMetrics.remove(name);
+                } else {
+                    changed = false;
                 }
 
-                try {
-                    Thread.sleep(livenessSleepInterval);
-                } catch (InterruptedException e) {
-                    // In theory this should never normally happen
-                    LOGGER.warn("Unexpectedly interrupted");
-                    break;
+                if (changed) {
+                    LOGGER.debug("Client metrics {} changed ({})", name, notification.getType());
+                    // The notification is delivered on the thread registering the MBean => do not block it
+                    executor.execute(this::checkHealth);
                 }
             }
-            LOGGER.debug("Exiting thread");
         };
     }
 
     /**
-     * Creates the poller thread for the readiness check
+     * Starts tracking the MBean if it is one of the client metrics used for the health check
+     *
+     * @param name  Name of the registered MBean
      *
-     * @return Runable for readiness check
+     * @return  True if the MBean is tracked. False otherwise.
      */
-    private Runnable readinessPoller() {
-        return new Runnable() {
-            private MBeanServerConnection beanConn = ManagementFactory.getPlatformMBeanServer();
-
-            @Override
-            public void run() {
-                while (true) {
-                    if (handleProducerConnected() && handleConsumerConnected()) {
-                        try {
-                            LOGGER.debug("Mirror Maker is ready");
-                            touch(readinessFile);
-                        } catch (IOException e) {
-                            LOGGER.error("Could not write readiness file {}", readinessFile, e);
-                        }
-                    } else {
-                        LOGGER.debug("Mirror Maker is not ready");
-
-                        if (readinessFile.exists() && !readinessFile.delete()) {
-                            LOGGER.error("Could not delete readiness indicator file {}", readinessFile);
-                        }
-                    }
-
-                    try {
-                        Thread.sleep(readinessSleepInterval);
-                    } catch (InterruptedException e) {
-                        // In theory this should never normally happen
-                        LOGGER.warn("Unexpectedly interrupted");
-                        break;
-                    }
-                }
-                LOGGER.debug("Exiting thread");
-            }
+    private boolean track(ObjectName name) {
+        if (producerMetricsPattern.apply(name)) {
+            return producerMetrics.add(name);
+        } else if (consumerMetricsPattern.apply(name)) {
+            return consumerMetrics.add(name);
+        } else if (consumerFetchMetricsPattern.apply(name)) {
+            return consumerFetchMetrics.add(name);
+        } else {
+            return false;
+        }
+    }
 
-            /**
-             * Gets the producer connections from JMX and counts them.
-             *
-             * @return True if at least one producer connections exists. False otherwise.
-             */
-            boolean handleProducerConnected() {
-                LOGGER.debug("Polling for producer connections");
-                Double connectionCount = 0.0D;
+    /**
+     * Evaluates the readiness and the liveness of Mirror Maker and creates or deletes the indicator files accordingly.
+     * Only the health check thread calls this method.
+     */
+    private void checkHealth() {
+        try {
+            handleReadiness();
+            handleLiveness();
+        } catch (RuntimeException e) {
+            // Exceptions would cancel the scheduled health check
+            LOGGER.error("Failed to check the Mirror Maker health", e);
+        }
+    }
 
+    /**
+     * Updates the readiness file based on the producer and consumer connections
+     */
+    private void handleReadiness() {
+        double producerConnections = sum(producerMetrics, "connection-count");
+        double consumerConnections = sum(consumerMetrics, "connection-count");
+        LOGGER.trace("Total producer connections {}, total consumer connections {}", producerConnections, consumerConnections);
+
+        if (producerConnections > 0 && consumerConnections > 0) {
+            if (!ready || !readinessFile.exists()) {
                 try {
-                    Set<ObjectName> mbeans = beanConn.queryNames(new ObjectName("kafka.producer:type=producer-metrics,client-id=*"), null);
-
-                    for (ObjectName oName : mbeans) {
-                        Double attr = (Double) beanConn.getAttribute(oName, "connection-count");
-                        connectionCount += attr;
-                        LOGGER.trace("Found connection metric with name {} and value: {}", oName, attr);
-                    }
-                }   catch (IOException | JMException e) {
-                    LOGGER.error("Failed to query JMX metrics", e);
-                }   finally {
-                    LOGGER.trace("Total producer connections {}", connectionCount);
-                    return connectionCount > 0;
+                    LOGGER.debug("Mirror Maker is ready");
+                    touch(readinessFile);
+                    ready = true;
+                } catch (IOException e) {
+                    LOGGER.error("Could not write readiness file {}", readinessFile, e);
                 }
             }
+        } else {
+            if (ready) {
+                LOGGER.debug("Mirror Maker is not ready");
+            }
+            ready = false;
 
-            /**
-             * Gets the consumer connections from JMX and counts them.
-             *
-             * @return True if at least one consumer connections exists. False otherwise.
-             */
-            boolean handleConsumerConnected() {
-                LOGGER.debug("Polling for consumer connections");
-                Double connectionCount = 0.0D;
+            if (readinessFile.exists() && !readinessFile.delete()) {
+                LOGGER.error("Could not delete readiness indicator file {}", readinessFile);
+            }
+        }
+    }
 
-                try {
-                    Set<ObjectName> mbeans = beanConn.queryNames(new ObjectName("kafka.consumer:type=consumer-metrics,client-id=*"), null);
-
-                    for (ObjectName oName : mbeans) {
-                        Double attr = (Double) beanConn.getAttribute(oName, "connection-count");
-                        connectionCount += attr;
-                        LOGGER.trace("Found connection metric with name {} and value: {}", oName, attr);
-                    }
-                }   catch (IOException | JMException e) {
-                    LOGGER.error("Failed to query JMX metrics", e);
-                }   finally {
-                    LOGGER.trace("Total consumer connections {}", connectionCount);
-                    return connectionCount > 0;
-                }
+    /**
+     * Updates the liveness file based on the progress of the mirroring
+     */
+    private void handleLiveness() {
+        long now = System.currentTimeMillis();
+        double consumed = sum(consumerFetchMetrics, "records-consumed-total");
+        double sent = sum(producerMetrics, "record-send-total");
+        double lag = max(consumerFetchMetrics, "records-lag-max");
+
+        if (isStalled(now, consumed, sent, lag)) {
+            LOGGER.warn("Mirror Maker did not make any progress for {}ms while the consumer lag is {}", now - lastProgress, lag);
+        } else if (!livenessFile.exists()) {
+            try {
+                LOGGER.debug("Mirror Maker is alive");
+                touch(livenessFile);
+            } catch (IOException e) {
+                LOGGER.error("Could not write liveness file {}", livenessFile, e);
             }
-        };
+        }
+    }
+
+    /**
+     * Records the current values of the client metrics and checks whether Mirror Maker is stalled
+     *
+     * @param now       Current time in milliseconds
+     * @param consumed  Total number of consumed records
+     * @param sent      Total number of sent records
+     * @param lag       Maximal consumer lag or NaN if the consumers do not report it
+     *
+     * @return  True if Mirror Maker did not make any progress for longer than the stall timeout while the consumers are lagging
+     */
+    /*test*/ boolean isStalled(long now, double consumed, double sent, double lag) {
+        if (consumed != lastConsumed || sent != lastSent || lag == 0.0D || Double.isNaN(lag)) {
+            // Either records are flowing or there is nothing to mirror. A missing lag metric means that the consumers
+            // have nothing to fetch.
+            lastProgress = now;
+        }
+
+        LOGGER.trace("Records consumed {}, records sent {}, max lag {}, last progress {}", consumed, sent, lag, lastProgress);
+        lastConsumed = consumed;
+        lastSent = sent;
+
+        return now - lastProgress > stallTimeout;
+    }
+
+    /**
+     * Sums the values of an attribute across the metrics MBeans
+     *
+     * @param mbeans        MBeans from which the attribute should be read
+     * @param attribute     Name of the attribute
+     *
+     * @return  Sum of the finite attribute values
+     */
+    private double sum(Set<ObjectName> mbeans, String attribute) {
+        double sum = 0.0D;
+
+        for (ObjectName name : mbeans) {
+            double value = attribute(name, attribute);
+            if (Double.isFinite(value)) {
+                sum += value;
+            }
+        }
+
+        return sum;
+    }
+
+    /**
+     * Finds the maximal value of an attribute across the metrics MBeans
+     *
+     * @param mbeans        MBeans from which the attribute should be read
+     * @param attribute     Name of the attribute
+     *
+     * @return  Maximum of the finite attribute values or NaN if there is none
+     */
+    private double max(Set<ObjectName> mbeans, String attribute) {
+        double max = Double.NaN;
+
+        for (ObjectName name : mbeans) {
+            double value = attribute(name, attribute);
+            if (Double.isFinite(value) && (Double.isNaN(max) || value > max)) {
+                max = value;
+            }
+        }
+
+        return max;
+    }
+
+    private double attribute(ObjectName name, String attribute) {
+        try {
+            Object value = beanConn.getAttribute(name, attribute);
+            LOGGER.trace("Found metric {} with name {} and value: {}", attribute, name, value);
+            return value instanceof Number ? ((Number) value).doubleValue() : Double.NaN;
+        } catch (JMException e) {
+            LOGGER.debug("Failed to query JMX metric {} of {}", attribute, name, e);
+            return Double.NaN;
+        }
     }
 
     /**
@@ -203,7 +342,7 @@ public class MirrorMakerAgent {
     public static void premain(String agentArgs) {
         String[] args = agentArgs.split(":");
 
-        if (args.length != 4) {
+        if (args.length != 4 && args.length != 5) {
             LOGGER.error("Unexpected number of arguments ({}): {}", args.length, agentArgs);
             System.exit(1);
         } else {
@@ -219,8 +358,9 @@ public class MirrorMakerAgent {
             } else {
                 long readinessSleepInterval = Long.parseLong(args[2]) / 2L * 1000L;
                 long livenessSleepInterval = Long.parseLong(args[3]) / 2L * 1000L;
+                long stallTimeout = args.length == 5 ? Long.parseLong(args[4]) * 1000L : DEFAULT_STALL_TIMEOUT_MS;
 
-                new MirrorMakerAgent(mirrorMakerReadyFile, livenessFile, readinessSleepInterval, livenessSleepInterval).run();
+                new MirrorMakerAgent(mirrorMakerReadyFile, livenessFile, readinessSleepInterval, livenessSleepInterval, stallTimeout).run();
             }
         }
     }
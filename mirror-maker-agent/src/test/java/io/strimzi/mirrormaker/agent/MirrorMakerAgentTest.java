@@ -0,0 +1,66 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.mirrormaker.agent;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MirrorMakerAgentTest {
+    private static final long STALL_TIMEOUT = 1_000L;
+
+    private static MirrorMakerAgent agent() {
+        return new MirrorMakerAgent(new File("/tmp/mirror-maker-ready"), new File("/tmp/mirror-maker-alive"), 1_000L, 1_000L, STALL_TIMEOUT);
+    }
+
+    @Test
+    public void testProgressingCountersAreNotStalled() {
+        MirrorMakerAgent agent = agent();
+        long now = System.currentTimeMillis();
+
+        assertThat(agent.isStalled(now + STALL_TIMEOUT, 10, 10, 100), is(false));
+        assertThat(agent.isStalled(now + 2 * STALL_TIMEOUT, 20, 15, 100), is(false));
+        assertThat(agent.isStalled(now + 3 * STALL_TIMEOUT, 30, 15, 100), is(false));
+    }
+
+    @Test
+    public void testLagWithoutProgressIsStalled() {
+        MirrorMakerAgent agent = agent();
+        long now = System.currentTimeMillis();
+
+        assertThat(agent.isStalled(now, 10, 10, 100), is(false));
+        assertThat(agent.isStalled(now + STALL_TIMEOUT, 10, 10, 100), is(false));
+        assertThat(agent.isStalled(now + STALL_TIMEOUT + 1, 10, 10, 100), is(true));
+
+        // Recovers once the records flow again
+        assertThat(agent.isStalled(now + 2 * STALL_TIMEOUT, 20, 20, 100), is(false));
+    }
+
+    @Test
+    public void testNoLagIsNotStalled() {
+        MirrorMakerAgent agent = agent();
+        long now = System.currentTimeMillis();
+
+        assertThat(agent.isStalled(now, 10, 10, 0), is(false));
+        assertThat(agent.isStalled(now + 5 * STALL_TIMEOUT, 10, 10, 0), is(false));
+    }
+
+    @Test
+    public void testMissingLagIsNotStalled() {
+        MirrorMakerAgent agent = agent();
+        long now = System.currentTimeMillis();
+
+        // Consumers without any assigned partitions do not report the lag => nothing to mirror
+        assertThat(agent.isStalled(now, 10, 10, Double.NaN), is(false));
+        assertThat(agent.isStalled(now + 5 * STALL_TIMEOUT, 10, 10, Double.NaN), is(false));
+
+        // Stalls once the consumers report a lag again without any progress
+        assertThat(agent.isStalled(now + 6 * STALL_TIMEOUT, 10, 10, 100), is(false));
+        assertThat(agent.isStalled(now + 7 * STALL_TIMEOUT + 1, 10, 10, 100), is(true));
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.test.mockkube;
+
+/**
+ * Observes the calls done against the mocked Kubernetes API. It is called in the thread doing the call before the call
+ * is executed, so it can be used to count the calls or to simulate the latency of a real API server.
+ */
+public interface ApiCallObserver {
+    /**
+     * Called before each call to the mocked Kubernetes API
+     *
+     * @param resourceType  Type of the resource (e.g. Pod)
+     * @param verb          The operation (e.g. get, list, create, patch, delete, updateStatus or watch)
+     */
+    void onApiCall(String resourceType, String verb);
+}
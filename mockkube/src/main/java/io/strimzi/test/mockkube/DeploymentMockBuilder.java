@@ -40,6 +40,7 @@ class DeploymentMockBuilder extends MockBuilder<Deployment, DeploymentList, Roll
     @Override
     protected void mockCreate(String resourceName, RollableScalableResource<Deployment> resource) {
         when(resource.create(any(Deployment.class))).thenAnswer(invocation -> {
+            apiCall("create");
             checkNotExists(resourceName);
             Deployment deployment = invocation.getArgument(0);
             LOGGER.debug("create {} {} -> {}", resourceType, resourceName, deployment);
@@ -74,6 +75,7 @@ class DeploymentMockBuilder extends MockBuilder<Deployment, DeploymentList, Roll
     @Override
     protected void mockPatch(String resourceName, RollableScalableResource<Deployment> resource) {
         when(resource.patch(any(Deployment.class))).thenAnswer(invocation -> {
+            apiCall("patch");
             Deployment deployment = invocation.getArgument(0);
             String deploymentName = deployment.getMetadata().getName();
             // Initialize the map with empty collection in cases where deployment was initialized with zero replicas
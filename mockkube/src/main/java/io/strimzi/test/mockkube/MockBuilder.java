@@ -81,6 +81,8 @@ class MockBuilder<T extends HasMetadata,
     protected final String resourceType;
     protected final Collection<PredicatedWatcher<T>> watchers = Collections.synchronizedList(new ArrayList<>(2));
     private List<Observer<T>> observers = null;
+    /** Observer of the API calls or null when the API calls are not observed */
+    ApiCallObserver apiCallObserver = null;
 
     public void assertNumWatchers(int expectedNumWatchers) {
         if (watchers.size() != expectedNumWatchers) {
@@ -109,6 +111,17 @@ class MockBuilder<T extends HasMetadata,
         return this;
     }
 
+    /**
+     * Notifies the API call observer (if any) about a call to the mocked API
+     *
+     * @param verb  The operation
+     */
+    protected void apiCall(String verb) {
+        if (apiCallObserver != null) {
+            apiCallObserver.onApiCall(resourceType, verb);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     protected T copyResource(T resource) {
         if (resource == null) {
@@ -245,6 +258,7 @@ class MockBuilder<T extends HasMetadata,
 
     @SuppressWarnings("unchecked")
     private KubernetesResourceList<T> mockList(Predicate<? super T> predicate) {
+        apiCall("list");
         KubernetesResourceList<T> l = mock(listClass);
         Collection<T> values;
         synchronized (db) {
@@ -338,6 +352,7 @@ class MockBuilder<T extends HasMetadata,
     }
 
     private Object doDelete(String resourceName) {
+        apiCall("delete");
         LOGGER.debug("delete {} {}", resourceType, resourceName);
         T removed = db.remove(resourceName);
         if (removed != null) {
@@ -376,6 +391,7 @@ class MockBuilder<T extends HasMetadata,
     }
 
     private T doPatch(String resourceName, R resource, T instance) {
+        apiCall("patch");
         checkDoesExist(resourceName);
         T argument = copyResource(instance);
         LOGGER.debug("patch {} {} -> {}", resourceType, resourceName, resource);
@@ -401,6 +417,7 @@ class MockBuilder<T extends HasMetadata,
     }
 
     private Watch addWatcher(PredicatedWatcher<T> predicatedWatcher) {
+        apiCall("watch");
         watchers.add(predicatedWatcher);
         return () -> {
             watchers.remove(predicatedWatcher);
@@ -417,6 +434,7 @@ class MockBuilder<T extends HasMetadata,
     }
 
     private T doCreate(String resourceName, T argument) {
+        apiCall("create");
         checkNotExists(resourceName);
         LOGGER.debug("create {} {} -> {}", resourceType, resourceName, argument);
         db.put(resourceName, incrementGeneration(incrementResourceVersion(copyResource(argument))));
@@ -445,6 +463,7 @@ class MockBuilder<T extends HasMetadata,
 
     protected OngoingStubbing<T> mockGet(String resourceName, R resource) {
         return when(resource.get()).thenAnswer(i -> {
+            apiCall("get");
             T r = copyResource(db.get(resourceName));
             LOGGER.debug("{} {} get {}", resourceType, resourceName, r);
             return r;
@@ -461,6 +480,7 @@ class MockBuilder<T extends HasMetadata,
     @SuppressWarnings("unchecked")
     protected OngoingStubbing<T> mockSetStatus(String resourceName, R resource) {
         return when(resource.updateStatus((T) any())).thenAnswer(i -> {
+            apiCall("updateStatus");
             T r = i.getArgument(0);
             updateStatus(r.getMetadata().getNamespace(), r.getMetadata().getName(), r);
             LOGGER.debug("{} {} setStatus {}", resourceType, resourceName, r);
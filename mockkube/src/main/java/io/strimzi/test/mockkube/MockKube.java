@@ -125,6 +125,7 @@ public class MockKube {
     private MockBuilder<io.fabric8.kubernetes.api.model.networking.v1beta1.Ingress, io.fabric8.kubernetes.api.model.networking.v1beta1.IngressList, Resource<io.fabric8.kubernetes.api.model.networking.v1beta1.Ingress>> ingressV1Beta1MockBuilder;
     private DeploymentMockBuilder deploymentMockBuilder;
     private KubernetesClient mockClient;
+    private ApiCallObserver apiCallObserver;
 
     public MockKube withInitialCms(Set<ConfigMap> initialCms) {
         this.cmDb.putAll(db(initialCms));
@@ -161,6 +162,19 @@ public class MockKube {
         return this;
     }
 
+    /**
+     * Configures the observer which is called for every call to the mocked Kubernetes API. It has to be configured
+     * before the client is built.
+     *
+     * @param apiCallObserver   The observer
+     *
+     * @return  This MockKube instance
+     */
+    public MockKube withApiCallObserver(ApiCallObserver apiCallObserver) {
+        this.apiCallObserver = apiCallObserver;
+        return this;
+    }
+
     private final List<MockedCrd> mockedCrds = new ArrayList<>();
 
     public class MockedCrd<T extends CustomResource, L extends KubernetesResourceList<T>,
@@ -243,6 +257,7 @@ public class MockKube {
         mockBuilders.put(mockBuilder.resourceTypeClass, mockBuilder);
         mockBuilders2.put(plural, mockBuilder);
         mockBuilders3.put(plural, mockBuilder.resourceTypeClass);
+        mockBuilder.apiCallObserver = apiCallObserver;
         return mockBuilder;
     }
 
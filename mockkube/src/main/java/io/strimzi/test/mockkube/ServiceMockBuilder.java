@@ -31,6 +31,7 @@ class ServiceMockBuilder extends MockBuilder<Service, ServiceList, ServiceResour
     @Override
     protected void mockCreate(String resourceName, ServiceResource<Service> resource) {
         when(resource.create(any(Service.class))).thenAnswer(i -> {
+            apiCall("create");
             Service argument = i.getArgument(0);
             db.put(resourceName, copyResource(argument));
             LOGGER.debug("create {} (and endpoint) {} ", resourceType, resourceName);
@@ -91,6 +91,7 @@ class StatefulSetMockBuilder extends MockBuilder<StatefulSet, StatefulSetList, R
 
     private void mockNoncascadingDelete(String resourceName, EditReplacePatchDeletable<StatefulSet> c) {
         when(c.delete()).thenAnswer(i -> {
+            apiCall("delete");
             LOGGER.info("delete {} {}", resourceType, resourceName);
             StatefulSet removed = db.remove(resourceName);
             return removed != null;
@@ -99,6 +100,7 @@ class StatefulSetMockBuilder extends MockBuilder<StatefulSet, StatefulSetList, R
 
     private void mockNoncascadingPatch(String resourceName, EditReplacePatchDeletable<StatefulSet> c) {
         when(c.patch(any(StatefulSet.class))).thenAnswer(patchInvocation -> {
+            apiCall("patch");
             StatefulSet argument = patchInvocation.getArgument(0);
             return doPatch(resourceName, argument, argument.getSpec().getReplicas());
         });
@@ -106,6 +108,7 @@ class StatefulSetMockBuilder extends MockBuilder<StatefulSet, StatefulSetList, R
 
     private void mockScale(String resourceName, RollableScalableResource<StatefulSet> resource) {
         when(resource.scale(anyInt(), anyBoolean())).thenAnswer(invocation -> {
+            apiCall("patch");
             checkDoesExist(resourceName);
             StatefulSet sts = copyResource(db.get(resourceName));
             int newScale = invocation.getArgument(0);
@@ -114,6 +117,7 @@ class StatefulSetMockBuilder extends MockBuilder<StatefulSet, StatefulSetList, R
             return doPatch(resourceName, sts, oldScale);
         });
         when(resource.scale(anyInt())).thenAnswer(invocation -> {
+            apiCall("patch");
             checkDoesExist(resourceName);
             StatefulSet sts = copyResource(db.get(resourceName));
             int newScale = invocation.getArgument(0);
@@ -126,6 +130,7 @@ class StatefulSetMockBuilder extends MockBuilder<StatefulSet, StatefulSetList, R
     @Override
     protected void mockCreate(String resourceName, RollableScalableResource<StatefulSet> resource) {
         when(resource.create(any(StatefulSet.class))).thenAnswer(cinvocation -> {
+            apiCall("create");
             checkNotExists(resourceName);
             StatefulSet argument = cinvocation.getArgument(0);
             LOGGER.debug("create {} {} -> {}", resourceType, resourceName, argument);
@@ -193,6 +198,7 @@ class StatefulSetMockBuilder extends MockBuilder<StatefulSet, StatefulSetList, R
     @Override
     protected void mockDelete(String resourceName, RollableScalableResource<StatefulSet> resource) {
         when(resource.withPropagationPolicy(DeletionPropagation.FOREGROUND).delete()).thenAnswer(i -> {
+            apiCall("delete");
             LOGGER.debug("delete {} {}", resourceType, resourceName);
             StatefulSet removed = db.remove(resourceName);
             if (removed != null) {
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.cluster.model;
 
+import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
@@ -41,8 +42,15 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -64,6 +72,20 @@ public abstract class Ca {
 
     protected static final ReconciliationLogger LOGGER = ReconciliationLogger.create(Ca.class);
 
+    // Certificates are generated in parallel on a bounded pool shared by all CAs
+    private static final ExecutorService CERT_GENERATION_EXECUTOR = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), 8)),
+        runnable -> {
+            Thread thread = new Thread(runnable, "ca-cert-generation");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    // Certificates decoded from the Secrets and the results of the checks of the existing certificates keyed by
+    // namespace and Secret name. Each entry belongs to a single UID and resource version of the Secret and is replaced
+    // as soon as a different one is seen (e.g. after CA renewal).
+    private static final Map<String, CachedSecret> CACHED_SECRETS = new ConcurrentHashMap<>();
+
     private static final DateTimeFormatter DATE_TIME_FORMATTER = new DateTimeFormatterBuilder()
             .appendValue(YEAR, 4, 10, SignStyle.EXCEEDS_PAD)
             .appendLiteral('-')
@@ -342,6 +364,9 @@ public abstract class Ca {
     /**
      * Copy already existing certificates from provided Secret based on number of effective replicas
      * and maybe generate new ones for new replicas (i.e. scale-up).
+     * The certificates which need to be (re)generated are generated in parallel using a bounded thread pool. The
+     * results of the checks of the existing certificates are cached per Secret resource version, so that the
+     * certificates do not need to be parsed again when the Secret did not change.
      */
     protected Map<String, CertAndKey> maybeCopyOrGenerateCerts(
            Reconciliation reconciliation,
@@ -357,13 +382,10 @@ public abstract class Ca {
             replicasInSecret = (int) secret.getData().keySet().stream().filter(k -> k.contains(".crt")).count();
         }
 
-        File brokerCsrFile = File.createTempFile("tls", "broker-csr");
-        File brokerKeyFile = File.createTempFile("tls", "broker-key");
-        File brokerCertFile = File.createTempFile("tls", "broker-cert");
-        File brokerKeyStoreFile = File.createTempFile("tls", "broker-p12");
-
         int replicasInNewSecret = Math.min(replicasInSecret, replicas);
         Map<String, CertAndKey> certs = new HashMap<>(replicasInNewSecret);
+        Map<String, Subject> certsToGenerate = new LinkedHashMap<>();
+
         // copying the minimum number of certificates already existing in the secret
         // scale up -> it will copy all certificates
         // scale down -> it will copy just the requested number of replicas
@@ -372,63 +394,268 @@ public abstract class Ca {
             LOGGER.debugCr(reconciliation, "Certificate for {} already exists", podName);
             Subject subject = subjectFn.apply(i);
 
-            CertAndKey certAndKey;
-            if (secret.getData().get(podName + ".p12") != null &&
-                    !secret.getData().get(podName + ".p12").isEmpty() &&
-                    secret.getData().get(podName + ".password") != null &&
-                    !secret.getData().get(podName + ".password").isEmpty()) {
+            CertAndKey certAndKey = existingCertAndKey(secret, podName, subject);
+            List<String> reasons = renewalReasons(reconciliation, secret, podName, subject, certAndKey, isMaintenanceTimeWindowsSatisfied);
 
-                certAndKey = asCertAndKey(secret,
-                        podName + ".key", podName + ".crt",
-                        podName + ".p12", podName + ".password");
-            } else {
-                // coming from an older operator version, the secret exists but without keystore and password
-                certAndKey = addKeyAndCertToKeyStore(subject.commonName(),
-                        Base64.getDecoder().decode(secret.getData().get(podName + ".key")),
-                        Base64.getDecoder().decode(secret.getData().get(podName + ".crt")));
+            if (!reasons.isEmpty())  {
+                LOGGER.debugCr(reconciliation, "Certificate for pod {} need to be regenerated because: {}", podName, String.join(", ", reasons));
+                certsToGenerate.put(podName, subject);
+            }   else {
+                certs.put(podName, certAndKey);
             }
+        }
+
+        // generate the missing number of certificates
+        // scale up -> generate new certificates for added replicas
+        // scale down -> does nothing
+        for (int i = replicasInSecret; i < replicas; i++) {
+            String podName = podNameFn.apply(i);
+
+            LOGGER.debugCr(reconciliation, "Certificate for {} to generate", podName);
+            certsToGenerate.put(podName, subjectFn.apply(i));
+        }
+
+        // scale down -> the cached checks of the removed pods are not needed anymore
+        for (int i = replicas; i < replicasInSecret; i++) {
+            forgetCheckedCert(secret, podNameFn.apply(i));
+        }
+
+        certs.putAll(generateSignedCerts(reconciliation, certsToGenerate));
+
+        return certs;
+    }
+
+    /**
+     * Gets the existing certificate and key of the given pod from the Secret. When the Secret comes from an older
+     * operator version without the keystore and its password, the keystore is created.
+     *
+     * @param secret    Secret with the existing certificates
+     * @param podName   Name of the pod
+     * @param subject   Subject of the certificate
+     *
+     * @return  The existing certificate and key
+     *
+     * @throws IOException  If the keystore could not be created
+     */
+    private CertAndKey existingCertAndKey(Secret secret, String podName, Subject subject) throws IOException {
+        String keyStore = secret.getData().get(podName + ".p12");
+        String keyStorePassword = secret.getData().get(podName + ".password");
+
+        if (keyStore != null && !keyStore.isEmpty() && keyStorePassword != null && !keyStorePassword.isEmpty()) {
+            return asCertAndKey(secret,
+                    podName + ".key", podName + ".crt",
+                    podName + ".p12", podName + ".password");
+        } else {
+            // coming from an older operator version, the secret exists but without keystore and password
+            return addKeyAndCertToKeyStore(subject.commonName(),
+                    Base64.getDecoder().decode(secret.getData().get(podName + ".key")),
+                    Base64.getDecoder().decode(secret.getData().get(podName + ".crt")));
+        }
+    }
 
-            List<String> reasons = new ArrayList<>(2);
+    /**
+     * Checks whether the existing certificate of the given pod needs to be renewed. The result of a check which found
+     * the certificate up to date is cached for the current resource version of the Secret.
+     *
+     * @param reconciliation                        Reconciliation marker
+     * @param secret                                Secret with the existing certificates
+     * @param podName                               Name of the pod
+     * @param subject                               Desired subject of the certificate
+     * @param certAndKey                            Existing certificate and key
+     * @param isMaintenanceTimeWindowsSatisfied     Indicates whether we are in a maintenance time window
+     *
+     * @return  The reasons why the certificate needs to be renewed or an empty list when it can be kept
+     */
+    private List<String> renewalReasons(Reconciliation reconciliation, Secret secret, String podName, Subject subject,
+                                        CertAndKey certAndKey, boolean isMaintenanceTimeWindowsSatisfied) {
+        List<String> reasons = new ArrayList<>(2);
+
+        if (renewalType.equals(RenewalType.CREATE)) {
+            reasons.add("certificate added");
+        } else if (isCachedCertUpToDate(secret, podName, subject)) {
+            LOGGER.traceCr(reconciliation, "Certificate for pod {} did not change since it was last checked", podName);
+        } else {
+            boolean subjectChanged = certSubjectChanged(certAndKey, subject, podName);
+            boolean expiring = isExpiring(secret, podName + ".crt");
 
-            if (certSubjectChanged(certAndKey, subject, podName))   {
+            if (subjectChanged)   {
                 reasons.add("DNS names changed");
             }
 
-            if (isExpiring(secret, podName + ".crt") && isMaintenanceTimeWindowsSatisfied)  {
+            if (expiring && isMaintenanceTimeWindowsSatisfied)  {
                 reasons.add("certificate is expiring");
             }
 
-            if (renewalType.equals(RenewalType.CREATE)) {
-                reasons.add("certificate added");
+            if (!subjectChanged && !expiring) {
+                cacheCheckedCert(secret, podName, subject);
             }
+        }
 
-            if (!reasons.isEmpty())  {
-                LOGGER.debugCr(reconciliation, "Certificate for pod {} need to be regenerated because: {}", podName, String.join(", ", reasons));
+        return reasons;
+    }
 
-                CertAndKey newCertAndKey = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-                certs.put(podName, newCertAndKey);
-            }   else {
-                certs.put(podName, certAndKey);
+    /**
+     * Generates the signed certificates for given subjects. When more than one certificate is needed, they are
+     * generated in parallel using a bounded thread pool. Each certificate uses its own set of temporary files.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param subjects          Map with the pod names and the subjects of the certificates which should be generated
+     *
+     * @return  Map with the pod names and the generated certificates
+     *
+     * @throws IOException  If any of the certificates could not be generated
+     */
+    private Map<String, CertAndKey> generateSignedCerts(Reconciliation reconciliation, Map<String, Subject> subjects) throws IOException {
+        Map<String, CertAndKey> certs = new HashMap<>(subjects.size());
+
+        if (subjects.size() == 1) {
+            Map.Entry<String, Subject> subject = subjects.entrySet().iterator().next();
+            certs.put(subject.getKey(), generateSignedCertWithTempFiles(reconciliation, subject.getValue()));
+        } else if (subjects.size() > 1) {
+            LOGGER.debugCr(reconciliation, "Generating {} certificates in parallel", subjects.size());
+            Map<String, Future<CertAndKey>> futures = new HashMap<>(subjects.size());
+
+            for (Map.Entry<String, Subject> subject : subjects.entrySet()) {
+                futures.put(subject.getKey(), CERT_GENERATION_EXECUTOR.submit(() -> generateSignedCertWithTempFiles(reconciliation, subject.getValue())));
+            }
+
+            for (Map.Entry<String, Future<CertAndKey>> future : futures.entrySet()) {
+                try {
+                    certs.put(future.getKey(), future.getValue().get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while generating certificate for " + future.getKey(), e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof IOException) {
+                        throw (IOException) e.getCause();
+                    } else if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    } else {
+                        throw new IOException("Failed to generate certificate for " + future.getKey(), e.getCause());
+                    }
+                }
             }
         }
 
-        // generate the missing number of certificates
-        // scale up -> generate new certificates for added replicas
-        // scale down -> does nothing
-        for (int i = replicasInSecret; i < replicas; i++) {
-            String podName = podNameFn.apply(i);
+        return certs;
+    }
 
-            LOGGER.debugCr(reconciliation, "Certificate for {} to generate", podName);
-            CertAndKey k = generateSignedCert(subjectFn.apply(i),
-                    brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-            certs.put(podName, k);
+    /**
+     * Generates a single certificate signed by this CA using its own set of temporary files.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param subject           Subject of the certificate
+     *
+     * @return  The generated certificate
+     *
+     * @throws IOException  If the certificate could not be generated
+     */
+    private CertAndKey generateSignedCertWithTempFiles(Reconciliation reconciliation, Subject subject) throws IOException {
+        File brokerCsrFile = File.createTempFile("tls", "broker-csr");
+        File brokerKeyFile = File.createTempFile("tls", "broker-key");
+        File brokerCertFile = File.createTempFile("tls", "broker-cert");
+        File brokerKeyStoreFile = File.createTempFile("tls", "broker-p12");
+
+        try {
+            return generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
+        } finally {
+            delete(reconciliation, brokerCsrFile);
+            delete(reconciliation, brokerKeyFile);
+            delete(reconciliation, brokerCertFile);
+            delete(reconciliation, brokerKeyStoreFile);
         }
-        delete(reconciliation, brokerCsrFile);
-        delete(reconciliation, brokerKeyFile);
-        delete(reconciliation, brokerCertFile);
-        delete(reconciliation, brokerKeyStoreFile);
+    }
 
-        return certs;
+
+    /**
+     * Checks whether the certificate of given pod was already checked for this resource version of the Secret, with
+     * the same desired subject and whether it is still outside of the renewal period.
+     *
+     * @param secret    Secret with the certificates
+     * @param podName   Name of the pod to which the certificate belongs
+     * @param subject   Desired subject of the certificate
+     *
+     * @return  True if the certificate was already checked and does not need to be renewed. False otherwise.
+     */
+    private boolean isCachedCertUpToDate(Secret secret, String podName, Subject subject) {
+        if (secret.getMetadata() == null || secret.getMetadata().getResourceVersion() == null) {
+            return false;
+        }
+
+        CachedSecret cachedSecret = CACHED_SECRETS.get(cachedSecretKey(secret.getMetadata()));
+
+        if (cachedSecret == null) {
+            return false;
+        } else if (!cachedSecret.isFor(secret.getMetadata())) {
+            // The Secret changed => the cached data of the previous version are not needed anymore
+            CACHED_SECRETS.remove(cachedSecretKey(secret.getMetadata()), cachedSecret);
+            return false;
+        }
+
+        CheckedCert checked = cachedSecret.checkedCerts.get(podName);
+
+        return checked != null
+                && checked.cert.equals(secret.getData().get(podName + ".crt"))
+                && checked.subject.equals(subject)
+                && checked.notAfter - System.currentTimeMillis() >= renewalDays * 24L * 60L * 60L * 1000L;
+    }
+
+    /**
+     * Stores the result of a successful check of an existing certificate, so that it does not need to be checked
+     * again until the Secret changes or until it gets into the renewal period.
+     *
+     * @param secret    Secret with the certificates
+     * @param podName   Name of the pod to which the certificate belongs
+     * @param subject   Desired subject of the certificate
+     */
+    private void cacheCheckedCert(Secret secret, String podName, Subject subject) {
+        if (secret.getMetadata() == null || secret.getMetadata().getResourceVersion() == null) {
+            return;
+        }
+
+        try {
+            X509Certificate cert = getAsX509Certificate(secret, podName + ".crt");
+
+            if (cert != null) {
+                cachedSecret(secret.getMetadata()).checkedCerts
+                        .put(podName, new CheckedCert(secret.getData().get(podName + ".crt"), subject, cert.getNotAfter().getTime()));
+            }
+        } catch (RuntimeException e) {
+            LOGGER.debugCr(reconciliation, "Failed to parse existing certificate", e);
+        }
+    }
+
+    /**
+     * Removes the cached result of the check of the certificate of given pod, e.g. after the pod was scaled down.
+     *
+     * @param secret    Secret with the certificates
+     * @param podName   Name of the pod to which the certificate belongs
+     */
+    private static void forgetCheckedCert(Secret secret, String podName) {
+        if (secret == null || secret.getMetadata() == null) {
+            return;
+        }
+
+        CachedSecret cachedSecret = CACHED_SECRETS.get(cachedSecretKey(secret.getMetadata()));
+
+        if (cachedSecret != null) {
+            cachedSecret.checkedCerts.remove(podName);
+        }
+    }
+
+    /**
+     * Result of a check of an existing certificate
+     */
+    private static class CheckedCert {
+        private final String cert;
+        private final Subject subject;
+        private final long notAfter;
+
+        CheckedCert(String cert, Subject subject, long notAfter) {
+            this.cert = cert;
+            this.subject = subject;
+            this.notAfter = notAfter;
+        }
     }
 
     /**
@@ -554,7 +781,7 @@ public abstract class Ca {
                         addCertCaToTrustStore(CA_CRT, certData);
                     }
             }
-            this.caCertsRemoved = removeExpiredCerts(certData) > 0;
+            this.caCertsRemoved = removeExpiredCerts(caCertSecret, certData) > 0;
         }
         SecretCertProvider secretCertProvider = new SecretCertProvider();
 
@@ -763,7 +990,7 @@ public abstract class Ca {
         return renewalType.equals(RenewalType.CREATE);
     }
 
-    private int removeExpiredCerts(Map<String, String> newData) {
+    private int removeExpiredCerts(Secret currentSecret, Map<String, String> newData) {
         Iterator<Map.Entry<String, String>> iter = newData.entrySet().iterator();
         List<String> removed = new ArrayList<>();
         while (iter.hasNext()) {
@@ -772,7 +999,7 @@ public abstract class Ca {
             String certText = entry.getValue();
             boolean remove = false;
             try {
-                X509Certificate cert = x509Certificate(Base64.getDecoder().decode(certText));
+                X509Certificate cert = decodedCert(currentSecret, certName, certText);
                 Instant expiryDate = cert.getNotAfter().toInstant();
                 remove = expiryDate.isBefore(Instant.now());
                 if (remove) {
@@ -838,15 +1065,131 @@ public abstract class Ca {
         if (secret == null || secret.getData() == null || secret.getData().get(key) == null) {
             return null;
         }
-        Base64.Decoder decoder = Base64.getDecoder();
-        byte[] bytes = decoder.decode(secret.getData().get(key));
         try {
-            return x509Certificate(bytes);
+            return decodedCert(secret, key, secret.getData().get(key));
         } catch (CertificateException e) {
             throw new RuntimeException("Failed to decode certificate in data." + key.replace(".", "\\.") + " of Secret " + secret.getMetadata().getName(), e);
         }
     }
 
+    /**
+     * Decodes a certificate from its base64 encoded form. When the certificate belongs to a Secret with known UID and
+     * resource version, the decoded certificate (or the failure to decode it) is cached, so that the certificates of
+     * unchanged Secrets are parsed only once. The cache is shared by all CAs and operators in the same process.
+     *
+     * @param secret    Secret from which the certificate comes (or null)
+     * @param key       Key under which the certificate is stored in the Secret
+     * @param encoded   Base64 encoded certificate
+     *
+     * @return  Decoded X509 certificate
+     *
+     * @throws CertificateException when the data are not a valid X509 certificate
+     */
+    /*test*/ static X509Certificate decodedCert(Secret secret, String key, String encoded) throws CertificateException {
+        ObjectMeta metadata = secret != null ? secret.getMetadata() : null;
+
+        if (metadata == null || metadata.getUid() == null || metadata.getResourceVersion() == null) {
+            return x509Certificate(Base64.getDecoder().decode(encoded));
+        }
+
+        return cachedSecret(metadata).cert(key, encoded);
+    }
+
+    /*test*/ static boolean isCertCached(Secret secret, String key) {
+        CachedSecret cachedSecret = CACHED_SECRETS.get(cachedSecretKey(secret.getMetadata()));
+        return cachedSecret != null && cachedSecret.isFor(secret.getMetadata()) && cachedSecret.decodedCerts.containsKey(key);
+    }
+
+    private static String cachedSecretKey(ObjectMeta metadata) {
+        return metadata.getNamespace() + "/" + metadata.getName();
+    }
+
+    /**
+     * Returns the cache entry of the current version of a Secret. The entry of any other version is replaced.
+     *
+     * @param metadata  Metadata of the Secret with a resource version
+     *
+     * @return  Cache entry of the Secret
+     */
+    private static CachedSecret cachedSecret(ObjectMeta metadata) {
+        return CACHED_SECRETS.compute(cachedSecretKey(metadata),
+            (name, current) -> current != null && current.isFor(metadata) ? current : new CachedSecret(metadata));
+    }
+
+    /**
+     * Removes the cached certificates and certificate checks of a deleted Secret
+     *
+     * @param namespace     Namespace of the Secret
+     * @param secretName    Name of the Secret
+     */
+    public static void forgetCachedCerts(String namespace, String secretName) {
+        CACHED_SECRETS.remove(namespace + "/" + secretName);
+    }
+
+    /**
+     * Certificates decoded from a single UID and resource version of a Secret and the results of the checks of the
+     * existing certificates keyed by the pod name
+     */
+    private static class CachedSecret {
+        private final String uid;
+        private final String resourceVersion;
+        private final Map<String, DecodedCert> decodedCerts = new ConcurrentHashMap<>();
+        private final Map<String, CheckedCert> checkedCerts = new ConcurrentHashMap<>();
+
+        CachedSecret(ObjectMeta metadata) {
+            this.uid = metadata.getUid();
+            this.resourceVersion = metadata.getResourceVersion();
+        }
+
+        boolean isFor(ObjectMeta metadata) {
+            return Objects.equals(uid, metadata.getUid()) && resourceVersion.equals(metadata.getResourceVersion());
+        }
+
+        X509Certificate cert(String key, String encoded) throws CertificateException {
+            DecodedCert decoded = decodedCerts.get(key);
+
+            // The data can be modified in memory before being written back, so the encoded form is compared as well
+            if (decoded == null || !decoded.encoded.equals(encoded)) {
+                decoded = new DecodedCert(encoded);
+                decodedCerts.put(key, decoded);
+            }
+
+            return decoded.get();
+        }
+    }
+
+    /**
+     * Result of decoding a single certificate
+     */
+    private static class DecodedCert {
+        private final String encoded;
+        private final X509Certificate cert;
+        private final CertificateException error;
+
+        DecodedCert(String encoded) {
+            X509Certificate cert = null;
+            CertificateException error = null;
+
+            try {
+                cert = x509Certificate(Base64.getDecoder().decode(encoded));
+            } catch (CertificateException e) {
+                error = e;
+            }
+
+            this.encoded = encoded;
+            this.cert = cert;
+            this.error = error;
+        }
+
+        X509Certificate get() throws CertificateException {
+            if (error != null) {
+                throw error;
+            }
+
+            return cert;
+        }
+    }
+
     static X509Certificate x509Certificate(byte[] bytes) throws CertificateException {
         CertificateFactory factory = certificateFactory();
         return x509Certificate(factory, bytes);
@@ -8,6 +8,8 @@ public enum CruiseControlEndpoints {
 
     STATE("/kafkacruisecontrol/state"),
     REBALANCE("/kafkacruisecontrol/rebalance"),
+    ADD_BROKER("/kafkacruisecontrol/add_broker"),
+    REMOVE_BROKER("/kafkacruisecontrol/remove_broker"),
     STOP("/kafkacruisecontrol/stop_proposal_execution"),
     USER_TASKS("/kafkacruisecontrol/user_tasks");
 
@@ -22,7 +22,8 @@ public enum CruiseControlParameters {
     CONCURRENT_INTRA_PARTITION_MOVEMENTS("concurrent_intra_broker_partition_movements"),
     CONCURRENT_LEADER_MOVEMENTS("concurrent_leader_movements"),
     REPLICATION_THROTTLE("replication_throttle"),
-    REPLICA_MOVEMENT_STRATEGIES("replica_movement_strategies");
+    REPLICA_MOVEMENT_STRATEGIES("replica_movement_strategies"),
+    BROKER_ID("brokerid");
 
     String key;
 
@@ -19,7 +19,6 @@ import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.api.kafka.model.status.ConditionBuilder;
 import io.strimzi.api.kafka.model.status.Status;
 import io.strimzi.operator.cluster.model.InvalidResourceException;
-import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.model.ResourceVisitor;
@@ -27,9 +26,11 @@ import io.strimzi.operator.common.model.ValidationVisitor;
 import io.strimzi.operator.common.operator.resource.AbstractWatchableStatusedResourceOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
+import io.strimzi.operator.common.operator.resource.StatusWriter;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.shareddata.Lock;
@@ -43,7 +44,9 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static io.strimzi.operator.common.Util.async;
@@ -76,6 +79,10 @@ public abstract class AbstractOperator<
     private static final long PROGRESS_WARNING = 60_000L;
     protected static final int LOCK_TIMEOUT_MS = 10000;
     public static final String METRICS_PREFIX = "strimzi.";
+    /**
+     * Trigger of the periodic reconciliations
+     */
+    public static final String PERIODIC_TRIGGER = "timer";
 
     protected final Vertx vertx;
     protected final O resourceOperator;
@@ -84,6 +91,9 @@ public abstract class AbstractOperator<
     private final Optional<LabelSelector> selector;
 
     protected final MetricsProvider metrics;
+    protected final StatusWriter statusWriter;
+    protected final ReconciliationProfiler profiler;
+    private final ReconciliationScheduler scheduler;
     private final Counter periodicReconciliationsCounter;
     private final Counter reconciliationsCounter;
     private final Counter failedReconciliationsCounter;
@@ -100,6 +110,8 @@ public abstract class AbstractOperator<
         this.resourceOperator = resourceOperator;
         this.selector = (selectorLabels == null || selectorLabels.toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, selectorLabels.toMap()));
         this.metrics = metrics;
+        this.statusWriter = new StatusWriter(vertx, metrics);
+        this.profiler = new ReconciliationProfiler(kind);
 
         // Setup metrics
         String selectorValue = selectorLabels != null ? selectorLabels.toSelectorString() : "";
@@ -138,6 +150,8 @@ public abstract class AbstractOperator<
                 metricTags);
 
         resourcesStateCounter = new ConcurrentHashMap<>();
+
+        scheduler = new ReconciliationScheduler(metrics, metricTags);
     }
 
     @Override
@@ -194,9 +208,12 @@ public abstract class AbstractOperator<
 
         reconciliationsCounter.increment();
         Timer.Sample reconciliationTimerSample = Timer.start(metrics.meterRegistry());
+        profiler.started(reconciliation);
+        AtomicReference<Long> generation = new AtomicReference<>();
 
         Future<Void> handler = withLock(reconciliation, LOCK_TIMEOUT_MS, () -> {
             T cr = resourceOperator.get(namespace, name);
+            generation.set(cr != null ? cr.getMetadata().getGeneration() : null);
 
             if (cr != null) {
                 if (!Util.matchesSelector(selector(), cr))  {
@@ -303,13 +320,45 @@ public abstract class AbstractOperator<
 
         Promise<Void> result = Promise.promise();
         handler.onComplete(reconcileResult -> {
-            handleResult(reconciliation, reconcileResult, reconciliationTimerSample);
+            handleResult(reconciliation, reconcileResult, reconciliationTimerSample, generation.get());
+            profiler.finished(reconciliation, reconcileResult);
             result.handle(reconcileResult);
         });
 
         return result.future();
     }
 
+    /**
+     * @return  The profiler with the timelines of the in-flight and recently completed reconciliations
+     */
+    public ReconciliationProfiler profiler() {
+        return profiler;
+    }
+
+    /**
+     * @return  The scheduler which decides which resources are reconciled by the periodic reconciliation
+     */
+    public ReconciliationScheduler scheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Reconciles the given resources. The periodic reconciliation reconciles only the resources selected by the
+     * {@link ReconciliationScheduler}, but the resource counter is still set to the number of all resources.
+     */
+    @Override
+    public void reconcileThese(String trigger, Set<NamespaceAndName> desiredNames, Handler<AsyncResult<Void>> handler) {
+        if (PERIODIC_TRIGGER.equals(trigger) && scheduler.isAdaptive()) {
+            Set<NamespaceAndName> due = scheduler.due(desiredNames);
+            LOGGER.debugOp("Periodic reconciliation of {} reconciles {} of {} resources", kind, due.size(), desiredNames.size());
+
+            Operator.super.reconcileThese(trigger, due, handler);
+            getResourceCounter().set(desiredNames.size());
+        } else {
+            Operator.super.reconcileThese(trigger, desiredNames, handler);
+        }
+    }
+
     protected void addWarningsToStatus(Status status, Set<Condition> unknownAndDeprecatedConditions)   {
         if (status != null)  {
             status.addConditions(unknownAndDeprecatedConditions);
@@ -318,7 +367,8 @@ public abstract class AbstractOperator<
 
     /**
      * Updates the Status field of the Kafka CR. It diffs the desired status against the current status and calls
-     * the update only when there is any difference in non-timestamp fields.
+     * the update only when there is any difference in non-timestamp fields. The update is done through the
+     * {@link StatusWriter} which coalesces, rate-limits and retries the status updates.
      *
      * @param reconciliation the reconciliation identified
      * @param desiredStatus The KafkaStatus which should be set
@@ -331,38 +381,14 @@ public abstract class AbstractOperator<
             return Future.succeededFuture();
         }
 
-        String namespace = reconciliation.namespace();
-        String name = reconciliation.name();
+        return statusWriter.updateStatus(reconciliation, resourceOperator, reconciliation.namespace(), reconciliation.name(), desiredStatus,
+                this::copyWithStatus)
+                .mapEmpty();
+    }
 
-        return resourceOperator.getAsync(namespace, name)
-                .compose(res -> {
-                    if (res != null) {
-                        S currentStatus = res.getStatus();
-                        StatusDiff sDiff = new StatusDiff(currentStatus, desiredStatus);
-
-                        if (!sDiff.isEmpty()) {
-                            res.setStatus(desiredStatus);
-
-                            return resourceOperator.updateStatusAsync(reconciliation, res)
-                                    .compose(notUsed -> {
-                                        LOGGER.debugCr(reconciliation, "Completed status update");
-                                        return Future.succeededFuture();
-                                    }, error -> {
-                                            LOGGER.errorCr(reconciliation, "Failed to update status", error);
-                                            return Future.failedFuture(error);
-                                        });
-                        } else {
-                            LOGGER.debugCr(reconciliation, "Status did not change");
-                            return Future.succeededFuture();
-                        }
-                    } else {
-                        LOGGER.errorCr(reconciliation, "Current {} resource not found", reconciliation.kind());
-                        return Future.failedFuture("Current " + reconciliation.kind() + " resource with name " + name + " not found");
-                    }
-                }, error -> {
-                        LOGGER.errorCr(reconciliation, "Failed to get the current {} resource and its status", reconciliation.kind(), error);
-                        return Future.failedFuture(error);
-                    });
+    private T copyWithStatus(T resource, S status) {
+        resource.setStatus(status);
+        return resource;
     }
 
     protected abstract S createStatus();
@@ -392,6 +418,7 @@ public abstract class AbstractOperator<
         vertx.sharedData().getLockWithTimeout(lockName, lockTimeoutMs, res -> {
             if (res.succeeded()) {
                 LOGGER.debugCr(reconciliation, "Lock {} acquired", lockName);
+                ReconciliationProfiler.lockAcquired(reconciliation);
 
                 Lock lock = res.result();
                 long timerId = vertx.setPeriodic(PROGRESS_WARNING, timer -> {
@@ -472,16 +499,35 @@ public abstract class AbstractOperator<
      * @return A future which completes when the watcher has been created.
      */
     public Future<Watch> createWatch(String namespace, Consumer<WatcherException> onClose) {
-        return async(vertx, () -> resourceOperator.watch(namespace, selector(), new OperatorWatcher<>(this, namespace, onClose)));
+        return createWatch(namespace, ns -> true, onClose);
+    }
+
+    /**
+     * Create Kubernetes watch which ignores the events from namespaces not accepted by the namespace filter. This is
+     * used to watch multiple namespaces with a single cluster-wide watch.
+     *
+     * @param namespace         Namespace where to watch for the resources (or * for all namespaces).
+     * @param namespaceFilter   Filter for the namespaces of the received events.
+     * @param onClose           Callback called when the watch is closed.
+     *
+     * @return A future which completes when the watcher has been created.
+     */
+    public Future<Watch> createWatch(String namespace, Predicate<String> namespaceFilter, Consumer<WatcherException> onClose) {
+        // Unordered, so that the watches for the different kinds can be opened in parallel
+        return async(vertx, () -> resourceOperator.watch(namespace, selector(), new OperatorWatcher<>(this, namespace, namespaceFilter, onClose)), false);
     }
 
     public Consumer<WatcherException> recreateWatch(String namespace) {
+        return recreateWatch(namespace, ns -> true);
+    }
+
+    public Consumer<WatcherException> recreateWatch(String namespace, Predicate<String> namespaceFilter) {
         Consumer<WatcherException> kubernetesClientExceptionConsumer = new Consumer<WatcherException>() {
             @Override
             public void accept(WatcherException e) {
                 if (e != null) {
                     LOGGER.errorOp("Watcher closed with exception in namespace {}", namespace, e);
-                    createWatch(namespace, this);
+                    createWatch(namespace, namespaceFilter, this);
                 } else {
                     LOGGER.infoOp("Watcher closed in namespace {}", namespace);
                 }
@@ -493,7 +539,11 @@ public abstract class AbstractOperator<
     /**
      * Log the reconciliation outcome.
      */
-    private void handleResult(Reconciliation reconciliation, AsyncResult<Void> result, Timer.Sample reconciliationTimerSample) {
+    private void handleResult(Reconciliation reconciliation, AsyncResult<Void> result, Timer.Sample reconciliationTimerSample, Long generation) {
+        if (!(result.failed() && result.cause() instanceof UnableToAcquireLockException)) {
+            scheduler.completed(new NamespaceAndName(reconciliation.namespace(), reconciliation.name()), generation, result.failed());
+        }
+
         if (result.succeeded()) {
             updateResourceState(reconciliation, true, null);
             successfulReconciliationsCounter.increment();
@@ -33,6 +33,8 @@ public class Annotations {
     public static final String STRIMZI_IO_USE_CONNECTOR_RESOURCES = STRIMZI_DOMAIN + "use-connector-resources";
     // Used to store the revision of the Kafka Connect build (hash of the Dockerfile)
     public static final String STRIMZI_IO_CONNECT_BUILD_REVISION = STRIMZI_DOMAIN + "connect-build-revision";
+    // Used to store the keys of the connector plugin layers of the Kafka Connect build (to find out which were cached)
+    public static final String STRIMZI_IO_CONNECT_BUILD_LAYERS = STRIMZI_DOMAIN + "connect-build-layers";
     // Use to force rebuild of the container image even if the dockerfile did not changed
     public static final String STRIMZI_IO_CONNECT_FORCE_REBUILD = STRIMZI_DOMAIN + "force-rebuild";
     // Use to pause resource reconciliation
@@ -41,6 +43,11 @@ public class Annotations {
     // This annotation with related possible values (approve, stop, refresh) is set by the user for interacting
     // with the rebalance operator in order to start, stop, or refresh rebalancing proposals and operations.
     public static final String ANNO_STRIMZI_IO_REBALANCE = STRIMZI_DOMAIN + "rebalance";
+    // Set on a KafkaRebalance to approve its optimization proposal automatically once it is ready
+    public static final String ANNO_STRIMZI_IO_REBALANCE_AUTO_APPROVAL = STRIMZI_DOMAIN + "rebalance-auto-approval";
+    // Set on a Kafka to move the replicas to the added brokers after scaling up and off the removed brokers before
+    // scaling down using Cruise Control
+    public static final String ANNO_STRIMZI_IO_REBALANCE_ON_SCALING = STRIMZI_DOMAIN + "rebalance-on-scaling";
 
     /**
      * Annotations for restarting KafkaConnector and KafkaMirrorMaker2 connectors or tasks
@@ -17,6 +17,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Abstraction of an operator which is driven by resources of a given {@link #kind()}.
@@ -50,10 +52,28 @@ public interface Operator {
      * @param handler Handler called on completion.
      */
     default void reconcileAll(String trigger, String namespace, Handler<AsyncResult<Void>> handler) {
+        reconcileAll(trigger, namespace, ns -> true, handler);
+    }
+
+    /**
+     * Triggers the asynchronous reconciliation of all resources which this operator consumes and which are in one of
+     * the namespaces accepted by the namespace filter. This is used when multiple namespaces are covered by a single
+     * cluster-wide watch and listing the resources in all namespaces at once is cheaper than listing them namespace
+     * by namespace.
+     *
+     * @param trigger The cause of this reconciliation (for logging).
+     * @param namespace The namespace to reconcile, or {@code *} to reconcile across all namespaces.
+     * @param namespaceFilter Filter for the namespaces of the resources which should be reconciled.
+     * @param handler Handler called on completion.
+     */
+    default void reconcileAll(String trigger, String namespace, Predicate<String> namespaceFilter, Handler<AsyncResult<Void>> handler) {
         allResourceNames(namespace).onComplete(ar -> {
             getPausedResourceCounter().set(0);
             if (ar.succeeded()) {
-                reconcileThese(trigger, ar.result(), handler);
+                Set<NamespaceAndName> desiredNames = ar.result().stream()
+                        .filter(resourceRef -> namespaceFilter.test(resourceRef.getNamespace()))
+                        .collect(Collectors.toSet());
+                reconcileThese(trigger, desiredNames, handler);
                 getPeriodicReconciliationsCounter().increment();
             } else {
                 handler.handle(ar.map((Void) null));
@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
 
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * The fabric8 Watcher used to trigger reconciliation of an {@link Operator}.
@@ -16,12 +17,28 @@ import java.util.function.Consumer;
  */
 class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
     private final String namespace;
+    private final Predicate<String> namespaceFilter;
     private final Consumer<WatcherException> onClose;
     private Operator operator;
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(OperatorWatcher.class);
 
     OperatorWatcher(Operator operator, String namespace, Consumer<WatcherException> onClose) {
+        this(operator, namespace, ns -> true, onClose);
+    }
+
+    /**
+     * Constructs the watcher
+     *
+     * @param operator          Operator which should be triggered by the events
+     * @param namespace         Namespace (or * for all namespaces) which is watched
+     * @param namespaceFilter   Filter for the namespaces of the received events. Events for resources from namespaces
+     *                          not accepted by the filter are ignored. This is used when a single cluster-wide watch
+     *                          is used to cover multiple namespaces.
+     * @param onClose           Callback called when the watch is closed
+     */
+    OperatorWatcher(Operator operator, String namespace, Predicate<String> namespaceFilter, Consumer<WatcherException> onClose) {
         this.namespace = namespace;
+        this.namespaceFilter = namespaceFilter;
         this.onClose = onClose;
         this.operator = operator;
     }
@@ -30,6 +47,12 @@ class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
     public void eventReceived(Action action, T resource) {
         String name = resource.getMetadata().getName();
         String namespace = resource.getMetadata().getNamespace();
+
+        if (!namespaceFilter.test(namespace)) {
+            LOGGER.traceOp("Ignoring {} event for {} {} in namespace {} which is not watched", action, operator.kind(), name, namespace);
+            return;
+        }
+
         switch (action) {
             case ADDED:
             case DELETED:
@@ -28,6 +28,10 @@ public class Reconciliation {
     private final String name;
     private final int id;
     private final Marker marker;
+    private final String description;
+
+    // Timeline of this reconciliation. It is set only when the reconciliation is profiled by ReconciliationProfiler.
+    volatile ReconciliationProfiler.Profile profile;
 
     public Reconciliation(String trigger, String kind, String namespace, String assemblyName) {
         this.trigger = trigger;
@@ -36,6 +40,8 @@ public class Reconciliation {
         this.name = assemblyName;
         this.id = IDS.getAndIncrement();
         this.marker = MarkerManager.getMarker(this.kind + "(" + this.namespace + "/" + this.name + ")");
+        // The description is used as prefix of every log message, so it is created only once
+        this.description = "Reconciliation #" + id + "(" + trigger + ") " + kind + "(" + namespace + "/" + name + ")";
     }
 
     public String kind() {
@@ -55,6 +61,6 @@ public class Reconciliation {
     }
 
     public String toString() {
-        return "Reconciliation #" + id + "(" + trigger + ") " + kind() + "(" + namespace() + "/" + name() + ")";
+        return description;
     }
 }
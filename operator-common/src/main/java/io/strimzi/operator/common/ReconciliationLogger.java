@@ -35,6 +35,16 @@ public class ReconciliationLogger implements Serializable {
     private static final Level TRACE = Level.forName("TRACE", 600);
     private static final Level ALL = Level.forName("ALL", 10000);
 
+    /**
+     * Environment variable which enables the structured logging. In the structured mode, the messages are not
+     * prefixed with the description of the reconciliation. The reconciliation is passed to the log appenders only
+     * through the marker ({@code Kind(namespace/name)}), which can be used in the layout (for example using
+     * {@code %marker} in the PatternLayout or as the marker field of the JSON layouts).
+     */
+    public static final String STRUCTURED_LOGGING_ENV = "STRIMZI_STRUCTURED_LOGGING";
+
+    private static boolean structured = Boolean.parseBoolean(System.getenv(STRUCTURED_LOGGING_ENV));
+
     protected ReconciliationLogger(final Logger logger) {
         this.logger = new ExtendedLoggerWrapper((AbstractLogger) logger, logger.getName(), logger.getMessageFactory());
     }
@@ -5640,7 +5650,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void offCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -5651,7 +5663,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -5663,7 +5677,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void offCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -5676,7 +5692,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -5686,7 +5704,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void offCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -5697,7 +5717,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), message(reconciliation, message), params);
+        }
     }
 
     /**
@@ -5709,7 +5731,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), message(reconciliation, message), p0);
+        }
     }
 
     /**
@@ -5722,7 +5746,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), message(reconciliation, message), p0, p1);
+        }
     }
 
     /**
@@ -5736,7 +5762,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2);
+        }
     }
 
     /**
@@ -5752,7 +5780,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -5769,7 +5799,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -5787,7 +5819,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -5806,7 +5840,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -5827,7 +5863,9 @@ public class ReconciliationLogger implements Serializable {
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -5849,7 +5887,9 @@ public class ReconciliationLogger implements Serializable {
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -5872,7 +5912,9 @@ public class ReconciliationLogger implements Serializable {
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -5884,7 +5926,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -5910,7 +5954,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), message(reconciliation, message), paramSuppliers);
+        }
     }
 
     /**
@@ -5984,7 +6030,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void fatalCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -5995,7 +6043,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -6007,7 +6057,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void fatalCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -6020,7 +6072,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -6030,7 +6084,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void fatalCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -6041,7 +6097,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), message(reconciliation, message), params);
+        }
     }
 
     /**
@@ -6053,7 +6111,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), message(reconciliation, message), p0);
+        }
     }
 
     /**
@@ -6066,7 +6126,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), message(reconciliation, message), p0, p1);
+        }
     }
 
     /**
@@ -6080,7 +6142,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2);
+        }
     }
 
     /**
@@ -6096,7 +6160,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -6113,7 +6179,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -6131,7 +6199,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -6150,7 +6220,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -6171,7 +6243,9 @@ public class ReconciliationLogger implements Serializable {
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -6193,7 +6267,9 @@ public class ReconciliationLogger implements Serializable {
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -6216,7 +6292,9 @@ public class ReconciliationLogger implements Serializable {
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -6228,7 +6306,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -6254,7 +6334,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), message(reconciliation, message), paramSuppliers);
+        }
     }
 
     /**
@@ -6328,7 +6410,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void errorCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -6339,7 +6423,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -6351,7 +6437,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void errorCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -6364,7 +6452,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -6374,7 +6464,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void errorCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -6385,7 +6477,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), message(reconciliation, message), params);
+        }
     }
 
     /**
@@ -6397,7 +6491,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), message(reconciliation, message), p0);
+        }
     }
 
     /**
@@ -6410,7 +6506,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), message(reconciliation, message), p0, p1);
+        }
     }
 
     /**
@@ -6424,7 +6522,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2);
+        }
     }
 
     /**
@@ -6440,7 +6540,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -6457,7 +6559,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -6475,7 +6579,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -6494,7 +6600,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -6515,7 +6623,9 @@ public class ReconciliationLogger implements Serializable {
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -6537,7 +6647,9 @@ public class ReconciliationLogger implements Serializable {
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -6560,7 +6672,9 @@ public class ReconciliationLogger implements Serializable {
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -6572,7 +6686,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -6598,7 +6714,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), message(reconciliation, message), paramSuppliers);
+        }
     }
 
     /**
@@ -6672,7 +6790,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void warnCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -6683,7 +6803,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -6695,7 +6817,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void warnCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -6708,7 +6832,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -6718,7 +6844,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void warnCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -6729,7 +6857,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), message(reconciliation, message), params);
+        }
     }
 
     /**
@@ -6741,7 +6871,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), message(reconciliation, message), p0);
+        }
     }
 
     /**
@@ -6754,7 +6886,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), message(reconciliation, message), p0, p1);
+        }
     }
 
     /**
@@ -6768,7 +6902,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2);
+        }
     }
 
     /**
@@ -6784,7 +6920,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -6801,7 +6939,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -6819,7 +6959,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -6838,7 +6980,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -6859,7 +7003,9 @@ public class ReconciliationLogger implements Serializable {
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -6881,7 +7027,9 @@ public class ReconciliationLogger implements Serializable {
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -6904,7 +7052,9 @@ public class ReconciliationLogger implements Serializable {
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -6916,7 +7066,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -6966,7 +7118,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), message(reconciliation, message), paramSuppliers);
+        }
     }
 
     /**
@@ -7040,7 +7194,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void infoCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -7051,7 +7207,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -7063,7 +7221,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void infoCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -7076,7 +7236,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -7086,7 +7248,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void infoCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -7097,7 +7261,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), message(reconciliation, message), params);
+        }
     }
 
     /**
@@ -7109,7 +7275,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), message(reconciliation, message), p0);
+        }
     }
 
     /**
@@ -7122,7 +7290,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), message(reconciliation, message), p0, p1);
+        }
     }
 
     /**
@@ -7136,7 +7306,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2);
+        }
     }
 
     /**
@@ -7152,7 +7324,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -7169,7 +7343,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -7187,7 +7363,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -7206,7 +7384,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -7227,7 +7407,9 @@ public class ReconciliationLogger implements Serializable {
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -7249,7 +7431,9 @@ public class ReconciliationLogger implements Serializable {
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -7272,7 +7456,9 @@ public class ReconciliationLogger implements Serializable {
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -7284,7 +7470,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -7310,7 +7498,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), message(reconciliation, message), paramSuppliers);
+        }
     }
 
     /**
@@ -7384,7 +7574,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void debugCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -7395,7 +7587,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -7407,7 +7601,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void debugCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -7420,7 +7616,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -7430,7 +7628,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void debugCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -7441,7 +7641,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), message(reconciliation, message), params);
+        }
     }
 
     /**
@@ -7453,7 +7655,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), message(reconciliation, message), p0);
+        }
     }
 
     /**
@@ -7466,7 +7670,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), message(reconciliation, message), p0, p1);
+        }
     }
 
     /**
@@ -7480,7 +7686,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2);
+        }
     }
 
     /**
@@ -7496,7 +7704,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -7513,7 +7723,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -7531,7 +7743,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -7550,7 +7764,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -7571,7 +7787,9 @@ public class ReconciliationLogger implements Serializable {
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -7593,7 +7811,9 @@ public class ReconciliationLogger implements Serializable {
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -7616,7 +7836,9 @@ public class ReconciliationLogger implements Serializable {
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -7628,7 +7850,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -7678,7 +7902,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), message(reconciliation, message), paramSuppliers);
+        }
     }
 
     /**
@@ -7752,7 +7978,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void traceCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -7763,7 +7991,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -7775,7 +8005,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void traceCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -7788,7 +8020,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -7798,7 +8032,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void traceCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -7809,7 +8045,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), message(reconciliation, message), params);
+        }
     }
 
     /**
@@ -7821,7 +8059,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), message(reconciliation, message), p0);
+        }
     }
 
     /**
@@ -7834,7 +8074,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), message(reconciliation, message), p0, p1);
+        }
     }
 
     /**
@@ -7848,7 +8090,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2);
+        }
     }
 
     /**
@@ -7864,7 +8108,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -7881,7 +8127,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -7899,7 +8147,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -7918,7 +8168,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -7939,7 +8191,9 @@ public class ReconciliationLogger implements Serializable {
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -7961,7 +8215,9 @@ public class ReconciliationLogger implements Serializable {
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -7984,7 +8240,9 @@ public class ReconciliationLogger implements Serializable {
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -7996,7 +8254,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -8022,7 +8282,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), message(reconciliation, message), paramSuppliers);
+        }
     }
 
     /**
@@ -8096,7 +8358,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void allCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -8107,7 +8371,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -8119,7 +8385,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void allCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -8132,7 +8400,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -8142,7 +8412,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void allCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), message(reconciliation, message), (Throwable) null);
+        }
     }
 
     /**
@@ -8153,7 +8425,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), message(reconciliation, message), params);
+        }
     }
 
     /**
@@ -8165,7 +8439,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), message(reconciliation, message), p0);
+        }
     }
 
     /**
@@ -8178,7 +8454,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), message(reconciliation, message), p0, p1);
+        }
     }
 
     /**
@@ -8192,7 +8470,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2);
+        }
     }
 
     /**
@@ -8208,7 +8488,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -8225,7 +8507,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -8243,7 +8527,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -8262,7 +8548,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -8283,7 +8571,9 @@ public class ReconciliationLogger implements Serializable {
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -8305,7 +8595,9 @@ public class ReconciliationLogger implements Serializable {
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -8328,7 +8620,9 @@ public class ReconciliationLogger implements Serializable {
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), message(reconciliation, message), p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -8340,7 +8634,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), message(reconciliation, message), t);
+        }
     }
 
     /**
@@ -8366,7 +8662,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), message(reconciliation, message), paramSuppliers);
+        }
     }
 
     /**
@@ -8412,6 +8710,34 @@ public class ReconciliationLogger implements Serializable {
         logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), msgSupplier, t);
     }
 
+    /**
+     * Enables or disables the structured logging in all reconciliation loggers. This is normally configured using the
+     * STRIMZI_STRUCTURED_LOGGING environment variable.
+     *
+     * @param enabled   True to enable the structured logging, false otherwise
+     */
+    /*test*/ static void structured(boolean enabled) {
+        structured = enabled;
+    }
+
+    /**
+     * Creates the message which is logged for the reconciliation. This is called only when the logging level is
+     * enabled, so that the message is not built (and the message object is not converted to String) for the disabled
+     * levels.
+     *
+     * @param reconciliation    The reconciliation
+     * @param message           The message
+     *
+     * @return  The message prefixed with the reconciliation or the message alone in the structured mode
+     */
+    /*test*/ static String message(Reconciliation reconciliation, Object message) {
+        if (structured) {
+            return String.valueOf(message);
+        } else {
+            return reconciliation.toString() + ": " + message;
+        }
+    }
+
     public boolean isFatalEnabled() {
         return logger.isFatalEnabled();
     }
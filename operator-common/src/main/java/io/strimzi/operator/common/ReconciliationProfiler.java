@@ -0,0 +1,356 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Collects the timelines of the in-flight and recently completed reconciliations of an operator. Each timeline shows
+ * how long the reconciliation waited for the lock of the resource and the individual steps, Kubernetes API calls,
+ * Kafka Admin API calls and waits done during the reconciliation together with the time they were queued before they
+ * started (for example in the worker pool).
+ *
+ * The timeline is attached to the {@link Reconciliation} object, so the steps can be recorded from any place which has
+ * access to the reconciliation using the static {@link #startSpan(Reconciliation, String, String)} and
+ * {@link #profile(Reconciliation, String, String, Supplier)} methods. When the reconciliation is not profiled (for
+ * example in tests or in the operators which do not use the profiler), these methods do not do anything.
+ */
+public class ReconciliationProfiler {
+    /**
+     * Default number of completed reconciliations which are kept by the profiler
+     */
+    public static final int DEFAULT_COMPLETED_CAPACITY = 50;
+
+    /**
+     * Maximal number of spans recorded for a single reconciliation. Further spans are only counted.
+     */
+    /*test*/ static final int MAX_SPANS = 1_000;
+
+    /**
+     * Span type for the steps of the reconciliation
+     */
+    public static final String STEP = "step";
+
+    /**
+     * Span type for the Kubernetes API calls
+     */
+    public static final String KUBERNETES_API = "kubernetes";
+
+    /**
+     * Span type for the Kafka Admin API calls
+     */
+    public static final String ADMIN_API = "admin";
+
+    /**
+     * Span type for waiting for some resource to get into a desired state
+     */
+    public static final String WAIT = "wait";
+
+    private static final Span NOOP_SPAN = new Span(null, null, null, null);
+
+    private final String kind;
+    private final int completedCapacity;
+    private final Map<Reconciliation, Profile> inFlight = new ConcurrentHashMap<>();
+    private final Deque<Profile> completed = new ArrayDeque<>();
+
+    /**
+     * Constructs the profiler
+     *
+     * @param kind  Kind of the resources reconciled by the operator
+     */
+    public ReconciliationProfiler(String kind) {
+        this(kind, DEFAULT_COMPLETED_CAPACITY);
+    }
+
+    /**
+     * Constructs the profiler
+     *
+     * @param kind                  Kind of the resources reconciled by the operator
+     * @param completedCapacity     Number of completed reconciliations which should be kept
+     */
+    public ReconciliationProfiler(String kind, int completedCapacity) {
+        this.kind = kind;
+        this.completedCapacity = completedCapacity;
+    }
+
+    /**
+     * Starts profiling of the reconciliation. This should be called before the reconciliation tries to acquire the
+     * lock, so that the lock wait time is included.
+     *
+     * @param reconciliation    The reconciliation
+     */
+    public void started(Reconciliation reconciliation) {
+        Profile profile = new Profile(reconciliation);
+        reconciliation.profile = profile;
+        inFlight.put(reconciliation, profile);
+    }
+
+    /**
+     * Finishes profiling of the reconciliation and moves it to the completed reconciliations
+     *
+     * @param reconciliation    The reconciliation
+     * @param result            Result of the reconciliation
+     */
+    public void finished(Reconciliation reconciliation, AsyncResult<?> result) {
+        Profile profile = inFlight.remove(reconciliation);
+
+        if (profile != null) {
+            profile.finish(result);
+
+            synchronized (completed) {
+                completed.addFirst(profile);
+
+                while (completed.size() > completedCapacity) {
+                    completed.removeLast();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return  JSON with the timelines of the in-flight reconciliations (the longest running first) and of the
+     *          completed reconciliations (the most recent first)
+     */
+    public JsonObject toJson() {
+        long now = System.nanoTime();
+
+        JsonArray inFlightJson = new JsonArray();
+        inFlight.values().stream()
+                .sorted(Comparator.comparingLong(profile -> profile.startNs))
+                .forEach(profile -> inFlightJson.add(profile.toJson(now)));
+
+        JsonArray completedJson = new JsonArray();
+        synchronized (completed) {
+            completed.forEach(profile -> completedJson.add(profile.toJson(now)));
+        }
+
+        return new JsonObject()
+                .put("kind", kind)
+                .put("inFlight", inFlightJson)
+                .put("completed", completedJson);
+    }
+
+    /**
+     * Records that the reconciliation acquired the lock of the reconciled resource
+     *
+     * @param reconciliation    The reconciliation
+     */
+    public static void lockAcquired(Reconciliation reconciliation) {
+        Profile profile = reconciliation.profile;
+
+        if (profile != null) {
+            profile.lockAcquiredNs = System.nanoTime();
+        }
+    }
+
+    /**
+     * Starts a new span in the timeline of the reconciliation. The span is queued until {@link Span#start()} is called
+     * (or started immediately if it is never called) and completes when {@link Span#end(boolean)} is called.
+     *
+     * @param reconciliation    The reconciliation
+     * @param type              Type of the span (step, kubernetes, admin or wait)
+     * @param name              Name of the span
+     *
+     * @return  The new span
+     */
+    public static Span startSpan(Reconciliation reconciliation, String type, String name) {
+        Profile profile = reconciliation != null ? reconciliation.profile : null;
+
+        if (profile == null) {
+            return NOOP_SPAN;
+        }
+
+        return profile.span(type, name);
+    }
+
+    /**
+     * Runs an asynchronous action and records it as a span in the timeline of the reconciliation
+     *
+     * @param reconciliation    The reconciliation
+     * @param type              Type of the span (step, kubernetes, admin or wait)
+     * @param name              Name of the span
+     * @param action            Supplier which starts the action
+     * @param <T>               Type of the result of the action
+     *
+     * @return  Future which completes when the action completes
+     */
+    public static <T> Future<T> profile(Reconciliation reconciliation, String type, String name, Supplier<Future<T>> action) {
+        Span span = startSpan(reconciliation, type, name);
+
+        if (span == NOOP_SPAN) {
+            return action.get();
+        }
+
+        try {
+            return action.get().onComplete(res -> span.end(res.succeeded()));
+        } catch (RuntimeException e) {
+            span.end(false);
+            throw e;
+        }
+    }
+
+    private static Long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * The timeline of a single reconciliation
+     */
+    static class Profile {
+        private final Reconciliation reconciliation;
+        private final long startMs = System.currentTimeMillis();
+        private final long startNs = System.nanoTime();
+        private final List<Span> spans = new ArrayList<>();
+        private final AtomicInteger droppedSpans = new AtomicInteger();
+
+        private volatile long lockAcquiredNs = -1;
+        private volatile long endNs = -1;
+        private volatile String currentStep;
+        private volatile String error;
+
+        Profile(Reconciliation reconciliation) {
+            this.reconciliation = reconciliation;
+        }
+
+        Span span(String type, String name) {
+            Span span = new Span(this, type, name, STEP.equals(type) ? null : currentStep);
+
+            synchronized (spans) {
+                if (spans.size() >= MAX_SPANS) {
+                    droppedSpans.incrementAndGet();
+                } else {
+                    spans.add(span);
+                }
+            }
+
+            if (STEP.equals(type)) {
+                currentStep = name;
+            }
+
+            return span;
+        }
+
+        void finish(AsyncResult<?> result) {
+            endNs = System.nanoTime();
+
+            if (result.failed()) {
+                error = String.valueOf(result.cause());
+            }
+        }
+
+        JsonObject toJson(long now) {
+            long end = endNs >= 0 ? endNs : now;
+            long lockAcquired = lockAcquiredNs;
+
+            JsonObject json = new JsonObject()
+                    .put("reconciliation", reconciliation.toString())
+                    .put("kind", reconciliation.kind())
+                    .put("namespace", reconciliation.namespace())
+                    .put("name", reconciliation.name())
+                    .put("startTime", Instant.ofEpochMilli(startMs).toString())
+                    .put("inProgress", endNs < 0)
+                    .put("durationMs", millis(end - startNs))
+                    .put("lockAcquired", lockAcquired >= 0)
+                    .put("lockWaitMs", millis((lockAcquired >= 0 ? lockAcquired : end) - startNs));
+
+            if (endNs >= 0) {
+                json.put("succeeded", error == null);
+
+                if (error != null) {
+                    json.put("error", error);
+                }
+            }
+
+            JsonArray spansJson = new JsonArray();
+            synchronized (spans) {
+                spans.forEach(span -> spansJson.add(span.toJson(startNs, now)));
+            }
+
+            return json.put("timeline", spansJson)
+                    .put("droppedSpans", droppedSpans.get());
+        }
+    }
+
+    /**
+     * Single span in the timeline of the reconciliation
+     */
+    public static class Span {
+        private final Profile profile;
+        private final String type;
+        private final String name;
+        private final String step;
+        private final long createdNs = System.nanoTime();
+
+        private volatile long startNs = -1;
+        private volatile long endNs = -1;
+        private volatile boolean succeeded;
+
+        private Span(Profile profile, String type, String name, String step) {
+            this.profile = profile;
+            this.type = type;
+            this.name = name;
+            this.step = step;
+        }
+
+        /**
+         * Marks the end of the time when the span was queued and the start of the real work
+         */
+        public void start() {
+            if (profile != null && startNs < 0) {
+                startNs = System.nanoTime();
+            }
+        }
+
+        /**
+         * Marks the end of the span
+         *
+         * @param succeeded     Indicates whether the work done in this span succeeded
+         */
+        public void end(boolean succeeded) {
+            if (profile != null && endNs < 0) {
+                this.succeeded = succeeded;
+                this.endNs = System.nanoTime();
+            }
+        }
+
+        JsonObject toJson(long originNs, long now) {
+            long started = startNs >= 0 ? startNs : createdNs;
+            long ended = endNs >= 0 ? endNs : now;
+
+            JsonObject json = new JsonObject()
+                    .put("type", type)
+                    .put("name", name)
+                    .put("offsetMs", millis(createdNs - originNs))
+                    .put("queueMs", millis(started - createdNs))
+                    .put("durationMs", millis(ended - started))
+                    .put("inProgress", endNs < 0);
+
+            if (step != null) {
+                json.put("step", step);
+            }
+
+            if (endNs >= 0) {
+                json.put("succeeded", succeeded);
+            }
+
+            return json;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.model.NamespaceAndName;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Decides which resources are reconciled by the periodic reconciliation. The periodic reconciliation is triggered
+ * in the base interval, but the resources which were reconciled repeatedly without any change are reconciled less
+ * often:
+ * <ul>
+ *     <li>Every successful reconciliation of a resource whose generation did not change doubles the interval in which
+ *     the resource is reconciled periodically, up to the maximum interval.</li>
+ *     <li>A failed reconciliation or a change of the generation of the resource resets its interval back to the base
+ *     interval.</li>
+ *     <li>The reconciliations triggered by the watch events are not affected. They only update the history of the
+ *     resource.</li>
+ * </ul>
+ * The intervals are counted in the periodic reconciliations (ticks), so the effective interval of a resource is
+ * always a multiple of the base interval. When the maximum interval is not bigger than the base interval, all
+ * resources are reconciled in every periodic reconciliation.
+ */
+public class ReconciliationScheduler {
+    private final MetricsProvider metrics;
+    private final Tags tags;
+    private final Counter deferredCounter;
+    private DistributionSummary intervalSummary;
+
+    private final Map<NamespaceAndName, Entry> entries = new HashMap<>();
+    private long baseIntervalMs;
+    private int maxTicks = 1;
+
+    /**
+     * Constructs the scheduler. The scheduler reconciles all resources periodically until it is configured using
+     * {@link #configure(long, long)}.
+     *
+     * @param metrics   Metrics provider
+     * @param tags      Tags used for the metrics
+     */
+    public ReconciliationScheduler(MetricsProvider metrics, Tags tags) {
+        this.metrics = metrics;
+        this.tags = tags;
+        this.deferredCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "reconciliations.deferred",
+                "Number of resources skipped by the periodic reconciliation because they did not change recently",
+                tags);
+    }
+
+    /**
+     * Configures the intervals of the periodic reconciliation. The distribution of the effective intervals is reported
+     * as a metric only when the resources can be reconciled less often than in the base interval.
+     *
+     * @param baseIntervalMs    The interval in which the periodic reconciliation is triggered
+     * @param maxIntervalMs     The maximum interval in which an unchanged resource is reconciled
+     */
+    public synchronized void configure(long baseIntervalMs, long maxIntervalMs) {
+        this.baseIntervalMs = baseIntervalMs;
+        this.maxTicks = baseIntervalMs > 0 ? (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxIntervalMs / baseIntervalMs)) : 1;
+
+        if (isAdaptive() && intervalSummary == null) {
+            intervalSummary = DistributionSummary.builder(AbstractOperator.METRICS_PREFIX + "reconciliations.interval")
+                    .description("The interval in milliseconds in which the resources are reconciled periodically")
+                    .tags(tags)
+                    .register(metrics.meterRegistry());
+        }
+    }
+
+    /**
+     * @return  True if the resources can be reconciled less often than in the base interval
+     */
+    public synchronized boolean isAdaptive() {
+        return maxTicks > 1;
+    }
+
+    /**
+     * Selects the resources which should be reconciled by the current periodic reconciliation. The resources which are
+     * not selected count down towards their next periodic reconciliation. The resources which do not exist anymore are
+     * forgotten.
+     *
+     * @param desiredNames  The resources which currently exist
+     *
+     * @return  The resources which should be reconciled
+     */
+    public synchronized Set<NamespaceAndName> due(Set<NamespaceAndName> desiredNames) {
+        entries.keySet().retainAll(desiredNames);
+
+        if (!isAdaptive()) {
+            return desiredNames;
+        }
+
+        Set<NamespaceAndName> due = new LinkedHashSet<>(desiredNames.size());
+        for (NamespaceAndName resource : desiredNames) {
+            Entry entry = entries.get(resource);
+
+            if (entry == null || entry.remainingTicks <= 0) {
+                due.add(resource);
+            } else {
+                entry.remainingTicks--;
+                deferredCounter.increment();
+            }
+        }
+
+        return due;
+    }
+
+    /**
+     * Records the result of a reconciliation of a resource. Nothing is recorded when the resources are reconciled in
+     * every periodic reconciliation.
+     *
+     * @param resource      The reconciled resource
+     * @param generation    The generation of the reconciled resource or null if the resource does not exist anymore
+     * @param failed        True if the reconciliation failed
+     */
+    public synchronized void completed(NamespaceAndName resource, Long generation, boolean failed) {
+        if (generation == null || !isAdaptive()) {
+            entries.remove(resource);
+            return;
+        }
+
+        Entry entry = entries.get(resource);
+        int intervalTicks;
+
+        if (entry == null || failed || !Objects.equals(entry.generation, generation)) {
+            intervalTicks = 1;
+        } else {
+            intervalTicks = (int) Math.min(maxTicks, 2L * entry.intervalTicks);
+        }
+
+        entries.put(resource, new Entry(generation, intervalTicks));
+        intervalSummary.record(intervalTicks * baseIntervalMs);
+    }
+
+    /**
+     * @param resource  The resource
+     *
+     * @return  The current interval of the resource in ticks or 0 if the resource is not known
+     */
+    /*test*/ synchronized int intervalTicks(NamespaceAndName resource) {
+        Entry entry = entries.get(resource);
+        return entry != null ? entry.intervalTicks : 0;
+    }
+
+    /**
+     * Reconciliation history of a single resource
+     */
+    private static class Entry {
+        private final Long generation;
+        private final int intervalTicks;
+        private int remainingTicks;
+
+        Entry(Long generation, int intervalTicks) {
+            this.generation = generation;
+            this.intervalTicks = intervalTicks;
+            this.remainingTicks = intervalTicks - 1;
+        }
+    }
+}
@@ -58,6 +58,21 @@ public class Util {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(Util.class);
 
     public static <T> Future<T> async(Vertx vertx, Supplier<T> supplier) {
+        return async(vertx, supplier, true);
+    }
+
+    /**
+     * Executes the supplier on a worker thread.
+     *
+     * @param vertx     Vertx instance
+     * @param supplier  Supplier which should be executed
+     * @param ordered   If true, the calls from the same context are executed one after another. If false, they might
+     *                  run in parallel (bounded by the size of the worker pool).
+     * @param <T>       Type of the result
+     *
+     * @return  Future with the result of the supplier
+     */
+    public static <T> Future<T> async(Vertx vertx, Supplier<T> supplier, boolean ordered) {
         Promise<T> result = Promise.promise();
         vertx.executeBlocking(
             future -> {
@@ -66,7 +81,7 @@ public class Util {
                 } catch (Throwable t) {
                     future.fail(t);
                 }
-            }, result
+            }, ordered, result
         );
         return result.future();
     }
@@ -105,6 +120,7 @@ public class Util {
                                        Predicate<Throwable> failOnError) {
         Promise<Void> promise = Promise.promise();
         LOGGER.debugCr(reconciliation, "Waiting for {} to get {}", logContext, logState);
+        ReconciliationProfiler.Span span = ReconciliationProfiler.startSpan(reconciliation, ReconciliationProfiler.WAIT, logContext + " to get " + logState);
         long deadline = System.currentTimeMillis() + timeoutMs;
         Handler<Long> handler = new Handler<Long>() {
             @Override
@@ -151,7 +167,8 @@ public class Util {
         // Call the handler ourselves the first time
         handler.handle(null);
 
-        return promise.future();
+        return promise.future()
+                .onComplete(res -> span.end(res.succeeded()));
     }
 
     /**
@@ -17,6 +17,7 @@ import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.ReconciliationProfiler;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.CompositeFuture;
@@ -101,9 +102,12 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
             return Future.failedFuture("Given name " + name + " incompatible with desired name " + desired.getMetadata().getName());
         }
 
+        ReconciliationProfiler.Span span = ReconciliationProfiler.startSpan(reconciliation, ReconciliationProfiler.KUBERNETES_API,
+                "reconcile " + resourceKind + " " + namespace + "/" + name);
         Promise<ReconcileResult<T>> promise = Promise.promise();
         vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
             future -> {
+                span.start();
                 T current = operation().inNamespace(namespace).withName(name).get();
                 if (desired != null) {
                     if (current == null) {
@@ -128,7 +132,49 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
             false,
             promise
         );
-        return promise.future();
+        return promise.future()
+                .onComplete(res -> span.end(res.succeeded()));
+    }
+
+    /**
+     * Asynchronously reconciles the resource with the given namespace and name to match the given desired resource
+     * using the current resource which was already retrieved (for example by listing the resources). Unlike
+     * {@link #reconcile(Reconciliation, String, String, HasMetadata)}, the current resource is not read again. The
+     * resource is patched only when it differs from the current resource and created when the current resource is null.
+     *
+     * @param reconciliation Reconciliation object
+     * @param namespace The namespace of the resource to reconcile
+     * @param name The name of the resource to reconcile
+     * @param current The current state of the resource or null if it does not exist
+     * @param desired The desired state of the resource.
+     * @return A future which completes when the resource has been updated.
+     */
+    public Future<ReconcileResult<T>> reconcile(Reconciliation reconciliation, String namespace, String name, T current, T desired) {
+        if (!namespace.equals(desired.getMetadata().getNamespace())) {
+            return Future.failedFuture("Given namespace " + namespace + " incompatible with desired namespace " + desired.getMetadata().getNamespace());
+        } else if (!name.equals(desired.getMetadata().getName())) {
+            return Future.failedFuture("Given name " + name + " incompatible with desired name " + desired.getMetadata().getName());
+        }
+
+        ReconciliationProfiler.Span span = ReconciliationProfiler.startSpan(reconciliation, ReconciliationProfiler.KUBERNETES_API,
+                "reconcile " + resourceKind + " " + namespace + "/" + name);
+        Promise<ReconcileResult<T>> promise = Promise.promise();
+        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+            future -> {
+                span.start();
+                if (current == null) {
+                    LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, creating it", resourceKind, namespace, name);
+                    internalCreate(reconciliation, namespace, name, desired).onComplete(future);
+                } else {
+                    LOGGER.debugCr(reconciliation, "{} {}/{} already exists, patching it", resourceKind, namespace, name);
+                    internalPatch(reconciliation, namespace, name, current, desired).onComplete(future);
+                }
+            },
+            false,
+            promise
+        );
+        return promise.future()
+                .onComplete(res -> span.end(res.succeeded()));
     }
 
     /**
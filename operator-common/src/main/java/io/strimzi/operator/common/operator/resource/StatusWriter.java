@@ -0,0 +1,429 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.api.kafka.model.status.Status;
+import io.strimzi.operator.cluster.model.StatusDiff;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+/**
+ * Writes the status of custom resources. The status writer is shared by the reconciliations of an operator and:
+ * <ul>
+ * <li>re-reads the current resource and writes the status only when it differs from the current status,</li>
+ * <li>rate-limits the status writes per namespace (the status updates which do not change the status are not
+ *     rate-limited),</li>
+ * <li>coalesces the status updates which are queued for the same resource (only the latest status is written and all
+ *     callers get the result of this single write),</li>
+ * <li>retries the write with the freshly re-read resource when it fails with a conflict instead of failing the
+ *     reconciliation. The retry is dropped when a newer status update for the same resource was queued in the
+ *     meantime.</li>
+ * </ul>
+ */
+public class StatusWriter {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StatusWriter.class);
+
+    /**
+     * Default minimal interval between two status writes in the same namespace
+     */
+    public static final long DEFAULT_NAMESPACE_WRITE_INTERVAL_MS = 100L;
+
+    /**
+     * Default number of retries when the status write fails with a conflict
+     */
+    public static final int DEFAULT_MAX_CONFLICT_RETRIES = 3;
+
+    private final Vertx vertx;
+    private final MetricsProvider metrics;
+    private final long namespaceWriteIntervalMs;
+    private final int maxConflictRetries;
+
+    private final Map<String, PendingUpdate<?, ?>> pendingUpdates = new HashMap<>();
+    private final Map<String, PendingUpdate<?, ?>> latestUpdates = new HashMap<>();
+    private final Map<String, Long> nextNamespaceWrite = new HashMap<>();
+
+    /**
+     * Constructs the status writer with the default rate limit and number of conflict retries
+     *
+     * @param vertx     Vert.x instance used for the rate-limiting timers
+     * @param metrics   Metrics provider
+     */
+    public StatusWriter(Vertx vertx, MetricsProvider metrics) {
+        this(vertx, metrics, DEFAULT_NAMESPACE_WRITE_INTERVAL_MS, DEFAULT_MAX_CONFLICT_RETRIES);
+    }
+
+    /**
+     * Constructs the status writer
+     *
+     * @param vertx                     Vert.x instance used for the rate-limiting timers
+     * @param metrics                   Metrics provider
+     * @param namespaceWriteIntervalMs  Minimal interval between two status writes in the same namespace. 0 disables
+     *                                  the rate-limiting.
+     * @param maxConflictRetries        Number of retries when the status write fails with a conflict
+     */
+    public StatusWriter(Vertx vertx, MetricsProvider metrics, long namespaceWriteIntervalMs, int maxConflictRetries) {
+        this.vertx = vertx;
+        this.metrics = metrics;
+        this.namespaceWriteIntervalMs = namespaceWriteIntervalMs;
+        this.maxConflictRetries = maxConflictRetries;
+    }
+
+    /**
+     * Updates the status of the custom resource when it differs from the current status.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param resourceOperator  Resource operator for the custom resource
+     * @param namespace         Namespace of the custom resource
+     * @param name              Name of the custom resource
+     * @param desiredStatus     The desired status
+     * @param copyWithStatus    Creates a copy of the current resource with the desired status
+     * @param <T>               Type of the custom resource
+     * @param <S>               Type of the status
+     *
+     * @return  Future with the updated resource or with the current resource when the status did not change
+     */
+    public <T extends CustomResource<?, S>, S extends Status> Future<T> updateStatus(Reconciliation reconciliation,
+                                                                                   AbstractWatchableStatusedResourceOperator<?, T, ?, ?> resourceOperator,
+                                                                                   String namespace, String name,
+                                                                                   S desiredStatus,
+                                                                                   BiFunction<T, S, T> copyWithStatus) {
+        return updateStatus(reconciliation, resourceOperator, namespace, name, desiredStatus, copyWithStatus, resource -> true);
+    }
+
+    /**
+     * Updates the status of the custom resource when it differs from the status of the given resource. The status is
+     * first written using the given resource, so a change of the resource since it was read fails the write with a
+     * conflict. The write is then retried with the re-read resource.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param resourceOperator  Resource operator for the custom resource
+     * @param resource          The custom resource the desired status was computed from
+     * @param desiredStatus     The desired status
+     * @param copyWithStatus    Creates a copy of the current resource with the desired status
+     * @param <T>               Type of the custom resource
+     * @param <S>               Type of the status
+     *
+     * @return  Future with the updated resource or with the current resource when the status did not change
+     */
+    public <T extends CustomResource<?, S>, S extends Status> Future<T> updateStatus(Reconciliation reconciliation,
+                                                                                   AbstractWatchableStatusedResourceOperator<?, T, ?, ?> resourceOperator,
+                                                                                   T resource,
+                                                                                   S desiredStatus,
+                                                                                   BiFunction<T, S, T> copyWithStatus) {
+        return updateStatus(reconciliation, resourceOperator, resource.getMetadata().getNamespace(), resource.getMetadata().getName(),
+                resource, desiredStatus, copyWithStatus, current -> true);
+    }
+
+    /**
+     * Updates the status of the custom resource when it differs from the current status.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param resourceOperator  Resource operator for the custom resource
+     * @param namespace         Namespace of the custom resource
+     * @param name              Name of the custom resource
+     * @param desiredStatus     The desired status
+     * @param copyWithStatus    Creates a copy of the current resource with the desired status
+     * @param statusSupported   Checks whether the current resource supports the status (e.g. based on its API version)
+     * @param <T>               Type of the custom resource
+     * @param <S>               Type of the status
+     *
+     * @return  Future with the updated resource or with the current resource when the status did not change
+     */
+    public <T extends CustomResource<?, S>, S extends Status> Future<T> updateStatus(Reconciliation reconciliation,
+                                                                                   AbstractWatchableStatusedResourceOperator<?, T, ?, ?> resourceOperator,
+                                                                                   String namespace, String name,
+                                                                                   S desiredStatus,
+                                                                                   BiFunction<T, S, T> copyWithStatus,
+                                                                                   Predicate<T> statusSupported) {
+        return updateStatus(reconciliation, resourceOperator, namespace, name, null, desiredStatus, copyWithStatus, statusSupported);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends CustomResource<?, S>, S extends Status> Future<T> updateStatus(Reconciliation reconciliation,
+                                                                                    AbstractWatchableStatusedResourceOperator<?, T, ?, ?> resourceOperator,
+                                                                                    String namespace, String name,
+                                                                                    T resource,
+                                                                                    S desiredStatus,
+                                                                                    BiFunction<T, S, T> copyWithStatus,
+                                                                                    Predicate<T> statusSupported) {
+        String key = resourceOperator.resourceKind + "/" + namespace + "/" + name;
+        Promise<T> promise = Promise.promise();
+        PendingUpdate<T, S> update;
+
+        synchronized (this) {
+            PendingUpdate<T, S> queued = (PendingUpdate<T, S>) pendingUpdates.get(key);
+
+            if (queued != null) {
+                // The previous update was not written yet => we just replace the status it will write
+                LOGGER.debugCr(reconciliation, "Status update coalesced with an already queued status update");
+                queued.reconciliation = reconciliation;
+                queued.desiredStatus = desiredStatus;
+                queued.promises.add(promise);
+                counter(reconciliation, "status.updates.coalesced", "Number of status updates which were not written because they were coalesced with a later update").increment();
+
+                return promise.future();
+            }
+
+            update = new PendingUpdate<>(reconciliation, resourceOperator, namespace, name, resource, desiredStatus, copyWithStatus, statusSupported);
+            update.promises.add(promise);
+            pendingUpdates.put(key, update);
+            latestUpdates.put(key, update);
+        }
+
+        attempt(key, update, 0).onComplete(res -> {
+            synchronized (this) {
+                latestUpdates.remove(key, update);
+            }
+
+            update.complete(res);
+        });
+
+        return promise.future();
+    }
+
+    /**
+     * Reserves the next free slot for writing a status in given namespace.
+     *
+     * @param namespace     Namespace
+     *
+     * @return  Delay in milliseconds until the reserved slot
+     */
+    private long reserveWriteSlot(String namespace) {
+        if (namespaceWriteIntervalMs <= 0) {
+            return 0L;
+        }
+
+        long now = System.currentTimeMillis();
+        long slot = Math.max(now, nextNamespaceWrite.getOrDefault(namespace, 0L));
+        nextNamespaceWrite.put(namespace, slot + namespaceWriteIntervalMs);
+
+        return slot - now;
+    }
+
+    /**
+     * Gets the current resource and writes the desired status when it differs from the current status. The first
+     * attempt uses the resource passed by the caller (if any). The slot for writing the status is reserved only once it
+     * is known that the status has to be written.
+     */
+    private <T extends CustomResource<?, S>, S extends Status> Future<T> attempt(String key, PendingUpdate<T, S> update, int retry) {
+        Future<T> currentFuture = retry == 0 && update.resource != null
+                ? Future.succeededFuture(update.resource)
+                : update.resourceOperator.getAsync(update.namespace, update.name);
+
+        return currentFuture
+                .compose(current -> {
+                    Reconciliation reconciliation = reconciliation(update);
+
+                    if (current == null) {
+                        detach(key, update);
+                        LOGGER.errorCr(reconciliation, "Current {} resource not found", reconciliation.kind());
+                        return Future.failedFuture("Current " + reconciliation.kind() + " resource with name " + update.name + " not found");
+                    } else if (!update.statusSupported.test(current)) {
+                        detach(key, update);
+                        LOGGER.warnCr(reconciliation, "{} {} needs to be upgraded from version {} to 'v1beta1' to use the status field",
+                                current.getKind(), update.name, current.getApiVersion());
+                        return Future.succeededFuture(current);
+                    }
+
+                    return writeIfChanged(key, update, current, retry);
+                }, error -> getFailed(key, update, error));
+    }
+
+    private <T extends CustomResource<?, S>, S extends Status> Future<T> getFailed(String key, PendingUpdate<T, S> update, Throwable error) {
+        detach(key, update);
+        Reconciliation reconciliation = reconciliation(update);
+        LOGGER.errorCr(reconciliation, "Failed to get the current {} resource and its status", reconciliation.kind(), error);
+        return Future.failedFuture(error);
+    }
+
+    private <T extends CustomResource<?, S>, S extends Status> Future<T> writeIfChanged(String key, PendingUpdate<T, S> update, T current, int retry) {
+        S desiredStatus;
+        synchronized (this) {
+            desiredStatus = update.desiredStatus;
+        }
+
+        if (new StatusDiff(current.getStatus(), desiredStatus).isEmpty()) {
+            boolean replaced;
+            synchronized (this) {
+                replaced = update.desiredStatus != desiredStatus;
+
+                if (!replaced) {
+                    pendingUpdates.remove(key, update);
+                }
+            }
+
+            if (replaced) {
+                // The status was replaced by a coalesced update in the meantime => we have to compare it again
+                return writeIfChanged(key, update, current, retry);
+            }
+
+            LOGGER.debugCr(reconciliation(update), "Status did not change");
+            counter(reconciliation(update), "status.updates.unchanged", "Number of status updates which were not written because the status did not change").increment();
+            return Future.succeededFuture(current);
+        }
+
+        long delay;
+        synchronized (this) {
+            delay = reserveWriteSlot(update.namespace);
+        }
+
+        if (delay > 0) {
+            LOGGER.traceCr(reconciliation(update), "Status update delayed by {}ms", delay);
+            Promise<T> delayed = Promise.promise();
+            vertx.setTimer(delay, timerId -> write(key, update, current, desiredStatus, retry).onComplete(delayed));
+            return delayed.future();
+        } else {
+            return write(key, update, current, desiredStatus, retry);
+        }
+    }
+
+    private <T extends CustomResource<?, S>, S extends Status> Future<T> write(String key, PendingUpdate<T, S> update, T current, S comparedStatus, int retry) {
+        S desiredStatus;
+        Reconciliation reconciliation;
+        synchronized (this) {
+            // From now on, new updates for the same resource are queued separately
+            pendingUpdates.remove(key, update);
+            desiredStatus = update.desiredStatus;
+            reconciliation = update.reconciliation;
+        }
+
+        if (desiredStatus != comparedStatus && new StatusDiff(current.getStatus(), desiredStatus).isEmpty()) {
+            // The status was replaced by a coalesced update which does not change the status
+            LOGGER.debugCr(reconciliation, "Status did not change");
+            counter(reconciliation, "status.updates.unchanged", "Number of status updates which were not written because the status did not change").increment();
+            return Future.succeededFuture(current);
+        }
+
+        return update.resourceOperator.updateStatusAsync(reconciliation, update.copyWithStatus.apply(current, desiredStatus))
+                .compose(updated -> {
+                    LOGGER.debugCr(reconciliation, "Completed status update");
+                    counter(reconciliation, "status.updates", "Number of status updates written to the Kubernetes API").increment();
+                    return Future.succeededFuture(updated);
+                }, error -> updateFailed(key, update, error, retry));
+    }
+
+    private <T extends CustomResource<?, S>, S extends Status> Future<T> updateFailed(String key, PendingUpdate<T, S> update, Throwable error, int retry) {
+        Reconciliation reconciliation = reconciliation(update);
+
+        if (isConflict(error)) {
+            counter(reconciliation, "status.updates.conflicts", "Number of status updates which failed with a conflict").increment();
+
+            if (retry < maxConflictRetries) {
+                Future<T> newer = superseding(key, update);
+
+                if (newer != null) {
+                    LOGGER.debugCr(reconciliation, "Status update failed with a conflict and was superseded by a newer status update");
+                    counter(reconciliation, "status.updates.coalesced", "Number of status updates which were not written because they were coalesced with a later update").increment();
+                    return newer;
+                }
+
+                LOGGER.infoCr(reconciliation, "Status update failed with a conflict and will be retried with the current {} resource", reconciliation.kind());
+                return attempt(key, update, retry + 1);
+            }
+        }
+
+        LOGGER.errorCr(reconciliation, "Failed to update status", error);
+        return Future.failedFuture(error);
+    }
+
+    /**
+     * Checks whether a newer status update was queued for the same resource after the given update stopped coalescing
+     * the new updates. Retrying the given update could overwrite the newer status.
+     *
+     * @return  Null when the given update is the latest one. Otherwise the future with the result of the newer update
+     *          when it was not written yet or with the re-read resource.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends CustomResource<?, S>, S extends Status> Future<T> superseding(String key, PendingUpdate<T, S> update) {
+        synchronized (this) {
+            if (latestUpdates.get(key) == update) {
+                return null;
+            }
+
+            PendingUpdate<T, S> queued = (PendingUpdate<T, S>) pendingUpdates.get(key);
+            if (queued != null) {
+                Promise<T> promise = Promise.promise();
+                queued.promises.add(promise);
+                return promise.future();
+            }
+        }
+
+        return update.resourceOperator.getAsync(update.namespace, update.name);
+    }
+
+    /**
+     * Stops coalescing new status updates into the given update
+     */
+    private synchronized void detach(String key, PendingUpdate<?, ?> update) {
+        pendingUpdates.remove(key, update);
+    }
+
+    private synchronized Reconciliation reconciliation(PendingUpdate<?, ?> update) {
+        return update.reconciliation;
+    }
+
+    private static boolean isConflict(Throwable error) {
+        return error instanceof KubernetesClientException && ((KubernetesClientException) error).getCode() == 409;
+    }
+
+    private Counter counter(Reconciliation reconciliation, String name, String description) {
+        return metrics.counter(AbstractOperator.METRICS_PREFIX + name, description, Tags.of("kind", reconciliation.kind()));
+    }
+
+    /**
+     * Status update which waits to be written
+     *
+     * @param <T>   Type of the custom resource
+     * @param <S>   Type of the status
+     */
+    private static class PendingUpdate<T extends CustomResource<?, S>, S extends Status> {
+        private final AbstractWatchableStatusedResourceOperator<?, T, ?, ?> resourceOperator;
+        private final String namespace;
+        private final String name;
+        private final T resource;
+        private final BiFunction<T, S, T> copyWithStatus;
+        private final Predicate<T> statusSupported;
+        private final List<Promise<T>> promises = new ArrayList<>(1);
+
+        private Reconciliation reconciliation;
+        private S desiredStatus;
+
+        PendingUpdate(Reconciliation reconciliation, AbstractWatchableStatusedResourceOperator<?, T, ?, ?> resourceOperator,
+                      String namespace, String name, T resource, S desiredStatus, BiFunction<T, S, T> copyWithStatus,
+                      Predicate<T> statusSupported) {
+            this.reconciliation = reconciliation;
+            this.resourceOperator = resourceOperator;
+            this.namespace = namespace;
+            this.name = name;
+            this.resource = resource;
+            this.desiredStatus = desiredStatus;
+            this.copyWithStatus = copyWithStatus;
+            this.statusSupported = statusSupported;
+        }
+
+        void complete(AsyncResult<T> result) {
+            for (Promise<T> promise : promises) {
+                promise.handle(result);
+            }
+        }
+    }
+}
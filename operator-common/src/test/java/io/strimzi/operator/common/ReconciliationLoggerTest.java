@@ -0,0 +1,57 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+public class ReconciliationLoggerTest {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationLoggerTest.class);
+
+    private final Reconciliation reconciliation = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+    @AfterEach
+    public void resetStructuredLogging() {
+        ReconciliationLogger.structured(false);
+    }
+
+    @Test
+    public void testMessageIsNotFormattedWhenLevelIsDisabled() {
+        AtomicInteger toStringCalls = new AtomicInteger();
+        Object message = new Object() {
+            @Override
+            public String toString() {
+                toStringCalls.incrementAndGet();
+                return "message";
+            }
+        };
+
+        // The tests run with the INFO level by default
+        assumeFalse(LOGGER.isDebugEnabled());
+
+        LOGGER.traceCr(reconciliation, message);
+        LOGGER.debugCr(reconciliation, message);
+        LOGGER.debugCr(reconciliation, "Message with parameter {}", message);
+
+        assertThat(toStringCalls.get(), is(0));
+    }
+
+    @Test
+    public void testMessage() {
+        assertThat(ReconciliationLogger.message(reconciliation, "my-message"), is(reconciliation + ": my-message"));
+    }
+
+    @Test
+    public void testStructuredMessage() {
+        ReconciliationLogger.structured(true);
+        assertThat(ReconciliationLogger.message(reconciliation, "my-message"), is("my-message"));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ReconciliationProfilerTest {
+    @Test
+    public void testInFlightReconciliation() {
+        ReconciliationProfiler profiler = new ReconciliationProfiler("Kafka");
+        Reconciliation reconciliation = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+        profiler.started(reconciliation);
+
+        JsonObject json = profiler.toJson();
+        assertThat(json.getString("kind"), is("Kafka"));
+        assertThat(json.getJsonArray("inFlight").size(), is(1));
+        assertThat(json.getJsonArray("completed").size(), is(0));
+
+        JsonObject inFlight = json.getJsonArray("inFlight").getJsonObject(0);
+        assertThat(inFlight.getString("namespace"), is("my-namespace"));
+        assertThat(inFlight.getString("name"), is("my-cluster"));
+        assertThat(inFlight.getBoolean("inProgress"), is(true));
+        assertThat(inFlight.getBoolean("lockAcquired"), is(false));
+        assertThat(inFlight.getBoolean("succeeded"), is(nullValue()));
+
+        ReconciliationProfiler.lockAcquired(reconciliation);
+        inFlight = profiler.toJson().getJsonArray("inFlight").getJsonObject(0);
+        assertThat(inFlight.getBoolean("lockAcquired"), is(true));
+    }
+
+    @Test
+    public void testTimeline() {
+        ReconciliationProfiler profiler = new ReconciliationProfiler("Kafka");
+        Reconciliation reconciliation = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+        profiler.started(reconciliation);
+        ReconciliationProfiler.lockAcquired(reconciliation);
+
+        Promise<Void> stepPromise = Promise.promise();
+        Future<Void> step = ReconciliationProfiler.profile(reconciliation, ReconciliationProfiler.STEP, "zkPvcs", stepPromise::future);
+
+        ReconciliationProfiler.Span apiCall = ReconciliationProfiler.startSpan(reconciliation, ReconciliationProfiler.KUBERNETES_API, "reconcile PersistentVolumeClaim my-namespace/data-0");
+        apiCall.start();
+        apiCall.end(false);
+
+        JsonArray timeline = profiler.toJson().getJsonArray("inFlight").getJsonObject(0).getJsonArray("timeline");
+        assertThat(timeline.size(), is(2));
+        assertThat(timeline.getJsonObject(0).getString("type"), is("step"));
+        assertThat(timeline.getJsonObject(0).getString("name"), is("zkPvcs"));
+        assertThat(timeline.getJsonObject(0).getBoolean("inProgress"), is(true));
+        assertThat(timeline.getJsonObject(1).getString("type"), is("kubernetes"));
+        assertThat(timeline.getJsonObject(1).getString("step"), is("zkPvcs"));
+        assertThat(timeline.getJsonObject(1).getBoolean("inProgress"), is(false));
+        assertThat(timeline.getJsonObject(1).getBoolean("succeeded"), is(false));
+
+        stepPromise.complete();
+        assertThat(step.succeeded(), is(true));
+        profiler.finished(reconciliation, Future.succeededFuture());
+
+        JsonObject json = profiler.toJson();
+        assertThat(json.getJsonArray("inFlight").size(), is(0));
+        assertThat(json.getJsonArray("completed").size(), is(1));
+
+        JsonObject completed = json.getJsonArray("completed").getJsonObject(0);
+        assertThat(completed.getBoolean("inProgress"), is(false));
+        assertThat(completed.getBoolean("succeeded"), is(true));
+        assertThat(completed.getJsonArray("timeline").getJsonObject(0).getBoolean("inProgress"), is(false));
+        assertThat(completed.getJsonArray("timeline").getJsonObject(0).getBoolean("succeeded"), is(true));
+    }
+
+    @Test
+    public void testFailedReconciliation() {
+        ReconciliationProfiler profiler = new ReconciliationProfiler("Kafka");
+        Reconciliation reconciliation = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+        profiler.started(reconciliation);
+        profiler.finished(reconciliation, Future.failedFuture(new RuntimeException("Boom")));
+
+        JsonObject completed = profiler.toJson().getJsonArray("completed").getJsonObject(0);
+        assertThat(completed.getBoolean("succeeded"), is(false));
+        assertThat(completed.getString("error"), is("java.lang.RuntimeException: Boom"));
+    }
+
+    @Test
+    public void testCompletedCapacity() {
+        ReconciliationProfiler profiler = new ReconciliationProfiler("Kafka", 2);
+
+        for (int i = 0; i < 5; i++) {
+            Reconciliation reconciliation = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster-" + i);
+            profiler.started(reconciliation);
+            profiler.finished(reconciliation, Future.succeededFuture());
+        }
+
+        JsonArray completed = profiler.toJson().getJsonArray("completed");
+        assertThat(completed.size(), is(2));
+        assertThat(completed.getJsonObject(0).getString("name"), is("my-cluster-4"));
+        assertThat(completed.getJsonObject(1).getString("name"), is("my-cluster-3"));
+    }
+
+    @Test
+    public void testMaxSpans() {
+        ReconciliationProfiler profiler = new ReconciliationProfiler("Kafka");
+        Reconciliation reconciliation = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+        profiler.started(reconciliation);
+
+        for (int i = 0; i < ReconciliationProfiler.MAX_SPANS + 10; i++) {
+            ReconciliationProfiler.startSpan(reconciliation, ReconciliationProfiler.WAIT, "wait-" + i).end(true);
+        }
+
+        JsonObject inFlight = profiler.toJson().getJsonArray("inFlight").getJsonObject(0);
+        assertThat(inFlight.getJsonArray("timeline").size(), is(ReconciliationProfiler.MAX_SPANS));
+        assertThat(inFlight.getInteger("droppedSpans"), is(10));
+    }
+
+    @Test
+    public void testNotProfiledReconciliation() {
+        Reconciliation reconciliation = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+        ReconciliationProfiler.Span span = ReconciliationProfiler.startSpan(reconciliation, ReconciliationProfiler.STEP, "step");
+        span.start();
+        span.end(true);
+
+        assertThat(ReconciliationProfiler.profile(reconciliation, ReconciliationProfiler.STEP, "step", Future::succeededFuture).succeeded(), is(true));
+        assertThat(ReconciliationProfiler.startSpan(null, ReconciliationProfiler.STEP, "step") != null, is(true));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ReconciliationSchedulerTest {
+    private static final NamespaceAndName RESOURCE = new NamespaceAndName("my-namespace", "my-resource");
+    private static final NamespaceAndName OTHER_RESOURCE = new NamespaceAndName("my-namespace", "other-resource");
+
+    private MetricsProvider metrics;
+
+    @BeforeEach
+    public void setup() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        metrics = new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                return registry.gauge(name, tags, new AtomicInteger(0));
+            }
+        };
+    }
+
+    private ReconciliationScheduler scheduler(long baseIntervalMs, long maxIntervalMs) {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(metrics, Tags.of(Tag.of("kind", "TestResource"), Tag.of("selector", "")));
+        scheduler.configure(baseIntervalMs, maxIntervalMs);
+        return scheduler;
+    }
+
+    private double deferred() {
+        return metrics.meterRegistry().get(AbstractOperator.METRICS_PREFIX + "reconciliations.deferred").tag("kind", "TestResource").counter().count();
+    }
+
+    /**
+     * Runs the given number of periodic reconciliations of an unchanged resource and returns the ticks in which the
+     * resource was reconciled
+     */
+    private static List<Integer> run(ReconciliationScheduler scheduler, int ticks) {
+        List<Integer> reconciled = new ArrayList<>();
+
+        for (int tick = 1; tick <= ticks; tick++) {
+            if (scheduler.due(Set.of(RESOURCE)).contains(RESOURCE)) {
+                reconciled.add(tick);
+                scheduler.completed(RESOURCE, 1L, false);
+            }
+        }
+
+        return reconciled;
+    }
+
+    @Test
+    public void testUnchangedResourcesAreBackedOff() {
+        ReconciliationScheduler scheduler = scheduler(1_000, 8_000);
+
+        assertThat(scheduler.isAdaptive(), is(true));
+        assertThat(run(scheduler, 25), is(List.of(1, 2, 4, 8, 16, 24)));
+        assertThat(scheduler.intervalTicks(RESOURCE), is(8));
+        assertThat(deferred(), is(19.0));
+
+        MeterRegistry registry = metrics.meterRegistry();
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.interval").tag("kind", "TestResource").summary().count(), is(6L));
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.interval").tag("kind", "TestResource").summary().max(), is(8_000.0));
+    }
+
+    @Test
+    public void testFailureResetsTheInterval() {
+        ReconciliationScheduler scheduler = scheduler(1_000, 8_000);
+        run(scheduler, 10);
+        assertThat(scheduler.intervalTicks(RESOURCE), is(8));
+
+        scheduler.completed(RESOURCE, 1L, true);
+        assertThat(scheduler.intervalTicks(RESOURCE), is(1));
+        assertThat(scheduler.due(Set.of(RESOURCE)), is(Set.of(RESOURCE)));
+    }
+
+    @Test
+    public void testChangeResetsTheInterval() {
+        ReconciliationScheduler scheduler = scheduler(1_000, 8_000);
+        run(scheduler, 10);
+        assertThat(scheduler.intervalTicks(RESOURCE), is(8));
+
+        // For example, reconciliation triggered by a watch event after the resource was modified
+        scheduler.completed(RESOURCE, 2L, false);
+        assertThat(scheduler.intervalTicks(RESOURCE), is(1));
+        assertThat(scheduler.due(Set.of(RESOURCE)), is(Set.of(RESOURCE)));
+
+        scheduler.completed(RESOURCE, 2L, false);
+        assertThat(scheduler.intervalTicks(RESOURCE), is(2));
+    }
+
+    @Test
+    public void testDeletedResourcesAreForgotten() {
+        ReconciliationScheduler scheduler = scheduler(1_000, 8_000);
+        scheduler.completed(RESOURCE, 1L, false);
+        scheduler.completed(OTHER_RESOURCE, 1L, false);
+
+        // The resource was deleted and reconciled
+        scheduler.completed(RESOURCE, null, false);
+        assertThat(scheduler.intervalTicks(RESOURCE), is(0));
+
+        // The resource was deleted without being reconciled
+        assertThat(scheduler.due(Set.of()), is(Set.of()));
+        assertThat(scheduler.intervalTicks(OTHER_RESOURCE), is(0));
+    }
+
+    @Test
+    public void testAllResourcesAreReconciledWhenNotAdaptive() {
+        ReconciliationScheduler scheduler = scheduler(1_000, 1_000);
+
+        assertThat(scheduler.isAdaptive(), is(false));
+        assertThat(run(scheduler, 5), is(List.of(1, 2, 3, 4, 5)));
+        assertThat(deferred(), is(0.0));
+        assertThat(metrics.meterRegistry().find(AbstractOperator.METRICS_PREFIX + "reconciliations.interval").summary(), is(nullValue()));
+    }
+}
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.common.operator.resource;
 
+import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaimBuilder;
@@ -11,15 +12,23 @@ import io.fabric8.kubernetes.api.model.PersistentVolumeClaimList;
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class PvcOperatorTest extends AbstractResourceOperatorTest<KubernetesClient, PersistentVolumeClaim, PersistentVolumeClaimList, Resource<PersistentVolumeClaim>> {
@@ -65,6 +74,35 @@ public class PvcOperatorTest extends AbstractResourceOperatorTest<KubernetesClie
         return new PvcOperator(vertx, mockClient);
     }
 
+    @Test
+    public void testReconcileWithCurrentPvcDoesNotReadItAgain(VertxTestContext context) {
+        PersistentVolumeClaim current = resource();
+        PersistentVolumeClaim desired = modifiedResource();
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.withPropagationPolicy(DeletionPropagation.FOREGROUND)).thenReturn(mockResource);
+        when(mockResource.patch(any(PersistentVolumeClaim.class))).thenReturn(desired);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockPvcs = mock(MixedOperation.class);
+        when(mockPvcs.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(clientType());
+        mocker(mockClient, mockPvcs);
+
+        Checkpoint async = context.checkpoint();
+        createResourceOperations(vertx, mockClient)
+                .reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, current, desired)
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    verify(mockResource, never()).get();
+                    verify(mockResource).patch(any(PersistentVolumeClaim.class));
+                    verify(mockResource, never()).create(any());
+                    async.flag();
+                })));
+    }
+
     @Test
     public void testRevertingImmutableFields()   {
         PersistentVolumeClaim desired = new PersistentVolumeClaimBuilder()
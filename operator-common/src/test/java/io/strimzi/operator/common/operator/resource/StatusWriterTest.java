@@ -0,0 +1,265 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.KafkaList;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.status.KafkaStatus;
+import io.strimzi.api.kafka.model.status.KafkaStatusBuilder;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class StatusWriterTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String NAME = "my-cluster";
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", Kafka.RESOURCE_KIND, NAMESPACE, NAME);
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static Kafka kafka(String name, long observedGeneration) {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withStatus(status(observedGeneration))
+                .build();
+    }
+
+    private static KafkaStatus status(long observedGeneration) {
+        return new KafkaStatusBuilder()
+                .withObservedGeneration(observedGeneration)
+                .build();
+    }
+
+    private static Kafka copyWithStatus(Kafka kafka, KafkaStatus status) {
+        return new KafkaBuilder(kafka).withStatus(status).build();
+    }
+
+    private static MetricsProvider metricsProvider(MeterRegistry registry) {
+        return new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                return registry.gauge(name, tags, new AtomicInteger(0));
+            }
+        };
+    }
+
+    private static double count(MeterRegistry registry, String name) {
+        Counter counter = registry.find(name).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUnchangedStatusIsNotWritten(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CrdOperator<KubernetesClient, Kafka, KafkaList> mockOps = mock(CrdOperator.class);
+        when(mockOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(kafka(NAME, 1L)));
+
+        StatusWriter writer = new StatusWriter(vertx, metricsProvider(registry), 0L, 3);
+
+        Checkpoint async = context.checkpoint();
+        writer.updateStatus(RECONCILIATION, mockOps, NAMESPACE, NAME, status(1L), StatusWriterTest::copyWithStatus)
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    verify(mockOps, never()).updateStatusAsync(any(), any());
+                    assertThat(count(registry, "strimzi.status.updates.unchanged"), is(1.0));
+                    assertThat(count(registry, "strimzi.status.updates"), is(0.0));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUnchangedStatusDoesNotTakeWriteSlot(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CrdOperator<KubernetesClient, Kafka, KafkaList> mockOps = mock(CrdOperator.class);
+        when(mockOps.getAsync(eq(NAMESPACE), anyString())).thenAnswer(invocation -> Future.succeededFuture(kafka(invocation.getArgument(1), 1L)));
+        when(mockOps.updateStatusAsync(any(), any())).thenAnswer(invocation -> Future.succeededFuture(invocation.getArgument(1)));
+
+        StatusWriter writer = new StatusWriter(vertx, metricsProvider(registry), 500L, 3);
+
+        // The unchanged statuses do not reserve the write slots => the first changed status is written immediately
+        Future<Kafka> unchanged = writer.updateStatus(RECONCILIATION, mockOps, NAMESPACE, "other-cluster", status(1L), StatusWriterTest::copyWithStatus);
+        Future<Kafka> otherUnchanged = writer.updateStatus(RECONCILIATION, mockOps, NAMESPACE, "third-cluster", status(1L), StatusWriterTest::copyWithStatus);
+        Future<Kafka> changed = writer.updateStatus(RECONCILIATION, mockOps, NAMESPACE, NAME, status(2L), StatusWriterTest::copyWithStatus);
+
+        assertThat(unchanged.succeeded(), is(true));
+        assertThat(otherUnchanged.succeeded(), is(true));
+        assertThat(changed.succeeded(), is(true));
+
+        Checkpoint async = context.checkpoint();
+        context.verify(() -> {
+            verify(mockOps, times(1)).updateStatusAsync(any(), any());
+            assertThat(count(registry, "strimzi.status.updates.unchanged"), is(2.0));
+            assertThat(count(registry, "strimzi.status.updates"), is(1.0));
+            async.flag();
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testConflictIsRetriedWithCurrentResource(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CrdOperator<KubernetesClient, Kafka, KafkaList> mockOps = mock(CrdOperator.class);
+        when(mockOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(kafka(NAME, 1L)));
+        when(mockOps.updateStatusAsync(any(), any()))
+                .thenReturn(Future.failedFuture(new KubernetesClientException("Conflict", 409, null)))
+                .thenAnswer(invocation -> Future.succeededFuture(invocation.getArgument(1)));
+
+        StatusWriter writer = new StatusWriter(vertx, metricsProvider(registry), 0L, 3);
+
+        Checkpoint async = context.checkpoint();
+        writer.updateStatus(RECONCILIATION, mockOps, NAMESPACE, NAME, status(2L), StatusWriterTest::copyWithStatus)
+                .onComplete(context.succeeding(updated -> context.verify(() -> {
+                    assertThat(updated.getStatus().getObservedGeneration(), is(2L));
+                    verify(mockOps, times(2)).getAsync(NAMESPACE, NAME);
+                    verify(mockOps, times(2)).updateStatusAsync(any(), any());
+                    assertThat(count(registry, "strimzi.status.updates.conflicts"), is(1.0));
+                    assertThat(count(registry, "strimzi.status.updates"), is(1.0));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testConflictFailsWhenRetriesAreExhausted(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CrdOperator<KubernetesClient, Kafka, KafkaList> mockOps = mock(CrdOperator.class);
+        when(mockOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(kafka(NAME, 1L)));
+        when(mockOps.updateStatusAsync(any(), any())).thenReturn(Future.failedFuture(new KubernetesClientException("Conflict", 409, null)));
+
+        StatusWriter writer = new StatusWriter(vertx, metricsProvider(registry), 0L, 2);
+
+        Checkpoint async = context.checkpoint();
+        writer.updateStatus(RECONCILIATION, mockOps, NAMESPACE, NAME, status(2L), StatusWriterTest::copyWithStatus)
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    assertThat(e instanceof KubernetesClientException, is(true));
+                    verify(mockOps, times(3)).updateStatusAsync(any(), any());
+                    assertThat(count(registry, "strimzi.status.updates.conflicts"), is(3.0));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testConflictIsNotRetriedWhenSupersededByNewerUpdate(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CrdOperator<KubernetesClient, Kafka, KafkaList> mockOps = mock(CrdOperator.class);
+        when(mockOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(kafka(NAME, 1L)));
+        Promise<Kafka> firstWrite = Promise.promise();
+        when(mockOps.updateStatusAsync(any(), any()))
+                .thenReturn(firstWrite.future())
+                .thenAnswer(invocation -> Future.succeededFuture(invocation.getArgument(1)));
+
+        StatusWriter writer = new StatusWriter(vertx, metricsProvider(registry), 0L, 3);
+
+        // The newer update is written while the first write is still in flight
+        Future<Kafka> first = writer.updateStatus(RECONCILIATION, mockOps, NAMESPACE, NAME, status(2L), StatusWriterTest::copyWithStatus);
+        Future<Kafka> second = writer.updateStatus(RECONCILIATION, mockOps, NAMESPACE, NAME, status(3L), StatusWriterTest::copyWithStatus);
+        firstWrite.fail(new KubernetesClientException("Conflict", 409, null));
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(first, second)
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(second.result().getStatus().getObservedGeneration(), is(3L));
+                    verify(mockOps, times(2)).updateStatusAsync(any(), any());
+                    assertThat(count(registry, "strimzi.status.updates.conflicts"), is(1.0));
+                    assertThat(count(registry, "strimzi.status.updates.coalesced"), is(1.0));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testQueuedUpdatesAreCoalesced(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CrdOperator<KubernetesClient, Kafka, KafkaList> mockOps = mock(CrdOperator.class);
+        when(mockOps.getAsync(eq(NAMESPACE), anyString())).thenAnswer(invocation -> Future.succeededFuture(kafka(invocation.getArgument(1), 1L)));
+        when(mockOps.updateStatusAsync(any(), any())).thenAnswer(invocation -> Future.succeededFuture(invocation.getArgument(1)));
+
+        StatusWriter writer = new StatusWriter(vertx, metricsProvider(registry), 500L, 3);
+
+        // The first write in the namespace is done immediately and the following writes are queued
+        Future<Kafka> other = writer.updateStatus(RECONCILIATION, mockOps, NAMESPACE, "other-cluster", status(2L), StatusWriterTest::copyWithStatus);
+        Future<Kafka> first = writer.updateStatus(RECONCILIATION, mockOps, NAMESPACE, NAME, status(2L), StatusWriterTest::copyWithStatus);
+        Future<Kafka> second = writer.updateStatus(RECONCILIATION, mockOps, NAMESPACE, NAME, status(3L), StatusWriterTest::copyWithStatus);
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(other, first, second)
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(first.result().getStatus().getObservedGeneration(), is(3L));
+                    assertThat(second.result().getStatus().getObservedGeneration(), is(3L));
+
+                    ArgumentCaptor<Kafka> captor = ArgumentCaptor.forClass(Kafka.class);
+                    verify(mockOps, times(2)).updateStatusAsync(any(), captor.capture());
+                    assertThat(captor.getAllValues().get(1).getMetadata().getName(), is(NAME));
+                    assertThat(captor.getAllValues().get(1).getStatus().getObservedGeneration(), is(3L));
+
+                    assertThat(count(registry, "strimzi.status.updates.coalesced"), is(1.0));
+                    assertThat(count(registry, "strimzi.status.updates"), is(2.0));
+                    async.flag();
+                })));
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * {@link Kafka} which collects the topic creations, config updates and partition increases requested within a short
+ * window and passes them to the delegate as batches, so that they are done using a single Admin API request each.
+ * The result of each topic is passed back to the caller which requested the change of this topic.
+ * The remaining operations are passed to the delegate directly.
+ */
+public class BatchingKafka implements Kafka {
+
+    private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(BatchingKafka.class);
+
+    private final Kafka delegate;
+    private final Vertx vertx;
+    private final String namespace;
+    private final long windowMs;
+    private final int maxBatchSize;
+
+    private final Batcher creates;
+    private final Batcher configUpdates;
+    private final Batcher partitionIncreases;
+
+    /**
+     * Constructs the batching Kafka
+     *
+     * @param vertx         Vert.x instance used for the batching timers
+     * @param delegate      Kafka implementation which executes the batches
+     * @param namespace     Namespace of the KafkaTopic resources (used for logging)
+     * @param windowMs      Time for which the requests are collected before the batch is executed
+     * @param maxBatchSize  Maximum number of topics in a single batch
+     * @param metrics       Metrics provider
+     */
+    public BatchingKafka(Vertx vertx, Kafka delegate, String namespace, long windowMs, int maxBatchSize, MetricsProvider metrics) {
+        this.vertx = vertx;
+        this.delegate = delegate;
+        this.namespace = namespace;
+        this.windowMs = windowMs;
+        this.maxBatchSize = maxBatchSize;
+
+        this.creates = new Batcher("createTopics", delegate::createTopics, metrics);
+        this.configUpdates = new Batcher("updateTopicConfigs", delegate::updateTopicConfigs, metrics);
+        this.partitionIncreases = new Batcher("increasePartitions", delegate::increasePartitions, metrics);
+    }
+
+    @Override
+    public Future<Void> createTopic(Reconciliation reconciliation, Topic newTopic) {
+        return creates.add(reconciliation, newTopic);
+    }
+
+    @Override
+    public Map<TopicName, Future<Void>> createTopics(Reconciliation reconciliation, Collection<Topic> newTopics) {
+        return delegate.createTopics(reconciliation, newTopics);
+    }
+
+    @Override
+    public Future<Void> deleteTopic(Reconciliation reconciliation, TopicName topicName) {
+        return delegate.deleteTopic(reconciliation, topicName);
+    }
+
+    @Override
+    public Future<Boolean> topicExists(Reconciliation reconciliation, TopicName topicName) {
+        return delegate.topicExists(reconciliation, topicName);
+    }
+
+    @Override
+    public Future<Void> updateTopicConfig(Reconciliation reconciliation, Topic topic) {
+        return configUpdates.add(reconciliation, topic);
+    }
+
+    @Override
+    public Map<TopicName, Future<Void>> updateTopicConfigs(Reconciliation reconciliation, Collection<Topic> topics) {
+        return delegate.updateTopicConfigs(reconciliation, topics);
+    }
+
+    @Override
+    public Future<Void> increasePartitions(Reconciliation reconciliation, Topic topic) {
+        return partitionIncreases.add(reconciliation, topic);
+    }
+
+    @Override
+    public Map<TopicName, Future<Void>> increasePartitions(Reconciliation reconciliation, Collection<Topic> topics) {
+        return delegate.increasePartitions(reconciliation, topics);
+    }
+
+    @Override
+    public Future<TopicMetadata> topicMetadata(Reconciliation reconciliation, TopicName topicName) {
+        return delegate.topicMetadata(reconciliation, topicName);
+    }
+
+    @Override
+    public Map<TopicName, Future<TopicMetadata>> topicMetadata(Reconciliation reconciliation, Collection<TopicName> topicNames) {
+        return delegate.topicMetadata(reconciliation, topicNames);
+    }
+
+    @Override
+    public Future<Set<String>> listTopics() {
+        return delegate.listTopics();
+    }
+
+    @Override
+    public Future<Map<Integer, String>> brokerRacks(Reconciliation reconciliation) {
+        return delegate.brokerRacks(reconciliation);
+    }
+
+    @Override
+    public Future<Set<Integer>> reassignPartitions(Reconciliation reconciliation, TopicName topicName,
+                                                   Map<Integer, List<Integer>> current, Map<Integer, List<Integer>> target,
+                                                   long throttleRate) {
+        return delegate.reassignPartitions(reconciliation, topicName, current, target, throttleRate);
+    }
+
+    @Override
+    public Future<Integer> reassigningPartitions(Reconciliation reconciliation, TopicName topicName) {
+        return delegate.reassigningPartitions(reconciliation, topicName);
+    }
+
+    @Override
+    public Future<Void> removeReassignmentThrottle(Reconciliation reconciliation, TopicName topicName, Collection<Integer> brokers) {
+        return delegate.removeReassignmentThrottle(reconciliation, topicName, brokers);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchingKafka(delegate=" + delegate + ", windowMs=" + windowMs + ", maxBatchSize=" + maxBatchSize + ")";
+    }
+
+    /**
+     * Collects the requests for a single operation and executes them as batches
+     */
+    private class Batcher {
+        private final String operation;
+        private final BiFunction<Reconciliation, Collection<Topic>, Map<TopicName, Future<Void>>> action;
+        private final DistributionSummary batchSize;
+
+        private Map<TopicName, Request> pending = new LinkedHashMap<>();
+        private long timerId = -1;
+
+        Batcher(String operation, BiFunction<Reconciliation, Collection<Topic>, Map<TopicName, Future<Void>>> action, MetricsProvider metrics) {
+            this.operation = operation;
+            this.action = action;
+            this.batchSize = metrics == null ? null : DistributionSummary.builder(TopicOperator.METRICS_PREFIX + "admin.batch.size")
+                    .description("Number of topics in the batched Admin API requests")
+                    .tags(Tags.of(Tag.of("kind", "KafkaTopic"), Tag.of("operation", operation)))
+                    .register(metrics.meterRegistry());
+        }
+
+        Future<Void> add(Reconciliation reconciliation, Topic topic) {
+            Promise<Void> promise = Promise.promise();
+            List<Map<TopicName, Request>> batches = new ArrayList<>(2);
+
+            synchronized (this) {
+                if (pending.containsKey(topic.getTopicName())) {
+                    // The same topic cannot be changed twice in a single request
+                    batches.add(take());
+                }
+
+                pending.put(topic.getTopicName(), new Request(topic, promise));
+                LOGGER.debugCr(reconciliation, "Topic {} added to the {} batch with {} topics", topic.getTopicName(), operation, pending.size());
+
+                if (pending.size() >= maxBatchSize || windowMs <= 0) {
+                    batches.add(take());
+                } else if (timerId < 0) {
+                    timerId = vertx.setTimer(windowMs, id -> timerFired(id));
+                }
+            }
+
+            batches.forEach(this::execute);
+            return promise.future();
+        }
+
+        private void timerFired(long id) {
+            Map<TopicName, Request> batch = null;
+
+            synchronized (this) {
+                if (timerId == id) {
+                    batch = take();
+                }
+            }
+
+            if (batch != null) {
+                execute(batch);
+            }
+        }
+
+        /**
+         * Takes the pending requests. Has to be called with the lock held.
+         */
+        private Map<TopicName, Request> take() {
+            if (timerId >= 0) {
+                vertx.cancelTimer(timerId);
+                timerId = -1;
+            }
+
+            Map<TopicName, Request> batch = pending;
+            pending = new LinkedHashMap<>();
+            return batch;
+        }
+
+        private void execute(Map<TopicName, Request> batch) {
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            if (batchSize != null) {
+                batchSize.record(batch.size());
+            }
+
+            Reconciliation reconciliation = new Reconciliation("batch", "KafkaTopic", namespace, operation);
+            LOGGER.debugCr(reconciliation, "Executing {} for {} topics", operation, batch.size());
+
+            List<Topic> topics = new ArrayList<>(batch.size());
+            batch.values().forEach(request -> topics.add(request.topic));
+
+            Map<TopicName, Future<Void>> results;
+            try {
+                results = action.apply(reconciliation, topics);
+            } catch (Throwable t) {
+                batch.values().forEach(request -> request.promise.fail(t));
+                return;
+            }
+
+            for (Map.Entry<TopicName, Request> entry : batch.entrySet()) {
+                Future<Void> result = results.get(entry.getKey());
+
+                if (result != null) {
+                    result.onComplete(entry.getValue().promise);
+                } else {
+                    entry.getValue().promise.fail(new OperatorException("No result for topic " + entry.getKey() + " in the " + operation + " batch"));
+                }
+            }
+        }
+    }
+
+    /**
+     * Request for a single topic waiting in the batch
+     */
+    private static class Request {
+        private final Topic topic;
+        private final Promise<Void> promise;
+
+        Request(Topic topic, Promise<Void> promise) {
+            this.topic = topic;
+            this.promise = promise;
+        }
+    }
+}
@@ -106,8 +106,11 @@ public class Config {
     public static final String TC_ZK_SESSION_TIMEOUT_MS = "STRIMZI_ZOOKEEPER_SESSION_TIMEOUT_MS";
     public static final String TC_ZK_CONNECTION_TIMEOUT_MS = "TC_ZK_CONNECTION_TIMEOUT_MS";
     public static final String TC_PERIODIC_INTERVAL_MS = "STRIMZI_FULL_RECONCILIATION_INTERVAL_MS";
+    public static final String TC_INCREMENTAL_RECONCILIATION = "STRIMZI_INCREMENTAL_RECONCILIATION";
+    public static final String TC_FULL_SCAN_INTERVAL_MS = "STRIMZI_FULL_SCAN_INTERVAL_MS";
     public static final String TC_REASSIGN_THROTTLE = "STRIMZI_REASSIGN_THROTTLE";
     public static final String TC_REASSIGN_VERIFY_INTERVAL_MS = "STRIMZI_REASSIGN_VERIFY_INTERVAL_MS";
+    public static final String TC_REASSIGN_MAX_CONCURRENT_TOPICS = "STRIMZI_REASSIGN_MAX_CONCURRENT_TOPICS";
     public static final String TC_TOPIC_METADATA_MAX_ATTEMPTS = "STRIMZI_TOPIC_METADATA_MAX_ATTEMPTS";
     public static final String TC_TOPICS_PATH = "STRIMZI_TOPICS_PATH";
 
@@ -126,6 +129,12 @@ public class Config {
 
     public static final String TC_USE_ZOOKEEPER_TOPIC_STORE = "STRIMZI_USE_ZOOKEEPER_TOPIC_STORE";
 
+    public static final String TC_WATCH_DEBOUNCE_MS = "STRIMZI_WATCH_DEBOUNCE_MS";
+    public static final String TC_WATCH_MAX_CONCURRENT_RECONCILIATIONS = "STRIMZI_WATCH_MAX_CONCURRENT_RECONCILIATIONS";
+
+    public static final String TC_ADMIN_BATCH_WINDOW_MS = "STRIMZI_ADMIN_BATCH_WINDOW_MS";
+    public static final String TC_ADMIN_BATCH_MAX_SIZE = "STRIMZI_ADMIN_BATCH_MAX_SIZE";
+
     private static final Map<String, Value<?>> CONFIG_VALUES = new HashMap<>();
 
     /** A comma-separated list of key=value pairs for selecting Resources that describe topics. */
@@ -152,6 +161,12 @@ public class Config {
     /** The period between full reconciliations. */
     public static final Value<Long> FULL_RECONCILIATION_INTERVAL_MS = new Value<>(TC_PERIODIC_INTERVAL_MS, DURATION, "120000");
 
+    /** Whether the periodic reconciliations reconcile only the topics which changed since their last reconciliation */
+    public static final Value<Boolean> INCREMENTAL_RECONCILIATION = new Value<>(TC_INCREMENTAL_RECONCILIATION, BOOLEAN, "false");
+
+    /** The period between the reconciliations of all topics when the incremental reconciliation is enabled */
+    public static final Value<Long> FULL_SCAN_INTERVAL_MS = new Value<>(TC_FULL_SCAN_INTERVAL_MS, DURATION, "1800000");
+
     /** The interbroker throttled rate to use when a topic change requires partition reassignment. */
     public static final Value<Long> REASSIGN_THROTTLE = new Value<>(TC_REASSIGN_THROTTLE, LONG, Long.toString(Long.MAX_VALUE));
 
@@ -161,6 +176,9 @@ public class Config {
      */
     public static final Value<Long> REASSIGN_VERIFY_INTERVAL_MS = new Value<>(TC_REASSIGN_VERIFY_INTERVAL_MS, DURATION, "120000");
 
+    /** The maximum number of topics whose partitions are reassigned at the same time because of a replication factor change. */
+    public static final Value<Integer> REASSIGN_MAX_CONCURRENT_TOPICS = new Value<>(TC_REASSIGN_MAX_CONCURRENT_TOPICS, POSITIVE_INTEGER, "5");
+
     /** The maximum number of retries for getting topic metadata from the Kafka cluster */
     public static final Value<Integer> TOPIC_METADATA_MAX_ATTEMPTS = new Value<>(TC_TOPIC_METADATA_MAX_ATTEMPTS, POSITIVE_INTEGER, "6");
 
@@ -196,6 +214,16 @@ public class Config {
     /** Do we use old ZooKeeper based TopicStore */
     public static final Value<Boolean> USE_ZOOKEEPER_TOPIC_STORE = new Value<>(TC_USE_ZOOKEEPER_TOPIC_STORE, BOOLEAN, "false");
 
+    /** The time for which the KafkaTopic watch events for the same topic are collected before they are reconciled */
+    public static final Value<Long> WATCH_DEBOUNCE_MS = new Value<>(TC_WATCH_DEBOUNCE_MS, DURATION, "100");
+    /** The maximum number of reconciliations triggered by the KafkaTopic watch which run at the same time */
+    public static final Value<Integer> WATCH_MAX_CONCURRENT_RECONCILIATIONS = new Value<>(TC_WATCH_MAX_CONCURRENT_RECONCILIATIONS, POSITIVE_INTEGER, "10");
+
+    /** The time for which the topic creations, config updates and partition increases are collected into a single Admin API request */
+    public static final Value<Long> ADMIN_BATCH_WINDOW_MS = new Value<>(TC_ADMIN_BATCH_WINDOW_MS, DURATION, "10");
+    /** The maximum number of topics in a single batched Admin API request */
+    public static final Value<Integer> ADMIN_BATCH_MAX_SIZE = new Value<>(TC_ADMIN_BATCH_MAX_SIZE, POSITIVE_INTEGER, "100");
+
     static {
         Map<String, Value<?>> configValues = CONFIG_VALUES;
         addConfigValue(configValues, LABELS);
@@ -206,8 +234,11 @@ public class Config {
         addConfigValue(configValues, ZOOKEEPER_SESSION_TIMEOUT_MS);
         addConfigValue(configValues, ZOOKEEPER_CONNECTION_TIMEOUT_MS);
         addConfigValue(configValues, FULL_RECONCILIATION_INTERVAL_MS);
+        addConfigValue(configValues, INCREMENTAL_RECONCILIATION);
+        addConfigValue(configValues, FULL_SCAN_INTERVAL_MS);
         addConfigValue(configValues, REASSIGN_THROTTLE);
         addConfigValue(configValues, REASSIGN_VERIFY_INTERVAL_MS);
+        addConfigValue(configValues, REASSIGN_MAX_CONCURRENT_TOPICS);
         addConfigValue(configValues, TOPIC_METADATA_MAX_ATTEMPTS);
         addConfigValue(configValues, TOPICS_PATH);
         addConfigValue(configValues, TLS_ENABLED);
@@ -222,6 +253,10 @@ public class Config {
         addConfigValue(configValues, APPLICATION_SERVER);
         addConfigValue(configValues, STALE_RESULT_TIMEOUT_MS);
         addConfigValue(configValues, USE_ZOOKEEPER_TOPIC_STORE);
+        addConfigValue(configValues, WATCH_DEBOUNCE_MS);
+        addConfigValue(configValues, WATCH_MAX_CONCURRENT_RECONCILIATIONS);
+        addConfigValue(configValues, ADMIN_BATCH_WINDOW_MS);
+        addConfigValue(configValues, ADMIN_BATCH_MAX_SIZE);
     }
 
     static void addConfigValue(Map<String, Value<?>> configValues, Value<?> cv) {
@@ -22,6 +22,7 @@ class K8sTopicWatcher implements Watcher<KafkaTopic> {
     private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(K8sTopicWatcher.class);
     private final Future<Void> initReconcileFuture;
     private final Runnable onHttpGoneTask;
+    private final KafkaTopicEventQueue queue;
 
     private TopicOperator topicOperator;
 
@@ -29,12 +30,16 @@ class K8sTopicWatcher implements Watcher<KafkaTopic> {
         this.topicOperator = topicOperator;
         this.initReconcileFuture = initReconcileFuture;
         this.onHttpGoneTask = onHttpGoneTask;
+        this.queue = new KafkaTopicEventQueue(topicOperator.getVertx(), topicOperator.metrics,
+                topicOperator.getConfig().get(Config.WATCH_DEBOUNCE_MS),
+                topicOperator.getConfig().get(Config.WATCH_MAX_CONCURRENT_RECONCILIATIONS),
+                topicOperator::isOwnWrite,
+                this::process);
     }
 
     @Override
     public void eventReceived(Action action, KafkaTopic kafkaTopic) {
         ObjectMeta metadata = kafkaTopic.getMetadata();
-        Map<String, String> labels = metadata.getLabels();
         if (kafkaTopic.getSpec() != null) {
             LogContext logContext = LogContext.kubeWatch(action, kafkaTopic).withKubeTopic(kafkaTopic);
             String name = metadata.getName();
@@ -53,26 +58,10 @@ class K8sTopicWatcher implements Watcher<KafkaTopic> {
                     } else if (pauseAnnotationChanges.isResourceUnpausedByAnno()) {
                         topicOperator.pausedTopicCounter.getAndDecrement();
                     }
-                    LOGGER.infoCr(logContext.toReconciliation(), "event {} on resource {} generation={}, labels={}", action, name,
-                            metadata.getGeneration(), labels);
-                    Handler<AsyncResult<Void>> resultHandler = ar -> {
-                        if (ar.succeeded()) {
-                            LOGGER.infoCr(logContext.toReconciliation(), "Success processing event {} on resource {} with labels {}", action, name, labels);
-                        } else {
-                            String message;
-                            if (ar.cause() instanceof InvalidTopicException) {
-                                message = kind + " " + name + " has an invalid spec section: " + ar.cause().getMessage();
-                                LOGGER.errorCr(logContext.toReconciliation(), message);
-
-                            } else {
-                                message = "Failure processing " + kind + " watch event " + action + " on resource " + name + " with labels " + labels + ": " + ar.cause().getMessage();
-                                LOGGER.errorCr(logContext.toReconciliation(), message, ar.cause());
-                            }
-                            topicOperator.enqueue(logContext, topicOperator.new Event(logContext, kafkaTopic, message, TopicOperator.EventType.WARNING, errorResult -> {
-                            }));
-                        }
-                    };
-                    topicOperator.onResourceEvent(logContext, kafkaTopic, action).onComplete(resultHandler);
+                    if (action.equals(Action.DELETED)) {
+                        topicOperator.forgetOwnWrite(name);
+                    }
+                    queue.offer(logContext, action, kafkaTopic);
                 } else {
                     LOGGER.debugCr(logContext.toReconciliation(), "Ignoring {} to {} {} because metadata.generation==status.observedGeneration", action, kind, name);
                 }
@@ -80,6 +69,44 @@ class K8sTopicWatcher implements Watcher<KafkaTopic> {
         }
     }
 
+    /**
+     * Processes the watch event which went through the event queue
+     *
+     * @param event     The watch event
+     *
+     * @return  Future which completes when the event is processed
+     */
+    private Future<Void> process(KafkaTopicEventQueue.WatchEvent event) {
+        LogContext logContext = event.logContext;
+        Action action = event.action;
+        KafkaTopic kafkaTopic = event.kafkaTopic;
+        ObjectMeta metadata = kafkaTopic.getMetadata();
+        Map<String, String> labels = metadata.getLabels();
+        String name = metadata.getName();
+        String kind = kafkaTopic.getKind();
+
+        LOGGER.infoCr(logContext.toReconciliation(), "event {} on resource {} generation={}, labels={}", action, name,
+                metadata.getGeneration(), labels);
+        Handler<AsyncResult<Void>> resultHandler = ar -> {
+            if (ar.succeeded()) {
+                LOGGER.infoCr(logContext.toReconciliation(), "Success processing event {} on resource {} with labels {}", action, name, labels);
+            } else {
+                String message;
+                if (ar.cause() instanceof InvalidTopicException) {
+                    message = kind + " " + name + " has an invalid spec section: " + ar.cause().getMessage();
+                    LOGGER.errorCr(logContext.toReconciliation(), message);
+
+                } else {
+                    message = "Failure processing " + kind + " watch event " + action + " on resource " + name + " with labels " + labels + ": " + ar.cause().getMessage();
+                    LOGGER.errorCr(logContext.toReconciliation(), message, ar.cause());
+                }
+                topicOperator.enqueue(logContext, topicOperator.new Event(logContext, kafkaTopic, message, TopicOperator.EventType.WARNING, errorResult -> {
+                }));
+            }
+        };
+        return topicOperator.onResourceEvent(logContext, kafkaTopic, action).onComplete(resultHandler);
+    }
+
     public boolean shouldReconcile(KafkaTopic kafkaTopic, ObjectMeta metadata, boolean pauseAnnotationChanged) {
         return kafkaTopic.getStatus() == null // Not status => new KafkaTopic
                 // KT has changed
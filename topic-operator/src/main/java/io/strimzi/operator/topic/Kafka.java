@@ -7,6 +7,10 @@ package io.strimzi.operator.topic;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Future;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -27,6 +31,25 @@ public interface Kafka {
      */
     Future<Void> createTopic(Reconciliation reconciliation, Topic newTopic);
 
+    /**
+     * Asynchronously create the given topics in Kafka,
+     * completing the future of each topic when the topic has been created.
+     * Implementations should create all topics using a single request.
+     * If the operation fails for some topic, its future will be failed with the
+     * KafkaException (not an ExecutionException).
+     *
+     * @param reconciliation The reconciliation of the batch.
+     * @param newTopics The topics to create.
+     * @return A map with a future for each of the topics, which is completed once the topic has been created.
+     */
+    default Map<TopicName, Future<Void>> createTopics(Reconciliation reconciliation, Collection<Topic> newTopics) {
+        Map<TopicName, Future<Void>> result = new LinkedHashMap<>(newTopics.size());
+        for (Topic newTopic : newTopics) {
+            result.put(newTopic.getTopicName(), createTopic(reconciliation, newTopic));
+        }
+        return result;
+    }
+
     /**
      * Asynchronously delete the given topic in Kafka,
      * completing the returned Future when the topic has been deleted.
@@ -63,6 +86,25 @@ public interface Kafka {
      */
     Future<Void> updateTopicConfig(Reconciliation reconciliation, Topic topic);
 
+    /**
+     * Asynchronously update the configs of the given topics in Kafka,
+     * completing the future of each topic when the topic has been updated.
+     * Implementations should update all topics using a single request.
+     * If the operation fails for some topic, its future will be failed with the
+     * KafkaException (not an ExecutionException).
+     *
+     * @param reconciliation The reconciliation of the batch.
+     * @param topics The topic configs to update.
+     * @return A map with a future for each of the topics, which is completed once the topic has been updated.
+     */
+    default Map<TopicName, Future<Void>> updateTopicConfigs(Reconciliation reconciliation, Collection<Topic> topics) {
+        Map<TopicName, Future<Void>> result = new LinkedHashMap<>(topics.size());
+        for (Topic topic : topics) {
+            result.put(topic.getTopicName(), updateTopicConfig(reconciliation, topic));
+        }
+        return result;
+    }
+
     /**
      * Asynchronously increase the topic's partitions in Kafka,
      * completing the returned Future when the topic has been updated.
@@ -75,6 +117,25 @@ public interface Kafka {
      */
     Future<Void> increasePartitions(Reconciliation reconciliation, Topic topic);
 
+    /**
+     * Asynchronously increase the partitions of the given topics in Kafka,
+     * completing the future of each topic when the topic has been updated.
+     * Implementations should update all topics using a single request.
+     * If the operation fails for some topic, its future will be failed with the
+     * KafkaException (not an ExecutionException).
+     *
+     * @param reconciliation The reconciliation of the batch.
+     * @param topics The topics.
+     * @return A map with a future for each of the topics, which is completed once the topic has been updated.
+     */
+    default Map<TopicName, Future<Void>> increasePartitions(Reconciliation reconciliation, Collection<Topic> topics) {
+        Map<TopicName, Future<Void>> result = new LinkedHashMap<>(topics.size());
+        for (Topic topic : topics) {
+            result.put(topic.getTopicName(), increasePartitions(reconciliation, topic));
+        }
+        return result;
+    }
+
     /**
      * Asynchronously fetch the topic metadata in Kafka,
      * completing the returned Future with the requested metadata.
@@ -88,6 +149,26 @@ public interface Kafka {
      */
     Future<TopicMetadata> topicMetadata(Reconciliation reconciliation, TopicName topicName);
 
+    /**
+     * Asynchronously fetch the metadata of the given topics in Kafka,
+     * completing the future of each topic with its metadata.
+     * Implementations should fetch the metadata of all topics using a single request.
+     * If some topic does not exist its future will be completed with null result.
+     * If the operation fails for some topic, its future will be failed with the
+     * KafkaException (not an ExecutionException).
+     *
+     * @param reconciliation The reconciliation.
+     * @param topicNames The names of the topics to get the metadata of.
+     * @return A map with a future for each of the topics, which is completed with the metadata of the topic.
+     */
+    default Map<TopicName, Future<TopicMetadata>> topicMetadata(Reconciliation reconciliation, Collection<TopicName> topicNames) {
+        Map<TopicName, Future<TopicMetadata>> result = new LinkedHashMap<>(topicNames.size());
+        for (TopicName topicName : topicNames) {
+            result.put(topicName, topicMetadata(reconciliation, topicName));
+        }
+        return result;
+    }
+
     /**
      * Asynchronously list the names of the topics available in Kafka,
      * completing the returned Future with the topic names.
@@ -98,5 +179,70 @@ public interface Kafka {
      */
     Future<Set<String>> listTopics();
 
+    /**
+     * Asynchronously get the racks of the brokers in the Kafka cluster,
+     * completing the returned Future with a map of the broker IDs to their racks.
+     * Brokers without a rack are mapped to null.
+     *
+     * @param reconciliation The reconciliation.
+     * @return A future which is completed with the racks of the brokers.
+     */
+    default Future<Map<Integer, String>> brokerRacks(Reconciliation reconciliation) {
+        return Future.failedFuture(new UnsupportedOperationException("Getting the broker racks is not supported by " + this));
+    }
+
+    /**
+     * Asynchronously start the reassignment of the partitions of the given topic,
+     * completing the returned Future once the reassignment has been submitted (not when it completes).
+     * When the {@code throttleRate} is not {@link Long#MAX_VALUE}, the replication of the moving replicas
+     * is throttled to this rate (in bytes per second) on the brokers involved in the reassignment.
+     * The rate is not set on the brokers which already have a throttle rate configured, for example by the user.
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     *
+     * @param reconciliation The reconciliation.
+     * @param topicName The name of the topic.
+     * @param current The current replicas of the partitions of the topic.
+     * @param target The target replicas of the partitions of the topic.
+     * @param throttleRate The replication throttle rate.
+     * @return A future which is completed with the brokers on which the throttle rate was set once the reassignment
+     * has been submitted.
+     */
+    default Future<Set<Integer>> reassignPartitions(Reconciliation reconciliation, TopicName topicName,
+                                                    Map<Integer, List<Integer>> current, Map<Integer, List<Integer>> target,
+                                                    long throttleRate) {
+        return Future.failedFuture(new UnsupportedOperationException("Reassigning partitions is not supported by " + this));
+    }
+
+    /**
+     * Asynchronously get the number of partitions of the given topic which are being reassigned.
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     *
+     * @param reconciliation The reconciliation.
+     * @param topicName The name of the topic.
+     * @return A future which is completed with the number of partitions which are being reassigned.
+     */
+    default Future<Integer> reassigningPartitions(Reconciliation reconciliation, TopicName topicName) {
+        return Future.failedFuture(new UnsupportedOperationException("Listing partition reassignments is not supported by " + this));
+    }
+
+    /**
+     * Asynchronously remove the replication throttle set by
+     * {@link #reassignPartitions(Reconciliation, TopicName, Map, Map, long)} from the given topic,
+     * and the throttle rate from the given brokers.
+     * The throttle of a topic which does not exist anymore is considered removed.
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     *
+     * @param reconciliation The reconciliation.
+     * @param topicName The name of the topic.
+     * @param brokers The brokers to remove the throttle rate from.
+     * @return A future which is completed once the throttle has been removed.
+     */
+    default Future<Void> removeReassignmentThrottle(Reconciliation reconciliation, TopicName topicName, Collection<Integer> brokers) {
+        return Future.failedFuture(new UnsupportedOperationException("Removing the replication throttle is not supported by " + this));
+    }
+
 }
 
@@ -4,9 +4,16 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ExecutionException;
 
 import io.strimzi.operator.common.Reconciliation;
@@ -16,15 +23,21 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.CreateTopicsOptions;
 import org.apache.kafka.clients.admin.ListTopicsOptions;
+import org.apache.kafka.clients.admin.NewPartitionReassignment;
 import org.apache.kafka.clients.admin.NewPartitions;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 
 import static java.util.Collections.singleton;
 
@@ -38,6 +51,11 @@ public class KafkaImpl implements Kafka {
 
     private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaImpl.class);
 
+    static final String LEADER_THROTTLED_RATE = "leader.replication.throttled.rate";
+    static final String FOLLOWER_THROTTLED_RATE = "follower.replication.throttled.rate";
+    static final String LEADER_THROTTLED_REPLICAS = "leader.replication.throttled.replicas";
+    static final String FOLLOWER_THROTTLED_REPLICAS = "follower.replication.throttled.replicas";
+
     protected final Admin adminClient;
 
     protected final Vertx vertx;
@@ -98,6 +116,31 @@ public class KafkaImpl implements Kafka {
         return mapFuture(future);
     }
 
+    /**
+     * Updates the configs of all the given topics using a single AlterConfigs request
+     */
+    @SuppressWarnings("deprecation")
+    @Override
+    public Map<TopicName, Future<Void>> updateTopicConfigs(Reconciliation reconciliation, Collection<Topic> topics) {
+        Map<TopicName, Future<Void>> result = new LinkedHashMap<>(topics.size());
+        Map<ConfigResource, Config> configs = new HashMap<>(topics.size());
+        for (Topic topic : topics) {
+            configs.putAll(TopicSerialization.toTopicConfig(topic));
+        }
+        LOGGER.debugCr(reconciliation, "Updating configs of {} topics", configs.size());
+        try {
+            Map<ConfigResource, KafkaFuture<Void>> futures = adminClient.alterConfigs(configs).values();
+            for (ConfigResource resource : configs.keySet()) {
+                result.put(new TopicName(resource.name()), mapFuture(futures.get(resource)));
+            }
+        } catch (Exception e) {
+            for (ConfigResource resource : configs.keySet()) {
+                result.put(new TopicName(resource.name()), Future.failedFuture(e));
+            }
+        }
+        return result;
+    }
+
     /**
      * Completes the returned Future on the Vertx event loop
      * with the topic config obtained from the Kafka AdminClient API.
@@ -121,6 +164,51 @@ public class KafkaImpl implements Kafka {
         });
     }
 
+    /**
+     * Gets the descriptions and the configs of all the given topics using a single DescribeTopics and
+     * a single DescribeConfigs request.
+     * The future of a topic completes with a null result when the topic does not exist.
+     */
+    @Override
+    public Map<TopicName, Future<TopicMetadata>> topicMetadata(Reconciliation reconciliation, Collection<TopicName> topicNames) {
+        Map<TopicName, Future<TopicMetadata>> result = new LinkedHashMap<>(topicNames.size());
+        if (topicNames.isEmpty()) {
+            return result;
+        }
+        LOGGER.debugCr(reconciliation, "Getting metadata for {} topics", topicNames.size());
+        List<String> names = new ArrayList<>(topicNames.size());
+        List<ConfigResource> resources = new ArrayList<>(topicNames.size());
+        for (TopicName topicName : topicNames) {
+            names.add(topicName.toString());
+            resources.add(new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString()));
+        }
+        try {
+            Map<String, KafkaFuture<TopicDescription>> descriptions = adminClient.describeTopics(names).values();
+            Map<ConfigResource, KafkaFuture<Config>> configs = adminClient.describeConfigs(resources).values();
+            for (int i = 0; i < names.size(); i++) {
+                Future<TopicDescription> descriptionFuture = mapFuture(descriptions.get(names.get(i)));
+                Future<Config> configFuture = mapFuture(configs.get(resources.get(i)));
+                result.put(new TopicName(names.get(i)), CompositeFuture.all(descriptionFuture, configFuture)
+                        .<TopicMetadata>map(compositeFuture -> new TopicMetadata(compositeFuture.resultAt(0), compositeFuture.resultAt(1)))
+                        .recover(e -> {
+                            if (e instanceof ExecutionException) {
+                                e = e.getCause();
+                            }
+                            if (e instanceof UnknownTopicOrPartitionException) {
+                                return Future.succeededFuture(null);
+                            } else {
+                                return Future.failedFuture(e);
+                            }
+                        }));
+            }
+        } catch (Exception e) {
+            for (TopicName topicName : topicNames) {
+                result.put(topicName, Future.failedFuture(e));
+            }
+        }
+        return result;
+    }
+
     @Override
     public Future<Set<String>> listTopics() {
         try {
@@ -146,6 +234,30 @@ public class KafkaImpl implements Kafka {
         }
     }
 
+    /**
+     * Increases the partitions of all the given topics using a single CreatePartitions request
+     */
+    @Override
+    public Map<TopicName, Future<Void>> increasePartitions(Reconciliation reconciliation, Collection<Topic> topics) {
+        Map<TopicName, Future<Void>> result = new LinkedHashMap<>(topics.size());
+        Map<String, NewPartitions> request = new HashMap<>(topics.size());
+        for (Topic topic : topics) {
+            request.put(topic.getTopicName().toString(), NewPartitions.increaseTo(topic.getNumPartitions()));
+        }
+        LOGGER.debugCr(reconciliation, "Increasing partitions of {} topics", request.size());
+        try {
+            Map<String, KafkaFuture<Void>> futures = adminClient.createPartitions(request).values();
+            for (String topicName : request.keySet()) {
+                result.put(new TopicName(topicName), mapFuture(futures.get(topicName)));
+            }
+        } catch (Exception e) {
+            for (String topicName : request.keySet()) {
+                result.put(new TopicName(topicName), Future.failedFuture(e));
+            }
+        }
+        return result;
+    }
+
     /**
      * Create a new topic via the Kafka AdminClient API, calling the given handler
      * (in a different thread) with the result.
@@ -163,6 +275,200 @@ public class KafkaImpl implements Kafka {
         }
     }
 
+    /**
+     * Creates all the given topics using a single CreateTopics request
+     */
+    @Override
+    public Map<TopicName, Future<Void>> createTopics(Reconciliation reconciliation, Collection<Topic> topics) {
+        Map<TopicName, Future<Void>> result = new LinkedHashMap<>(topics.size());
+        List<NewTopic> newTopics = new ArrayList<>(topics.size());
+        for (Topic topic : topics) {
+            try {
+                newTopics.add(TopicSerialization.toNewTopic(topic, null));
+            } catch (Exception e) {
+                result.put(topic.getTopicName(), Future.failedFuture(e));
+            }
+        }
+        if (!newTopics.isEmpty()) {
+            LOGGER.debugCr(reconciliation, "Creating {} topics", newTopics.size());
+            try {
+                Map<String, KafkaFuture<Void>> futures = adminClient.createTopics(newTopics).values();
+                for (NewTopic newTopic : newTopics) {
+                    result.put(new TopicName(newTopic.name()), mapFuture(futures.get(newTopic.name())));
+                }
+            } catch (Exception e) {
+                for (NewTopic newTopic : newTopics) {
+                    result.put(new TopicName(newTopic.name()), Future.failedFuture(e));
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Future<Map<Integer, String>> brokerRacks(Reconciliation reconciliation) {
+        try {
+            LOGGER.debugCr(reconciliation, "Describing cluster");
+            return mapFuture(adminClient.describeCluster().nodes()).map(nodes -> {
+                Map<Integer, String> racks = new HashMap<>(nodes.size());
+                for (Node node : nodes) {
+                    racks.put(node.id(), node.rack());
+                }
+                return racks;
+            });
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+
+    /**
+     * Sets the throttle (unless the rate is {@link Long#MAX_VALUE}) and then submits the new assignment of the
+     * partitions which change using a single AlterPartitionReassignments request. The throttle rate of the brokers
+     * which already have one configured (for example by the user or by Cruise Control) is kept as it is.
+     */
+    @Override
+    public Future<Set<Integer>> reassignPartitions(Reconciliation reconciliation, TopicName topicName,
+                                                   Map<Integer, List<Integer>> current, Map<Integer, List<Integer>> target,
+                                                   long throttleRate) {
+        try {
+            Map<TopicPartition, Optional<NewPartitionReassignment>> reassignments = new HashMap<>();
+            List<String> leaderThrottledReplicas = new ArrayList<>();
+            List<String> followerThrottledReplicas = new ArrayList<>();
+            Set<Integer> brokers = new TreeSet<>();
+
+            for (Map.Entry<Integer, List<Integer>> partition : target.entrySet()) {
+                List<Integer> currentReplicas = current.get(partition.getKey());
+                if (!partition.getValue().equals(currentReplicas)) {
+                    reassignments.put(new TopicPartition(topicName.toString(), partition.getKey()),
+                            Optional.of(new NewPartitionReassignment(partition.getValue())));
+
+                    for (Integer broker : currentReplicas) {
+                        leaderThrottledReplicas.add(partition.getKey() + ":" + broker);
+                        brokers.add(broker);
+                    }
+                    for (Integer broker : partition.getValue()) {
+                        if (!currentReplicas.contains(broker)) {
+                            followerThrottledReplicas.add(partition.getKey() + ":" + broker);
+                            brokers.add(broker);
+                        }
+                    }
+                }
+            }
+
+            if (reassignments.isEmpty()) {
+                LOGGER.debugCr(reconciliation, "No partitions of topic {} need to be reassigned", topicName);
+                return Future.succeededFuture(Set.of());
+            }
+
+            Future<Set<Integer>> throttleFuture;
+            if (throttleRate != Long.MAX_VALUE) {
+                List<ConfigResource> brokerResources = new ArrayList<>(brokers.size());
+                for (Integer broker : brokers) {
+                    brokerResources.add(new ConfigResource(ConfigResource.Type.BROKER, broker.toString()));
+                }
+
+                throttleFuture = mapFuture(adminClient.describeConfigs(brokerResources).all()).compose(brokerConfigs -> {
+                    Set<Integer> throttledBrokers = new TreeSet<>();
+                    Map<ConfigResource, Collection<AlterConfigOp>> configs = new HashMap<>(brokers.size() + 1);
+                    for (ConfigResource brokerResource : brokerResources) {
+                        if (hasThrottleRate(brokerConfigs.get(brokerResource))) {
+                            LOGGER.debugCr(reconciliation, "Keeping the replication throttle rate configured on broker {}", brokerResource.name());
+                        } else {
+                            throttledBrokers.add(Integer.valueOf(brokerResource.name()));
+                            configs.put(brokerResource, List.of(
+                                    new AlterConfigOp(new ConfigEntry(LEADER_THROTTLED_RATE, Long.toString(throttleRate)), AlterConfigOp.OpType.SET),
+                                    new AlterConfigOp(new ConfigEntry(FOLLOWER_THROTTLED_RATE, Long.toString(throttleRate)), AlterConfigOp.OpType.SET)));
+                        }
+                    }
+                    List<AlterConfigOp> topicOps = new ArrayList<>(2);
+                    topicOps.add(new AlterConfigOp(new ConfigEntry(LEADER_THROTTLED_REPLICAS, String.join(",", leaderThrottledReplicas)), AlterConfigOp.OpType.SET));
+                    if (!followerThrottledReplicas.isEmpty()) {
+                        topicOps.add(new AlterConfigOp(new ConfigEntry(FOLLOWER_THROTTLED_REPLICAS, String.join(",", followerThrottledReplicas)), AlterConfigOp.OpType.SET));
+                    }
+                    configs.put(new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString()), topicOps);
+
+                    LOGGER.debugCr(reconciliation, "Throttling replication of topic {} to {} bytes/s on brokers {}", topicName, throttleRate, throttledBrokers);
+                    return mapFuture(adminClient.incrementalAlterConfigs(configs).all()).map(throttledBrokers);
+                });
+            } else {
+                throttleFuture = Future.succeededFuture(Set.of());
+            }
+
+            return throttleFuture.compose(throttledBrokers -> {
+                LOGGER.debugCr(reconciliation, "Reassigning {} partitions of topic {}", reassignments.size(), topicName);
+                return mapFuture(adminClient.alterPartitionReassignments(reassignments).all()).map(throttledBrokers);
+            });
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+
+    /**
+     * @param config    Configuration of a broker
+     *
+     * @return  True if the broker has its own replication throttle rate configured
+     */
+    private static boolean hasThrottleRate(Config config) {
+        for (String name : List.of(LEADER_THROTTLED_RATE, FOLLOWER_THROTTLED_RATE)) {
+            ConfigEntry entry = config != null ? config.get(name) : null;
+            if (entry != null && entry.source() == ConfigEntry.ConfigSource.DYNAMIC_BROKER_CONFIG) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Future<Integer> reassigningPartitions(Reconciliation reconciliation, TopicName topicName) {
+        try {
+            LOGGER.debugCr(reconciliation, "Listing partition reassignments of topic {}", topicName);
+            return mapFuture(adminClient.listPartitionReassignments().reassignments())
+                    .map(reassignments -> (int) reassignments.keySet().stream()
+                            .filter(partition -> partition.topic().equals(topicName.toString()))
+                            .count());
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+
+    @Override
+    public Future<Void> removeReassignmentThrottle(Reconciliation reconciliation, TopicName topicName, Collection<Integer> brokers) {
+        try {
+            Map<ConfigResource, Collection<AlterConfigOp>> configs = new HashMap<>(brokers.size() + 1);
+            configs.put(new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString()), List.of(
+                    new AlterConfigOp(new ConfigEntry(LEADER_THROTTLED_REPLICAS, null), AlterConfigOp.OpType.DELETE),
+                    new AlterConfigOp(new ConfigEntry(FOLLOWER_THROTTLED_REPLICAS, null), AlterConfigOp.OpType.DELETE)));
+            for (Integer broker : brokers) {
+                configs.put(new ConfigResource(ConfigResource.Type.BROKER, broker.toString()), List.of(
+                        new AlterConfigOp(new ConfigEntry(LEADER_THROTTLED_RATE, null), AlterConfigOp.OpType.DELETE),
+                        new AlterConfigOp(new ConfigEntry(FOLLOWER_THROTTLED_RATE, null), AlterConfigOp.OpType.DELETE)));
+            }
+
+            LOGGER.debugCr(reconciliation, "Removing replication throttle from topic {} and brokers {}", topicName, brokers);
+            List<Future> futures = new ArrayList<>(configs.size());
+            for (Map.Entry<ConfigResource, KafkaFuture<Void>> result : adminClient.incrementalAlterConfigs(configs).values().entrySet()) {
+                Future<Void> future = mapFuture(result.getValue());
+                if (result.getKey().type() == ConfigResource.Type.TOPIC) {
+                    // The throttled replicas were deleted together with the topic
+                    future = future.recover(e -> {
+                        if (e instanceof ExecutionException) {
+                            e = e.getCause();
+                        }
+                        if (e instanceof UnknownTopicOrPartitionException) {
+                            return Future.succeededFuture();
+                        } else {
+                            return Future.failedFuture(e);
+                        }
+                    });
+                }
+                futures.add(future);
+            }
+            return CompositeFuture.all(futures).mapEmpty();
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+
     private <T> Future<T> mapFuture(KafkaFuture<T> future) {
         Promise<T> handler = Promise.promise();
         try {
@@ -0,0 +1,267 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.client.Watcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Queue of the KafkaTopic watch events keyed by the name of the KafkaTopic resource.
+ * <ul>
+ *     <li>Events for the same KafkaTopic received within the debounce time are coalesced and only the latest one
+ *     is processed.</li>
+ *     <li>Events received while the previous event for the same KafkaTopic is being processed are coalesced and
+ *     processed (after the debounce time) once the previous processing completes.</li>
+ *     <li>Events caused by the operator's own changes to the KafkaTopic (as identified by the predicate) are
+ *     dropped.</li>
+ *     <li>At most {@code maxConcurrency} events are processed at the same time.</li>
+ * </ul>
+ */
+class KafkaTopicEventQueue {
+
+    private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaTopicEventQueue.class);
+
+    private final Vertx vertx;
+    private final Context context;
+    private final long debounceMs;
+    private final int maxConcurrency;
+    private final Predicate<KafkaTopic> ownWrite;
+    private final Function<WatchEvent, Future<Void>> processor;
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Deque<String> ready = new ArrayDeque<>();
+    private int running = 0;
+
+    private Counter eventsCounter;
+    private Counter coalescedEventsCounter;
+    private Counter ignoredEventsCounter;
+    private Counter reconciliationsCounter;
+
+    /**
+     * Constructs the queue
+     *
+     * @param vertx             Vert.x instance used for the debounce timers. The timers are set from the context
+     *                          current when the queue is constructed.
+     * @param metrics           Metrics provider
+     * @param debounceMs        Time for which the events for the same KafkaTopic are collected before they are processed
+     * @param maxConcurrency    Maximum number of events processed at the same time
+     * @param ownWrite          Predicate identifying the KafkaTopics changed by the operator itself
+     * @param processor         Function processing the event
+     */
+    KafkaTopicEventQueue(Vertx vertx, MetricsProvider metrics, long debounceMs, int maxConcurrency,
+                         Predicate<KafkaTopic> ownWrite, Function<WatchEvent, Future<Void>> processor) {
+        this.vertx = vertx;
+        // The events are offered from the watch threads, so the timers are always set from the same context. Timers
+        // set from a non Vert.x thread use a short-lived context and might never fire.
+        this.context = vertx.getOrCreateContext();
+        this.debounceMs = debounceMs;
+        this.maxConcurrency = maxConcurrency;
+        this.ownWrite = ownWrite;
+        this.processor = processor;
+
+        initMetrics(metrics);
+    }
+
+    private void initMetrics(MetricsProvider metrics) {
+        if (metrics != null) {
+            Tags metricTags = Tags.of(Tag.of("kind", "KafkaTopic"));
+
+            eventsCounter = metrics.counter(TopicOperator.METRICS_PREFIX + "watch.events",
+                    "Number of watch events received by the operator",
+                    metricTags);
+
+            coalescedEventsCounter = metrics.counter(TopicOperator.METRICS_PREFIX + "watch.events.coalesced",
+                    "Number of watch events which were coalesced with a later event for the same resource",
+                    metricTags);
+
+            ignoredEventsCounter = metrics.counter(TopicOperator.METRICS_PREFIX + "watch.events.ignored",
+                    "Number of watch events which were ignored because they were caused by the operator itself",
+                    metricTags);
+
+            reconciliationsCounter = metrics.counter(TopicOperator.METRICS_PREFIX + "watch.reconciliations",
+                    "Number of reconciliations triggered by the watch events",
+                    metricTags);
+        }
+    }
+
+    /**
+     * Adds a watch event to the queue
+     *
+     * @param logContext    Log context of the event
+     * @param action        Watch action
+     * @param kafkaTopic    The KafkaTopic from the event
+     */
+    void offer(LogContext logContext, Watcher.Action action, KafkaTopic kafkaTopic) {
+        increment(eventsCounter);
+
+        if (action != Watcher.Action.DELETED && ownWrite.test(kafkaTopic)) {
+            LOGGER.debugCr(logContext.toReconciliation(), "Ignoring {} to {} {} caused by the operator itself (resourceVersion={})",
+                    action, kafkaTopic.getKind(), kafkaTopic.getMetadata().getName(), kafkaTopic.getMetadata().getResourceVersion());
+            increment(ignoredEventsCounter);
+            return;
+        }
+
+        String name = kafkaTopic.getMetadata().getName();
+        WatchEvent event = new WatchEvent(logContext, action, kafkaTopic);
+        boolean schedule = false;
+
+        synchronized (this) {
+            Entry entry = entries.get(name);
+
+            if (entry == null) {
+                entry = new Entry();
+                entries.put(name, entry);
+                schedule = true;
+            } else if (entry.event != null) {
+                LOGGER.debugCr(logContext.toReconciliation(), "Coalescing {} to {} {} with the pending {} event",
+                        action, kafkaTopic.getKind(), name, entry.event.action);
+                increment(coalescedEventsCounter);
+                entry.coalesced = true;
+            }
+
+            entry.event = event;
+        }
+
+        if (schedule) {
+            schedule(name);
+        }
+    }
+
+    /**
+     * @return  Number of KafkaTopics with pending or running events
+     */
+    /*test*/ synchronized int size() {
+        return entries.size();
+    }
+
+    private void schedule(String name) {
+        context.runOnContext(ignored -> {
+            if (debounceMs > 0) {
+                vertx.setTimer(debounceMs, timerId -> ready(name));
+            } else {
+                ready(name);
+            }
+        });
+    }
+
+    private void ready(String name) {
+        synchronized (this) {
+            ready.add(name);
+        }
+
+        dispatch();
+    }
+
+    private void dispatch() {
+        List<Map.Entry<String, WatchEvent>> toProcess = new ArrayList<>();
+
+        synchronized (this) {
+            while (running < maxConcurrency && !ready.isEmpty()) {
+                String name = ready.poll();
+                Entry entry = entries.get(name);
+                WatchEvent event = entry.event;
+                boolean coalesced = entry.coalesced;
+                entry.event = null;
+                entry.coalesced = false;
+
+                // The resource version is known only once our own update completes. So an event which was not
+                // recognized when it was received might be recognized now.
+                if (!coalesced && event.action != Watcher.Action.DELETED && ownWrite.test(event.kafkaTopic)) {
+                    LOGGER.debugCr(event.logContext.toReconciliation(), "Ignoring {} to {} {} caused by the operator itself (resourceVersion={})",
+                            event.action, event.kafkaTopic.getKind(), name, event.kafkaTopic.getMetadata().getResourceVersion());
+                    increment(ignoredEventsCounter);
+                    entries.remove(name);
+                } else {
+                    running++;
+                    toProcess.add(Map.entry(name, event));
+                }
+            }
+        }
+
+        for (Map.Entry<String, WatchEvent> item : toProcess) {
+            increment(reconciliationsCounter);
+
+            Future<Void> result;
+            try {
+                result = processor.apply(item.getValue());
+            } catch (Throwable t) {
+                result = Future.failedFuture(t);
+            }
+
+            result.onComplete(ignored -> completed(item.getKey()));
+        }
+    }
+
+    private void completed(String name) {
+        boolean schedule;
+
+        synchronized (this) {
+            running--;
+            Entry entry = entries.get(name);
+            schedule = entry.event != null;
+
+            if (!schedule) {
+                entries.remove(name);
+            }
+        }
+
+        if (schedule) {
+            schedule(name);
+        }
+
+        dispatch();
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * State of the events for a single KafkaTopic
+     */
+    private static class Entry {
+        private WatchEvent event;
+        private boolean coalesced;
+    }
+
+    /**
+     * Single watch event
+     */
+    static class WatchEvent {
+        final LogContext logContext;
+        final Watcher.Action action;
+        final KafkaTopic kafkaTopic;
+
+        WatchEvent(LogContext logContext, Watcher.Action action, KafkaTopic kafkaTopic) {
+            this.logContext = logContext;
+            this.action = action;
+            this.kafkaTopic = kafkaTopic;
+        }
+
+        @Override
+        public String toString() {
+            return "WatchEvent(action=" + action + ", name=" + kafkaTopic.getMetadata().getName() + ")";
+        }
+    }
+}
@@ -25,6 +25,7 @@ public class LogContext {
     private final String namespace;
     private final String topicName;
     private String resourceVersion;
+    private Reconciliation reconciliation;
 
     private LogContext(String trigger, String namespace, String topicName) {
         base = ctx.getAndIncrement() + "|" + trigger;
@@ -88,7 +89,18 @@ public class LogContext {
         return this;
     }
 
+    /**
+     * Returns the reconciliation used for logging. The reconciliation is created only once for each log context,
+     * because this is called for every logged message (even when the logging level is disabled).
+     *
+     * @return  The reconciliation for this log context
+     */
     public Reconciliation toReconciliation() {
-        return new Reconciliation(trigger, "KafkaTopic", namespace, topicName);
+        if (reconciliation == null) {
+            // Creating the reconciliation from multiple threads at the same time is harmless
+            reconciliation = new Reconciliation(trigger, "KafkaTopic", namespace, topicName);
+        }
+
+        return reconciliation;
     }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Computes the assignment of the partitions of a topic to brokers when the replication factor of the topic changes.
+ * The existing replicas are kept in place as much as possible, so that only the added replicas have to be replicated.
+ * <ul>
+ *     <li>When the replication factor is increased, each partition gets the brokers from the racks it has the
+ *     fewest replicas in. Within the same rack, the brokers with the fewest replicas of the topic are preferred.</li>
+ *     <li>When the replication factor is decreased, the preferred leader (the first replica) of each partition is
+ *     kept and the replicas are removed from the racks the partition has the most replicas in. Within the same rack,
+ *     the replicas on the brokers with the most replicas of the topic are removed first.</li>
+ * </ul>
+ */
+class RackAwareReplicaAssignor {
+
+    private final Map<Integer, String> brokerRacks;
+
+    /**
+     * @param brokerRacks   The racks of the brokers in the cluster (null values for the brokers without a rack)
+     */
+    RackAwareReplicaAssignor(Map<Integer, String> brokerRacks) {
+        this.brokerRacks = brokerRacks;
+    }
+
+    /**
+     * Computes the target assignment
+     *
+     * @param current           The current replicas of the partitions
+     * @param targetReplicas    The target replication factor
+     *
+     * @return  The target replicas of the partitions
+     *
+     * @throws IllegalArgumentException if the target replication factor cannot be satisfied by the cluster
+     */
+    Map<Integer, List<Integer>> assign(Map<Integer, List<Integer>> current, int targetReplicas) {
+        if (targetReplicas < 1) {
+            throw new IllegalArgumentException("The replication factor has to be at least 1");
+        } else if (targetReplicas > brokerRacks.size()) {
+            throw new IllegalArgumentException("The replication factor " + targetReplicas
+                    + " is larger than the number of brokers " + brokerRacks.size());
+        }
+
+        Map<Integer, Integer> load = new HashMap<>(brokerRacks.size());
+        for (Integer broker : brokerRacks.keySet()) {
+            load.put(broker, 0);
+        }
+        for (List<Integer> replicas : current.values()) {
+            for (Integer broker : replicas) {
+                load.merge(broker, 1, Integer::sum);
+            }
+        }
+
+        Map<Integer, List<Integer>> target = new TreeMap<>();
+        for (Map.Entry<Integer, List<Integer>> partition : new TreeMap<>(current).entrySet()) {
+            List<Integer> replicas = new ArrayList<>(partition.getValue());
+
+            while (replicas.size() < targetReplicas) {
+                Integer broker = brokerRacks.keySet().stream()
+                        .filter(candidate -> !replicas.contains(candidate))
+                        .min(Comparator.<Integer>comparingLong(candidate -> replicasInRack(replicas, candidate))
+                                .thenComparing(load::get)
+                                .thenComparing(Comparator.naturalOrder()))
+                        .orElseThrow();
+                replicas.add(broker);
+                load.merge(broker, 1, Integer::sum);
+            }
+
+            while (replicas.size() > targetReplicas) {
+                Integer broker = replicas.subList(1, replicas.size()).stream()
+                        .max(Comparator.<Integer>comparingLong(candidate -> replicasInRack(replicas, candidate))
+                                .thenComparing(candidate -> load.getOrDefault(candidate, 0))
+                                .thenComparing(Comparator.naturalOrder()))
+                        .orElseThrow();
+                replicas.remove(broker);
+                load.merge(broker, -1, Integer::sum);
+            }
+
+            target.put(partition.getKey(), replicas);
+        }
+
+        return target;
+    }
+
+    /**
+     * @return  The number of the replicas placed in the same rack as the given broker
+     */
+    private long replicasInRack(List<Integer> replicas, Integer broker) {
+        String rack = brokerRacks.get(broker);
+        if (rack == null) {
+            // Without racks, only the broker itself counts
+            return replicas.contains(broker) ? 1 : 0;
+        }
+        return replicas.stream().filter(replica -> Objects.equals(rack, brokerRacks.get(replica))).count();
+    }
+}
@@ -0,0 +1,434 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.strimzi.api.kafka.model.status.KafkaTopicReplicasChangeStatus;
+import io.strimzi.api.kafka.model.status.KafkaTopicReplicasChangeStatusBuilder;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * Changes the replication factor of the topics by reassigning their partitions.
+ * <ul>
+ *     <li>The target assignment is computed by the {@link RackAwareReplicaAssignor}.</li>
+ *     <li>The replication of the moving replicas is throttled to the configured rate. The rate is set only on the
+ *     brokers which do not have their own throttle rate configured (for example by the user or Cruise Control). The
+ *     brokers on which the rate was set are shared by all changes which move replicas to or from them.</li>
+ *     <li>At most {@code maxConcurrentTopics} topics are moving at the same time. The changes of the other topics
+ *     are pending until some of the moves complete.</li>
+ *     <li>The progress of the moves is checked periodically. When a move completes, its throttle is removed,
+ *     together with the throttle rate of the brokers not used by any other change.</li>
+ *     <li>The callback is called whenever the progress of a change changes, so that the status of the KafkaTopic
+ *     can be updated.</li>
+ *     <li>The ongoing changes are recorded in the status of the KafkaTopics. After a restart, they are resumed from
+ *     there by {@link #resume(LogContext, HasMetadata, TopicName, KafkaTopicReplicasChangeStatus)}. The throttled
+ *     replicas left on the topics by the changes which are not known anymore are removed by
+ *     {@link #removeLeftoverThrottle(LogContext, TopicName, TopicMetadata)}.</li>
+ * </ul>
+ */
+class ReplicasChangeManager {
+
+    private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(ReplicasChangeManager.class);
+
+    private final Vertx vertx;
+    private final Kafka kafka;
+    private final long throttleRate;
+    private final long verifyIntervalMs;
+    private final int maxConcurrentTopics;
+    private final Consumer<TopicName> progressCallback;
+
+    private final Map<TopicName, Change> changes = new HashMap<>();
+    private final Deque<TopicName> pending = new ArrayDeque<>();
+    // Brokers on which the throttle rate was set by the changes, and the topics whose changes use it
+    private final Map<Integer, Set<TopicName>> throttledBrokers = new HashMap<>();
+    private int ongoing = 0;
+
+    /**
+     * Constructs the manager
+     *
+     * @param vertx                 Vert.x instance used for the verification timers
+     * @param kafka                 Kafka used to reassign the partitions
+     * @param throttleRate          The replication throttle rate in bytes per second ({@link Long#MAX_VALUE} for no throttle)
+     * @param verifyIntervalMs      The interval in which the progress of the moves is checked
+     * @param maxConcurrentTopics   The maximum number of topics moving at the same time
+     * @param progressCallback      Called when the progress of the change of the given topic changes
+     */
+    ReplicasChangeManager(Vertx vertx, Kafka kafka, long throttleRate, long verifyIntervalMs, int maxConcurrentTopics,
+                          Consumer<TopicName> progressCallback) {
+        this.vertx = vertx;
+        this.kafka = kafka;
+        this.throttleRate = throttleRate;
+        this.verifyIntervalMs = verifyIntervalMs;
+        this.maxConcurrentTopics = maxConcurrentTopics;
+        this.progressCallback = progressCallback;
+    }
+
+    /**
+     * Requests the change of the replication factor of a topic. The returned future completes once the change is
+     * either started or queued and fails when the change cannot be started.
+     *
+     * @param logContext        Log context of the reconciliation
+     * @param involvedObject    The KafkaTopic
+     * @param topicName         The name of the topic
+     * @param targetReplicas    The target replication factor
+     *
+     * @return  Future which completes once the change is started or queued
+     */
+    Future<Void> change(LogContext logContext, HasMetadata involvedObject, TopicName topicName, int targetReplicas) {
+        boolean start;
+
+        synchronized (this) {
+            Change change = changes.get(topicName);
+
+            if (change != null) {
+                if (change.targetReplicas == targetReplicas) {
+                    LOGGER.debugCr(logContext.toReconciliation(), "Change of replicas of topic {} to {} is already {}", topicName, targetReplicas, change.state);
+                    return Future.succeededFuture();
+                } else if (KafkaTopicReplicasChangeStatus.STATE_ONGOING.equals(change.state)) {
+                    return Future.failedFuture(new ReplicationFactorChangeException(involvedObject,
+                            "The replicas of topic " + topicName + " are being changed to " + change.targetReplicas
+                                    + ". 'spec.replicas' can be changed again once this change completes."));
+                } else {
+                    LOGGER.infoCr(logContext.toReconciliation(), "Pending change of replicas of topic {} updated from {} to {}", topicName, change.targetReplicas, targetReplicas);
+                    change.targetReplicas = targetReplicas;
+                    return Future.succeededFuture();
+                }
+            }
+
+            change = new Change(logContext, involvedObject, targetReplicas);
+            changes.put(topicName, change);
+            start = ongoing < maxConcurrentTopics;
+
+            if (start) {
+                change.state = KafkaTopicReplicasChangeStatus.STATE_ONGOING;
+                ongoing++;
+            } else {
+                LOGGER.infoCr(logContext.toReconciliation(), "Change of replicas of topic {} to {} is pending because {} topics are already moving",
+                        topicName, targetReplicas, ongoing);
+                pending.add(topicName);
+            }
+        }
+
+        return start ? start(topicName) : Future.succeededFuture();
+    }
+
+    /**
+     * Cancels the pending change of the replication factor of a topic (for example, because the KafkaTopic was
+     * reverted to the current replication factor). The ongoing changes cannot be cancelled.
+     *
+     * @param logContext    Log context of the reconciliation
+     * @param topicName     The name of the topic
+     */
+    synchronized void cancelPending(LogContext logContext, TopicName topicName) {
+        Change change = changes.get(topicName);
+
+        if (change != null && KafkaTopicReplicasChangeStatus.STATE_PENDING.equals(change.state)) {
+            LOGGER.infoCr(logContext.toReconciliation(), "Pending change of replicas of topic {} to {} cancelled", topicName, change.targetReplicas);
+            changes.remove(topicName);
+            pending.remove(topicName);
+        }
+    }
+
+    /**
+     * Resumes the ongoing change of the replication factor of a topic recorded in the status of its KafkaTopic,
+     * when the change is not known (for example because the operator was restarted while the partitions were moving).
+     * The change is tracked until the partitions stop moving and then its throttle is removed. The pending changes
+     * are not resumed, because they are requested again by the reconciliation.
+     *
+     * @param logContext        Log context of the reconciliation
+     * @param involvedObject    The KafkaTopic
+     * @param topicName         The name of the topic
+     * @param status            The status of the change recorded in the KafkaTopic or null
+     */
+    synchronized void resume(LogContext logContext, HasMetadata involvedObject, TopicName topicName, KafkaTopicReplicasChangeStatus status) {
+        if (status == null
+                || !KafkaTopicReplicasChangeStatus.STATE_ONGOING.equals(status.getState())
+                || status.getTargetReplicas() == null
+                || changes.containsKey(topicName)) {
+            return;
+        }
+
+        LOGGER.infoCr(logContext.toReconciliation(), "Resuming change of replicas of topic {} to {}", topicName, status.getTargetReplicas());
+        Change change = new Change(logContext, involvedObject, status.getTargetReplicas());
+        change.state = KafkaTopicReplicasChangeStatus.STATE_ONGOING;
+        change.reassigningPartitions = status.getReassigningPartitions();
+        if (status.getThrottledBrokers() != null) {
+            for (Integer broker : status.getThrottledBrokers()) {
+                useThrottledBroker(change, topicName, broker);
+            }
+        }
+        changes.put(topicName, change);
+        ongoing++;
+
+        vertx.setTimer(verifyIntervalMs, timerId -> verify(topicName));
+    }
+
+    /**
+     * Removes the throttled replicas left on a topic by a change which is not known anymore (for example because the
+     * operator was restarted before the throttle of a completed change was removed). The throttle is kept while any
+     * partitions of the topic are being reassigned.
+     *
+     * @param logContext    Log context of the reconciliation
+     * @param topicName     The name of the topic
+     * @param metadata      The metadata of the topic or null if it does not exist
+     *
+     * @return  Future which completes once the leftover throttle is removed
+     */
+    Future<Void> removeLeftoverThrottle(LogContext logContext, TopicName topicName, TopicMetadata metadata) {
+        synchronized (this) {
+            if (metadata == null || changes.containsKey(topicName) || !hasThrottledReplicas(metadata)) {
+                return Future.succeededFuture();
+            }
+        }
+
+        return kafka.reassigningPartitions(logContext.toReconciliation(), topicName)
+                .compose(reassigning -> {
+                    if (reassigning > 0) {
+                        LOGGER.debugCr(logContext.toReconciliation(), "Keeping the replication throttle of topic {} because {} of its partitions are being reassigned", topicName, reassigning);
+                        return Future.succeededFuture();
+                    }
+
+                    LOGGER.infoCr(logContext.toReconciliation(), "Removing the leftover replication throttle of topic {}", topicName);
+                    return kafka.removeReassignmentThrottle(logContext.toReconciliation(), topicName, Set.of());
+                })
+                .recover(error -> {
+                    // Removed by a later reconciliation
+                    LOGGER.warnCr(logContext.toReconciliation(), "Failed to remove the leftover replication throttle of topic {}", topicName, error);
+                    return Future.succeededFuture();
+                });
+    }
+
+    private static boolean hasThrottledReplicas(TopicMetadata metadata) {
+        for (String name : List.of(KafkaImpl.LEADER_THROTTLED_REPLICAS, KafkaImpl.FOLLOWER_THROTTLED_REPLICAS)) {
+            ConfigEntry entry = metadata.getConfig() != null ? metadata.getConfig().get(name) : null;
+            if (entry != null
+                    && entry.source() == ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG
+                    && entry.value() != null
+                    && !entry.value().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param topicName The name of the topic
+     *
+     * @return  The status of the change of the replication factor of the topic or null if there is no change
+     */
+    synchronized KafkaTopicReplicasChangeStatus status(TopicName topicName) {
+        Change change = changes.get(topicName);
+
+        if (change == null) {
+            return null;
+        }
+
+        return new KafkaTopicReplicasChangeStatusBuilder()
+                .withTargetReplicas(change.targetReplicas)
+                .withState(change.state)
+                .withReassigningPartitions(change.reassigningPartitions)
+                .withThrottledBrokers(change.throttledBrokers.isEmpty() ? null : new ArrayList<>(change.throttledBrokers))
+                .build();
+    }
+
+    /**
+     * @return  Number of topics with pending or ongoing changes
+     */
+    /*test*/ synchronized int size() {
+        return changes.size();
+    }
+
+    private Future<Void> start(TopicName topicName) {
+        Change change;
+        synchronized (this) {
+            change = changes.get(topicName);
+        }
+
+        LOGGER.infoCr(change.logContext.toReconciliation(), "Changing replicas of topic {} to {}", topicName, change.targetReplicas);
+
+        return CompositeFuture.all(kafka.brokerRacks(change.logContext.toReconciliation()),
+                        kafka.topicMetadata(change.logContext.toReconciliation(), topicName))
+                .compose(result -> {
+                    Map<Integer, String> racks = result.resultAt(0);
+                    TopicMetadata metadata = result.resultAt(1);
+
+                    if (metadata == null) {
+                        return Future.failedFuture(new ReplicationFactorChangeException(change.involvedObject,
+                                "Topic " + topicName + " does not exist"));
+                    }
+
+                    Map<Integer, List<Integer>> current = new HashMap<>();
+                    for (TopicPartitionInfo partition : metadata.getDescription().partitions()) {
+                        List<Integer> replicas = new ArrayList<>(partition.replicas().size());
+                        for (Node node : partition.replicas()) {
+                            replicas.add(node.id());
+                        }
+                        current.put(partition.partition(), replicas);
+                    }
+
+                    Map<Integer, List<Integer>> target;
+                    try {
+                        target = new RackAwareReplicaAssignor(racks).assign(current, change.targetReplicas);
+                    } catch (IllegalArgumentException e) {
+                        return Future.failedFuture(new ReplicationFactorChangeException(change.involvedObject,
+                                "Cannot change the replicas of topic " + topicName + ": " + e.getMessage()));
+                    }
+
+                    LOGGER.debugCr(change.logContext.toReconciliation(), "Reassigning topic {} from {} to {}", topicName, current, target);
+                    synchronized (this) {
+                        // The rates already set by other changes are used by this one as well, so that they are not
+                        // removed while this change is moving the replicas
+                        Set<Integer> brokers = new HashSet<>();
+                        current.values().forEach(brokers::addAll);
+                        target.values().forEach(brokers::addAll);
+                        for (Integer broker : brokers) {
+                            if (throttledBrokers.containsKey(broker)) {
+                                useThrottledBroker(change, topicName, broker);
+                            }
+                        }
+                    }
+                    return kafka.reassignPartitions(change.logContext.toReconciliation(), topicName, current, target, throttleRate)
+                            .<Void>map(rateBrokers -> {
+                                synchronized (this) {
+                                    for (Integer broker : rateBrokers) {
+                                        useThrottledBroker(change, topicName, broker);
+                                    }
+                                }
+                                return null;
+                            });
+                })
+                .onSuccess(ignored -> vertx.setTimer(verifyIntervalMs, timerId -> verify(topicName)))
+                .onFailure(error -> {
+                    LOGGER.warnCr(change.logContext.toReconciliation(), "Failed to change replicas of topic {}", topicName, error);
+                    completed(topicName);
+                });
+    }
+
+    private void verify(TopicName topicName) {
+        Change change;
+        synchronized (this) {
+            change = changes.get(topicName);
+        }
+
+        kafka.reassigningPartitions(change.logContext.toReconciliation(), topicName).onComplete(result -> {
+            if (result.failed()) {
+                LOGGER.warnCr(change.logContext.toReconciliation(), "Failed to verify the reassignment of topic {}", topicName, result.cause());
+                vertx.setTimer(verifyIntervalMs, timerId -> verify(topicName));
+            } else if (result.result() > 0) {
+                LOGGER.infoCr(change.logContext.toReconciliation(), "Reassignment of {} partitions of topic {} is still in progress", result.result(), topicName);
+                boolean progressed;
+                synchronized (this) {
+                    progressed = !result.result().equals(change.reassigningPartitions);
+                    change.reassigningPartitions = result.result();
+                }
+                if (progressed) {
+                    progressCallback.accept(topicName);
+                }
+                vertx.setTimer(verifyIntervalMs, timerId -> verify(topicName));
+            } else {
+                LOGGER.infoCr(change.logContext.toReconciliation(), "Replicas of topic {} changed to {}", topicName, change.targetReplicas);
+                removeThrottle(change, topicName).onComplete(removed -> {
+                    if (removed.failed()) {
+                        // The change stays ongoing, so that the throttle is not left behind
+                        LOGGER.warnCr(change.logContext.toReconciliation(), "Failed to remove the replication throttle of topic {}", topicName, removed.cause());
+                        vertx.setTimer(verifyIntervalMs, timerId -> verify(topicName));
+                    } else {
+                        completed(topicName);
+                        progressCallback.accept(topicName);
+                    }
+                });
+            }
+        });
+    }
+
+    private void useThrottledBroker(Change change, TopicName topicName, Integer broker) {
+        throttledBrokers.computeIfAbsent(broker, ignored -> new HashSet<>()).add(topicName);
+        change.throttledBrokers.add(broker);
+    }
+
+    private Future<Void> removeThrottle(Change change, TopicName topicName) {
+        if (throttleRate == Long.MAX_VALUE && change.throttledBrokers.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        Set<Integer> brokers = new HashSet<>();
+        synchronized (this) {
+            // The broker throttle rates are shared by the moving topics, so they are removed with the last one using them
+            for (Integer broker : change.throttledBrokers) {
+                if (Set.of(topicName).equals(throttledBrokers.get(broker))) {
+                    brokers.add(broker);
+                }
+            }
+        }
+
+        return kafka.removeReassignmentThrottle(change.logContext.toReconciliation(), topicName, brokers);
+    }
+
+    private void completed(TopicName topicName) {
+        TopicName next = null;
+
+        synchronized (this) {
+            Change change = changes.remove(topicName);
+            ongoing--;
+
+            for (Integer broker : change.throttledBrokers) {
+                Set<TopicName> topics = throttledBrokers.get(broker);
+                if (topics != null) {
+                    topics.remove(topicName);
+                    if (topics.isEmpty()) {
+                        throttledBrokers.remove(broker);
+                    }
+                }
+            }
+
+            if (!pending.isEmpty()) {
+                next = pending.poll();
+                changes.get(next).state = KafkaTopicReplicasChangeStatus.STATE_ONGOING;
+                ongoing++;
+            }
+        }
+
+        if (next != null) {
+            TopicName started = next;
+            // The failure is logged and the change will be requested again by the next reconciliation
+            start(started).onSuccess(ignored -> progressCallback.accept(started));
+        }
+    }
+
+    /**
+     * State of the change of a single topic
+     */
+    private static class Change {
+        private final LogContext logContext;
+        private final HasMetadata involvedObject;
+        private int targetReplicas;
+        private String state = KafkaTopicReplicasChangeStatus.STATE_PENDING;
+        private Integer reassigningPartitions;
+        private final Set<Integer> throttledBrokers = new TreeSet<>();
+
+        Change(LogContext logContext, HasMetadata involvedObject, int targetReplicas) {
+            this.logContext = logContext;
+            this.involvedObject = involvedObject;
+            this.targetReplicas = targetReplicas;
+        }
+    }
+}
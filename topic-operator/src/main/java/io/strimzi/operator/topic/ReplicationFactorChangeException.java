@@ -7,10 +7,9 @@ package io.strimzi.operator.topic;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 
 /**
- * Thrown when the operator detects an attempt to change the
- * replication factor of a topic
- * (something which the operator does not currently support because
- * it requires replica placement decisions).
+ * Thrown when the replication factor of a topic cannot be changed
+ * (for example, because there are not enough brokers or
+ * because another change of the replication factor is still in progress).
  */
 public class ReplicationFactorChangeException extends OperatorException {
     public ReplicationFactorChangeException(HasMetadata resource, String message) {
@@ -43,7 +43,7 @@ public class Session extends AbstractVerticle {
     private final Config config;
     private final KubernetesClient kubeClient;
 
-    /*test*/ KafkaImpl kafka;
+    /*test*/ Kafka kafka;
     private AdminClient adminClient;
     /*test*/ K8sImpl k8s;
     private KafkaStreamsTopicStoreService service; // if used
@@ -163,12 +163,13 @@ public class Session extends AbstractVerticle {
 
         this.adminClient = AdminClient.create(kafkaClientProps);
         LOGGER.debug("Using AdminClient {}", adminClient);
-        this.kafka = new KafkaImpl(adminClient, vertx);
-        LOGGER.debug("Using Kafka {}", kafka);
         Labels labels = config.get(Config.LABELS);
 
         String namespace = config.get(Config.NAMESPACE);
         LOGGER.debug("Using namespace {}", namespace);
+        this.kafka = new BatchingKafka(vertx, new KafkaImpl(adminClient, vertx), namespace,
+                config.get(Config.ADMIN_BATCH_WINDOW_MS), config.get(Config.ADMIN_BATCH_MAX_SIZE), new MicrometerMetricsProvider());
+        LOGGER.debug("Using Kafka {}", kafka);
         this.k8s = new K8sImpl(vertx, kubeClient, labels, namespace);
         LOGGER.debug("Using k8s {}", k8s);
 
@@ -244,14 +245,32 @@ public class Session extends AbstractVerticle {
                     });
 
                 final Long interval = config.get(Config.FULL_RECONCILIATION_INTERVAL_MS);
+                final boolean incremental = config.get(Config.INCREMENTAL_RECONCILIATION);
+                final Long fullScanInterval = config.get(Config.FULL_SCAN_INTERVAL_MS);
                 Handler<Long> periodic = new Handler<>() {
+                    private long lastFullScan;
+
                     @Override
                     public void handle(Long oldTimerId) {
                         if (!stopped) {
                             timerId = null;
                             boolean isInitialReconcile = oldTimerId == null;
+                            String reconciliationType = isInitialReconcile ? "initial " : "periodic ";
                             topicOperator.getPeriodicReconciliationsCounter().increment();
-                            topicOperator.reconcileAllTopics(isInitialReconcile ? "initial " : "periodic ").onComplete(result -> {
+                            Future<?> reconciliation;
+                            if (incremental) {
+                                // The incremental reconciliations skip the unchanged topics, so all topics are
+                                // reconciled after the start and then once per full scan interval
+                                long now = System.currentTimeMillis();
+                                boolean fullScan = isInitialReconcile || now - lastFullScan >= fullScanInterval;
+                                if (fullScan) {
+                                    lastFullScan = now;
+                                }
+                                reconciliation = topicOperator.reconcileChangedTopics(reconciliationType, fullScan);
+                            } else {
+                                reconciliation = topicOperator.reconcileAllTopics(reconciliationType);
+                            }
+                            reconciliation.onComplete(result -> {
                                 if (isInitialReconcile) {
                                     initReconcilePromise.complete();
                                 }
@@ -69,6 +69,9 @@ class TopicOperator {
     private final TopicStore topicStore;
     private final Config config;
     private final ConcurrentHashMap<TopicName, Integer> inflight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> ownWrites = new ConcurrentHashMap<>();
+    private final ReplicasChangeManager replicasChanges;
+    private final TopicSnapshot snapshot = new TopicSnapshot();
 
     protected final MetricsProvider metrics;
     private Counter periodicReconciliationsCounter;
@@ -76,6 +79,7 @@ class TopicOperator {
     private Counter failedReconciliationsCounter;
     private Counter successfulReconciliationsCounter;
     private Counter lockedReconciliationsCounter;
+    private Counter skippedReconciliationsCounter;
     private AtomicInteger topicCounter;
     protected AtomicInteger pausedTopicCounter;
     protected Timer reconciliationsTimer;
@@ -163,7 +167,7 @@ class TopicOperator {
         @Override
         public void handle(Void v) throws OperatorException {
             KafkaTopic kafkaTopic = TopicSerialization.toTopicResource(this.topic, labels);
-            k8s.createResource(kafkaTopic).onComplete(handler);
+            k8s.createResource(kafkaTopic).onSuccess(TopicOperator.this::recordOwnWrite).onComplete(handler);
         }
 
         @Override
@@ -224,7 +228,7 @@ class TopicOperator {
         @Override
         public void handle(Void v) {
             KafkaTopic kafkaTopic = TopicSerialization.toTopicResource(this.topic, labels);
-            k8s.updateResource(kafkaTopic).onComplete(handler);
+            k8s.updateResource(kafkaTopic).onSuccess(TopicOperator.this::recordOwnWrite).onComplete(handler);
         }
 
         @Override
@@ -394,6 +398,11 @@ class TopicOperator {
         this.namespace = namespace;
         this.config = config;
         this.metrics = metrics;
+        this.replicasChanges = new ReplicasChangeManager(vertx, kafka,
+                config.get(Config.REASSIGN_THROTTLE),
+                config.get(Config.REASSIGN_VERIFY_INTERVAL_MS),
+                config.get(Config.REASSIGN_MAX_CONCURRENT_TOPICS),
+                this::onReplicasChangeProgress);
 
         initMetrics();
     }
@@ -433,9 +442,54 @@ class TopicOperator {
             lockedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.locked",
                     "Number of reconciliations skipped because another reconciliation for the same topic was still running",
                     metricTags);
+
+            skippedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.incremental.skipped",
+                    "Number of reconciliations skipped by the incremental reconciliation because the topic did not change",
+                    metricTags);
+        }
+    }
+
+    Vertx getVertx() {
+        return vertx;
+    }
+
+    Config getConfig() {
+        return config;
+    }
+
+    /**
+     * Records the resource version of a KafkaTopic created or updated by the operator, so that the watch event caused
+     * by this change can be ignored.
+     *
+     * @param kafkaTopic    The KafkaTopic returned by the Kubernetes API
+     */
+    void recordOwnWrite(KafkaTopic kafkaTopic) {
+        if (kafkaTopic != null
+                && kafkaTopic.getMetadata() != null
+                && kafkaTopic.getMetadata().getResourceVersion() != null) {
+            ownWrites.put(kafkaTopic.getMetadata().getName(), kafkaTopic.getMetadata().getResourceVersion());
         }
     }
 
+    /**
+     * Forgets the resource version of a KafkaTopic recorded by {@link #recordOwnWrite(KafkaTopic)}
+     *
+     * @param name  Name of the KafkaTopic resource
+     */
+    void forgetOwnWrite(String name) {
+        ownWrites.remove(name);
+    }
+
+    /**
+     * @param kafkaTopic    KafkaTopic from a watch event
+     *
+     * @return  True if the KafkaTopic is in the state created by the last change done by the operator
+     */
+    boolean isOwnWrite(KafkaTopic kafkaTopic) {
+        String resourceVersion = kafkaTopic.getMetadata().getResourceVersion();
+        return resourceVersion != null && resourceVersion.equals(ownWrites.get(kafkaTopic.getMetadata().getName()));
+    }
+
     public Counter getPeriodicReconciliationsCounter() {
         return this.periodicReconciliationsCounter;
     }
@@ -739,6 +793,10 @@ class TopicOperator {
         } else {
             TopicDiff merged = oursKafka.merge(oursK8s);
             LOGGER.debugCr(logContext.toReconciliation(), "Diffs do not conflict, merged diff: {}", merged);
+            boolean changesReplicas = oursK8s.changesReplicationFactor() && !oursKafka.changesReplicationFactor();
+            if (!changesReplicas) {
+                replicasChanges.cancelPending(logContext, kafkaTopic.getTopicName());
+            }
             if (merged.isEmpty()) {
                 LOGGER.infoCr(logContext.toReconciliation(), "All three topics are identical");
                 reconciliationResultHandler = Future.succeededFuture();
@@ -751,21 +809,26 @@ class TopicOperator {
                     enqueue(logContext, new Event(logContext, involvedObject, message, EventType.INFO, eventResult -> {
                     }));
                     reconciliationResultHandler = Future.failedFuture(new PartitionDecreaseException(involvedObject, message));
-                } else if (oursK8s.changesReplicationFactor()
-                            && !oursKafka.changesReplicationFactor()) {
-                    reconciliationResultHandler = Future.failedFuture(new ReplicationFactorChangeException(involvedObject,
-                                    "Changing 'spec.replicas' is not supported. " +
-                                            "This KafkaTopic's 'spec.replicas' should be reverted to " +
-                                            kafkaTopic.getNumReplicas() +
-                                            " and then the replication should be changed directly in Kafka."));
                 } else {
+                    Future<Void> replicasFuture;
+                    Topic storeResult;
+                    if (changesReplicas) {
+                        // The topic store keeps the replication factor of Kafka until the reassignment completes
+                        LOGGER.debugCr(logContext.toReconciliation(), "Changing replicas from {} to {}", kafkaTopic.getNumReplicas(), k8sTopic.getNumReplicas());
+                        replicasFuture = replicasChanges.change(logContext, involvedObject, kafkaTopic.getTopicName(), k8sTopic.getNumReplicas());
+                        storeResult = new Topic.Builder(result).withNumReplicas(kafkaTopic.getNumReplicas()).build();
+                    } else {
+                        replicasFuture = Future.succeededFuture();
+                        storeResult = result;
+                    }
+
                     // TODO What if we increase min.in.sync.replicas and the number of replicas,
                     // such that the old number of replicas < the new min isr? But likewise
                     // we could decrease, so order of tasks in the queue will need to change
                     // depending on what the diffs are.
                     LOGGER.debugCr(logContext.toReconciliation(), "Updating KafkaTopic, kafka topic and topicStore");
                     TopicDiff kubeDiff = TopicDiff.diff(k8sTopic, result);
-                    reconciliationResultHandler = Future.succeededFuture()
+                    reconciliationResultHandler = replicasFuture
                         .compose(updatedKafkaTopic -> {
                             Future<Void> configFuture;
                             TopicDiff kafkaDiff = TopicDiff.diff(kafkaTopic, result);
@@ -806,7 +869,7 @@ class TopicOperator {
                             }
                         }).compose(ignored -> {
                             Promise<Void> topicStorePromise = Promise.promise();
-                            enqueue(logContext, new UpdateInTopicStore(logContext, result, involvedObject, topicStorePromise));
+                            enqueue(logContext, new UpdateInTopicStore(logContext, storeResult, involvedObject, topicStorePromise));
                             return topicStorePromise.future();
                         });
                 }
@@ -875,6 +938,31 @@ class TopicOperator {
                 });
     }
 
+    /**
+     * Called when the progress of the change of the topic's replication factor changes
+     */
+    private void onReplicasChangeProgress(TopicName topicName) {
+        onReplicasChangeProgress(LogContext.periodic("replicasChange", namespace, topicName.toString()), topicName);
+    }
+
+    Future<Void> onReplicasChangeProgress(LogContext logContext, TopicName topicName) {
+        return executeWithTopicLockHeld(logContext, topicName,
+                new Reconciliation(logContext, "onReplicasChangeProgress", true) {
+                    @Override
+                    public Future<Void> execute() {
+                        return kafka.topicMetadata(logContext.toReconciliation(), topicName)
+                                .compose(metadata -> {
+                                    if (metadata == null) {
+                                        // The topic was deleted in the meantime, which is handled by the topic watchers
+                                        return Future.succeededFuture();
+                                    }
+                                    Topic topic = TopicSerialization.fromTopicMetadata(metadata);
+                                    return reconcileOnTopicChange(logContext, topicName, topic, this);
+                                });
+                    }
+                });
+    }
+
     /**
      * Called when ZK watch notifies of a change to the topic's partitions
      */
@@ -1060,6 +1148,8 @@ class TopicOperator {
                         kts.setTopicName(topic.getStatus().getTopicName());
                     }
 
+                    kts.setReplicasChange(replicasChanges.status(new TopicName(kts.getTopicName())));
+
                     if (Annotations.isReconciliationPausedWithAnnotation(topic)) {
                         kts.setConditions(singletonList(StatusUtils.getPausedCondition()));
                     }
@@ -1070,6 +1160,7 @@ class TopicOperator {
                         statusFuture = promise.future();
                         k8s.updateResourceStatus(logContext.toReconciliation(), new KafkaTopicBuilder(topic).withStatus(kts).build()).onComplete(ar -> {
                             if (ar.succeeded() && ar.result() != null) {
+                                recordOwnWrite(ar.result());
                                 ObjectMeta metadata = ar.result().getMetadata();
                                 LOGGER.debugCr(logContext.toReconciliation(), "status was set rv={}, generation={}, observedGeneration={}",
                                         metadata.getResourceVersion(),
@@ -1180,6 +1271,7 @@ class TopicOperator {
         @Override
         public void handle(Void v) throws OperatorException {
             topicStore.update(topic).onComplete(ar -> {
+                snapshot.invalidate(topic.getTopicName());
                 if (ar.failed()) {
                     enqueue(logContext, new Event(logContext, involvedObject, ar.cause().toString(), EventType.WARNING, eventResult -> { }));
                 }
@@ -1218,6 +1310,7 @@ class TopicOperator {
             LOGGER.debugCr(logContext.toReconciliation(), "Executing {}", this);
             topicStore.create(topic).onComplete(ar -> {
                 LOGGER.debugCr(logContext.toReconciliation(), "Completing {}", this);
+                snapshot.invalidate(topic.getTopicName());
                 if (ar.failed()) {
                     LOGGER.debugCr(logContext.toReconciliation(), "{} failed", this);
                     enqueue(logContext, new Event(logContext, involvedObject, ar.cause().toString(), EventType.WARNING, eventResult -> { }));
@@ -1258,6 +1351,7 @@ class TopicOperator {
         @Override
         public void handle(Void v) throws OperatorException {
             topicStore.delete(topicName).onComplete(ar -> {
+                snapshot.invalidate(topicName);
                 if (ar.failed()) {
                     enqueue(logContext, new Event(logContext, involvedObject, ar.cause().toString(), EventType.WARNING, eventResult -> { }));
                 }
@@ -1387,6 +1481,109 @@ class TopicOperator {
     }
 
 
+    /**
+     * Reconciles the topics which changed in Kafka or in Kubernetes since they were last reconciled successfully.
+     * The metadata of all topics is fetched using a single request and compared with the {@link TopicSnapshot}.
+     * The unchanged topics are skipped, unless {@code fullScan} is true, in which case all topics are reconciled
+     * and the snapshot is rebuilt.
+     *
+     * @param reconciliationType    The type of the reconciliation used for logging
+     * @param fullScan              Whether all topics should be reconciled
+     *
+     * @return  Future which completes when the reconciliation completes
+     */
+    Future<?> reconcileChangedTopics(String reconciliationType, boolean fullScan) {
+        LOGGER.infoOp("Starting {} {} reconciliation", reconciliationType, fullScan ? "full" : "incremental");
+        return kafka.listTopics().recover(ex -> Future.failedFuture(
+                new OperatorException("Error listing existing topics during " + reconciliationType + " reconciliation", ex)
+        )).compose(topicNamesFromKafka -> {
+            List<TopicName> topicNames = topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList());
+            Map<TopicName, Future<TopicMetadata>> metadata = kafka.topicMetadata(
+                    new io.strimzi.operator.common.Reconciliation("periodic", "KafkaTopic", namespace, "metadata"), topicNames);
+            // The topics with failed metadata are reconciled, so the failures are handled below
+            return join(new ArrayList<>(metadata.values()))
+                    .<Map<TopicName, Future<TopicMetadata>>>map(ignored -> metadata)
+                    .otherwise(metadata);
+        }).compose(metadata -> k8s.listResources().recover(ex -> Future.failedFuture(
+                new OperatorException("Error listing existing KafkaTopics during " + reconciliationType + " reconciliation", ex)
+        )).compose(ktList -> {
+            Map<TopicName, KafkaTopic> kubeTopics = new HashMap<>(ktList.size());
+            pausedTopicCounter.set(0);
+            topicCounter.set(ktList.size());
+            for (KafkaTopic kt : ktList) {
+                if (Annotations.isReconciliationPausedWithAnnotation(kt)) {
+                    pausedTopicCounter.getAndIncrement();
+                }
+                kubeTopics.put(new TopicName(kt), kt);
+            }
+
+            Set<TopicName> topicNames = new HashSet<>(metadata.keySet());
+            topicNames.addAll(kubeTopics.keySet());
+            snapshot.retainAll(topicNames);
+
+            List<Future<Void>> futures = new ArrayList<>();
+            for (TopicName topicName : topicNames) {
+                KafkaTopic kt = kubeTopics.get(topicName);
+                Future<TopicMetadata> topicMetadata = metadata.get(topicName);
+                TopicSnapshot.Fingerprint fingerprint;
+                if (topicMetadata == null) {
+                    fingerprint = TopicSnapshot.fingerprint(null, kt);
+                } else if (topicMetadata.succeeded()) {
+                    fingerprint = TopicSnapshot.fingerprint(TopicSerialization.fromTopicMetadata(topicMetadata.result()), kt);
+                } else {
+                    fingerprint = null;
+                }
+
+                if (!fullScan
+                        && fingerprint != null
+                        && snapshot.unchanged(topicName, fingerprint, kt != null && isOwnWrite(kt))) {
+                    LOGGER.traceOp("Topic {} did not change since its last reconciliation", topicName);
+                    skippedReconciliationsCounter.increment();
+                } else {
+                    futures.add(reconcileChangedTopic(reconciliationType, topicName, kt, fingerprint));
+                }
+            }
+
+            LOGGER.infoOp("Reconciling {} of {} topics during {} reconciliation", futures.size(), topicNames.size(), reconciliationType);
+            return join(futures);
+        }));
+    }
+
+    /**
+     * Reconciles a single topic found changed by {@link #reconcileChangedTopics(String, boolean)} and records its
+     * fingerprint in the snapshot when the reconciliation succeeds.
+     */
+    private Future<Void> reconcileChangedTopic(String reconciliationType, TopicName topicName, KafkaTopic listedKafkaTopic,
+                                               TopicSnapshot.Fingerprint fingerprint) {
+        long stamp = snapshot.stamp(topicName);
+        LogContext logContext = LogContext.periodic(reconciliationType + "changed " + topicName, namespace, topicName.asKubeName().toString());
+        return executeWithTopicLockHeld(logContext, topicName, new Reconciliation(logContext, "reconcile-changed", true) {
+            @Override
+            public Future<Void> execute() {
+                return getFromTopicStore(topicName).compose(privateTopic -> {
+                    ResourceName kubeName;
+                    if (listedKafkaTopic != null) {
+                        kubeName = new ResourceName(listedKafkaTopic);
+                    } else if (privateTopic != null) {
+                        kubeName = privateTopic.getResourceName();
+                    } else {
+                        kubeName = topicName.asKubeName();
+                    }
+                    return k8s.getFromName(kubeName).compose(kafkaTopicResource -> {
+                        observedTopicFuture(kafkaTopicResource);
+                        return getKafkaAndReconcile(this, logContext, topicName, privateTopic, kafkaTopicResource);
+                    });
+                });
+            }
+        }).onComplete(ar -> {
+            if (ar.succeeded() && fingerprint != null) {
+                snapshot.record(topicName, fingerprint, stamp);
+            } else {
+                snapshot.invalidate(topicName);
+            }
+        });
+    }
+
     /**
      * Reconcile all the topics in {@code foundFromKafka}, returning a ReconciliationState.
      */
@@ -1480,6 +1677,7 @@ class TopicOperator {
                     }
                 })
                 .compose(i -> kafka.topicMetadata(logContext.toReconciliation(), topicName))
+                .compose(kafkaTopicMeta -> recoverReplicasChange(logContext, topicName, kafkaTopicResource, kafkaTopicMeta).map(kafkaTopicMeta))
                 .compose(kafkaTopicMeta -> {
                     Topic topicFromKafka = TopicSerialization.fromTopicMetadata(kafkaTopicMeta);
                     return reconcile(reconciliation, logContext, kafkaTopicResource, k8sTopic, topicFromKafka, privateTopic);
@@ -1506,6 +1704,19 @@ class TopicOperator {
         return topicPromise.future();
     }
 
+    /**
+     * Resumes the change of the replication factor recorded in the status of the KafkaTopic when it is not known
+     * anymore (for example after a restart of the operator) and removes the throttle left on the topic by a change
+     * which is not known anymore.
+     */
+    private Future<Void> recoverReplicasChange(LogContext logContext, TopicName topicName, KafkaTopic kafkaTopicResource,
+                                               TopicMetadata kafkaTopicMeta) {
+        if (kafkaTopicMeta != null && kafkaTopicResource != null && kafkaTopicResource.getStatus() != null) {
+            replicasChanges.resume(logContext, kafkaTopicResource, topicName, kafkaTopicResource.getStatus().getReplicasChange());
+        }
+        return replicasChanges.removeLeftoverThrottle(logContext, topicName, kafkaTopicMeta);
+    }
+
     Future<Topic> getFromKafka(io.strimzi.operator.common.Reconciliation reconciliation, TopicName topicName) {
         return kafka.topicMetadata(reconciliation, topicName).map(TopicSerialization::fromTopicMetadata);
     }
@@ -237,7 +237,10 @@ class TopicSerialization {
                 .withMetadata(null);
         for (ConfigEntry entry: meta.getConfig().entries()) {
             if (entry.source() != ConfigEntry.ConfigSource.DEFAULT_CONFIG
-                && entry.source() != ConfigEntry.ConfigSource.STATIC_BROKER_CONFIG) {
+                && entry.source() != ConfigEntry.ConfigSource.STATIC_BROKER_CONFIG
+                // The throttled replicas are managed by the operator while the replication factor is being changed
+                && !KafkaImpl.LEADER_THROTTLED_REPLICAS.equals(entry.name())
+                && !KafkaImpl.FOLLOWER_THROTTLED_REPLICAS.equals(entry.name())) {
                 builder.withConfigEntry(entry.name(), entry.value());
             }
         }
@@ -0,0 +1,152 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the state of the topics as it was when they were last reconciled successfully, so that the incremental
+ * reconciliation can skip the topics which did not change since then.
+ * <ul>
+ *     <li>The Kafka side of a topic is represented by its number of partitions, its replication factor and
+ *     the hash of its non-default configuration.</li>
+ *     <li>The Kubernetes side of a topic is represented by the resource version of its KafkaTopic.</li>
+ *     <li>The topic store is written only by the operator, so the topics are invalidated whenever the operator
+ *     writes them into the topic store.</li>
+ * </ul>
+ * The snapshot is held in memory only. It is rebuilt by the full reconciliation done when the operator starts.
+ */
+class TopicSnapshot {
+
+    private final Map<TopicName, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the fingerprint of the current state of a topic
+     *
+     * @param kafkaTopic    The topic in Kafka or null if it does not exist in Kafka
+     * @param kubeTopic     The KafkaTopic resource or null if it does not exist
+     *
+     * @return  The fingerprint of the topic
+     */
+    static Fingerprint fingerprint(Topic kafkaTopic, KafkaTopic kubeTopic) {
+        return new Fingerprint(
+                kafkaTopic != null ? kafkaTopic.getNumPartitions() : -1,
+                kafkaTopic != null ? kafkaTopic.getNumReplicas() : -1,
+                kafkaTopic != null ? Objects.hashCode(kafkaTopic.getConfig()) : 0,
+                kubeTopic != null && kubeTopic.getMetadata() != null ? kubeTopic.getMetadata().getResourceVersion() : null);
+    }
+
+    /**
+     * Checks whether the topic changed since it was last reconciled.
+     *
+     * @param topicName     The name of the topic
+     * @param fingerprint   The fingerprint of the current state of the topic
+     * @param ownKubeWrite  Whether the current KafkaTopic is in the state written by the operator
+     *
+     * @return  True if the topic is unchanged and does not need to be reconciled
+     */
+    boolean unchanged(TopicName topicName, Fingerprint fingerprint, boolean ownKubeWrite) {
+        Entry entry = entries.get(topicName);
+        return entry != null
+                && entry.fingerprint != null
+                && entry.fingerprint.sameKafka(fingerprint)
+                && (ownKubeWrite || Objects.equals(entry.fingerprint.resourceVersion, fingerprint.resourceVersion));
+    }
+
+    /**
+     * @param topicName The name of the topic
+     *
+     * @return  The stamp which has to be passed to {@link #record(TopicName, Fingerprint, long)} once the topic
+     *          is reconciled.
+     */
+    long stamp(TopicName topicName) {
+        Entry entry = entries.get(topicName);
+        return entry != null ? entry.stamp : 0;
+    }
+
+    /**
+     * Records the fingerprint of a reconciled topic. The fingerprint is not recorded when the topic was invalidated
+     * after the given stamp was taken, so that the topic is reconciled again next time.
+     *
+     * @param topicName     The name of the topic
+     * @param fingerprint   The fingerprint of the state of the topic which was reconciled
+     * @param stamp         The stamp taken before the reconciliation started
+     */
+    void record(TopicName topicName, Fingerprint fingerprint, long stamp) {
+        entries.compute(topicName, (name, entry) -> {
+            long current = entry != null ? entry.stamp : 0;
+            return current == stamp ? new Entry(fingerprint, stamp) : entry;
+        });
+    }
+
+    /**
+     * Invalidates a topic, so that it is reconciled by the next incremental reconciliation.
+     *
+     * @param topicName The name of the topic
+     */
+    void invalidate(TopicName topicName) {
+        entries.compute(topicName, (name, entry) -> new Entry(null, entry != null ? entry.stamp + 1 : 1));
+    }
+
+    /**
+     * Forgets the topics which are not in the given collection (for example, because they were deleted).
+     *
+     * @param topicNames    The names of the existing topics
+     */
+    void retainAll(Collection<TopicName> topicNames) {
+        entries.keySet().retainAll(topicNames);
+    }
+
+    /**
+     * @return  Number of the topics with a recorded fingerprint
+     */
+    /*test*/ int size() {
+        return (int) entries.values().stream().filter(entry -> entry.fingerprint != null).count();
+    }
+
+    /**
+     * Fingerprint of the state of a single topic
+     */
+    static class Fingerprint {
+        private final int partitions;
+        private final int replicas;
+        private final int configHash;
+        private final String resourceVersion;
+
+        Fingerprint(int partitions, int replicas, int configHash, String resourceVersion) {
+            this.partitions = partitions;
+            this.replicas = replicas;
+            this.configHash = configHash;
+            this.resourceVersion = resourceVersion;
+        }
+
+        private boolean sameKafka(Fingerprint other) {
+            return partitions == other.partitions
+                    && replicas == other.replicas
+                    && configHash == other.configHash;
+        }
+
+        @Override
+        public String toString() {
+            return "Fingerprint(partitions=" + partitions + ", replicas=" + replicas + ", configHash=" + configHash
+                    + ", resourceVersion=" + resourceVersion + ")";
+        }
+    }
+
+    private static class Entry {
+        private final Fingerprint fingerprint;
+        private final long stamp;
+
+        Entry(Fingerprint fingerprint, long stamp) {
+            this.fingerprint = fingerprint;
+            this.stamp = stamp;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import io.vertx.micrometer.VertxPrometheusOptions;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyMap;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class BatchingKafkaTest {
+    private static Vertx vertx;
+
+    private MetricsProvider metrics;
+    private List<Integer> createBatches;
+    private MockKafka delegate;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+                new MicrometerMetricsOptions()
+                        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+                        .setEnabled(true)
+        ));
+    }
+
+    @AfterAll
+    public static void after() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        vertx.close(done -> latch.countDown());
+        latch.await(30, TimeUnit.SECONDS);
+    }
+
+    @BeforeEach
+    public void setup() {
+        metrics = new MicrometerMetricsProvider();
+        MeterRegistry registry = metrics.meterRegistry();
+        registry.forEachMeter(registry::remove);
+
+        createBatches = new CopyOnWriteArrayList<>();
+        delegate = new MockKafka() {
+            @Override
+            public Map<TopicName, Future<Void>> createTopics(Reconciliation reconciliation, Collection<Topic> newTopics) {
+                createBatches.add(newTopics.size());
+                return super.createTopics(reconciliation, newTopics);
+            }
+        };
+        delegate.setCreateTopicResponse(topicName -> Future.succeededFuture());
+    }
+
+    private static Topic topic(String name) {
+        return new Topic.Builder(name, 1, (short) 1, emptyMap()).build();
+    }
+
+    private static LogContext logContext(String name) {
+        return LogContext.periodic("test", "my-namespace", name);
+    }
+
+    private DistributionSummary batchSize(String operation) {
+        return metrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "admin.batch.size")
+                .tag("kind", "KafkaTopic")
+                .tag("operation", operation)
+                .summary();
+    }
+
+    @Test
+    public void testConcurrentCreationsAreBatched(VertxTestContext context) {
+        BatchingKafka kafka = new BatchingKafka(vertx, delegate, "my-namespace", 100, 100, metrics);
+
+        List<Future> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String name = "my-topic-" + i;
+            results.add(kafka.createTopic(logContext(name).toReconciliation(), topic(name)));
+        }
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(results).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(createBatches.size(), is(1));
+            assertThat(createBatches.get(0), is(10));
+            assertThat(delegate.getTopicState(new TopicName("my-topic-7")) != null, is(true));
+
+            assertThat(batchSize("createTopics").count(), is(1L));
+            assertThat(batchSize("createTopics").totalAmount(), is(10.0));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testMaxBatchSize(VertxTestContext context) {
+        BatchingKafka kafka = new BatchingKafka(vertx, delegate, "my-namespace", 100, 4, metrics);
+
+        List<Future> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String name = "my-topic-" + i;
+            results.add(kafka.createTopic(logContext(name).toReconciliation(), topic(name)));
+        }
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(results).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(createBatches, is(List.of(4, 4, 2)));
+            assertThat(batchSize("createTopics").count(), is(3L));
+            assertThat(batchSize("createTopics").max(), is(4.0));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testSameTopicIsNotBatchedTwice(VertxTestContext context) {
+        BatchingKafka kafka = new BatchingKafka(vertx, delegate, "my-namespace", 100, 100, metrics);
+
+        Future<Void> first = kafka.createTopic(logContext("my-topic").toReconciliation(), topic("my-topic"));
+        Future<Void> second = kafka.createTopic(logContext("my-topic").toReconciliation(), topic("my-topic"));
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(first, second).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(createBatches, is(List.of(1, 1)));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testResultsAreFannedOutPerTopic(VertxTestContext context) {
+        delegate.setCreateTopicResponse("my-topic-1", new TopicExistsException("Topic exists"));
+        BatchingKafka kafka = new BatchingKafka(vertx, delegate, "my-namespace", 100, 100, metrics);
+
+        Future<Void> first = kafka.createTopic(logContext("my-topic-0").toReconciliation(), topic("my-topic-0"));
+        Future<Void> second = kafka.createTopic(logContext("my-topic-1").toReconciliation(), topic("my-topic-1"));
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(first, second).onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(createBatches, is(List.of(2)));
+            assertThat(first.succeeded(), is(true));
+            assertThat(second.failed(), is(true));
+            assertThat(second.cause(), instanceOf(TopicExistsException.class));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testNoBatchingWithZeroWindow(VertxTestContext context) {
+        BatchingKafka kafka = new BatchingKafka(vertx, delegate, "my-namespace", 0, 100, metrics);
+
+        Future<Void> first = kafka.createTopic(logContext("my-topic-0").toReconciliation(), topic("my-topic-0"));
+        Future<Void> second = kafka.createTopic(logContext("my-topic-1").toReconciliation(), topic("my-topic-1"));
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(first, second).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(createBatches, is(List.of(1, 1)));
+            async.flag();
+        })));
+    }
+}
@@ -4,10 +4,14 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -30,9 +34,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatcher;
 
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -246,6 +252,63 @@ public class KafkaImplTest {
         })));
     }
 
+    @Test
+    public void testCreateTopicsUsesSingleRequest(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        KafkaFutureImpl<Void> created = new KafkaFutureImpl<>();
+        created.complete(null);
+        KafkaFutureImpl<Void> exists = new KafkaFutureImpl<>();
+        exists.completeExceptionally(new TopicExistsException("Topic exists"));
+        CreateTopicsResult createTopicsResult = mock(CreateTopicsResult.class);
+        when(createTopicsResult.values()).thenReturn(Map.of("test-0", created, "test-1", exists));
+        when(admin.createTopics(argThat((Collection<NewTopic> newTopics) -> newTopics.size() == 2))).thenReturn(createTopicsResult);
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx);
+        Map<TopicName, Future<Void>> results = impl.createTopics(Reconciliation.DUMMY_RECONCILIATION, List.of(
+                new Topic.Builder("test-0", 1, (short) 1, emptyMap()).build(),
+                new Topic.Builder("test-1", 1, (short) 1, emptyMap()).build()));
+
+        assertEquals(2, results.size());
+        CompositeFuture.join(results.get(new TopicName("test-0")), results.get(new TopicName("test-1"))).onComplete(testContext.failing(error -> testContext.verify(() -> {
+            assertTrue(results.get(new TopicName("test-0")).succeeded());
+            assertTrue(results.get(new TopicName("test-1")).cause() instanceof TopicExistsException);
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    public void testTopicMetadataOfMultipleTopicsUsesSingleRequest(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        KafkaFutureImpl<TopicDescription> described = new KafkaFutureImpl<>();
+        described.complete(mock(TopicDescription.class));
+        KafkaFutureImpl<TopicDescription> notFound = new KafkaFutureImpl<>();
+        notFound.completeExceptionally(new UnknownTopicOrPartitionException());
+        DescribeTopicsResult describeTopicsResult = mock(DescribeTopicsResult.class);
+        when(describeTopicsResult.values()).thenReturn(Map.of("test-0", described, "test-1", notFound));
+        when(admin.describeTopics(argThat((Collection<String> names) -> names.size() == 2))).thenReturn(describeTopicsResult);
+
+        KafkaFutureImpl<Config> config0 = new KafkaFutureImpl<>();
+        config0.complete(mock(Config.class));
+        KafkaFutureImpl<Config> config1 = new KafkaFutureImpl<>();
+        config1.completeExceptionally(new UnknownTopicOrPartitionException());
+        DescribeConfigsResult describeConfigsResult = mock(DescribeConfigsResult.class);
+        when(describeConfigsResult.values()).thenReturn(Map.of(
+                new ConfigResource(ConfigResource.Type.TOPIC, "test-0"), config0,
+                new ConfigResource(ConfigResource.Type.TOPIC, "test-1"), config1));
+        when(admin.describeConfigs(argThat((Collection<ConfigResource> resources) -> resources.size() == 2))).thenReturn(describeConfigsResult);
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx);
+        Map<TopicName, Future<TopicMetadata>> results = impl.topicMetadata(Reconciliation.DUMMY_RECONCILIATION,
+                List.of(new TopicName("test-0"), new TopicName("test-1")));
+
+        assertEquals(2, results.size());
+        CompositeFuture.all(results.get(new TopicName("test-0")), results.get(new TopicName("test-1"))).onComplete(testContext.succeeding(ignored -> testContext.verify(() -> {
+            assertNotNull(results.get(new TopicName("test-0")).result());
+            assertNull(results.get(new TopicName("test-1")).result());
+            testContext.completeNow();
+        })));
+    }
+
     @Test
     public void testDelete(VertxTestContext testContext) {
         Admin admin = mock(Admin.class);
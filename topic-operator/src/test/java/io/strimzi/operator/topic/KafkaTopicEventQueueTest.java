@@ -0,0 +1,214 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.client.Watcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import io.vertx.micrometer.VertxPrometheusOptions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static io.fabric8.kubernetes.client.Watcher.Action.ADDED;
+import static io.fabric8.kubernetes.client.Watcher.Action.MODIFIED;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class KafkaTopicEventQueueTest {
+    private static Vertx vertx;
+
+    private MetricsProvider metrics;
+    private final List<KafkaTopicEventQueue.WatchEvent> processed = new CopyOnWriteArrayList<>();
+    private final List<Promise<Void>> results = new CopyOnWriteArrayList<>();
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+                new MicrometerMetricsOptions()
+                        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+                        .setEnabled(true)
+        ));
+    }
+
+    @AfterAll
+    public static void after() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        vertx.close(done -> latch.countDown());
+        latch.await(30, TimeUnit.SECONDS);
+    }
+
+    @BeforeEach
+    public void setup() {
+        metrics = new MicrometerMetricsProvider();
+        MeterRegistry registry = metrics.meterRegistry();
+        registry.forEachMeter(registry::remove);
+    }
+
+    private KafkaTopicEventQueue queue(long debounceMs, int maxConcurrency) {
+        return new KafkaTopicEventQueue(vertx, metrics, debounceMs, maxConcurrency,
+            kafkaTopic -> "own".equals(kafkaTopic.getMetadata().getResourceVersion()),
+            event -> {
+                Promise<Void> result = Promise.promise();
+                processed.add(event);
+                results.add(result);
+                return result.future();
+            });
+    }
+
+    private static KafkaTopic kafkaTopic(String name, String resourceVersion) {
+        return new KafkaTopicBuilder()
+                .withMetadata(new ObjectMetaBuilder().withName(name).withResourceVersion(resourceVersion).build())
+                .withNewSpec()
+                    .withPartitions(1)
+                    .withReplicas(1)
+                .endSpec()
+                .build();
+    }
+
+    private static void offer(KafkaTopicEventQueue queue, Watcher.Action action, KafkaTopic kafkaTopic) {
+        queue.offer(LogContext.kubeWatch(action, kafkaTopic), action, kafkaTopic);
+    }
+
+    private double counter(String name) {
+        return metrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + name).tag("kind", "KafkaTopic").counter().count();
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Timed out waiting for the condition");
+            }
+
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void testEventsForSameTopicAreCoalesced() throws InterruptedException {
+        KafkaTopicEventQueue queue = queue(200, 10);
+
+        offer(queue, ADDED, kafkaTopic("my-topic", "1"));
+        offer(queue, MODIFIED, kafkaTopic("my-topic", "2"));
+        offer(queue, MODIFIED, kafkaTopic("my-topic", "3"));
+        offer(queue, ADDED, kafkaTopic("other-topic", "4"));
+
+        waitFor(() -> processed.size() == 2);
+        Thread.sleep(300);
+
+        assertThat(processed.size(), is(2));
+        KafkaTopicEventQueue.WatchEvent myTopicEvent = processed.stream()
+                .filter(event -> "my-topic".equals(event.kafkaTopic.getMetadata().getName()))
+                .findFirst().orElseThrow();
+        assertThat(myTopicEvent.action, is(MODIFIED));
+        assertThat(myTopicEvent.kafkaTopic.getMetadata().getResourceVersion(), is("3"));
+
+        assertThat(counter("watch.events"), is(4.0));
+        assertThat(counter("watch.events.coalesced"), is(2.0));
+        assertThat(counter("watch.events.ignored"), is(0.0));
+        assertThat(counter("watch.reconciliations"), is(2.0));
+
+        results.forEach(Promise::complete);
+        waitFor(() -> queue.size() == 0);
+    }
+
+    @Test
+    public void testOwnWritesAreIgnored() throws InterruptedException {
+        KafkaTopicEventQueue queue = queue(1, 10);
+
+        offer(queue, MODIFIED, kafkaTopic("my-topic", "own"));
+        offer(queue, MODIFIED, kafkaTopic("other-topic", "1"));
+
+        waitFor(() -> processed.size() == 1);
+        assertThat(processed.get(0).kafkaTopic.getMetadata().getName(), is("other-topic"));
+
+        assertThat(counter("watch.events"), is(2.0));
+        assertThat(counter("watch.events.ignored"), is(1.0));
+        assertThat(counter("watch.reconciliations"), is(1.0));
+
+        results.forEach(Promise::complete);
+        waitFor(() -> queue.size() == 0);
+    }
+
+    @Test
+    public void testEventDuringProcessingWaitsForCompletion() throws InterruptedException {
+        KafkaTopicEventQueue queue = queue(1, 10);
+
+        offer(queue, ADDED, kafkaTopic("my-topic", "1"));
+        waitFor(() -> processed.size() == 1);
+
+        offer(queue, MODIFIED, kafkaTopic("my-topic", "2"));
+        Thread.sleep(100);
+        assertThat(processed.size(), is(1));
+
+        results.get(0).complete();
+        waitFor(() -> processed.size() == 2);
+        assertThat(processed.get(1).kafkaTopic.getMetadata().getResourceVersion(), is("2"));
+
+        results.get(1).complete();
+        waitFor(() -> queue.size() == 0);
+        assertThat(counter("watch.reconciliations"), is(2.0));
+    }
+
+    @Test
+    public void testConcurrencyIsBounded() throws InterruptedException {
+        KafkaTopicEventQueue queue = queue(1, 2);
+
+        for (int i = 0; i < 5; i++) {
+            offer(queue, ADDED, kafkaTopic("my-topic-" + i, "1"));
+        }
+
+        waitFor(() -> processed.size() == 2);
+        Thread.sleep(100);
+        assertThat(processed.size(), is(2));
+
+        results.get(0).complete();
+        waitFor(() -> processed.size() == 3);
+
+        results.get(1).fail(new RuntimeException("Boom"));
+        results.get(2).complete();
+        waitFor(() -> processed.size() == 5);
+
+        results.forEach(result -> result.tryComplete());
+        waitFor(() -> queue.size() == 0);
+        assertThat(counter("watch.events"), is(5.0));
+        assertThat(counter("watch.reconciliations"), is(5.0));
+    }
+
+    @Test
+    public void testProcessorFailureDoesNotBlockQueue() throws InterruptedException {
+        KafkaTopicEventQueue queue = new KafkaTopicEventQueue(vertx, metrics, 0, 1, kafkaTopic -> false, event -> {
+            processed.add(event);
+            if (processed.size() == 1) {
+                throw new RuntimeException("Boom");
+            }
+            return Future.succeededFuture();
+        });
+
+        offer(queue, ADDED, kafkaTopic("my-topic", "1"));
+        offer(queue, ADDED, kafkaTopic("other-topic", "1"));
+
+        waitFor(() -> processed.size() == 2);
+        waitFor(() -> queue.size() == 0);
+    }
+}
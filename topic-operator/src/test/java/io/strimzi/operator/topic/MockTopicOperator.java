@@ -10,11 +10,16 @@ import io.vertx.core.Future;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 class MockTopicOperator extends TopicOperator {
 
     public MockTopicOperator() {
-        super(null, null, null, null, null, null, null, null);
+        super(null, null, null, null, null, null, new Config(Map.of(
+                Config.ZOOKEEPER_CONNECT.key, "localhost:2181",
+                Config.KAFKA_BOOTSTRAP_SERVERS.key, "localhost:9092",
+                Config.NAMESPACE.key, "default",
+                Config.CLIENT_ID.key, "default-client-id")), null);
     }
 
     static class MockOperatorEvent {
@@ -0,0 +1,81 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RackAwareReplicaAssignorTest {
+
+    private static Map<Integer, String> racks(String... racks) {
+        Map<Integer, String> result = new HashMap<>(racks.length);
+        for (int i = 0; i < racks.length; i++) {
+            result.put(i, racks[i]);
+        }
+        return result;
+    }
+
+    @Test
+    public void testIncreaseKeepsExistingReplicasAndSpreadsAcrossRacks() {
+        RackAwareReplicaAssignor assignor = new RackAwareReplicaAssignor(racks("a", "a", "b", "b", "c", "c"));
+
+        Map<Integer, List<Integer>> target = assignor.assign(Map.of(0, List.of(0), 1, List.of(1)), 3);
+
+        assertThat(target.get(0).get(0), is(0));
+        assertThat(target.get(1).get(0), is(1));
+        for (List<Integer> replicas : target.values()) {
+            assertThat(replicas.size(), is(3));
+            Set<String> usedRacks = new HashSet<>();
+            for (Integer broker : replicas) {
+                usedRacks.add(racks("a", "a", "b", "b", "c", "c").get(broker));
+            }
+            assertThat(usedRacks.size(), is(3));
+        }
+    }
+
+    @Test
+    public void testIncreaseWithoutRacksPrefersLeastLoadedBrokers() {
+        RackAwareReplicaAssignor assignor = new RackAwareReplicaAssignor(racks(null, null, null, null));
+
+        Map<Integer, List<Integer>> target = assignor.assign(Map.of(0, List.of(0), 1, List.of(1)), 2);
+
+        assertThat(target.get(0), is(List.of(0, 2)));
+        assertThat(target.get(1), is(List.of(1, 3)));
+    }
+
+    @Test
+    public void testDecreaseKeepsLeaderAndRemovesFromCrowdedRacks() {
+        RackAwareReplicaAssignor assignor = new RackAwareReplicaAssignor(racks("a", "a", "b"));
+
+        Map<Integer, List<Integer>> target = assignor.assign(Map.of(0, List.of(1, 0, 2)), 2);
+
+        assertThat(target.get(0), is(List.of(1, 2)));
+    }
+
+    @Test
+    public void testUnchangedReplicationFactor() {
+        RackAwareReplicaAssignor assignor = new RackAwareReplicaAssignor(racks("a", "b", "c"));
+
+        Map<Integer, List<Integer>> target = assignor.assign(Map.of(0, List.of(2, 1), 1, List.of(0, 2)), 2);
+
+        assertThat(target, is(Map.of(0, List.of(2, 1), 1, List.of(0, 2))));
+    }
+
+    @Test
+    public void testTooManyReplicas() {
+        RackAwareReplicaAssignor assignor = new RackAwareReplicaAssignor(racks("a", "b"));
+
+        assertThrows(IllegalArgumentException.class, () -> assignor.assign(Map.of(0, List.of(0)), 3));
+    }
+}
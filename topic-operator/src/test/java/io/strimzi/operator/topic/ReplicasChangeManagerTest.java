@@ -0,0 +1,311 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.status.KafkaTopicReplicasChangeStatus;
+import io.strimzi.api.kafka.model.status.KafkaTopicReplicasChangeStatusBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ReplicasChangeManagerTest {
+    private static Vertx vertx;
+
+    private final Map<TopicName, Map<Integer, List<Integer>>> reassignments = new ConcurrentHashMap<>();
+    private final Map<TopicName, Integer> reassigning = new ConcurrentHashMap<>();
+    private final List<TopicName> throttleRemovals = new CopyOnWriteArrayList<>();
+    private final Map<TopicName, Collection<Integer>> removedRates = new ConcurrentHashMap<>();
+    // Brokers with a throttle rate configured
+    private final Set<Integer> rates = ConcurrentHashMap.newKeySet();
+    private final List<TopicName> progress = new CopyOnWriteArrayList<>();
+    private MockKafka kafka;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        vertx.close(done -> latch.countDown());
+        latch.await(30, TimeUnit.SECONDS);
+    }
+
+    @BeforeEach
+    public void setup() {
+        kafka = new MockKafka() {
+            @Override
+            public Future<Map<Integer, String>> brokerRacks(Reconciliation reconciliation) {
+                return Future.succeededFuture(Map.of(0, "a", 1, "b", 2, "c"));
+            }
+
+            @Override
+            public Future<Set<Integer>> reassignPartitions(Reconciliation reconciliation, TopicName topicName,
+                                                           Map<Integer, List<Integer>> current, Map<Integer, List<Integer>> target,
+                                                           long throttleRate) {
+                Set<Integer> throttledBrokers = new TreeSet<>();
+                current.values().forEach(throttledBrokers::addAll);
+                target.values().forEach(throttledBrokers::addAll);
+                throttledBrokers.removeAll(rates);
+                rates.addAll(throttledBrokers);
+
+                reassignments.put(topicName, target);
+                reassigning.put(topicName, target.size());
+                return Future.succeededFuture(throttledBrokers);
+            }
+
+            @Override
+            public Future<Integer> reassigningPartitions(Reconciliation reconciliation, TopicName topicName) {
+                return Future.succeededFuture(reassigning.getOrDefault(topicName, 0));
+            }
+
+            @Override
+            public Future<Void> removeReassignmentThrottle(Reconciliation reconciliation, TopicName topicName, Collection<Integer> brokers) {
+                throttleRemovals.add(topicName);
+                removedRates.put(topicName, brokers);
+                rates.removeAll(brokers);
+                return Future.succeededFuture();
+            }
+        };
+        kafka.setTopicMetadataResponse(topicName ->
+                Future.succeededFuture(Utils.getTopicMetadata(new Topic.Builder(topicName.toString(), 2, (short) 1, emptyMap()).build())));
+    }
+
+    private ReplicasChangeManager manager(int maxConcurrentTopics) {
+        return new ReplicasChangeManager(vertx, kafka, 1_000_000L, 20, maxConcurrentTopics, progress::add);
+    }
+
+    private static KafkaTopic kafkaTopic(String name) {
+        return new KafkaTopicBuilder()
+                .withMetadata(new ObjectMetaBuilder().withName(name).build())
+                .build();
+    }
+
+    private static Future<Void> change(ReplicasChangeManager manager, String name, int targetReplicas) {
+        return manager.change(LogContext.periodic("test", "my-namespace", name), kafkaTopic(name), new TopicName(name), targetReplicas);
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Timed out waiting for the condition");
+            }
+
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void testChangeIsTrackedUntilCompletion() throws InterruptedException {
+        ReplicasChangeManager manager = manager(1);
+        TopicName topicName = new TopicName("my-topic");
+
+        change(manager, "my-topic", 3);
+        waitFor(() -> reassignments.containsKey(topicName));
+        assertThat(reassignments.get(topicName).get(0).size(), is(3));
+        assertThat(reassignments.get(topicName).get(1).size(), is(3));
+
+        waitFor(() -> progress.contains(topicName));
+        KafkaTopicReplicasChangeStatus status = manager.status(topicName);
+        assertThat(status.getTargetReplicas(), is(3));
+        assertThat(status.getState(), is(KafkaTopicReplicasChangeStatus.STATE_ONGOING));
+        assertThat(status.getReassigningPartitions(), is(2));
+
+        reassigning.put(topicName, 0);
+        waitFor(() -> manager.size() == 0);
+        assertThat(manager.status(topicName), is(nullValue()));
+        assertThat(throttleRemovals, is(List.of(topicName)));
+    }
+
+    @Test
+    public void testConcurrentChangesAreBounded() throws InterruptedException {
+        ReplicasChangeManager manager = manager(1);
+        TopicName first = new TopicName("my-topic-0");
+        TopicName second = new TopicName("my-topic-1");
+
+        change(manager, "my-topic-0", 2);
+        change(manager, "my-topic-1", 2);
+        waitFor(() -> reassignments.containsKey(first));
+
+        assertThat(manager.status(second).getState(), is(KafkaTopicReplicasChangeStatus.STATE_PENDING));
+        assertThat(reassignments.containsKey(second), is(false));
+
+        reassigning.put(first, 0);
+        waitFor(() -> reassignments.containsKey(second));
+        assertThat(manager.status(first), is(nullValue()));
+        assertThat(manager.status(second).getState(), is(KafkaTopicReplicasChangeStatus.STATE_ONGOING));
+
+        reassigning.put(second, 0);
+        waitFor(() -> manager.size() == 0);
+    }
+
+    @Test
+    public void testPendingChangeCanBeCancelled() throws InterruptedException {
+        ReplicasChangeManager manager = manager(1);
+        TopicName second = new TopicName("my-topic-1");
+
+        change(manager, "my-topic-0", 2);
+        change(manager, "my-topic-1", 2);
+        manager.cancelPending(LogContext.periodic("test", "my-namespace", "my-topic-1"), second);
+        assertThat(manager.status(second), is(nullValue()));
+
+        reassigning.put(new TopicName("my-topic-0"), 0);
+        waitFor(() -> manager.size() == 0);
+        assertThat(reassignments.containsKey(second), is(false));
+    }
+
+    @Test
+    public void testOngoingChangeCannotBeRetargeted() throws InterruptedException {
+        ReplicasChangeManager manager = manager(1);
+        TopicName topicName = new TopicName("my-topic");
+
+        change(manager, "my-topic", 2);
+        waitFor(() -> reassignments.containsKey(topicName));
+
+        Future<Void> result = change(manager, "my-topic", 3);
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause(), instanceOf(ReplicationFactorChangeException.class));
+
+        reassigning.put(topicName, 0);
+        waitFor(() -> manager.size() == 0);
+    }
+
+    @Test
+    public void testTooManyReplicasFails() throws InterruptedException {
+        ReplicasChangeManager manager = manager(1);
+        CountDownLatch failed = new CountDownLatch(1);
+
+        change(manager, "my-topic", 4).onFailure(error -> {
+            if (error instanceof ReplicationFactorChangeException) {
+                failed.countDown();
+            }
+        });
+
+        assertThat(failed.await(10, TimeUnit.SECONDS), is(true));
+        waitFor(() -> manager.size() == 0);
+    }
+
+    @Test
+    public void testThrottleRateIsRemovedWithTheLastChangeUsingIt() throws InterruptedException {
+        ReplicasChangeManager manager = manager(2);
+        TopicName first = new TopicName("my-topic-0");
+        TopicName second = new TopicName("my-topic-1");
+        // The throttle rate of broker 2 was configured by the user
+        rates.add(2);
+
+        change(manager, "my-topic-0", 3);
+        waitFor(() -> reassignments.containsKey(first));
+        assertThat(manager.status(first).getThrottledBrokers(), is(List.of(0, 1)));
+
+        change(manager, "my-topic-1", 3);
+        waitFor(() -> reassignments.containsKey(second));
+        assertThat(manager.status(second).getThrottledBrokers(), is(List.of(0, 1)));
+
+        reassigning.put(first, 0);
+        waitFor(() -> manager.size() == 1);
+        assertThat(removedRates.get(first), is(Set.of()));
+
+        reassigning.put(second, 0);
+        waitFor(() -> manager.size() == 0);
+        assertThat(removedRates.get(second), is(Set.of(0, 1)));
+        assertThat(rates, is(Set.of(2)));
+    }
+
+    @Test
+    public void testOngoingChangeIsResumedFromStatus() throws InterruptedException {
+        ReplicasChangeManager manager = manager(1);
+        TopicName topicName = new TopicName("my-topic");
+        reassigning.put(topicName, 1);
+
+        manager.resume(LogContext.periodic("test", "my-namespace", "my-topic"), kafkaTopic("my-topic"), topicName,
+                new KafkaTopicReplicasChangeStatusBuilder()
+                        .withTargetReplicas(3)
+                        .withState(KafkaTopicReplicasChangeStatus.STATE_ONGOING)
+                        .withReassigningPartitions(2)
+                        .withThrottledBrokers(0, 1)
+                        .build());
+
+        assertThat(manager.status(topicName).getState(), is(KafkaTopicReplicasChangeStatus.STATE_ONGOING));
+        assertThat(manager.status(topicName).getThrottledBrokers(), is(List.of(0, 1)));
+        waitFor(() -> progress.contains(topicName));
+        assertThat(manager.status(topicName).getReassigningPartitions(), is(1));
+
+        reassigning.put(topicName, 0);
+        waitFor(() -> manager.size() == 0);
+        assertThat(removedRates.get(topicName), is(Set.of(0, 1)));
+    }
+
+    @Test
+    public void testPendingChangeIsNotResumedFromStatus() {
+        ReplicasChangeManager manager = manager(1);
+
+        manager.resume(LogContext.periodic("test", "my-namespace", "my-topic"), kafkaTopic("my-topic"), new TopicName("my-topic"),
+                new KafkaTopicReplicasChangeStatusBuilder()
+                        .withTargetReplicas(3)
+                        .withState(KafkaTopicReplicasChangeStatus.STATE_PENDING)
+                        .build());
+
+        assertThat(manager.size(), is(0));
+    }
+
+    @Test
+    public void testLeftoverThrottleIsRemoved() {
+        ReplicasChangeManager manager = manager(1);
+        TopicName topicName = new TopicName("my-topic");
+        LogContext logContext = LogContext.periodic("test", "my-namespace", "my-topic");
+        ConfigEntry throttledReplicas = mock(ConfigEntry.class);
+        when(throttledReplicas.name()).thenReturn(KafkaImpl.LEADER_THROTTLED_REPLICAS);
+        when(throttledReplicas.value()).thenReturn("0:0,1:0");
+        when(throttledReplicas.source()).thenReturn(ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG);
+        TopicMetadata metadata = Utils.getTopicMetadata("my-topic", new Config(List.of(throttledReplicas)));
+
+        // Kept while the partitions are being reassigned
+        reassigning.put(topicName, 1);
+        assertThat(manager.removeLeftoverThrottle(logContext, topicName, metadata).succeeded(), is(true));
+        assertThat(throttleRemovals, is(List.of()));
+
+        reassigning.put(topicName, 0);
+        assertThat(manager.removeLeftoverThrottle(logContext, topicName, metadata).succeeded(), is(true));
+        assertThat(throttleRemovals, is(List.of(topicName)));
+        assertThat(removedRates.get(topicName), is(Set.of()));
+
+        // Nothing to remove without the throttled replicas
+        throttleRemovals.clear();
+        manager.removeLeftoverThrottle(logContext, topicName, Utils.getTopicMetadata("my-topic", new Config(emptyList())));
+        assertThat(throttleRemovals, is(List.of()));
+    }
+}
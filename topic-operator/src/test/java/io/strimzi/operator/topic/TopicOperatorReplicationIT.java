@@ -10,6 +10,7 @@ import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopicBuilder;
 import kafka.admin.ReassignPartitionsCommand;
+import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.streams.integration.utils.EmbeddedKafkaCluster;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -29,6 +30,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -71,6 +73,7 @@ public class TopicOperatorReplicationIT extends TopicOperatorBaseIT {
     protected Map<String, String> topicOperatorConfig(EmbeddedKafkaCluster kafkaCluster) {
         Map<String, String> m = super.topicOperatorConfig(kafkaCluster);
         m.put(Config.FULL_RECONCILIATION_INTERVAL_MS.key, "20000");
+        m.put(Config.REASSIGN_VERIFY_INTERVAL_MS.key, "1000");
         return m;
     }
 
@@ -80,21 +83,6 @@ public class TopicOperatorReplicationIT extends TopicOperatorBaseIT {
         String topicName = "test-kafkatopic-modified-with-changed-replication";
         String resourceName = createTopic(topicName, asList(1));
 
-        // now change the topicResource
-        KafkaTopic changedTopic = new KafkaTopicBuilder(operation().inNamespace(NAMESPACE).withName(resourceName).get())
-                .editOrNewSpec().withReplicas(2).endSpec().build();
-        operation().inNamespace(NAMESPACE).withName(resourceName).patch(changedTopic);
-        assertStatusNotReady(topicName,
-                "Changing 'spec.replicas' is not supported. " +
-                        "This KafkaTopic's 'spec.replicas' should be reverted to 1 and then " +
-                        "the replication should be changed directly in Kafka.");
-
-        // Now do the revert
-        changedTopic = new KafkaTopicBuilder(operation().inNamespace(NAMESPACE).withName(resourceName).get())
-                .editOrNewSpec().withReplicas(1).endSpec().build();
-        operation().inNamespace(NAMESPACE).withName(resourceName).patch(changedTopic);
-        assertStatusReady(topicName);
-
         File file = File.createTempFile(getClass().getSimpleName(), ".json");
         ObjectMapper mapper = new ObjectMapper();
         ObjectNode root = new ObjectNode(mapper.getNodeFactory());
@@ -145,6 +133,37 @@ public class TopicOperatorReplicationIT extends TopicOperatorBaseIT {
         assertStatusReady(topicName);
     }
 
+    @Test
+    public void testKafkaTopicModifiedChangedReplicationInKube() throws Exception {
+        // create the topicResource
+        String topicName = "test-kafkatopic-modified-with-changed-replication-in-kube";
+        String resourceName = createTopic(topicName, asList(1));
+
+        // now change the topicResource
+        KafkaTopic changedTopic = new KafkaTopicBuilder(operation().inNamespace(NAMESPACE).withName(resourceName).get())
+                .editOrNewSpec().withReplicas(2).endSpec().build();
+        operation().inNamespace(NAMESPACE).withName(resourceName).patch(changedTopic);
+
+        // wait for the reassignment done by the operator
+        waitFor(() -> {
+            try {
+                TopicDescription description = adminClient.describeTopics(singletonList(topicName)).values().get(topicName).get();
+                return description.partitions().get(0).replicas().size() == 2
+                        && adminClient.listPartitionReassignments().reassignments().get().isEmpty();
+            } catch (Exception e) {
+                return false;
+            }
+        }, "topic replicas=2");
+
+        // wait for the status to be updated once the change completes
+        waitFor(() -> {
+            KafkaTopic kafkaTopic = operation().inNamespace(NAMESPACE).withName(resourceName).get();
+            return kafkaTopic.getStatus() != null && kafkaTopic.getStatus().getReplicasChange() == null;
+        }, "KafkaTopic.status.replicasChange=null");
+        assertStatusReady(topicName);
+        assertThat(operation().inNamespace(NAMESPACE).withName(resourceName).get().getSpec().getReplicas(), is(2));
+    }
+
     ByteArrayOutputStream baos = new ByteArrayOutputStream();
     PrintStream tempStdOut = new PrintStream(baos);
 
@@ -1355,6 +1355,59 @@ public class TopicOperatorTest {
         }));
     }
 
+    @Test
+    public void testReconcileChangedTopics(VertxTestContext context) {
+        Topic kubeTopic = new Topic.Builder(topicName.toString(), 10, (short) 2, map("cleanup.policy", "bar"), metadata).build();
+        KafkaTopic topicResource = TopicSerialization.toTopicResource(kubeTopic, labels);
+        topicResource.getMetadata().setResourceVersion("1");
+
+        mockKafka.setTopicsList(singleton(topicName.toString()));
+        mockKafka.setTopicMetadataResponse(t -> Future.succeededFuture(Utils.getTopicMetadata(kubeTopic)));
+        mockK8s.setGetFromNameResponse(resourceName, Future.succeededFuture(topicResource));
+        mockTopicStore.setCreateTopicResponse(topicName, null);
+        mockTopicStore.create(kubeTopic);
+
+        MeterRegistry registry = metrics.meterRegistry();
+        Checkpoint async = context.checkpoint();
+
+        topicOperator.reconcileChangedTopics("periodic ", false)
+            .compose(first -> {
+                context.verify(() -> {
+                    assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations").tag("kind", "KafkaTopic").counter().count(), is(1.0));
+                    assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.incremental.skipped").tag("kind", "KafkaTopic").counter().count(), is(0.0));
+                });
+
+                // Nothing changed => the topic is skipped
+                return topicOperator.reconcileChangedTopics("periodic ", false);
+            })
+            .compose(second -> {
+                context.verify(() -> {
+                    assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations").tag("kind", "KafkaTopic").counter().count(), is(1.0));
+                    assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.incremental.skipped").tag("kind", "KafkaTopic").counter().count(), is(1.0));
+                });
+
+                // The full scan reconciles the unchanged topic as well
+                return topicOperator.reconcileChangedTopics("periodic ", true);
+            })
+            .compose(third -> {
+                context.verify(() -> {
+                    assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations").tag("kind", "KafkaTopic").counter().count(), is(2.0));
+                    assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.incremental.skipped").tag("kind", "KafkaTopic").counter().count(), is(1.0));
+                });
+
+                // The KafkaTopic was changed by the user => the topic is reconciled again
+                KafkaTopic modified = new KafkaTopicBuilder(topicResource).editMetadata().withResourceVersion("2").endMetadata().build();
+                mockK8s.setGetFromNameResponse(resourceName, Future.succeededFuture(modified));
+                return topicOperator.reconcileChangedTopics("periodic ", false);
+            })
+            .onComplete(context.succeeding(fourth -> context.verify(() -> {
+                assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations").tag("kind", "KafkaTopic").counter().count(), is(3.0));
+                assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.incremental.skipped").tag("kind", "KafkaTopic").counter().count(), is(1.0));
+                assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.failed").tag("kind", "KafkaTopic").counter().count(), is(0.0));
+                async.flag();
+            })));
+    }
+
     /**
      * Created new MetricsProvider and makes sure it doesn't contain any metrics from previous tests.
      *
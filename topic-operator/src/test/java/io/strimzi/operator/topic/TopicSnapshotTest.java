@@ -0,0 +1,90 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TopicSnapshotTest {
+    private final TopicName topicName = new TopicName("my-topic");
+
+    private static Topic topic(int partitions, Map<String, String> config) {
+        return new Topic.Builder("my-topic", partitions, (short) 3, config).build();
+    }
+
+    private static KafkaTopic kafkaTopic(String resourceVersion) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName("my-topic")
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .build();
+    }
+
+    @Test
+    public void testUnknownTopicIsChanged() {
+        TopicSnapshot snapshot = new TopicSnapshot();
+
+        assertThat(snapshot.unchanged(topicName, TopicSnapshot.fingerprint(topic(1, Map.of()), kafkaTopic("1")), false), is(false));
+    }
+
+    @Test
+    public void testChangesAreDetected() {
+        TopicSnapshot snapshot = new TopicSnapshot();
+        snapshot.record(topicName, TopicSnapshot.fingerprint(topic(1, Map.of("retention.ms", "1000")), kafkaTopic("1")), snapshot.stamp(topicName));
+
+        assertThat(snapshot.unchanged(topicName, TopicSnapshot.fingerprint(topic(1, Map.of("retention.ms", "1000")), kafkaTopic("1")), false), is(true));
+
+        // Kafka changes
+        assertThat(snapshot.unchanged(topicName, TopicSnapshot.fingerprint(topic(2, Map.of("retention.ms", "1000")), kafkaTopic("1")), false), is(false));
+        assertThat(snapshot.unchanged(topicName, TopicSnapshot.fingerprint(topic(1, Map.of("retention.ms", "2000")), kafkaTopic("1")), false), is(false));
+        assertThat(snapshot.unchanged(topicName, TopicSnapshot.fingerprint(null, kafkaTopic("1")), false), is(false));
+
+        // Kubernetes changes
+        assertThat(snapshot.unchanged(topicName, TopicSnapshot.fingerprint(topic(1, Map.of("retention.ms", "1000")), kafkaTopic("2")), false), is(false));
+        assertThat(snapshot.unchanged(topicName, TopicSnapshot.fingerprint(topic(1, Map.of("retention.ms", "1000")), null), false), is(false));
+
+        // The KafkaTopic was changed by the operator itself
+        assertThat(snapshot.unchanged(topicName, TopicSnapshot.fingerprint(topic(1, Map.of("retention.ms", "1000")), kafkaTopic("2")), true), is(true));
+    }
+
+    @Test
+    public void testInvalidation() {
+        TopicSnapshot snapshot = new TopicSnapshot();
+        TopicSnapshot.Fingerprint fingerprint = TopicSnapshot.fingerprint(topic(1, Map.of()), kafkaTopic("1"));
+        snapshot.record(topicName, fingerprint, snapshot.stamp(topicName));
+
+        snapshot.invalidate(topicName);
+        assertThat(snapshot.unchanged(topicName, fingerprint, false), is(false));
+
+        // The fingerprint observed before the invalidation is not recorded
+        long stamp = snapshot.stamp(topicName);
+        snapshot.invalidate(topicName);
+        snapshot.record(topicName, fingerprint, stamp);
+        assertThat(snapshot.unchanged(topicName, fingerprint, false), is(false));
+
+        snapshot.record(topicName, fingerprint, snapshot.stamp(topicName));
+        assertThat(snapshot.unchanged(topicName, fingerprint, false), is(true));
+    }
+
+    @Test
+    public void testRetainAll() {
+        TopicSnapshot snapshot = new TopicSnapshot();
+        TopicName otherName = new TopicName("other-topic");
+        snapshot.record(topicName, TopicSnapshot.fingerprint(topic(1, Map.of()), kafkaTopic("1")), 0);
+        snapshot.record(otherName, TopicSnapshot.fingerprint(topic(1, Map.of()), kafkaTopic("1")), 0);
+        assertThat(snapshot.size(), is(2));
+
+        snapshot.retainAll(Set.of(topicName));
+        assertThat(snapshot.size(), is(1));
+    }
+}
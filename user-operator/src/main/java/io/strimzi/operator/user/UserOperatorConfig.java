@@ -30,6 +30,9 @@ public class UserOperatorConfig {
     public static final String STRIMZI_CLIENTS_CA_RENEWAL = "STRIMZI_CA_RENEWAL";
     public static final String STRIMZI_SECRET_PREFIX = "STRIMZI_SECRET_PREFIX";
     public static final String STRIMZI_ACLS_ADMIN_API_SUPPORTED = "STRIMZI_ACLS_ADMIN_API_SUPPORTED";
+    public static final String STRIMZI_CERTIFICATE_BATCH_WINDOW_MS = "STRIMZI_CERTIFICATE_BATCH_WINDOW_MS";
+    public static final String STRIMZI_CERTIFICATE_ISSUANCE_THREADS = "STRIMZI_CERTIFICATE_ISSUANCE_THREADS";
+    public static final String STRIMZI_MAX_CONCURRENT_SECRET_WRITES = "STRIMZI_MAX_CONCURRENT_SECRET_WRITES";
 
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final String DEFAULT_KAFKA_BOOTSTRAP_SERVERS = "localhost:9091";
@@ -38,6 +41,9 @@ public class UserOperatorConfig {
     public static final String DEFAULT_SECRET_PREFIX = "";
     // Defaults to true for backwards compatibility in standalone UO deployments
     public static final boolean DEFAULT_STRIMZI_ACLS_ADMIN_API_SUPPORTED = true;
+    public static final long DEFAULT_CERTIFICATE_BATCH_WINDOW_MS = 100;
+    public static final int DEFAULT_CERTIFICATE_ISSUANCE_THREADS = 4;
+    public static final int DEFAULT_MAX_CONCURRENT_SECRET_WRITES = 20;
 
     private final String namespace;
     private final long reconciliationIntervalMs;
@@ -54,6 +60,9 @@ public class UserOperatorConfig {
     private final int clientsCaValidityDays;
     private final int clientsCaRenewalDays;
     private final boolean aclsAdminApiSupported;
+    private final long certificateBatchWindowMs;
+    private final int certificateIssuanceThreads;
+    private final int maxConcurrentSecretWrites;
 
     /**
      * Constructor
@@ -73,6 +82,9 @@ public class UserOperatorConfig {
      * @param aclsAdminApiSupported Indicates whether Kafka Admin API can be used to manage ACL rights
      * @param clientsCaValidityDays Number of days for which the certificate should be valid
      * @param clientsCaRenewalDays How long before the certificate expiration should the user certificate be renewed
+     * @param certificateBatchWindowMs Time for which the user certificate requests are collected into a single batch
+     * @param certificateIssuanceThreads Number of threads used to generate and sign the user certificates
+     * @param maxConcurrentSecretWrites Maximum number of user Secrets reconciled at the same time
      */
     @SuppressWarnings({"checkstyle:ParameterNumber"})
     public UserOperatorConfig(String namespace,
@@ -89,7 +101,10 @@ public class UserOperatorConfig {
                               String secretPrefix,
                               boolean aclsAdminApiSupported,
                               int clientsCaValidityDays,
-                              int clientsCaRenewalDays) {
+                              int clientsCaRenewalDays,
+                              long certificateBatchWindowMs,
+                              int certificateIssuanceThreads,
+                              int maxConcurrentSecretWrites) {
         this.namespace = namespace;
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.kafkaBootstrapServers = kafkaBootstrapServers;
@@ -105,6 +120,9 @@ public class UserOperatorConfig {
         this.aclsAdminApiSupported = aclsAdminApiSupported;
         this.clientsCaValidityDays = clientsCaValidityDays;
         this.clientsCaRenewalDays = clientsCaRenewalDays;
+        this.certificateBatchWindowMs = certificateBatchWindowMs;
+        this.certificateIssuanceThreads = certificateIssuanceThreads;
+        this.maxConcurrentSecretWrites = maxConcurrentSecretWrites;
     }
 
     /**
@@ -181,9 +199,26 @@ public class UserOperatorConfig {
 
         int clientsCaRenewalDays = getIntProperty(map, UserOperatorConfig.STRIMZI_CLIENTS_CA_RENEWAL, CertificateAuthority.DEFAULT_CERTS_RENEWAL_DAYS);
 
+        long certificateBatchWindowMs = DEFAULT_CERTIFICATE_BATCH_WINDOW_MS;
+        String certificateBatchWindowMsEnvVar = map.get(UserOperatorConfig.STRIMZI_CERTIFICATE_BATCH_WINDOW_MS);
+        if (certificateBatchWindowMsEnvVar != null) {
+            certificateBatchWindowMs = Long.parseLong(certificateBatchWindowMsEnvVar);
+        }
+
+        int certificateIssuanceThreads = getIntProperty(map, UserOperatorConfig.STRIMZI_CERTIFICATE_ISSUANCE_THREADS, DEFAULT_CERTIFICATE_ISSUANCE_THREADS);
+        if (certificateIssuanceThreads < 1) {
+            throw new InvalidConfigurationException(UserOperatorConfig.STRIMZI_CERTIFICATE_ISSUANCE_THREADS + " has to be at least 1");
+        }
+
+        int maxConcurrentSecretWrites = getIntProperty(map, UserOperatorConfig.STRIMZI_MAX_CONCURRENT_SECRET_WRITES, DEFAULT_MAX_CONCURRENT_SECRET_WRITES);
+        if (maxConcurrentSecretWrites < 1) {
+            throw new InvalidConfigurationException(UserOperatorConfig.STRIMZI_MAX_CONCURRENT_SECRET_WRITES + " has to be at least 1");
+        }
+
         return new UserOperatorConfig(namespace, reconciliationInterval, kafkaBootstrapServers, zookeeperConnect,
                 zookeeperSessionTimeoutMs, labels, caCertSecretName, caKeySecretName, clusterCaCertSecretName,
-                eoKeySecretName, caNamespace, secretPrefix, aclsAdminApiSupported, clientsCaValidityDays, clientsCaRenewalDays);
+                eoKeySecretName, caNamespace, secretPrefix, aclsAdminApiSupported, clientsCaValidityDays, clientsCaRenewalDays,
+                certificateBatchWindowMs, certificateIssuanceThreads, maxConcurrentSecretWrites);
     }
 
     /**
@@ -200,6 +235,27 @@ public class UserOperatorConfig {
         return clientsCaRenewalDays;
     }
 
+    /**
+     * @return  Time in milliseconds for which the user certificate requests are collected into a single batch
+     */
+    public long getCertificateBatchWindowMs() {
+        return certificateBatchWindowMs;
+    }
+
+    /**
+     * @return  Number of threads used to generate and sign the user certificates
+     */
+    public int getCertificateIssuanceThreads() {
+        return certificateIssuanceThreads;
+    }
+
+    /**
+     * @return  Maximum number of user Secrets reconciled at the same time
+     */
+    public int getMaxConcurrentSecretWrites() {
+        return maxConcurrentSecretWrites;
+    }
+
     /**
      * Extracts the int type environment variable from the Map.
      *
@@ -344,6 +400,9 @@ public class UserOperatorConfig {
                 ",aclsAdminApiSupported=" + aclsAdminApiSupported +
                 ",clientsCaValidityDays=" + clientsCaValidityDays +
                 ",clientsCaRenewalDays=" + clientsCaRenewalDays +
+                ",certificateBatchWindowMs=" + certificateBatchWindowMs +
+                ",certificateIssuanceThreads=" + certificateIssuanceThreads +
+                ",maxConcurrentSecretWrites=" + maxConcurrentSecretWrites +
                 ")";
     }
 }
@@ -201,10 +201,53 @@ public class KafkaUserModel {
      * @param validityDays The number of days the certificate should be valid for.
      * @param renewalDays The renewal days.
      */
-    @SuppressWarnings("checkstyle:BooleanExpressionComplexity")
     public void maybeGenerateCertificates(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator,
                                           Secret clientsCaCertSecret, Secret clientsCaKeySecret,
                                           Secret userSecret, int validityDays, int renewalDays) {
+        ClientsCa clientsCa = clientsCa(reconciliation, certManager, passwordGenerator, clientsCaCertSecret, clientsCaKeySecret, validityDays, renewalDays);
+
+        if (!reuseCertificates(reconciliation, clientsCa, clientsCaCertSecret, userSecret)) {
+            try {
+                this.userCertAndKey = clientsCa.generateSignedCert(name);
+            } catch (IOException e) {
+                LOGGER.errorCr(reconciliation, "Error generating signed certificate for user {}", name, e);
+            }
+        }
+    }
+
+    /**
+     * Reuses the certificates already present in the user Secret when they are signed by the current clients CA and
+     * are not expiring. Otherwise, the new certificate has to be issued and set using {@link #setUserCertAndKey}.
+     *
+     * @param reconciliation The reconciliation
+     * @param certManager CertManager instance for handling certificates creation
+     * @param passwordGenerator PasswordGenerator instance for generating passwords
+     * @param clientsCaCertSecret The clients CA certificate Secret.
+     * @param clientsCaKeySecret The clients CA key Secret.
+     * @param userSecret Secret with the user certificate
+     * @param validityDays The number of days the certificate should be valid for.
+     * @param renewalDays The renewal days.
+     *
+     * @return  True if the existing certificates were reused. False if a new certificate has to be issued.
+     */
+    public boolean maybeReuseCertificates(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator,
+                                          Secret clientsCaCertSecret, Secret clientsCaKeySecret,
+                                          Secret userSecret, int validityDays, int renewalDays) {
+        ClientsCa clientsCa = clientsCa(reconciliation, certManager, passwordGenerator, clientsCaCertSecret, clientsCaKeySecret, validityDays, renewalDays);
+        return reuseCertificates(reconciliation, clientsCa, clientsCaCertSecret, userSecret);
+    }
+
+    /**
+     * Sets the newly issued user certificate
+     *
+     * @param userCertAndKey The user key, certificate and keystore
+     */
+    public void setUserCertAndKey(CertAndKey userCertAndKey) {
+        this.userCertAndKey = userCertAndKey;
+    }
+
+    private ClientsCa clientsCa(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator,
+                                Secret clientsCaCertSecret, Secret clientsCaKeySecret, int validityDays, int renewalDays) {
         validateCACertificates(clientsCaCertSecret, clientsCaKeySecret);
 
         ClientsCa clientsCa = new ClientsCa(reconciliation, certManager,
@@ -217,6 +260,11 @@ public class KafkaUserModel {
                 renewalDays,
                 false, null);
         this.caCert = clientsCa.currentCaCertBase64();
+        return clientsCa;
+    }
+
+    @SuppressWarnings("checkstyle:BooleanExpressionComplexity")
+    private boolean reuseCertificates(Reconciliation reconciliation, ClientsCa clientsCa, Secret clientsCaCertSecret, Secret userSecret) {
         if (userSecret != null) {
             // Secret already exists -> lets verify if it has keys from the same CA
             String originalCaCrt = clientsCaCertSecret.getData().get("ca.crt");
@@ -254,15 +302,11 @@ public class KafkaUserModel {
                         LOGGER.errorCr(reconciliation, "Error generating the keystore for user {}", name, e);
                     }
                 }
-                return;
+                return true;
             }
         }
 
-        try {
-            this.userCertAndKey = clientsCa.generateSignedCert(name);
-        } catch (IOException e) {
-            LOGGER.errorCr(reconciliation, "Error generating signed certificate for user {}", name, e);
-        }
+        return false;
     }
 
     private void validateCACertificates(Secret clientsCaCertSecret, Secret clientsCaKeySecret)   {
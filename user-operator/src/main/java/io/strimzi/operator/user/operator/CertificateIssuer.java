@@ -0,0 +1,313 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.certs.CertAndKey;
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.Subject;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Issues the user certificates signed by the Clients CA. The certificate requests of the users reconciled within a
+ * short window are collected into batches:
+ * <ul>
+ *     <li>The key and the certificate of the CA are written into temporary files only once per batch.</li>
+ *     <li>The private keys and the certificate signing requests of the users are generated in parallel on a
+ *     dedicated worker pool, so that the event loop and the other worker threads are not blocked by them.</li>
+ *     <li>The certificates are signed using the CA files shared by the whole batch.</li>
+ * </ul>
+ * The number of issued certificates, the size of the batches and the number of the requests waiting for their
+ * certificates are reported as metrics.
+ */
+class CertificateIssuer {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(CertificateIssuer.class);
+
+    static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    private final Vertx vertx;
+    private final CertManager certManager;
+    private final PasswordGenerator passwordGenerator;
+    private final WorkerExecutor executor;
+    private final long windowMs;
+    private final int maxBatchSize;
+    private final int validityDays;
+
+    private final Counter issuedCounter;
+    private final Counter failedCounter;
+    private final AtomicInteger queueDepth;
+    private final DistributionSummary batchSize;
+
+    private List<Request> pending = new ArrayList<>();
+    private long timerId = -1;
+
+    /**
+     * Constructs the certificate issuer
+     *
+     * @param vertx             Vert.x instance used for the batching timers and the worker pool
+     * @param certManager       Certificate manager used to generate the keys and certificates
+     * @param passwordGenerator Password generator used for the keystore passwords
+     * @param threads           Number of threads used to generate the keys and certificates
+     * @param windowMs          Time for which the requests are collected before the batch is executed
+     * @param maxBatchSize      Maximum number of certificates in a single batch
+     * @param validityDays      Validity of the user certificates in days
+     * @param metrics           Metrics provider
+     */
+    CertificateIssuer(Vertx vertx, CertManager certManager, PasswordGenerator passwordGenerator, int threads,
+                      long windowMs, int maxBatchSize, int validityDays, MetricsProvider metrics) {
+        this.vertx = vertx;
+        this.certManager = certManager;
+        this.passwordGenerator = passwordGenerator;
+        this.executor = vertx.createSharedWorkerExecutor("user-certificate-issuance", threads);
+        this.windowMs = windowMs;
+        this.maxBatchSize = maxBatchSize;
+        this.validityDays = validityDays;
+
+        Tags tags = Tags.of(Tag.of("kind", "KafkaUser"));
+        this.issuedCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "certificates.issued",
+                "Number of issued user certificates", tags);
+        this.failedCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "certificates.issuance.failed",
+                "Number of user certificates which failed to be issued", tags);
+        this.queueDepth = metrics.gauge(AbstractOperator.METRICS_PREFIX + "certificates.issuance.queue",
+                "Number of user certificates waiting to be issued", tags);
+        this.batchSize = DistributionSummary.builder(AbstractOperator.METRICS_PREFIX + "certificates.issuance.batch.size")
+                .description("Number of user certificates issued in a single batch")
+                .tags(tags)
+                .register(metrics.meterRegistry());
+    }
+
+    /**
+     * Requests a new user certificate signed by the Clients CA. The request is added to the current batch.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param commonName        Common name of the user certificate
+     * @param caCertSecret      Secret with the Clients CA certificate (ca.crt)
+     * @param caKeySecret       Secret with the Clients CA private key (ca.key)
+     *
+     * @return  Future with the user key, certificate and keystore
+     */
+    Future<CertAndKey> issue(Reconciliation reconciliation, String commonName, Secret caCertSecret, Secret caKeySecret) {
+        Promise<CertAndKey> promise = Promise.promise();
+        List<Request> batch = null;
+
+        synchronized (this) {
+            pending.add(new Request(reconciliation, commonName, caCertSecret.getData().get("ca.crt"),
+                    caKeySecret.getData().get("ca.key"), promise));
+            queueDepth.incrementAndGet();
+            LOGGER.debugCr(reconciliation, "Certificate for user {} added to the batch with {} certificates", commonName, pending.size());
+
+            if (pending.size() >= maxBatchSize || windowMs <= 0) {
+                batch = take();
+            } else if (timerId < 0) {
+                timerId = vertx.setTimer(windowMs, id -> timerFired(id));
+            }
+        }
+
+        if (batch != null) {
+            execute(batch);
+        }
+
+        return promise.future();
+    }
+
+    private void timerFired(long id) {
+        List<Request> batch = null;
+
+        synchronized (this) {
+            if (timerId == id) {
+                batch = take();
+            }
+        }
+
+        if (batch != null) {
+            execute(batch);
+        }
+    }
+
+    /**
+     * Takes the pending requests. Has to be called with the lock held.
+     */
+    private List<Request> take() {
+        if (timerId >= 0) {
+            vertx.cancelTimer(timerId);
+            timerId = -1;
+        }
+
+        List<Request> batch = pending;
+        pending = new ArrayList<>();
+        return batch;
+    }
+
+    private void execute(List<Request> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        batchSize.record(batch.size());
+
+        // The CA might be renewed while the batch is collected, so the requests are grouped by the CA they use
+        Map<String, List<Request>> byCa = new LinkedHashMap<>();
+        for (Request request : batch) {
+            byCa.computeIfAbsent(request.caCert + "/" + request.caKey, key -> new ArrayList<>()).add(request);
+        }
+
+        byCa.values().forEach(this::executeWithCa);
+    }
+
+    private void executeWithCa(List<Request> requests) {
+        Request first = requests.get(0);
+        LOGGER.debugCr(first.reconciliation, "Issuing {} user certificates", requests.size());
+
+        executor.<CaFiles>executeBlocking(promise -> {
+            try {
+                promise.complete(new CaFiles(first.reconciliation, first.caCert, first.caKey));
+            } catch (IOException e) {
+                promise.fail(e);
+            }
+        }, false).onComplete(caFiles -> {
+            if (caFiles.failed()) {
+                LOGGER.warnCr(first.reconciliation, "Failed to prepare the Clients CA for issuing {} user certificates", requests.size(), caFiles.cause());
+                requests.forEach(request -> completed(request, Future.failedFuture(caFiles.cause())));
+                return;
+            }
+
+            List<Future> results = new ArrayList<>(requests.size());
+
+            for (Request request : requests) {
+                Future<CertAndKey> result = executor.executeBlocking(promise -> {
+                    try {
+                        promise.complete(generate(request, caFiles.result()));
+                    } catch (IOException e) {
+                        promise.fail(e);
+                    }
+                }, false);
+
+                result.onComplete(res -> completed(request, res));
+                results.add(result);
+            }
+
+            CompositeFuture.join(results).onComplete(ignored -> executor.executeBlocking(promise -> {
+                caFiles.result().delete();
+                promise.complete();
+            }, false));
+        });
+    }
+
+    private CertAndKey generate(Request request, CaFiles caFiles) throws IOException {
+        File csrFile = File.createTempFile("tls", "user-csr");
+        File keyFile = File.createTempFile("tls", "user-key");
+        File certFile = File.createTempFile("tls", "user-cert");
+        File keyStoreFile = File.createTempFile("tls", "user-p12");
+
+        try {
+            Subject subject = new Subject.Builder().withCommonName(request.commonName).build();
+
+            certManager.generateCsr(keyFile, csrFile, subject);
+            certManager.generateCert(csrFile, caFiles.keyFile, caFiles.certFile, certFile, subject, validityDays);
+
+            String keyStorePassword = passwordGenerator.generate();
+            certManager.addKeyAndCertToKeyStore(keyFile, certFile, subject.commonName(), keyStoreFile, keyStorePassword);
+
+            return new CertAndKey(
+                    Files.readAllBytes(keyFile.toPath()),
+                    Files.readAllBytes(certFile.toPath()),
+                    null,
+                    Files.readAllBytes(keyStoreFile.toPath()),
+                    keyStorePassword);
+        } finally {
+            delete(request.reconciliation, csrFile);
+            delete(request.reconciliation, keyFile);
+            delete(request.reconciliation, certFile);
+            delete(request.reconciliation, keyStoreFile);
+        }
+    }
+
+    private void completed(Request request, AsyncResult<CertAndKey> result) {
+        queueDepth.decrementAndGet();
+
+        if (result.succeeded()) {
+            issuedCounter.increment();
+        } else {
+            LOGGER.warnCr(request.reconciliation, "Failed to issue certificate for user {}", request.commonName, result.cause());
+            failedCounter.increment();
+        }
+
+        request.promise.handle(result);
+    }
+
+    private static void delete(Reconciliation reconciliation, File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            LOGGER.warnCr(reconciliation, "Failed to delete temporary file {}", file, e);
+        }
+    }
+
+    /**
+     * The Clients CA key and certificate written into temporary files shared by the batch
+     */
+    private static class CaFiles {
+        private final Reconciliation reconciliation;
+        private final File keyFile;
+        private final File certFile;
+
+        CaFiles(Reconciliation reconciliation, String caCert, String caKey) throws IOException {
+            this.reconciliation = reconciliation;
+            this.keyFile = File.createTempFile("tls", "ca-key");
+            this.certFile = File.createTempFile("tls", "ca-cert");
+
+            Files.write(keyFile.toPath(), Base64.getDecoder().decode(caKey));
+            Files.write(certFile.toPath(), Base64.getDecoder().decode(caCert));
+        }
+
+        void delete() {
+            CertificateIssuer.delete(reconciliation, keyFile);
+            CertificateIssuer.delete(reconciliation, certFile);
+        }
+    }
+
+    /**
+     * Request for a single user certificate waiting in the batch
+     */
+    private static class Request {
+        private final Reconciliation reconciliation;
+        private final String commonName;
+        private final String caCert;
+        private final String caKey;
+        private final Promise<CertAndKey> promise;
+
+        Request(Reconciliation reconciliation, String commonName, String caCert, String caKey, Promise<CertAndKey> promise) {
+            this.reconciliation = reconciliation;
+            this.commonName = commonName;
+            this.caCert = caCert;
+            this.caKey = caKey;
+            this.promise = promise;
+        }
+    }
+}
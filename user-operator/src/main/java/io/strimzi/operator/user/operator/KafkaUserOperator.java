@@ -12,6 +12,7 @@ import io.strimzi.api.kafka.model.KafkaUserQuotas;
 import io.strimzi.api.kafka.model.KafkaUserSpec;
 import io.strimzi.api.kafka.model.status.KafkaUserStatus;
 import io.strimzi.certs.CertManager;
+import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
@@ -31,7 +32,9 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -51,6 +54,10 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
     private final KafkaUserQuotasOperator kafkaUserQuotasOperator;
     private final PasswordGenerator passwordGenerator = new PasswordGenerator(12);
     private final UserOperatorConfig config;
+    private final CertificateIssuer certificateIssuer;
+
+    private final Deque<Runnable> pendingSecretWrites = new ArrayDeque<>();
+    private int ongoingSecretWrites = 0;
 
     /**
      * Creates the instance of KafkaUserOperator
@@ -79,6 +86,8 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         this.kafkaUserQuotasOperator = kafkaUserQuotasOperator;
         this.aclOperations = aclOperations;
         this.config = config;
+        this.certificateIssuer = new CertificateIssuer(vertx, certManager, passwordGenerator, config.getCertificateIssuanceThreads(),
+                config.getCertificateBatchWindowMs(), CertificateIssuer.DEFAULT_MAX_BATCH_SIZE, config.getClientsCaValidityDays(), metrics);
     }
 
     @Override
@@ -207,7 +216,8 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
     }
 
     /**
-     * Sets or generates the credentials for a TLS user
+     * Sets or generates the credentials for a TLS user. The existing certificate is reused when possible. New
+     * certificates are issued in batches by the {@link CertificateIssuer}.
      *
      * @param reconciliation    Unique identification for the reconciliation
      * @param user              Model describing the KafkaUser
@@ -224,7 +234,7 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
                     Secret clientsCaCertSecret = caSecrets.resultAt(0);
                     Secret clientsCaKeySecret = caSecrets.resultAt(1);
 
-                    user.maybeGenerateCertificates(
+                    boolean reused = user.maybeReuseCertificates(
                             reconciliation,
                             certManager,
                             passwordGenerator,
@@ -235,7 +245,15 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
                             config.getClientsCaRenewalDays()
                     );
 
-                    return Future.succeededFuture();
+                    if (reused) {
+                        return Future.succeededFuture();
+                    }
+
+                    return certificateIssuer.issue(reconciliation, user.getName(), clientsCaCertSecret, clientsCaKeySecret)
+                            .compose(userCertAndKey -> {
+                                user.setUserCertAndKey(userCertAndKey);
+                                return Future.succeededFuture();
+                            });
                 });
     }
 
@@ -305,7 +323,7 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
     private Future<ReconcileResult<Secret>> reconcileUserSecret(Reconciliation reconciliation, KafkaUserModel user, KafkaUserStatus userStatus) {
         Secret desiredSecret = user.generateSecret();
 
-        return secretOperations.reconcile(reconciliation, reconciliation.namespace(), user.getSecretName(), desiredSecret).compose(ar -> {
+        return boundedSecretReconcile(reconciliation, reconciliation.namespace(), user.getSecretName(), desiredSecret).compose(ar -> {
             if (desiredSecret != null) {
                 userStatus.setSecret(desiredSecret.getMetadata().getName());
             }
@@ -313,6 +331,69 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         });
     }
 
+    /**
+     * Reconciles the user Secret while keeping the number of Secrets reconciled at the same time under the configured
+     * limit. The Secrets over the limit wait until some of the ongoing reconciliations complete. This keeps the
+     * Kubernetes API server from being flooded when the certificates of many users are issued at once.
+     *
+     * @param reconciliation    Unique identification for the reconciliation
+     * @param namespace         Namespace of the Secret
+     * @param name              Name of the Secret
+     * @param desired           Desired Secret or null if it should be deleted
+     *
+     * @return                  Future describing the result
+     */
+    private Future<ReconcileResult<Secret>> boundedSecretReconcile(Reconciliation reconciliation, String namespace, String name, Secret desired) {
+        Promise<ReconcileResult<Secret>> result = Promise.promise();
+        Runnable write = () -> {
+            Future<ReconcileResult<Secret>> reconcile;
+            try {
+                reconcile = secretOperations.reconcile(reconciliation, namespace, name, desired);
+            } catch (Throwable t) {
+                reconcile = Future.failedFuture(t);
+            }
+
+            reconcile.onComplete(res -> {
+                secretWriteCompleted();
+                result.handle(res);
+            });
+        };
+
+        boolean start;
+        synchronized (pendingSecretWrites) {
+            start = ongoingSecretWrites < config.getMaxConcurrentSecretWrites();
+
+            if (start) {
+                ongoingSecretWrites++;
+            } else {
+                LOGGER.debugCr(reconciliation, "Reconciliation of Secret {} is waiting because {} Secrets are being reconciled", name, ongoingSecretWrites);
+                pendingSecretWrites.add(write);
+            }
+        }
+
+        if (start) {
+            write.run();
+        }
+
+        return result.future();
+    }
+
+    private void secretWriteCompleted() {
+        Runnable next;
+
+        synchronized (pendingSecretWrites) {
+            next = pendingSecretWrites.poll();
+
+            if (next == null) {
+                ongoingSecretWrites--;
+            }
+        }
+
+        if (next != null) {
+            next.run();
+        }
+    }
+
     /**
      * Deletes the user
      *
@@ -323,6 +404,7 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         String namespace = reconciliation.namespace();
         String user = reconciliation.name();
         LOGGER.debugCr(reconciliation, "Deleting User {} from namespace {}", user, namespace);
+        Ca.forgetCachedCerts(namespace, KafkaUserModel.getSecretName(config.getSecretPrefix(), user));
         return CompositeFuture.join(secretOperations.reconcile(reconciliation, namespace, KafkaUserModel.getSecretName(config.getSecretPrefix(), user), null),
                 aclOperations.reconcile(reconciliation, KafkaUserModel.getTlsUserName(user), null),
                 aclOperations.reconcile(reconciliation, KafkaUserModel.getScramUserName(user), null),
@@ -32,6 +32,9 @@ public class UserOperatorConfigTest {
         envVars.put(UserOperatorConfig.STRIMZI_CLIENTS_CA_VALIDITY, "1000");
         envVars.put(UserOperatorConfig.STRIMZI_CLIENTS_CA_RENEWAL, "10");
         envVars.put(UserOperatorConfig.STRIMZI_ACLS_ADMIN_API_SUPPORTED, "false");
+        envVars.put(UserOperatorConfig.STRIMZI_CERTIFICATE_BATCH_WINDOW_MS, "250");
+        envVars.put(UserOperatorConfig.STRIMZI_CERTIFICATE_ISSUANCE_THREADS, "8");
+        envVars.put(UserOperatorConfig.STRIMZI_MAX_CONCURRENT_SECRET_WRITES, "50");
 
         Map<String, String> labels = new HashMap<>(2);
         labels.put("label1", "value1");
@@ -54,6 +57,9 @@ public class UserOperatorConfigTest {
         assertThat(config.getClientsCaValidityDays(), is(1000));
         assertThat(config.getClientsCaRenewalDays(), is(10));
         assertThat(config.isAclsAdminApiSupported(), is(false));
+        assertThat(config.getCertificateBatchWindowMs(), is(250L));
+        assertThat(config.getCertificateIssuanceThreads(), is(8));
+        assertThat(config.getMaxConcurrentSecretWrites(), is(50));
     }
 
     @Test
@@ -134,4 +140,25 @@ public class UserOperatorConfigTest {
         UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
         assertThat(config.isAclsAdminApiSupported(), is(UserOperatorConfig.DEFAULT_STRIMZI_ACLS_ADMIN_API_SUPPORTED));
     }
+
+    @Test
+    public void testFromMapCertificateIssuanceDefaults()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.remove(UserOperatorConfig.STRIMZI_CERTIFICATE_BATCH_WINDOW_MS);
+        envVars.remove(UserOperatorConfig.STRIMZI_CERTIFICATE_ISSUANCE_THREADS);
+        envVars.remove(UserOperatorConfig.STRIMZI_MAX_CONCURRENT_SECRET_WRITES);
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getCertificateBatchWindowMs(), is(UserOperatorConfig.DEFAULT_CERTIFICATE_BATCH_WINDOW_MS));
+        assertThat(config.getCertificateIssuanceThreads(), is(UserOperatorConfig.DEFAULT_CERTIFICATE_ISSUANCE_THREADS));
+        assertThat(config.getMaxConcurrentSecretWrites(), is(UserOperatorConfig.DEFAULT_MAX_CONCURRENT_SECRET_WRITES));
+    }
+
+    @Test
+    public void testFromMapInvalidCertificateIssuanceThreadsThrows()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_CERTIFICATE_ISSUANCE_THREADS, "0");
+
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.strimzi.certs.CertAndKey;
+import io.strimzi.certs.Subject;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.operator.user.ResourceUtils;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import io.vertx.micrometer.VertxPrometheusOptions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class CertificateIssuerTest {
+    private static Vertx vertx;
+
+    private MetricsProvider metrics;
+    private List<String> signedSubjects;
+    private Set<String> caKeyFiles;
+    private MockCertManager certManager;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+                new MicrometerMetricsOptions()
+                        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+                        .setEnabled(true)
+        ));
+    }
+
+    @AfterAll
+    public static void after() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        vertx.close(done -> latch.countDown());
+        latch.await(30, TimeUnit.SECONDS);
+    }
+
+    @BeforeEach
+    public void setup() {
+        metrics = new MicrometerMetricsProvider();
+        MeterRegistry registry = metrics.meterRegistry();
+        registry.forEachMeter(registry::remove);
+
+        signedSubjects = new CopyOnWriteArrayList<>();
+        caKeyFiles = ConcurrentHashMap.newKeySet();
+        certManager = new MockCertManager() {
+            @Override
+            public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+                if (sbj.commonName().startsWith("failing")) {
+                    throw new IOException("Signing failed");
+                }
+
+                signedSubjects.add(sbj.commonName());
+                caKeyFiles.add(caKey.getAbsolutePath());
+                super.generateCert(csrFile, caKey, caCert, crtFile, sbj, days);
+            }
+        };
+    }
+
+    private CertificateIssuer issuer(long windowMs, int maxBatchSize) {
+        return new CertificateIssuer(vertx, certManager, new PasswordGenerator(12), 4, windowMs, maxBatchSize, 365, metrics);
+    }
+
+    private static Reconciliation reconciliation(String name) {
+        return new Reconciliation("test", "KafkaUser", ResourceUtils.NAMESPACE, name);
+    }
+
+    private double counter(String name) {
+        return metrics.meterRegistry().get(AbstractOperator.METRICS_PREFIX + name).tag("kind", "KafkaUser").counter().count();
+    }
+
+    private double batchCount() {
+        return metrics.meterRegistry().get(AbstractOperator.METRICS_PREFIX + "certificates.issuance.batch.size").tag("kind", "KafkaUser").summary().count();
+    }
+
+    private double queueDepth() {
+        return metrics.meterRegistry().get(AbstractOperator.METRICS_PREFIX + "certificates.issuance.queue").tag("kind", "KafkaUser").gauge().value();
+    }
+
+    @Test
+    public void testCertificatesAreIssuedInBatches(VertxTestContext context) {
+        CertificateIssuer issuer = issuer(100, 100);
+
+        List<Future> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String name = "my-user-" + i;
+            results.add(issuer.issue(reconciliation(name), name, ResourceUtils.createClientsCaCertSecret(), ResourceUtils.createClientsCaKeySecret()));
+        }
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(results).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(signedSubjects.size(), is(10));
+            // The CA files are written only once for the whole batch
+            assertThat(caKeyFiles.size(), is(1));
+
+            CertAndKey certAndKey = (CertAndKey) results.get(0).result();
+            assertThat(new String(certAndKey.cert(), StandardCharsets.US_ASCII), is("crt file"));
+            assertThat(new String(certAndKey.key(), StandardCharsets.US_ASCII), is("key file"));
+            assertThat(new String(certAndKey.keyStore(), StandardCharsets.US_ASCII), is("key store"));
+
+            assertThat(batchCount(), is(1.0));
+            assertThat(counter("certificates.issued"), is(10.0));
+            assertThat(queueDepth(), is(0.0));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testMaxBatchSize(VertxTestContext context) {
+        CertificateIssuer issuer = issuer(100, 4);
+
+        List<Future> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String name = "my-user-" + i;
+            results.add(issuer.issue(reconciliation(name), name, ResourceUtils.createClientsCaCertSecret(), ResourceUtils.createClientsCaKeySecret()));
+        }
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(results).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(signedSubjects.size(), is(10));
+            assertThat(caKeyFiles.size(), is(3));
+            assertThat(batchCount(), is(3.0));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testRequestsWithDifferentCaAreSignedSeparately(VertxTestContext context) {
+        CertificateIssuer issuer = issuer(100, 100);
+        Secret renewedCaCert = new SecretBuilder(ResourceUtils.createClientsCaCertSecret())
+                .addToData("ca.crt", Base64.getEncoder().encodeToString("renewed-clients-ca-crt".getBytes(StandardCharsets.US_ASCII)))
+                .build();
+
+        Future<CertAndKey> first = issuer.issue(reconciliation("my-user-0"), "my-user-0", ResourceUtils.createClientsCaCertSecret(), ResourceUtils.createClientsCaKeySecret());
+        Future<CertAndKey> second = issuer.issue(reconciliation("my-user-1"), "my-user-1", renewedCaCert, ResourceUtils.createClientsCaKeySecret());
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(first, second).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(batchCount(), is(1.0));
+            assertThat(caKeyFiles.size(), is(2));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testFailuresArePassedToTheirRequests(VertxTestContext context) {
+        CertificateIssuer issuer = issuer(100, 100);
+
+        Future<CertAndKey> first = issuer.issue(reconciliation("my-user"), "my-user", ResourceUtils.createClientsCaCertSecret(), ResourceUtils.createClientsCaKeySecret());
+        Future<CertAndKey> second = issuer.issue(reconciliation("failing-user"), "failing-user", ResourceUtils.createClientsCaCertSecret(), ResourceUtils.createClientsCaKeySecret());
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(first, second).onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(first.succeeded(), is(true));
+            assertThat(second.failed(), is(true));
+            assertThat(second.cause().getMessage(), is("Signing failed"));
+
+            assertThat(counter("certificates.issued"), is(1.0));
+            assertThat(counter("certificates.issuance.failed"), is(1.0));
+            assertThat(queueDepth(), is(0.0));
+            async.flag();
+        })));
+    }
+}